@@ -0,0 +1,74 @@
+package de.haw.hamburg.threaddemo.config;
+
+import de.haw.hamburg.threaddemo.model.CalculationResponse;
+import de.haw.hamburg.threaddemo.service.CalculationResponseBatchCodec;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.BufferUnderflowException;
+import java.util.List;
+
+/**
+ * HTTP-Konverter für Listen von CalculationResponse im spaltenweisen Binärformat
+ * - Wird nur bei "Accept: application/octet-stream" verwendet, sonst bleibt es bei JSON
+ * - Format siehe CalculationResponseBatchCodec
+ */
+public class CalculationResponseBatchConverter extends AbstractGenericHttpMessageConverter<List<CalculationResponse>> {
+
+    public CalculationResponseBatchConverter() {
+        super(MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return isResponseList(type) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return isResponseList(type) && canWrite(mediaType);
+    }
+
+    private static boolean isResponseList(Type type) {
+        return type instanceof ParameterizedType
+                && ((ParameterizedType) type).getRawType() == List.class
+                && ((ParameterizedType) type).getActualTypeArguments()[0] == CalculationResponse.class;
+    }
+
+    @Override
+    protected void writeInternal(List<CalculationResponse> responses, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        byte[] bytes = CalculationResponseBatchCodec.encode(responses);
+        outputMessage.getHeaders().setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+
+    @Override
+    public List<CalculationResponse> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return readInternal(null, inputMessage);
+    }
+
+    @Override
+    protected List<CalculationResponse> readInternal(Class<? extends List<CalculationResponse>> clazz,
+                                                     HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        try {
+            return CalculationResponseBatchCodec.decode(inputMessage.getBody().readAllBytes());
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            throw new HttpMessageNotReadableException("Ungültige Batch-Nachricht: " + e.getMessage(), e, inputMessage);
+        }
+    }
+}
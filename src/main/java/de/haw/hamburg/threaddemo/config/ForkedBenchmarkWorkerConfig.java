@@ -0,0 +1,74 @@
+package de.haw.hamburg.threaddemo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.haw.hamburg.threaddemo.model.CalculationRequest;
+import de.haw.hamburg.threaddemo.model.CalculationResponse;
+import de.haw.hamburg.threaddemo.model.ThreadModel;
+import de.haw.hamburg.threaddemo.service.BenchmarkExecutionService;
+import de.haw.hamburg.threaddemo.service.ForkedBenchmarkLauncher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Konfiguration für Kind-JVMs des Modellvergleichs (Profil "fork-worker")
+ * - Führt genau ein Thread-Modell aus und beendet danach die JVM
+ * - Gibt die gemessenen Wiederholungen als JSON-Zeile auf stdout aus
+ */
+@Configuration
+@Profile("fork-worker")
+public class ForkedBenchmarkWorkerConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ForkedBenchmarkWorkerConfig.class);
+
+    @Bean
+    public CommandLineRunner forkedBenchmarkRunner(
+            BenchmarkExecutionService executionService,
+            ObjectMapper objectMapper,
+            ApplicationContext applicationContext,
+            @Value("${benchmark.fork.model}") String modelName,
+            @Value("${benchmark.fork.request}") String encodedRequest) {
+        return args -> {
+            int exitCode = 0;
+            try {
+                ThreadModel threadModel = ThreadModel.fromName(modelName);
+                CalculationRequest request = objectMapper.readValue(
+                        Base64.getUrlDecoder().decode(encodedRequest), CalculationRequest.class);
+
+                int warmupIterations = Math.max(0, request.getWarmupIterations());
+                int repetitions = Math.max(1, request.getRepetitions());
+                logger.info("Kind-JVM: {} mit {} Aufwärmdurchläufen und {} Wiederholungen",
+                        threadModel, warmupIterations, repetitions);
+
+                for (int i = 0; i < warmupIterations; i++) {
+                    executionService.execute(threadModel, request, false);
+                }
+
+                List<CalculationResponse> results = new ArrayList<>();
+                for (int i = 0; i < repetitions; i++) {
+                    results.add(executionService.execute(threadModel, request));
+                }
+
+                System.out.println(ForkedBenchmarkLauncher.RESULT_MARKER + objectMapper.writeValueAsString(results));
+                System.out.flush();
+            } catch (Exception e) {
+                logger.error("Fehler in der Kind-JVM", e);
+                exitCode = 1;
+            }
+
+            // Die Executor-Pools halten Nicht-Daemon-Threads, daher explizit beenden
+            int finalExitCode = exitCode;
+            System.exit(SpringApplication.exit(applicationContext, () -> finalExitCode));
+        };
+    }
+}
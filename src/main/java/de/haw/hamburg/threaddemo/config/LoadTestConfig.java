@@ -0,0 +1,106 @@
+package de.haw.hamburg.threaddemo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.haw.hamburg.threaddemo.model.CalculationRequest;
+import de.haw.hamburg.threaddemo.model.LoadTestPoint;
+import de.haw.hamburg.threaddemo.model.LoadTestResult;
+import de.haw.hamburg.threaddemo.model.RunMode;
+import de.haw.hamburg.threaddemo.model.WorkloadDefinition;
+import de.haw.hamburg.threaddemo.service.OpenLoopLoadDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Konfiguration des headless Lasttests (Profil "loadtest")
+ * - Treibt nacheinander die konfigurierten Thread-Modell-Endpunkte mit Open-Loop-Last
+ * - Gibt pro Modell die Durchsatz-Latenz-Kurve aus und schreibt alle Ergebnisse als JSON-Datei
+ * - Alle Anfragen laufen mit force=true an Zusammenführung und Ergebnis-Cache vorbei
+ * - Alle Anfragen werden als geteilte Läufe mit kleiner Kernreservierung zugelassen
+ *
+ * Start z. B. gegen eine laufende Instanz:
+ * mvn spring-boot:run -Dspring-boot.run.profiles=loadtest -Dspring-boot.run.arguments="--loadtest.pattern=ramp"
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestConfig.class);
+
+    @Bean
+    public CommandLineRunner loadTestRunner(
+            OpenLoopLoadDriver loadDriver,
+            ObjectMapper objectMapper,
+            ApplicationContext applicationContext,
+            @Value("${loadtest.models:platform-threads,virtual-threads,limited-threads,optimized-threads}") String[] models,
+            @Value("${loadtest.test-type:io}") String testType,
+            @Value("${loadtest.matrix-size:100}") int matrixSize,
+            @Value("${loadtest.parallel-tasks:1}") int parallelTasks,
+            @Value("${loadtest.file-size-kb:100}") int fileSizeKB,
+            @Value("${loadtest.density:0.01}") double density,
+            @Value("${loadtest.precision:double}") String precision,
+            @Value("${loadtest.algorithm:classic}") String algorithm,
+            @Value("${loadtest.batch-chunk-size:0}") int batchChunkSize,
+            @Value("${loadtest.cpu-budget:0.01}") double cpuBudget,
+            @Value("${loadtest.output-file:./loadtest-results.json}") String outputFile) {
+        return args -> {
+            CalculationRequest request = new CalculationRequest();
+            request.setTestType(testType);
+            request.setMatrixSize(matrixSize);
+            request.setParallelTasks(parallelTasks);
+            request.setFileSizeKB(fileSizeKB);
+            request.setDensity(density);
+            request.setPrecision(precision);
+            request.setAlgorithm(algorithm);
+            request.setBatchChunkSize(batchChunkSize);
+            request.setWorkload(new WorkloadDefinition());
+            // Jede Ankunft ist ein eigener Lauf; sonst würden gleiche Anfragen zusammengeführt bzw.
+            // aus dem Ergebnis-Cache beantwortet und die Kurve mäße den Cache statt des Thread-Modells
+            request.setForce(true);
+            // Geteilt statt exklusiv zulassen, sonst würde der Run-Scheduler die Ankünfte einzeln
+            // nacheinander ausführen (wieder Closed Loop, Wartezeit in der Latenz, 503 bei hohen Raten)
+            request.setRunMode(RunMode.SHARED.getKey());
+            request.setCpuBudget(cpuBudget);
+
+            List<LoadTestResult> results = new ArrayList<>();
+            for (String model : models) {
+                LoadTestResult result = loadDriver.run(model.trim(), request);
+                results.add(result);
+                logCurve(result);
+            }
+
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(outputFile), results);
+            logger.info("Lasttest-Ergebnisse geschrieben nach {}", new File(outputFile).getAbsolutePath());
+
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        };
+    }
+
+    /**
+     * Gibt die Durchsatz-Latenz-Kurve eines Modells als Tabelle im Log aus
+     */
+    private void logCurve(LoadTestResult result) {
+        logger.info("");
+        logger.info("Durchsatz-Latenz-Kurve für {} ({}, {})",
+                result.getThreadModel(), result.getArrivalPattern(), result.getTestType());
+        logger.info(String.format("%10s %12s %8s %8s %10s %10s %10s %10s",
+                "Ziel/s", "Erreicht/s", "Gesendet", "Fehler", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (LoadTestPoint point : result.getPoints()) {
+            logger.info(String.format("%10.1f %12.1f %8d %8d %10.1f %10.1f %10.1f %10.1f",
+                    point.getTargetRate(), point.getAchievedThroughput(), point.getSentRequests(),
+                    point.getFailedRequests(), point.getP50LatencyMs(), point.getP90LatencyMs(),
+                    point.getP99LatencyMs(), point.getMaxLatencyMs()));
+        }
+        logger.info("Sättigung ab Zielrate > {} Anfragen/s", result.getSaturationRate());
+    }
+}
@@ -0,0 +1,235 @@
+package de.haw.hamburg.threaddemo.config;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor-Hülle, die den Fortschritt eines Thread-Pools beobachtbar macht
+ * - Zählt übergebene, gestartete, abgeschlossene, fehlgeschlagene und abgelehnte Aufgaben
+ * - Merkt sich für jede laufende Aufgabe Übergabe- und Startzeitpunkt sowie den ausführenden Thread
+ * - Hält den Zeitpunkt des letzten Fortschritts (Start oder Ende einer Aufgabe) fest
+ *
+ * Wird vom ExecutorWatchdogService ausgewertet, um Starvation und hängende Aufgaben zu erkennen.
+ */
+public class MonitoredExecutor implements Executor, AutoCloseable {
+
+    private final String name;
+    private final Executor delegate;
+    private final boolean virtual;
+
+    private final AtomicLong taskIds = new AtomicLong();
+    private final Map<Long, TaskRecord> tasks = new ConcurrentHashMap<>();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile long lastProgressNanos = System.nanoTime();
+
+    /**
+     * @param name     Bean-Name des Executors
+     * @param delegate eigentlicher Executor
+     * @param virtual  true, wenn der Executor jede Aufgabe in einem eigenen (virtuellen) Thread startet;
+     *                 wartende Aufgaben deuten dann auf erschöpfte Carrier-Threads hin
+     */
+    public MonitoredExecutor(String name, Executor delegate, boolean virtual) {
+        this.name = name;
+        this.delegate = delegate;
+        this.virtual = virtual;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        long id = taskIds.incrementAndGet();
+        TaskRecord record = new TaskRecord(id, System.nanoTime());
+        tasks.put(id, record);
+        submitted.increment();
+        try {
+            delegate.execute(() -> run(record, command));
+        } catch (RejectedExecutionException e) {
+            tasks.remove(id);
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    private void run(TaskRecord record, Runnable command) {
+        record.thread = Thread.currentThread();
+        record.startedNanos = System.nanoTime();
+        lastProgressNanos = record.startedNanos;
+        try {
+            command.run();
+        } catch (RuntimeException | Error e) {
+            failed.increment();
+            throw e;
+        } finally {
+            tasks.remove(record.id);
+            completed.increment();
+            lastProgressNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Momentaufnahme der Zähler und der offenen Aufgaben
+     */
+    public Snapshot snapshot() {
+        long now = System.nanoTime();
+        List<TaskRecord> queued = new ArrayList<>();
+        List<TaskRecord> running = new ArrayList<>();
+        for (TaskRecord record : tasks.values()) {
+            if (record.startedNanos == 0) {
+                queued.add(record);
+            } else {
+                running.add(record);
+            }
+        }
+        return new Snapshot(now, submitted.sum(), completed.sum(), failed.sum(), rejected.sum(),
+                queued, running, lastProgressNanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Fährt den eigentlichen Executor beim Herunterfahren des Kontexts herunter
+     */
+    @Override
+    public void close() {
+        if (delegate instanceof ThreadPoolTaskExecutor) {
+            ((ThreadPoolTaskExecutor) delegate).shutdown();
+        } else if (delegate instanceof ExecutorService) {
+            ((ExecutorService) delegate).shutdown();
+        }
+    }
+
+    /**
+     * Eine übergebene, noch nicht abgeschlossene Aufgabe
+     */
+    public static final class TaskRecord {
+        final long id;
+        final long submittedNanos;
+        volatile long startedNanos;
+        volatile Thread thread;
+
+        TaskRecord(long id, long submittedNanos) {
+            this.id = id;
+            this.submittedNanos = submittedNanos;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public long getSubmittedNanos() {
+            return submittedNanos;
+        }
+
+        public long getStartedNanos() {
+            return startedNanos;
+        }
+
+        public Thread getThread() {
+            return thread;
+        }
+    }
+
+    /**
+     * Zustand des Executors zu einem Zeitpunkt
+     */
+    public static final class Snapshot {
+        private final long nanoTime;
+        private final long submitted;
+        private final long completed;
+        private final long failed;
+        private final long rejected;
+        private final List<TaskRecord> queued;
+        private final List<TaskRecord> running;
+        private final long lastProgressNanos;
+
+        Snapshot(long nanoTime, long submitted, long completed, long failed, long rejected,
+                 List<TaskRecord> queued, List<TaskRecord> running, long lastProgressNanos) {
+            this.nanoTime = nanoTime;
+            this.submitted = submitted;
+            this.completed = completed;
+            this.failed = failed;
+            this.rejected = rejected;
+            this.queued = queued;
+            this.running = running;
+            this.lastProgressNanos = lastProgressNanos;
+        }
+
+        public long getSubmitted() {
+            return submitted;
+        }
+
+        public long getCompleted() {
+            return completed;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        public List<TaskRecord> getQueued() {
+            return queued;
+        }
+
+        public List<TaskRecord> getRunning() {
+            return running;
+        }
+
+        /**
+         * Zeit seit dem letzten Start oder Abschluss einer Aufgabe
+         */
+        public long getMsSinceProgress() {
+            return (nanoTime - lastProgressNanos) / 1_000_000;
+        }
+
+        /**
+         * Wartezeit der ältesten noch nicht gestarteten Aufgabe (0, wenn keine wartet)
+         */
+        public long getOldestQueuedMs() {
+            long oldest = 0;
+            for (TaskRecord record : queued) {
+                oldest = Math.max(oldest, (nanoTime - record.submittedNanos) / 1_000_000);
+            }
+            return oldest;
+        }
+
+        /**
+         * Laufzeit der ältesten laufenden Aufgabe (0, wenn keine läuft)
+         */
+        public long getOldestRunningMs() {
+            long oldest = 0;
+            for (TaskRecord record : running) {
+                oldest = Math.max(oldest, (nanoTime - record.startedNanos) / 1_000_000);
+            }
+            return oldest;
+        }
+
+        /**
+         * Alter einer Aufgabe in Millisekunden (bei laufenden Aufgaben ab Start)
+         */
+        public long ageMs(TaskRecord record) {
+            long since = record.startedNanos != 0 ? record.startedNanos : record.submittedNanos;
+            return (nanoTime - since) / 1_000_000;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package de.haw.hamburg.threaddemo.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Ausführung für das reaktive Thread-Modell (Project Reactor)
+ * - Rechenaufgaben laufen durch eine gemeinsame Pipeline
+ *   Flux.parallel().runOn(Schedulers.parallel()), also auf einem Thread je CPU-Kern
+ * - Blockierende Aufgaben laufen auf einem begrenzten Scheduler (boundedElastic mit ioThreads Threads),
+ *   damit sie die Pipeline nicht anhalten
+ *
+ * Alle Tests des reaktiven Modells nutzen diese Instanz, damit sie sich dieselben Scheduler teilen.
+ */
+public class ReactivePipelineExecutor implements Executor, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactivePipelineExecutor.class);
+
+    private final Sinks.Many<Runnable> tasks = Sinks.many().unicast().onBackpressureBuffer();
+    private final Disposable pipeline;
+    private final Scheduler blockingScheduler;
+    private final Executor blockingExecutor;
+
+    /**
+     * @param ioThreads Anzahl der Threads für blockierende Aufgaben
+     */
+    public ReactivePipelineExecutor(int ioThreads) {
+        pipeline = tasks.asFlux()
+                .parallel()
+                .runOn(Schedulers.parallel())
+                .subscribe(ReactivePipelineExecutor::runSafely);
+        blockingScheduler = Schedulers.newBoundedElastic(ioThreads, Integer.MAX_VALUE, "reactive-blocking", 60, true);
+        blockingExecutor = task -> blockingScheduler.schedule(task);
+    }
+
+    /**
+     * Reicht eine Rechenaufgabe in die parallele Pipeline ein
+     */
+    @Override
+    public void execute(Runnable task) {
+        tasks.emitNext(task, Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1)));
+    }
+
+    /**
+     * Executor für blockierende Aufgaben des reaktiven Modells
+     */
+    public Executor getBlockingExecutor() {
+        return blockingExecutor;
+    }
+
+    /**
+     * Scheduler für blockierende Aufrufe innerhalb reaktiver Ketten
+     */
+    public Scheduler getBlockingScheduler() {
+        return blockingScheduler;
+    }
+
+    @Override
+    public void close() {
+        pipeline.dispose();
+        blockingScheduler.dispose();
+    }
+
+    private static void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            // Fehler nicht in die Pipeline durchreichen, sonst bricht sie für alle folgenden Aufgaben ab
+            log.warn("Aufgabe in der reaktiven Pipeline fehlgeschlagen: {}", e.getMessage());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package de.haw.hamburg.threaddemo.config;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -9,6 +10,8 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Konfigurationsklasse für die verschiedenen Thread-Modelle
@@ -20,12 +23,28 @@ import java.util.concurrent.Executors;
  * 2. Virtual Threads: Leichtgewichtige, von der JVM verwaltete Threads (ab Java 21)
  * 3. Begrenzte Threads: Simulation der Ressourcenbeschränkungen ähnlich wie bei OS-Kernel-Threads
  * 4. Optimierte Threads: Work-Stealing-Pool für optimiertes Scheduling ähnlich zu User-Space-Threading
+ * 5. Virtual Threads mit Ressourcen-Limits: wie 2., Begrenzung pro Ressource statt pro Thread
+ * 6. Reaktiv: gemeinsame Pipeline von Project Reactor (ReactivePipelineExecutor)
+ * 
+ * Alle Executoren außer der reaktiven Pipeline werden in einen MonitoredExecutor gehüllt, damit
+ * der Watchdog Fortschritt, wartende und hängende Aufgaben je Pool beobachten kann. Welcher
+ * Executor zu welchem Modell gehört, liefert ThreadModelExecutors.
  */
 @Configuration
 public class ThreadConfig {
     
     private static final Logger logger = LoggerFactory.getLogger(ThreadConfig.class);
 
+    /**
+     * Erzeugung der Virtual Threads (Java 21+)
+     * - "default": Executors.newVirtualThreadPerTaskExecutor(), unbenannte Threads
+     * - "named": Thread.ofVirtual()-Factory mit fortlaufend nummerierten Namen (virtual-thread-0, -1, ...)
+     * Die Zahl der Carrier-Threads steuern die Systemeigenschaften jdk.virtualThreadScheduler.parallelism
+     * und jdk.virtualThreadScheduler.maxPoolSize beim Start der JVM.
+     */
+    @Value("${benchmark.virtual.thread-factory:default}")
+    private String virtualThreadFactory;
+
     /**
      * Standard Java Platform Thread-Pool mit fester Größe
      * - 1:1-Mapping zu Betriebssystem-Threads
@@ -33,14 +52,14 @@ public class ThreadConfig {
      * - Feste Poolgröße beschränkt die maximale Parallelität
      */
     @Bean(name = "platformThreadTaskExecutor")
-    public Executor platformThreadTaskExecutor() {
+    public MonitoredExecutor platformThreadTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(10);
         executor.setMaxPoolSize(20);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("platform-thread-");
         executor.initialize();
-        return executor;
+        return new MonitoredExecutor("platformThreadTaskExecutor", executor, false);
     }
 
     /**
@@ -52,7 +71,23 @@ public class ThreadConfig {
      * - Millionen von Threads möglich
      */
     @Bean(name = "virtualThreadTaskExecutor")
-    public Executor virtualThreadTaskExecutor() {
+    public MonitoredExecutor virtualThreadTaskExecutor() {
+        return new MonitoredExecutor("virtualThreadTaskExecutor", createVirtualThreadExecutor("virtual-thread-"), true);
+    }
+
+    /**
+     * Virtual Thread Executor für ressourcenbegrenzte Downstreams
+     * - Threads wie beim virtualThreadTaskExecutor (eigener Namenspräfix)
+     * - Die Begrenzung erfolgt nicht über die Threads, sondern pro Ressource:
+     *   Datei- und HTTP-Zugriffe laufen über je einen ConcurrencyLimiter im IOIntensiveService
+     */
+    @Bean(name = "boundedVirtualThreadTaskExecutor")
+    public MonitoredExecutor boundedVirtualThreadTaskExecutor() {
+        return new MonitoredExecutor("boundedVirtualThreadTaskExecutor",
+                createVirtualThreadExecutor("bounded-virtual-thread-"), true);
+    }
+
+    private Executor createVirtualThreadExecutor(String namePrefix) {
         // Überprüfe, ob wir auf Java 21 oder höher laufen
         int majorVersion = getMajorJavaVersion();
         
@@ -61,32 +96,48 @@ public class ThreadConfig {
             try {
                 // Reflection, um Java 21 Features ohne direkten Import zu nutzen
                 // Das verhindert Kompilierungsfehler in älteren Java-Versionen
-                logger.info("Java 21+ erkannt: Verwende echte Virtual Threads");
+                logger.info("Java 21+ erkannt: Verwende echte Virtual Threads (Carrier-Parallelität: {})",
+                        System.getProperty("jdk.virtualThreadScheduler.parallelism", "Standard"));
                 Class<?> executorsClass = Class.forName("java.util.concurrent.Executors");
+                if ("named".equalsIgnoreCase(virtualThreadFactory)) {
+                    return (Executor) executorsClass.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                            .invoke(null, createNamedVirtualThreadFactory(namePrefix));
+                }
                 return (Executor) executorsClass.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
             } catch (Exception e) {
                 logger.warn("Konnte keine echten Virtual Threads erstellen, obwohl Java 21+: {}", e.getMessage());
                 logger.warn("Verwende stattdessen einen unbegrenzten Platform Thread-Pool zur Simulation...");
-                return createSimulatedVirtualThreadPool();
+                return createSimulatedVirtualThreadPool(namePrefix);
             }
         } else {
             // Java < 21: Simulierten Virtual Thread-Pool verwenden
             logger.info("Java < 21 erkannt: Verwende simulierten Virtual Thread-Pool");
-            return createSimulatedVirtualThreadPool();
+            return createSimulatedVirtualThreadPool(namePrefix);
         }
     }
     
+    /**
+     * Erstellt über Thread.ofVirtual().name(namePrefix, 0).factory() eine Factory
+     * für fortlaufend nummerierte Virtual Threads (Reflection wie oben)
+     */
+    private ThreadFactory createNamedVirtualThreadFactory(String namePrefix) throws ReflectiveOperationException {
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+        return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    }
+    
     /**
      * Erstellt einen simulierten Virtual Thread-Pool (für Java < 21)
      * - Verwendet einen CachedThreadPool für dynamische Skalierung
      * - Echte Virtual Threads würden weniger Ressourcen verbrauchen
      * - Diese Simulation hat immer noch 1:1-Mapping zu OS-Threads
      */
-    private Executor createSimulatedVirtualThreadPool() {
+    private Executor createSimulatedVirtualThreadPool(String namePrefix) {
         return Executors.newCachedThreadPool(r -> {
             Thread t = new Thread(r);
             t.setDaemon(false);  // Nicht-Daemon-Threads für konsistenteres Verhalten
-            t.setName("virtual-thread-" + t.getId());
+            t.setName(namePrefix + t.getId());
             return t;
         });
     }
@@ -102,18 +153,22 @@ public class ThreadConfig {
      * - Zeigt Verhalten bei starker Thread-Limitierung
      */
     @Bean(name = "limitedThreadTaskExecutor")
-    public Executor limitedThreadTaskExecutor() {
+    public MonitoredExecutor limitedThreadTaskExecutor() {
         int coreCount = Runtime.getRuntime().availableProcessors();
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(coreCount);
         executor.setMaxPoolSize(coreCount);
         executor.setQueueCapacity(50);  // Kleinere Queue für realistischere Limitierung
         executor.setThreadNamePrefix("limited-thread-");
-        executor.setRejectedExecutionHandler((r, e) -> 
-            logger.warn("Task abgelehnt aufgrund von Ressourcenbeschränkung in begrenztem Thread-Pool"));
+        // Ablehnung muss als Exception beim Aufrufer ankommen, sonst wird das zugehörige
+        // CompletableFuture nie abgeschlossen und die Anfrage hängt bis zum Async-Timeout
+        executor.setRejectedExecutionHandler((r, e) -> {
+            logger.warn("Task abgelehnt aufgrund von Ressourcenbeschränkung in begrenztem Thread-Pool");
+            throw new RejectedExecutionException("Begrenzter Thread-Pool und Queue sind voll");
+        });
         executor.initialize();
         logger.info("Begrenzter Thread-Pool erstellt mit {} Threads", coreCount);
-        return executor;
+        return new MonitoredExecutor("limitedThreadTaskExecutor", executor, false);
     }
 
     /**
@@ -127,12 +182,22 @@ public class ThreadConfig {
      * - Bessere Lastverteilung bei ungleichmäßigen Aufgaben
      */
     @Bean(name = "optimizedThreadTaskExecutor")
-    public Executor optimizedThreadTaskExecutor() {
+    public MonitoredExecutor optimizedThreadTaskExecutor() {
         int parallelism = Math.max(8, Runtime.getRuntime().availableProcessors() * 4);  // Höherer Parallelitätsgrad
         logger.info("Optimierter Thread-Pool erstellt mit Parallelitätsgrad {}", parallelism);
-        return Executors.newWorkStealingPool(parallelism);
+        return new MonitoredExecutor("optimizedThreadTaskExecutor", Executors.newWorkStealingPool(parallelism), false);
     }
     
+    /**
+     * Ausführung des reaktiven Modells
+     * - Rechenaufgaben über Flux.parallel().runOn(Schedulers.parallel())
+     * - Blockierende Aufgaben auf einem boundedElastic-Scheduler mit benchmark.reactive.io-threads Threads
+     */
+    @Bean(name = "reactivePipelineExecutor")
+    public ReactivePipelineExecutor reactivePipelineExecutor(@Value("${benchmark.reactive.io-threads:4}") int ioThreads) {
+        return new ReactivePipelineExecutor(ioThreads);
+    }
+
     /**
      * Ermittelt die Java-Hauptversionsnummer
      */
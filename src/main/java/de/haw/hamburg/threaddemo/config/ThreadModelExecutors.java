@@ -0,0 +1,52 @@
+package de.haw.hamburg.threaddemo.config;
+
+import de.haw.hamburg.threaddemo.model.ThreadModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Ordnet jedem Thread-Modell seinen Executor aus der ThreadConfig zu
+ * - Zuordnung über ThreadModel.getExecutorName(), fehlende Beans fallen beim Start auf
+ * - executorFor: Executor für Rechenaufgaben; beim reaktiven Modell die parallele Pipeline
+ * - blockingExecutorFor: wie executorFor, beim reaktiven Modell aber der Scheduler für
+ *   blockierende Aufgaben
+ */
+@Component
+public class ThreadModelExecutors {
+
+    private final Map<ThreadModel, Executor> executors = new EnumMap<>(ThreadModel.class);
+    private final ReactivePipelineExecutor reactivePipelineExecutor;
+
+    @Autowired
+    public ThreadModelExecutors(Map<String, Executor> executorBeans, ReactivePipelineExecutor reactivePipelineExecutor) {
+        this.reactivePipelineExecutor = reactivePipelineExecutor;
+        for (ThreadModel model : ThreadModel.values()) {
+            Executor executor = executorBeans.get(model.getExecutorName());
+            if (executor == null) {
+                throw new IllegalStateException("Kein Executor " + model.getExecutorName() + " für " + model);
+            }
+            executors.put(model, executor);
+        }
+    }
+
+    /**
+     * Executor für Rechenaufgaben des Thread-Modells
+     */
+    public Executor executorFor(ThreadModel threadModel) {
+        return executors.get(threadModel);
+    }
+
+    /**
+     * Executor für blockierende Aufgaben des Thread-Modells
+     */
+    public Executor blockingExecutorFor(ThreadModel threadModel) {
+        if (threadModel == ThreadModel.REACTIVE) {
+            return reactivePipelineExecutor.getBlockingExecutor();
+        }
+        return executors.get(threadModel);
+    }
+}
@@ -0,0 +1,22 @@
+package de.haw.hamburg.threaddemo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Web-Konfiguration
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * Binärformat für Ergebnislisten als letzter Konverter, damit JSON bei unspezifischem Accept-Header Vorrang behält
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new CalculationResponseBatchConverter());
+    }
+}
@@ -0,0 +1,156 @@
+package de.haw.hamburg.threaddemo.controller;
+
+import de.haw.hamburg.threaddemo.model.BenchmarkModelSummary;
+import de.haw.hamburg.threaddemo.model.BenchmarkTrendPoint;
+import de.haw.hamburg.threaddemo.model.CalculationResponse;
+import de.haw.hamburg.threaddemo.model.CompactionResult;
+import de.haw.hamburg.threaddemo.model.RegressionReport;
+import de.haw.hamburg.threaddemo.model.RequestCacheStatus;
+import de.haw.hamburg.threaddemo.model.ThreadModel;
+import de.haw.hamburg.threaddemo.service.BenchmarkRequestCoalescer;
+import de.haw.hamburg.threaddemo.service.BenchmarkResultStore;
+import de.haw.hamburg.threaddemo.service.RegressionDetectionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controller für gespeicherte Benchmark-Ergebnisse
+ * - Abfrage früherer Läufe nach Modell, Testtyp und Zeitraum
+ * - Verlauf über die Zeit und Modellvergleich
+ * - Regressionserkennung gegen die rollierende Baseline
+ * - Kompaktierung des Ergebnisspeichers
+ */
+@RestController
+@RequestMapping("/api/benchmarks")
+public class BenchmarkHistoryController {
+
+    private final BenchmarkResultStore resultStore;
+    private final RegressionDetectionService regressionDetectionService;
+    private final BenchmarkRequestCoalescer coalescer;
+
+    @Autowired
+    public BenchmarkHistoryController(BenchmarkResultStore resultStore,
+                                      RegressionDetectionService regressionDetectionService,
+                                      BenchmarkRequestCoalescer coalescer) {
+        this.resultStore = resultStore;
+        this.regressionDetectionService = regressionDetectionService;
+        this.coalescer = coalescer;
+    }
+
+    /**
+     * Gespeicherte Läufe, jüngste zuerst
+     */
+    @GetMapping("/runs")
+    public ResponseEntity<List<CalculationResponse>> runs(
+            @RequestParam(required = false) String model,
+            @RequestParam(required = false) String testType,
+            @RequestParam(defaultValue = "0") long from,
+            @RequestParam(defaultValue = "" + Long.MAX_VALUE) long to,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(resultStore.findRuns(resolveModel(model), testType, from, to, limit));
+    }
+
+    /**
+     * Verlauf eines Modells in Zeit-Buckets (Standard: eine Stunde)
+     */
+    @GetMapping("/trends")
+    public ResponseEntity<List<BenchmarkTrendPoint>> trends(
+            @RequestParam(required = false) String model,
+            @RequestParam(required = false) String testType,
+            @RequestParam(defaultValue = "0") long from,
+            @RequestParam(defaultValue = "" + Long.MAX_VALUE) long to,
+            @RequestParam(defaultValue = "3600000") long bucketMs) {
+        if (bucketMs <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(resultStore.trend(resolveModel(model), testType, from, to, bucketMs));
+    }
+
+    /**
+     * Vergleich aller gespeicherten Modelle
+     */
+    @GetMapping("/compare")
+    public ResponseEntity<List<BenchmarkModelSummary>> compare(
+            @RequestParam(required = false) String testType,
+            @RequestParam(defaultValue = "0") long from,
+            @RequestParam(defaultValue = "" + Long.MAX_VALUE) long to) {
+        return ResponseEntity.ok(resultStore.compareModels(testType, from, to));
+    }
+
+    /**
+     * Regressionsprüfung der jüngsten Läufe jedes Tupels gegen ihre rollierende Baseline
+     *
+     * @param current Anzahl der jüngsten Läufe pro Tupel, die als aktuelle Stichprobe gelten
+     */
+    @GetMapping("/regressions")
+    public ResponseEntity<List<RegressionReport>> regressions(
+            @RequestParam(required = false) String testType,
+            @RequestParam(defaultValue = "1") int current,
+            @RequestParam(defaultValue = "false") boolean onlyRegressions) {
+        return ResponseEntity.ok(regressionDetectionService.detectLatest(testType, current, onlyRegressions));
+    }
+
+    /**
+     * Kompaktiert den Speicher (0 = keine Grenze)
+     */
+    @PostMapping("/compact")
+    public ResponseEntity<CompactionResult> compact(
+            @RequestParam(defaultValue = "0") int maxAgeDays,
+            @RequestParam(defaultValue = "0") int maxRecordsPerKey) throws IOException {
+        return ResponseEntity.ok(resultStore.compact(TimeUnit.DAYS.toMillis(maxAgeDays), maxRecordsPerKey));
+    }
+
+    /**
+     * Zustand des Ergebnisspeichers
+     */
+    @GetMapping("/stats")
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", resultStore.isEnabled());
+        stats.put("runs", resultStore.size());
+        return stats;
+    }
+
+    /**
+     * Zustand des Ergebnis-Caches und der Zusammenführung gleicher Anfragen
+     */
+    @GetMapping("/cache")
+    public RequestCacheStatus cacheStatus() {
+        return coalescer.status();
+    }
+
+    /**
+     * Leert den Ergebnis-Cache
+     */
+    @PostMapping("/cache/clear")
+    public Map<String, Integer> clearCache() {
+        Map<String, Integer> result = new HashMap<>();
+        result.put("removedEntries", coalescer.clear());
+        return result;
+    }
+
+    /**
+     * Erlaubt Endpunkt- oder Enum-Namen (z. B. "virtual-threads") statt des Anzeigenamens
+     */
+    private String resolveModel(String model) {
+        if (model == null || model.isBlank()) {
+            return null;
+        }
+        try {
+            return ThreadModel.fromName(model).getDisplayName();
+        } catch (IllegalArgumentException e) {
+            return model;
+        }
+    }
+}
@@ -2,46 +2,76 @@ package de.haw.hamburg.threaddemo.controller;
 
 import de.haw.hamburg.threaddemo.model.CalculationRequest;
 import de.haw.hamburg.threaddemo.model.CalculationResponse;
+import de.haw.hamburg.threaddemo.model.CarrierMatrixReport;
+import de.haw.hamburg.threaddemo.model.ConcurrencyLimitStatus;
+import de.haw.hamburg.threaddemo.model.LockAuditReport;
+import de.haw.hamburg.threaddemo.model.StrassenCutoverReport;
+import de.haw.hamburg.threaddemo.model.ThreadFootprintReport;
+import de.haw.hamburg.threaddemo.model.ThreadModel;
+import de.haw.hamburg.threaddemo.model.WorkloadSweepReport;
+import de.haw.hamburg.threaddemo.service.BenchmarkExecutionService;
+import de.haw.hamburg.threaddemo.service.BenchmarkRequestCoalescer;
+import de.haw.hamburg.threaddemo.service.BenchmarkRunScheduler;
+import de.haw.hamburg.threaddemo.service.CarrierMatrixService;
 import de.haw.hamburg.threaddemo.service.IOIntensiveService;
-import de.haw.hamburg.threaddemo.service.MatrixCalculationService;
-import de.haw.hamburg.threaddemo.service.MemoryMonitorService;
-import de.haw.hamburg.threaddemo.service.MemoryMonitorService.MemorySnapshot;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import de.haw.hamburg.threaddemo.service.LockAuditService;
+import de.haw.hamburg.threaddemo.service.StrassenMatrixService;
+import de.haw.hamburg.threaddemo.service.ThreadFootprintService;
+import de.haw.hamburg.threaddemo.service.ThreadModelComparisonService;
+import de.haw.hamburg.threaddemo.service.WorkloadSweepService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Controller für die Durchführung von Thread-Modell-Vergleichstests
  * - Stellt Endpunkte für verschiedene Thread-Implementierungen bereit
  * - Unterstützt sowohl CPU-intensive als auch I/O-intensive Tests
  * - Erfasst Ausführungszeiten und Speicherverbrauch
+ * - Jeder tatsächlich ausgeführte Lauf wird vom Run-Scheduler zugelassen (runMode, priority, cpuBudget)
+ *   und mit den überlappenden Aktivitäten markiert
  */
 @RestController
 @RequestMapping("/api/matrix")
 public class MatrixCalculationController {
 
-    private static final Logger log = LoggerFactory.getLogger(MatrixCalculationController.class);
-    private final MatrixCalculationService calculationService;
+    private final BenchmarkExecutionService executionService;
+    private final ThreadModelComparisonService comparisonService;
+    private final LockAuditService lockAuditService;
+    private final CarrierMatrixService carrierMatrixService;
     private final IOIntensiveService ioService;
-    private final MemoryMonitorService memoryMonitorService;
+    private final StrassenMatrixService strassenMatrixService;
+    private final WorkloadSweepService workloadSweepService;
+    private final ThreadFootprintService threadFootprintService;
+    private final BenchmarkRequestCoalescer coalescer;
+    private final BenchmarkRunScheduler runScheduler;
     
     @Autowired
     public MatrixCalculationController(
-            MatrixCalculationService calculationService,
+            BenchmarkExecutionService executionService,
+            ThreadModelComparisonService comparisonService,
+            LockAuditService lockAuditService,
+            CarrierMatrixService carrierMatrixService,
             IOIntensiveService ioService,
-            MemoryMonitorService memoryMonitorService) {
-        this.calculationService = calculationService;
+            StrassenMatrixService strassenMatrixService,
+            WorkloadSweepService workloadSweepService,
+            ThreadFootprintService threadFootprintService,
+            BenchmarkRequestCoalescer coalescer,
+            BenchmarkRunScheduler runScheduler) {
+        this.executionService = executionService;
+        this.comparisonService = comparisonService;
+        this.lockAuditService = lockAuditService;
+        this.carrierMatrixService = carrierMatrixService;
         this.ioService = ioService;
-        this.memoryMonitorService = memoryMonitorService;
+        this.strassenMatrixService = strassenMatrixService;
+        this.workloadSweepService = workloadSweepService;
+        this.threadFootprintService = threadFootprintService;
+        this.coalescer = coalescer;
+        this.runScheduler = runScheduler;
     }
     
     /**
@@ -52,28 +82,7 @@ public class MatrixCalculationController {
      */
     @PostMapping("/platform-threads")
     public CalculationResponse calculateWithPlatformThreads(@RequestBody CalculationRequest request) {
-        // Starte Speicherüberwachung
-        MemorySnapshot memoryBefore = memoryMonitorService.startMonitoring();
-        ScheduledExecutorService memoryMonitor = startMemoryMonitoring();
-        
-        long startTime = System.currentTimeMillis();
-        
-        if ("cpu".equalsIgnoreCase(request.getTestType())) {
-            // CPU-intensiver Test (Matrix-Multiplikation)
-            executeCPUTest("platformThreadTaskExecutor", request);
-        } else {
-            // I/O-intensiver Test
-            executeIOTest("platformThreadTaskExecutor", request);
-        }
-        
-        long endTime = System.currentTimeMillis();
-        
-        // Beende Speicherüberwachung
-        memoryMonitor.shutdown();
-        MemorySnapshot memoryAfter = memoryMonitorService.stopMonitoring();
-        
-        return buildResponse(request, "Platform Threads (1:1 OS-Mapping)", startTime, endTime, 
-                            memoryBefore, memoryAfter);
+        return runSingleModel(ThreadModel.PLATFORM, request);
     }
 
     /**
@@ -84,28 +93,7 @@ public class MatrixCalculationController {
      */
     @PostMapping("/virtual-threads")
     public CalculationResponse calculateWithVirtualThreads(@RequestBody CalculationRequest request) {
-        // Starte Speicherüberwachung
-        MemorySnapshot memoryBefore = memoryMonitorService.startMonitoring();
-        ScheduledExecutorService memoryMonitor = startMemoryMonitoring();
-        
-        long startTime = System.currentTimeMillis();
-        
-        if ("cpu".equalsIgnoreCase(request.getTestType())) {
-            // CPU-intensiver Test (Matrix-Multiplikation)
-            executeCPUTest("virtualThreadTaskExecutor", request);
-        } else {
-            // I/O-intensiver Test
-            executeIOTest("virtualThreadTaskExecutor", request);
-        }
-        
-        long endTime = System.currentTimeMillis();
-        
-        // Beende Speicherüberwachung
-        memoryMonitor.shutdown();
-        MemorySnapshot memoryAfter = memoryMonitorService.stopMonitoring();
-        
-        return buildResponse(request, "Virtual Threads (JVM-optimiert)", startTime, endTime, 
-                            memoryBefore, memoryAfter);
+        return runSingleModel(ThreadModel.VIRTUAL, request);
     }
 
     /**
@@ -116,28 +104,7 @@ public class MatrixCalculationController {
      */
     @PostMapping("/limited-threads")
     public CalculationResponse calculateWithLimitedThreads(@RequestBody CalculationRequest request) {
-        // Starte Speicherüberwachung
-        MemorySnapshot memoryBefore = memoryMonitorService.startMonitoring();
-        ScheduledExecutorService memoryMonitor = startMemoryMonitoring();
-        
-        long startTime = System.currentTimeMillis();
-        
-        if ("cpu".equalsIgnoreCase(request.getTestType())) {
-            // CPU-intensiver Test (Matrix-Multiplikation)
-            executeCPUTest("limitedThreadTaskExecutor", request);
-        } else {
-            // I/O-intensiver Test
-            executeIOTest("limitedThreadTaskExecutor", request);
-        }
-        
-        long endTime = System.currentTimeMillis();
-        
-        // Beende Speicherüberwachung
-        memoryMonitor.shutdown();
-        MemorySnapshot memoryAfter = memoryMonitorService.stopMonitoring();
-        
-        return buildResponse(request, "Begrenzte Threads (CPU-Core-limitiert)", startTime, endTime, 
-                            memoryBefore, memoryAfter);
+        return runSingleModel(ThreadModel.LIMITED, request);
     }
 
     /**
@@ -148,152 +115,170 @@ public class MatrixCalculationController {
      */
     @PostMapping("/optimized-threads")
     public CalculationResponse calculateWithOptimizedThreads(@RequestBody CalculationRequest request) {
-        // Starte Speicherüberwachung
-        MemorySnapshot memoryBefore = memoryMonitorService.startMonitoring();
-        ScheduledExecutorService memoryMonitor = startMemoryMonitoring();
-        
-        long startTime = System.currentTimeMillis();
-        
-        if ("cpu".equalsIgnoreCase(request.getTestType())) {
-            // CPU-intensiver Test (Matrix-Multiplikation)
-            executeCPUTest("optimizedThreadTaskExecutor", request);
-        } else {
-            // I/O-intensiver Test
-            executeIOTest("optimizedThreadTaskExecutor", request);
-        }
-        
-        long endTime = System.currentTimeMillis();
-        
-        // Beende Speicherüberwachung
-        memoryMonitor.shutdown();
-        MemorySnapshot memoryAfter = memoryMonitorService.stopMonitoring();
-        
-        return buildResponse(request, "Optimierte Threads (Work-Stealing)", startTime, endTime, 
-                            memoryBefore, memoryAfter);
+        return runSingleModel(ThreadModel.OPTIMIZED, request);
     }
     
     /**
-     * Endpoint zum Testen aller Thread-Modelle gleichzeitig
+     * Führt Tests mit Virtual Threads und Ressourcen-Limits durch
+     * - Unbegrenzt viele Virtual Threads wie bei /virtual-threads
+     * - Gleichzeitige Datei- und HTTP-Zugriffe begrenzt (fest oder adaptiv nach Latenz)
+     * - Schützt Downstream-Ressourcen wie Datei-Handles bei sehr vielen Aufgaben
+     */
+    @PostMapping("/bounded-virtual-threads")
+    public CalculationResponse calculateWithBoundedVirtualThreads(@RequestBody CalculationRequest request) {
+        return runSingleModel(ThreadModel.BOUNDED_VIRTUAL, request);
+    }
+
+    /**
+     * Aktueller Zustand der Ressourcen-Limits (Limit, laufende und wartende Zugriffe, Latenzen)
+     */
+    @GetMapping("/bounded-virtual-threads/limits")
+    public List<ConcurrencyLimitStatus> boundedVirtualThreadLimits() {
+        return ioService.getConcurrencyLimits();
+    }
+
+    /**
+     * Führt Tests mit dem reaktiven Modell (Project Reactor) durch
+     * - CPU-Test über Flux.parallel().runOn(Schedulers.parallel())
+     * - I/O-Test nicht blockierend mit Mono.delay und asynchronen Dateikanälen
+     * - Wenige Threads, Wartezeiten belegen keinen Thread
+     */
+    @PostMapping("/reactive-threads")
+    public CalculationResponse calculateWithReactiveModel(@RequestBody CalculationRequest request) {
+        return runSingleModel(ThreadModel.REACTIVE, request);
+    }
+
+    /**
+     * Endpoint zum Vergleich aller Thread-Modelle
+     * - Optionale Aufwärmdurchläufe und Wiederholungen (warmupIterations, repetitions)
+     * - Zufällige Modellreihenfolge je Wiederholung (randomizeOrder)
+     * - Optional jedes Modell in eigener JVM (forkPerModel)
      */
     @PostMapping("/compare-all")
     public List<CalculationResponse> compareAllThreadModels(@RequestBody CalculationRequest request) {
-        List<CalculationResponse> results = new ArrayList<>();
-        
-        // Teste alle Thread-Modelle nacheinander
-        results.add(calculateWithPlatformThreads(request));
-        results.add(calculateWithVirtualThreads(request));
-        results.add(calculateWithLimitedThreads(request));
-        results.add(calculateWithOptimizedThreads(request));
-        
-        return results;
+        return coalescer.execute("compare-all", request,
+                () -> runScheduler.execute("compare-all", request, () -> comparisonService.compare(request),
+                        (responses, isolation) -> responses.forEach(response -> response.setIsolation(isolation))));
     }
-    
+
     /**
-     * Führt einen CPU-intensiven Test durch
+     * Lock-Audit vor der Umstellung auf Virtual Threads
+     * - I/O-Contention-Test mit synchronized, ReentrantLock und StampedLock
+     * - Jeweils mit Platform Threads und Virtual Threads
+     * - Durchsatz und Pinning-Ereignisse (JFR jdk.VirtualThreadPinned) je Kombination
      */
-    private void executeCPUTest(String executorName, CalculationRequest request) {
-        List<CompletableFuture<double[][]>> futures = new ArrayList<>();
-        
-        for (int i = 0; i < request.getParallelTasks(); i++) {
-            double[][] matrixA = calculationService.createRandomMatrix(request.getMatrixSize());
-            double[][] matrixB = calculationService.createRandomMatrix(request.getMatrixSize());
-            
-            CompletableFuture<double[][]> future = null;
-            switch (executorName) {
-                case "platformThreadTaskExecutor":
-                    future = calculationService.multiplyMatricesWithPlatformThreads(matrixA, matrixB);
-                    break;
-                case "virtualThreadTaskExecutor":
-                    future = calculationService.multiplyMatricesWithVirtualThreads(matrixA, matrixB);
-                    break;
-                case "limitedThreadTaskExecutor":
-                    future = calculationService.multiplyMatricesWithLimitedThreads(matrixA, matrixB);
-                    break;
-                case "optimizedThreadTaskExecutor":
-                    future = calculationService.multiplyMatricesWithOptimizedThreads(matrixA, matrixB);
-                    break;
-            }
-            
-            if (future != null) {
-                futures.add(future);
-            }
-        }
-        
-        try {
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
-        } catch (InterruptedException | ExecutionException e) {
-            log.error("Error during CPU test execution", e);
-        }
+    @PostMapping("/lock-audit")
+    public LockAuditReport auditLocks(@RequestBody CalculationRequest request) {
+        return coalescer.execute("lock-audit", request,
+                () -> runScheduler.execute("lock-audit", request, () -> lockAuditService.audit(request),
+                        LockAuditReport::setIsolation));
     }
-    
+
     /**
-     * Führt einen I/O-intensiven Test durch
+     * Carrier-Matrix der Virtual Threads
+     * - CPU- und I/O-Test für jede Carrier-Parallelität in einer eigenen JVM
+     *   (jdk.virtualThreadScheduler.parallelism, optional maxPoolSize)
+     * - Aufgaben, Matrix-/Dateigröße, Aufwärmdurchläufe und Wiederholungen stammen aus der Anfrage
+     * - Beispiel: POST /api/matrix/carrier-matrix?parallelism=1,2,4&testTypes=cpu,io
      */
-    private void executeIOTest(String executorName, CalculationRequest request) {
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
-        
-        for (int i = 0; i < request.getParallelTasks(); i++) {
-            CompletableFuture<Void> future = null;
-            switch (executorName) {
-                case "platformThreadTaskExecutor":
-                    future = ioService.performMixedIOTestWithPlatformThreads(5, request.getFileSizeKB());
-                    break;
-                case "virtualThreadTaskExecutor":
-                    future = ioService.performMixedIOTestWithVirtualThreads(5, request.getFileSizeKB());
-                    break;
-                case "limitedThreadTaskExecutor":
-                    future = ioService.performMixedIOTestWithLimitedThreads(5, request.getFileSizeKB());
-                    break;
-                case "optimizedThreadTaskExecutor":
-                    future = ioService.performMixedIOTestWithOptimizedThreads(5, request.getFileSizeKB());
-                    break;
-            }
-            
-            if (future != null) {
-                futures.add(future);
-            }
-        }
-        
-        try {
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
-        } catch (InterruptedException | ExecutionException e) {
-            log.error("Error during I/O test execution", e);
-        }
+    @PostMapping("/carrier-matrix")
+    public CarrierMatrixReport carrierMatrix(
+            @RequestBody CalculationRequest request,
+            @RequestParam(required = false) List<Integer> parallelism,
+            @RequestParam(defaultValue = "0") int maxPoolSize,
+            @RequestParam(required = false) List<String> testTypes) {
+        String endpoint = "carrier-matrix?parallelism=" + parallelism + "&maxPoolSize=" + maxPoolSize
+                + "&testTypes=" + testTypes;
+        return coalescer.execute(endpoint, request,
+                () -> runScheduler.execute("carrier-matrix", request,
+                        () -> carrierMatrixService.run(request, parallelism, maxPoolSize, testTypes),
+                        CarrierMatrixReport::setIsolation));
     }
-    
+
     /**
-     * Startet die Speicherüberwachung in einem separaten Thread
+     * Cutover-Suche für die Strassen-Multiplikation
+     * - Je Matrixgröße der geblockte klassische Kernel als Referenz und Strassen mit jeder Cutover-Größe
+     * - Laufzeit (schnellster Lauf), Speedup und relativer Fehler je Kombination sowie eine Empfehlung
+     *   für benchmark.strassen.cutover
+     * - Aufwärmdurchläufe und Wiederholungen stammen aus der Anfrage
+     * - Beispiel: POST /api/matrix/strassen-cutover?sizes=256,512,1024&cutovers=32,64,128,256
      */
-    private ScheduledExecutorService startMemoryMonitoring() {
-        ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1);
-        scheduler.scheduleAtFixedRate(
-            () -> memoryMonitorService.updatePeakMemory(),
-            100, 100, TimeUnit.MILLISECONDS
-        );
-        return scheduler;
+    @PostMapping("/strassen-cutover")
+    public StrassenCutoverReport strassenCutover(
+            @RequestBody CalculationRequest request,
+            @RequestParam(defaultValue = "256,512,1024") List<Integer> sizes,
+            @RequestParam(defaultValue = "32,64,128,256") List<Integer> cutovers) {
+        String endpoint = "strassen-cutover?sizes=" + sizes + "&cutovers=" + cutovers;
+        return coalescer.execute(endpoint, request,
+                () -> runScheduler.execute("strassen-cutover", request,
+                        () -> strassenMatrixService.benchmarkCutover(sizes, cutovers,
+                                request.getWarmupIterations(), request.getRepetitions()),
+                        StrassenCutoverReport::setIsolation));
     }
-    
+
+    /**
+     * Sweep der Thread-Modelle über den CPU-Anteil einer Aufgabe
+     * - Vorlage ist request.workload (Latenzverteilung, Aufrufe, Nutzlast, Lock-Nutzung); je CPU-Anteil
+     *   werden Rechenzeit und mittlere Latenz so gesetzt, dass eine Aufgabe taskMillis dauert
+     * - Durchsatz, Perzentile und relativer Durchsatz je Modell und Anteil, bestes Modell je Anteil
+     *   und der CPU-Anteil, ab dem Virtual Threads keinen Vorteil mehr bringen
+     * - Beispiel: POST /api/matrix/workload-sweep?models=platform-threads,virtual-threads&cpuShares=0,0.25,0.5,1&taskMillis=20
+     */
+    @PostMapping("/workload-sweep")
+    public WorkloadSweepReport workloadSweep(
+            @RequestBody CalculationRequest request,
+            @RequestParam(required = false) List<String> models,
+            @RequestParam(required = false) List<Double> cpuShares,
+            @RequestParam(defaultValue = "20") double taskMillis) {
+        String endpoint = "workload-sweep?models=" + models + "&cpuShares=" + cpuShares + "&taskMillis=" + taskMillis;
+        return coalescer.execute(endpoint, request,
+                () -> runScheduler.execute("workload-sweep", request,
+                        () -> workloadSweepService.sweep(request, models, cpuShares, taskMillis),
+                        WorkloadSweepReport::setIsolation));
+    }
+
+    /**
+     * Speicherbedarf je Thread: parkt stufenweise N Platform bzw. Virtual Threads und misst RSS,
+     * NMT-Kategorie Thread und Heap je Thread (Grundlage für die Dimensionierung von Containern)
+     * - Bricht die Messreihe eines Modells vor den Grenzen des Betriebssystems bzw. des Speichers ab
+     * - Beispiel: POST /api/matrix/thread-footprint?models=platform-threads,virtual-threads&counts=10,1000,100000
+     */
+    @PostMapping("/thread-footprint")
+    public ThreadFootprintReport threadFootprint(
+            @RequestBody CalculationRequest request,
+            @RequestParam(defaultValue = "platform-threads,virtual-threads") List<String> models,
+            @RequestParam(defaultValue = "10,100,1000,10000,100000,1000000") List<Integer> counts) {
+        String endpoint = "thread-footprint?models=" + models + "&counts=" + counts;
+        return coalescer.execute(endpoint, request,
+                () -> runScheduler.execute("thread-footprint", request,
+                        () -> threadFootprintService.measure(models, counts),
+                        ThreadFootprintReport::setIsolation));
+    }
+
+    /**
+     * Führt einen Lauf eines Thread-Modells aus; gleiche gleichzeitige Anfragen teilen sich
+     * einen Lauf, abgeschlossene Ergebnisse kommen bis zum Ablauf der TTL aus dem Cache (außer bei force);
+     * nur tatsächlich ausgeführte Läufe durchlaufen den Run-Scheduler
+     */
+    private CalculationResponse runSingleModel(ThreadModel threadModel, CalculationRequest request) {
+        return coalescer.execute(threadModel.getEndpoint(), request,
+                () -> runScheduler.execute(threadModel.getEndpoint(), request,
+                        () -> executionService.execute(threadModel, request), CalculationResponse::setIsolation));
+    }
+
+    /**
+     * Ungültige Anfrageparameter (z. B. unbekannter lockMode) als 400 melden
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
     /**
-     * Erstellt eine Response mit den Ergebnissen des Tests
+     * Nicht rechtzeitig zugelassene Läufe als 503 melden
      */
-    private CalculationResponse buildResponse(
-            CalculationRequest request, 
-            String threadModel, 
-            long startTime, 
-            long endTime, 
-            MemorySnapshot memoryBefore, 
-            MemorySnapshot memoryAfter) {
-        
-        return CalculationResponse.builder()
-                .threadModel(threadModel)
-                .testType(request.getTestType())
-                .matrixSize(request.getMatrixSize())
-                .fileSizeKB(request.getFileSizeKB())
-                .parallelTasks(request.getParallelTasks())
-                .totalExecutionTimeMs(endTime - startTime)
-                .memoryBeforeMB(memoryBefore.getTotalMemoryUsageMB())
-                .memoryPeakMB(memoryAfter.getPeakMemoryUsageMB())
-                .memoryAfterMB(memoryAfter.getTotalMemoryUsageMB())
-                .build();
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> handleRejected(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package de.haw.hamburg.threaddemo.controller;
+
+import de.haw.hamburg.threaddemo.model.RunProfile;
+import de.haw.hamburg.threaddemo.service.SamplingProfilerService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller für die CPU-Profile der Benchmark-Läufe
+ * - Profile werden mit "profile": true in der Anfrage aufgezeichnet
+ * - Darstellung als Flame Graph unter flamegraph.html?runId=...
+ */
+@RestController
+@RequestMapping("/api/profiles")
+public class ProfileController {
+
+    private final SamplingProfilerService profilerService;
+
+    @Autowired
+    public ProfileController(SamplingProfilerService profilerService) {
+        this.profilerService = profilerService;
+    }
+
+    /**
+     * Übersicht der vorhandenen Profile, jüngste zuerst
+     */
+    @GetMapping
+    public List<RunProfile> list() {
+        return profilerService.listProfiles();
+    }
+
+    /**
+     * Profil eines Laufs mit allen Collapsed Stacks
+     */
+    @GetMapping("/{runId}")
+    public ResponseEntity<RunProfile> profile(@PathVariable String runId) {
+        RunProfile profile = profilerService.getProfile(runId);
+        return profile != null ? ResponseEntity.ok(profile) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Profil eines Laufs als Text im Collapsed-Stack-Format (z. B. für flamegraph.pl oder speedscope)
+     */
+    @GetMapping(value = "/{runId}/collapsed", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> collapsed(@PathVariable String runId) {
+        RunProfile profile = profilerService.getProfile(runId);
+        return profile != null
+                ? ResponseEntity.ok(profilerService.toCollapsed(profile))
+                : ResponseEntity.notFound().build();
+    }
+}
@@ -1,24 +1,36 @@
 package de.haw.hamburg.threaddemo.controller;
 
+import de.haw.hamburg.threaddemo.model.RunSchedulerStatus;
+import de.haw.hamburg.threaddemo.model.TaskEventLogStatus;
+import de.haw.hamburg.threaddemo.service.BenchmarkRunScheduler;
 import de.haw.hamburg.threaddemo.service.MatrixCalculationService;
+import de.haw.hamburg.threaddemo.service.TaskEventLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
  * Controller zur Verwaltung der System-Auslastung
+ * - Die Heavy-Load-Simulation wird beim Run-Scheduler als Hintergrundaktivität angemeldet;
+ *   Läufe, die sie überlappen, sind in ihrer RunIsolation markiert
  */
 @RestController
 @RequestMapping("/api/system")
 public class SystemLoadController {
     
     private final MatrixCalculationService calculationService;
+    private final BenchmarkRunScheduler runScheduler;
+    private final TaskEventLog taskEventLog;
     
     @Autowired
-    public SystemLoadController(MatrixCalculationService calculationService) {
+    public SystemLoadController(MatrixCalculationService calculationService, BenchmarkRunScheduler runScheduler,
+                                TaskEventLog taskEventLog) {
         this.calculationService = calculationService;
+        this.runScheduler = runScheduler;
+        this.taskEventLog = taskEventLog;
     }
 
     /**
@@ -27,6 +39,7 @@ public class SystemLoadController {
     @PostMapping("/heavy-load/start")
     public String startHeavyLoad() {
         calculationService.setHeavyLoadEnabled(true);
+        runScheduler.setBackgroundActivity("heavy-load", true);
         calculationService.performHeavyLoadTask();
         return "Heavy load started.";
     }
@@ -37,6 +50,23 @@ public class SystemLoadController {
     @PostMapping("/heavy-load/stop")
     public String stopHeavyLoad() {
         calculationService.setHeavyLoadEnabled(false);
+        runScheduler.setBackgroundActivity("heavy-load", false);
         return "Heavy load stopped.";
     }
+
+    /**
+     * Zustand des Run-Schedulers: laufende und wartende Benchmark-Läufe, Hintergrundaktivitäten
+     */
+    @GetMapping("/scheduler")
+    public RunSchedulerStatus schedulerStatus() {
+        return runScheduler.status();
+    }
+
+    /**
+     * Zustand des Aufgaben-Ereignisprotokolls: Zähler (aufgezeichnet, ausgelassen, verworfen) und letzte Ereignisse
+     */
+    @GetMapping("/task-events")
+    public TaskEventLogStatus taskEvents() {
+        return taskEventLog.status();
+    }
 }
\ No newline at end of file
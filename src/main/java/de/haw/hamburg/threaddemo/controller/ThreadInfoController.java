@@ -1,20 +1,21 @@
 package de.haw.hamburg.threaddemo.controller;
 
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import de.haw.hamburg.threaddemo.model.ContentionReport;
+import de.haw.hamburg.threaddemo.model.ThreadSystemInfo;
+import de.haw.hamburg.threaddemo.model.ThreadTimeline;
+import de.haw.hamburg.threaddemo.model.TimelineRun;
+import de.haw.hamburg.threaddemo.service.LockContentionService;
+import de.haw.hamburg.threaddemo.service.ThreadFeedService;
+import de.haw.hamburg.threaddemo.service.ThreadSnapshotService;
+import de.haw.hamburg.threaddemo.service.ThreadStateRecorder;
 import lombok.RequiredArgsConstructor;
-import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.lang.management.ManagementFactory;
-import java.lang.management.ThreadInfo;
-import java.lang.management.ThreadMXBean;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Controller zum Abfragen von Thread-Informationen
@@ -25,190 +26,73 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ThreadInfoController {
 
+    private final LockContentionService lockContentionService;
+    private final ThreadSnapshotService threadSnapshotService;
+    private final ThreadFeedService threadFeedService;
+    private final ThreadStateRecorder threadStateRecorder;
+
     /**
      * Gibt aktuelle Thread-Informationen zurück
      */
     @GetMapping("/info")
     public ThreadSystemInfo getThreadInfo() {
-        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
-        ThreadSystemInfo info = new ThreadSystemInfo();
-        
-        info.setTotalStartedThreadCount(threadMXBean.getTotalStartedThreadCount());
-        info.setCurrentThreadCount(threadMXBean.getThreadCount());
-        info.setPeakThreadCount(threadMXBean.getPeakThreadCount());
-        info.setDaemonThreadCount(threadMXBean.getDaemonThreadCount());
-        
-        // Aktuelle Thread-Details
-        long[] threadIds = threadMXBean.getAllThreadIds();
-        ThreadInfo[] threadInfos = threadMXBean.getThreadInfo(threadIds, 3);
-        
-        List<ThreadDetail> threadDetails = new ArrayList<>();
-        for (ThreadInfo t : threadInfos) {
-            if (t != null) {
-                ThreadDetail detail = new ThreadDetail();
-                detail.setId(t.getThreadId());
-                detail.setName(t.getThreadName());
-                detail.setState(t.getThreadState().name());
-                detail.setBlocked(t.getThreadState() == Thread.State.WAITING || 
-                               t.getThreadState() == Thread.State.TIMED_WAITING || 
-                               t.getThreadState() == Thread.State.BLOCKED);
-                detail.setThreadGroup(getThreadGroupName(t.getThreadName()));
-                threadDetails.add(detail);
-            }
-        }
-        
-        info.setThreadDetails(threadDetails);
-        
-        // Thread-Gruppen-Statistik
-        info.setThreadGroupStats(
-            info.getThreadDetails().stream()
-                .collect(Collectors.groupingBy(
-                    ThreadDetail::getThreadGroup,
-                    Collectors.counting()
-                ))
-        );
-        
-        return info;
+        return threadSnapshotService.snapshot();
     }
     
     /**
-     * Ermittelt die Thread-Gruppe anhand des Namens
+     * Push-Feed des Thread-Monitors als Server-Sent Events
+     * - Erstes Ereignis "snapshot" mit dem vollständigen Zustand
+     * - Danach Ereignisse "delta" mit neuen, beendeten und geänderten Threads
+     * - intervalMs drosselt den Feed für diesen Client (Vielfaches des Server-Takts)
      */
-    private String getThreadGroupName(String threadName) {
-        if (threadName.startsWith("platform-thread-")) {
-            return "Platform Threads";
-        } else if (threadName.startsWith("VirtualThread") || threadName.startsWith("virtual-thread-")) {
-            // Unterstützt sowohl echte Virtual Threads (Java 21) als auch unsere simulierten
-            return "Virtual Threads";
-        } else if (threadName.startsWith("kernel-thread-")) {
-            return "Kernel Threads";
-        } else if (threadName.startsWith("user-thread-")) {
-            return "User Threads";
-        } else if (threadName.startsWith("http-nio")) {
-            return "Tomcat Threads";
-        } else if (threadName.startsWith("ForkJoinPool")) {
-            return "ForkJoin Pool";
-        } else if (threadName.startsWith("pool-")) {
-            // Dies könnte ein Thread aus unserem cached Thread-Pool sein (simulierte Virtual Threads)
-            return "Virtual Threads";
-        } else {
-            return "Other";
-        }
+    @GetMapping(value = "/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getThreadFeed(@RequestParam(defaultValue = "2000") long intervalMs) {
+        return threadFeedService.subscribe(intervalMs);
     }
     
     /**
-     * DTO für Thread-System-Informationen
+     * Zeitleiste der Thread-Zustände je Thread-Gruppe
+     * - Zeitraum über from/to (Standard: die letzten fünf Minuten) oder über die runId eines Laufs
+     *   (Laufzeit des Laufs plus eine Sekunde davor und danach)
+     * - resolution: raw, 1s, 10s, 1m oder auto
      */
-    @Data
-    public static class ThreadSystemInfo {
-        private long totalStartedThreadCount;
-        private int currentThreadCount;
-        private int peakThreadCount;
-        private int daemonThreadCount;
-        private List<ThreadDetail> threadDetails = new ArrayList<>();
-        private java.util.Map<String, Long> threadGroupStats;
-        
-        // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
-        public long getTotalStartedThreadCount() {
-            return totalStartedThreadCount;
-        }
-        
-        public void setTotalStartedThreadCount(long totalStartedThreadCount) {
-            this.totalStartedThreadCount = totalStartedThreadCount;
-        }
-        
-        public int getCurrentThreadCount() {
-            return currentThreadCount;
-        }
-        
-        public void setCurrentThreadCount(int currentThreadCount) {
-            this.currentThreadCount = currentThreadCount;
-        }
-        
-        public int getPeakThreadCount() {
-            return peakThreadCount;
-        }
-        
-        public void setPeakThreadCount(int peakThreadCount) {
-            this.peakThreadCount = peakThreadCount;
-        }
-        
-        public int getDaemonThreadCount() {
-            return daemonThreadCount;
-        }
-        
-        public void setDaemonThreadCount(int daemonThreadCount) {
-            this.daemonThreadCount = daemonThreadCount;
-        }
-        
-        public List<ThreadDetail> getThreadDetails() {
-            return threadDetails;
-        }
-        
-        public void setThreadDetails(List<ThreadDetail> threadDetails) {
-            this.threadDetails = threadDetails;
+    @GetMapping("/timeline")
+    public ResponseEntity<ThreadTimeline> getTimeline(
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) String runId,
+            @RequestParam(defaultValue = "auto") String resolution,
+            @RequestParam(required = false) String group) {
+        long end = to != null ? to : System.currentTimeMillis();
+        long start = from != null ? from : end - 5 * 60_000;
+        if (runId != null) {
+            TimelineRun run = threadStateRecorder.findRun(runId);
+            if (run == null) {
+                return ResponseEntity.notFound().build();
+            }
+            start = run.getStartTimestamp() - 1_000;
+            end = run.getEndTimestamp() + 1_000;
         }
-        
-        public java.util.Map<String, Long> getThreadGroupStats() {
-            return threadGroupStats;
+        if (start > end) {
+            return ResponseEntity.badRequest().build();
         }
-        
-        public void setThreadGroupStats(java.util.Map<String, Long> threadGroupStats) {
-            this.threadGroupStats = threadGroupStats;
+        try {
+            return ResponseEntity.ok(threadStateRecorder.query(start, end, resolution, group));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         }
     }
     
     /**
-     * DTO für Thread-Details
+     * Liefert Lock-Contention-Statistiken über das gleitende Zeitfenster
+     * - Blockier- und Wartezähler/-zeiten gesamt und je Thread-Gruppe
+     * - Die am stärksten umkämpften Locks mit ihren Besitzern
+     * - Verteilung der Wartezustände auf Kategorien (Queue-Lock, Monitor, Sleep, I/O, ...)
      */
-    @Data
-    public static class ThreadDetail {
-        private long id;
-        private String name;
-        private String state;
-        private boolean blocked;
-        private String threadGroup;
-        
-        // Explizite Getter für den Fall, dass Lombok nicht funktioniert
-        public long getId() {
-            return id;
-        }
-        
-        public String getName() {
-            return name;
-        }
-        
-        public String getState() {
-            return state;
-        }
-        
-        public boolean isBlocked() {
-            return blocked;
-        }
-        
-        public String getThreadGroup() {
-            return threadGroup;
-        }
-        
-        // Explizite Setter für Lombok-Unabhängigkeit
-        public void setId(long id) {
-            this.id = id;
-        }
-        
-        public void setName(String name) {
-            this.name = name;
-        }
-        
-        public void setState(String state) {
-            this.state = state;
-        }
-        
-        public void setBlocked(boolean blocked) {
-            this.blocked = blocked;
-        }
-        
-        public void setThreadGroup(String threadGroup) {
-            this.threadGroup = threadGroup;
-        }
+    @GetMapping("/contention")
+    public ContentionReport getContention(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "false") boolean includeIdle) {
+        return lockContentionService.report(limit, includeIdle);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package de.haw.hamburg.threaddemo.controller;
+
+import de.haw.hamburg.threaddemo.model.WatchdogStatus;
+import de.haw.hamburg.threaddemo.service.ExecutorWatchdogService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller für den Executor-Watchdog
+ * - Zustand aller überwachten Executoren (wartende und laufende Aufgaben, Fortschritt)
+ * - Bestehende und zuletzt erkannte Befunde samt Pfad des Thread-Dumps
+ */
+@RestController
+@RequestMapping("/api/watchdog")
+public class WatchdogController {
+
+    private final ExecutorWatchdogService watchdogService;
+
+    @Autowired
+    public WatchdogController(ExecutorWatchdogService watchdogService) {
+        this.watchdogService = watchdogService;
+    }
+
+    @GetMapping
+    public WatchdogStatus status() {
+        return watchdogService.status();
+    }
+}
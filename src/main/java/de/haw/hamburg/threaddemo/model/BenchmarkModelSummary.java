@@ -0,0 +1,97 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+/**
+ * DTO für die Zusammenfassung gespeicherter Läufe eines Thread-Modells
+ */
+@Data
+public class BenchmarkModelSummary {
+    private String threadModel;
+    private String testType;
+
+    /**
+     * Anzahl der berücksichtigten Läufe
+     */
+    private int runs;
+
+    private double meanExecutionTimeMs;
+    private double stdDevExecutionTimeMs;
+
+    /**
+     * Mittlerer Durchsatz (Aufgaben pro Sekunde)
+     */
+    private double meanTasksPerSecond;
+
+    /**
+     * Zeitpunkt und Dauer des jüngsten Laufs
+     */
+    private long lastRunTimestamp;
+
+    private long lastExecutionTimeMs;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public String getThreadModel() {
+        return threadModel;
+    }
+
+    public void setThreadModel(String threadModel) {
+        this.threadModel = threadModel;
+    }
+
+    public String getTestType() {
+        return testType;
+    }
+
+    public void setTestType(String testType) {
+        this.testType = testType;
+    }
+
+    public int getRuns() {
+        return runs;
+    }
+
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+
+    public double getMeanExecutionTimeMs() {
+        return meanExecutionTimeMs;
+    }
+
+    public void setMeanExecutionTimeMs(double meanExecutionTimeMs) {
+        this.meanExecutionTimeMs = meanExecutionTimeMs;
+    }
+
+    public double getStdDevExecutionTimeMs() {
+        return stdDevExecutionTimeMs;
+    }
+
+    public void setStdDevExecutionTimeMs(double stdDevExecutionTimeMs) {
+        this.stdDevExecutionTimeMs = stdDevExecutionTimeMs;
+    }
+
+    public double getMeanTasksPerSecond() {
+        return meanTasksPerSecond;
+    }
+
+    public void setMeanTasksPerSecond(double meanTasksPerSecond) {
+        this.meanTasksPerSecond = meanTasksPerSecond;
+    }
+
+    public long getLastRunTimestamp() {
+        return lastRunTimestamp;
+    }
+
+    public void setLastRunTimestamp(long lastRunTimestamp) {
+        this.lastRunTimestamp = lastRunTimestamp;
+    }
+
+    public long getLastExecutionTimeMs() {
+        return lastExecutionTimeMs;
+    }
+
+    public void setLastExecutionTimeMs(long lastExecutionTimeMs) {
+        this.lastExecutionTimeMs = lastExecutionTimeMs;
+    }
+}
@@ -0,0 +1,77 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+/**
+ * DTO für einen Zeit-Bucket im Verlauf gespeicherter Benchmark-Ergebnisse
+ */
+@Data
+public class BenchmarkTrendPoint {
+    /**
+     * Beginn des Buckets (Epoch-Millisekunden)
+     */
+    private long bucketStart;
+
+    /**
+     * Anzahl der Läufe im Bucket
+     */
+    private int runs;
+
+    private double meanExecutionTimeMs;
+    private long minExecutionTimeMs;
+    private long maxExecutionTimeMs;
+
+    /**
+     * Mittlerer Durchsatz (Aufgaben pro Sekunde)
+     */
+    private double meanTasksPerSecond;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public long getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(long bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public int getRuns() {
+        return runs;
+    }
+
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+
+    public double getMeanExecutionTimeMs() {
+        return meanExecutionTimeMs;
+    }
+
+    public void setMeanExecutionTimeMs(double meanExecutionTimeMs) {
+        this.meanExecutionTimeMs = meanExecutionTimeMs;
+    }
+
+    public long getMinExecutionTimeMs() {
+        return minExecutionTimeMs;
+    }
+
+    public void setMinExecutionTimeMs(long minExecutionTimeMs) {
+        this.minExecutionTimeMs = minExecutionTimeMs;
+    }
+
+    public long getMaxExecutionTimeMs() {
+        return maxExecutionTimeMs;
+    }
+
+    public void setMaxExecutionTimeMs(long maxExecutionTimeMs) {
+        this.maxExecutionTimeMs = maxExecutionTimeMs;
+    }
+
+    public double getMeanTasksPerSecond() {
+        return meanTasksPerSecond;
+    }
+
+    public void setMeanTasksPerSecond(double meanTasksPerSecond) {
+        this.meanTasksPerSecond = meanTasksPerSecond;
+    }
+}
@@ -18,7 +18,10 @@ public class CalculationRequest {
     private int parallelTasks;
     
     /**
-     * Art des Tests: "cpu" für Matrix-Multiplikation, "io" für I/O-intensive Tests
+     * Art des Tests: "cpu" für Matrix-Multiplikation, "io" für I/O-intensive Tests,
+     * "sparse" für dünn besetzte Matrizen (SpGEMM und SpMV), "batch" für viele kleine Matrizen
+     * (matrixSize bis 64, parallelTasks = Anzahl Matrizen, gebündelt in Chunks), "workload" für
+     * Aufgaben nach der WorkloadDefinition im Feld workload
      */
     private String testType = "cpu";
     
@@ -27,6 +30,86 @@ public class CalculationRequest {
      */
     private int fileSizeKB = 100;
     
+    /**
+     * Anzahl verworfener Aufwärmdurchläufe pro Thread-Modell (nur für Modellvergleich)
+     */
+    private int warmupIterations = 0;
+    
+    /**
+     * Anzahl gemessener Wiederholungen pro Thread-Modell (nur für Modellvergleich)
+     */
+    private int repetitions = 1;
+    
+    /**
+     * Zufällige Reihenfolge der Thread-Modelle je Wiederholung (nur für Modellvergleich)
+     */
+    private boolean randomizeOrder = true;
+    
+    /**
+     * Jedes Thread-Modell in einer eigenen JVM messen (nur für Modellvergleich)
+     */
+    private boolean forkPerModel = false;
+    
+    /**
+     * CPU-Profil der Executor-Threads während des Laufs aufzeichnen (abrufbar über /api/profiles/{runId})
+     */
+    private boolean profile = false;
+    
+    /**
+     * Dauer jeder einzelnen Aufgabe in der Antwort mitliefern (taskTimesNanos)
+     */
+    private boolean includeTaskTimes = false;
+    
+    /**
+     * Gemeinsame, per Lock geschützte Ressource im I/O-Test: "none", "synchronized", "reentrant" oder "stamped"
+     */
+    private String lockMode = "none";
+    
+    /**
+     * Ergebnis-Cache und Zusammenführung gleicher Anfragen umgehen und den Lauf in jedem Fall ausführen
+     */
+    private boolean force;
+    
+    /**
+     * Zulassung durch den Run-Scheduler: "exclusive" (allein auf der Maschine) oder "shared" (neben anderen geteilten Läufen im Rahmen des CPU-Budgets)
+     */
+    private String runMode = "exclusive";
+    
+    /**
+     * Priorität in der Warteschlange des Run-Schedulers; höhere Werte werden zuerst zugelassen, gleiche in Ankunftsreihenfolge
+     */
+    private int priority;
+    
+    /**
+     * Reservierte CPU-Kerne im Modus "shared" (0 = ein Kern); exklusive Läufe belegen immer das gesamte Budget
+     */
+    private double cpuBudget;
+    
+    /**
+     * Anteil belegter Einträge der Matrizen im Sparse-Test (0 < density <= 1)
+     */
+    private double density = 0.01;
+    
+    /**
+     * Zahlenformat im CPU-Test: "double", "float" oder "mixed" (float-Speicherung, double-Akkumulation)
+     */
+    private String precision = "double";
+    
+    /**
+     * Algorithmus im CPU-Test: "classic" (dreifache Schleife i-j-k), "ikj" (Schleifenreihenfolge i-k-j, alle Zahlenformate) oder "strassen" (Strassen-Winograd mit geblocktem Kernel unterhalb der Cutover-Größe, nur mit precision "double")
+     */
+    private String algorithm = "classic";
+    
+    /**
+     * Matrizen je Aufgabe im Batch-Test (0 = automatisch, etwa benchmark.batch.chunks-per-worker Chunks je Prozessor)
+     */
+    private int batchChunkSize;
+    
+    /**
+     * Synthetische Aufgabe für testType "workload" (Rechenzeit, blockierende Aufrufe, Latenzverteilung, Nutzlast, Lock)
+     */
+    private WorkloadDefinition workload;
+    
     // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
     public int getMatrixSize() {
         return matrixSize;
@@ -59,4 +142,132 @@ public class CalculationRequest {
     public void setFileSizeKB(int fileSizeKB) {
         this.fileSizeKB = fileSizeKB;
     }
+    
+    public int getWarmupIterations() {
+        return warmupIterations;
+    }
+    
+    public void setWarmupIterations(int warmupIterations) {
+        this.warmupIterations = warmupIterations;
+    }
+    
+    public int getRepetitions() {
+        return repetitions;
+    }
+    
+    public void setRepetitions(int repetitions) {
+        this.repetitions = repetitions;
+    }
+    
+    public boolean isRandomizeOrder() {
+        return randomizeOrder;
+    }
+    
+    public void setRandomizeOrder(boolean randomizeOrder) {
+        this.randomizeOrder = randomizeOrder;
+    }
+    
+    public boolean isForkPerModel() {
+        return forkPerModel;
+    }
+    
+    public void setForkPerModel(boolean forkPerModel) {
+        this.forkPerModel = forkPerModel;
+    }
+    
+    public boolean isProfile() {
+        return profile;
+    }
+    
+    public void setProfile(boolean profile) {
+        this.profile = profile;
+    }
+    
+    public boolean isIncludeTaskTimes() {
+        return includeTaskTimes;
+    }
+    
+    public void setIncludeTaskTimes(boolean includeTaskTimes) {
+        this.includeTaskTimes = includeTaskTimes;
+    }
+    
+    public String getLockMode() {
+        return lockMode;
+    }
+    
+    public void setLockMode(String lockMode) {
+        this.lockMode = lockMode;
+    }
+    
+    public boolean isForce() {
+        return force;
+    }
+    
+    public void setForce(boolean force) {
+        this.force = force;
+    }
+    
+    public String getRunMode() {
+        return runMode;
+    }
+    
+    public void setRunMode(String runMode) {
+        this.runMode = runMode;
+    }
+    
+    public int getPriority() {
+        return priority;
+    }
+    
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+    
+    public double getCpuBudget() {
+        return cpuBudget;
+    }
+    
+    public void setCpuBudget(double cpuBudget) {
+        this.cpuBudget = cpuBudget;
+    }
+    
+    public double getDensity() {
+        return density;
+    }
+    
+    public void setDensity(double density) {
+        this.density = density;
+    }
+    
+    public String getPrecision() {
+        return precision;
+    }
+    
+    public void setPrecision(String precision) {
+        this.precision = precision;
+    }
+    
+    public String getAlgorithm() {
+        return algorithm;
+    }
+    
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+    
+    public int getBatchChunkSize() {
+        return batchChunkSize;
+    }
+    
+    public void setBatchChunkSize(int batchChunkSize) {
+        this.batchChunkSize = batchChunkSize;
+    }
+    
+    public WorkloadDefinition getWorkload() {
+        return workload;
+    }
+    
+    public void setWorkload(WorkloadDefinition workload) {
+        this.workload = workload;
+    }
 }
\ No newline at end of file
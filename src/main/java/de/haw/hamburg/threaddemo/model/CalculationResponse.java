@@ -18,7 +18,9 @@ public class CalculationResponse {
     private String threadModel;
     
     /**
-     * Art des Tests: "cpu" für Matrix-Multiplikation, "io" für I/O-intensive Tests
+     * Art des Tests: "cpu" für Matrix-Multiplikation, "io" für I/O-intensive Tests,
+     * "sparse" für dünn besetzte Matrizen (SpGEMM und SpMV), "batch" für viele kleine Matrizen,
+     * "workload-..." für Aufgaben aus einer WorkloadDefinition
      */
     private String testType;
     
@@ -57,6 +59,132 @@ public class CalculationResponse {
      */
     private double memoryAfterMB;
     
+    /**
+     * Statistische Auswertung bei wiederholten Messungen (nur im Modellvergleich gesetzt)
+     */
+    private ExecutionStatistics statistics;
+    
+    /**
+     * Eindeutige ID des Laufs (UUID), unter der das Ergebnis gespeichert wird
+     */
+    private String runId;
+    
+    /**
+     * Startzeitpunkt des Laufs (Epoch-Millisekunden)
+     */
+    private long timestamp;
+    
+    /**
+     * Median der Aufgabendauer in Millisekunden (von Übergabe bis Abschluss)
+     */
+    private double p50TaskTimeMs;
+    
+    /**
+     * 99. Perzentil der Aufgabendauer in Millisekunden
+     */
+    private double p99TaskTimeMs;
+    
+    /**
+     * Ergebnis der Regressionserkennung gegen gespeicherte Läufe (null, wenn nicht bewertet)
+     */
+    private RegressionReport regression;
+    
+    /**
+     * true, wenn für diesen Lauf ein CPU-Profil aufgezeichnet wurde
+     */
+    private boolean profiled;
+    
+    /**
+     * Anzahl der Aufgaben, die abgelehnt wurden oder mit einer Exception endeten
+     */
+    private int failedTasks;
+    
+    /**
+     * Dauer jeder Aufgabe in Nanosekunden von der Übergabe bis zum Abschluss
+     * (-1 = fehlgeschlagen, nur mit includeTaskTimes)
+     */
+    private long[] taskTimesNanos;
+    
+    /**
+     * Zulassung durch den Run-Scheduler und überlappende Aktivitäten (null bei internen Läufen ohne Scheduler)
+     */
+    private RunIsolation isolation;
+    
+    /**
+     * Größte Abweichung vom exakteren Referenzergebnis relativ zu dessen größtem Betrag: float bzw. mixed gegenüber double, strassen gegenüber der klassischen Multiplikation (sonst 0)
+     */
+    private double precisionError;
+    
+    /**
+     * Resident Set Size des Prozesses vor dem Test (MB, -1 = nicht verfügbar); enthält anders als memoryBeforeMB auch Thread-Stacks, Direct Buffer und malloc-Arenen
+     */
+    private double rssBeforeMB;
+    
+    /**
+     * Resident Set Size während des Tests (Peak, alle 100 ms abgetastet) (MB)
+     */
+    private double rssPeakMB;
+    
+    /**
+     * Resident Set Size nach dem Test (MB)
+     */
+    private double rssAfterMB;
+    
+    /**
+     * Proportional Set Size vor dem Test, geteilte Seiten anteilig (MB, -1 = nicht verfügbar)
+     */
+    private double pssBeforeMB;
+    
+    /**
+     * Proportional Set Size nach dem Test (MB)
+     */
+    private double pssAfterMB;
+    
+    /**
+     * Belegung der Direct Buffer (BufferPoolMXBean "direct") vor dem Test (MB)
+     */
+    private double directBufferBeforeMB;
+    
+    /**
+     * Belegung der Direct Buffer nach dem Test (MB)
+     */
+    private double directBufferAfterMB;
+    
+    /**
+     * Belegung der Mapped Buffer (BufferPoolMXBean "mapped") vor dem Test (MB)
+     */
+    private double mappedBufferBeforeMB;
+    
+    /**
+     * Belegung der Mapped Buffer nach dem Test (MB)
+     */
+    private double mappedBufferAfterMB;
+    
+    /**
+     * NMT-Kategorie Thread (committed) vor dem Test (MB, -1 ohne -XX:NativeMemoryTracking)
+     */
+    private double nmtThreadBeforeMB;
+    
+    /**
+     * NMT-Kategorie Thread (committed) nach dem Test (MB)
+     */
+    private double nmtThreadAfterMB;
+    
+    /**
+     * Von NMT erfasster Speicher der JVM insgesamt (committed) vor dem Test (MB)
+     */
+    private double nmtCommittedBeforeMB;
+    
+    /**
+     * Von NMT erfasster Speicher der JVM insgesamt (committed) nach dem Test (MB)
+     */
+    private double nmtCommittedAfterMB;
+    
+    /**
+     * Garbage Collections während des Laufs: Pausen, Allokationsrate, Aufschlüsselung je Collector
+     */
+    private GcImpact gcImpact;
+    
     /**
      * Durchschnittliche Zeit pro Aufgabe
      */
@@ -71,6 +199,13 @@ public class CalculationResponse {
         return memoryPeakMB - memoryBeforeMB;
     }
     
+    /**
+     * Zuwachs der Resident Set Size während des Tests (MB, -1 = nicht verfügbar)
+     */
+    public double getRssUsageMB() {
+        return rssBeforeMB < 0 || rssPeakMB < 0 ? -1 : rssPeakMB - rssBeforeMB;
+    }
+    
     // Builder-Methode
     public static CalculationResponseBuilder builder() {
         return new CalculationResponseBuilder();
@@ -87,6 +222,31 @@ public class CalculationResponse {
         private double memoryBeforeMB;
         private double memoryPeakMB;
         private double memoryAfterMB;
+        private ExecutionStatistics statistics;
+        private String runId;
+        private long timestamp;
+        private double p50TaskTimeMs;
+        private double p99TaskTimeMs;
+        private RegressionReport regression;
+        private boolean profiled;
+        private int failedTasks;
+        private long[] taskTimesNanos;
+        private RunIsolation isolation;
+        private double precisionError;
+        private double rssBeforeMB;
+        private double rssPeakMB;
+        private double rssAfterMB;
+        private double pssBeforeMB;
+        private double pssAfterMB;
+        private double directBufferBeforeMB;
+        private double directBufferAfterMB;
+        private double mappedBufferBeforeMB;
+        private double mappedBufferAfterMB;
+        private double nmtThreadBeforeMB;
+        private double nmtThreadAfterMB;
+        private double nmtCommittedBeforeMB;
+        private double nmtCommittedAfterMB;
+        private GcImpact gcImpact;
         
         public CalculationResponseBuilder threadModel(String threadModel) {
             this.threadModel = threadModel;
@@ -133,6 +293,131 @@ public class CalculationResponse {
             return this;
         }
         
+        public CalculationResponseBuilder statistics(ExecutionStatistics statistics) {
+            this.statistics = statistics;
+            return this;
+        }
+        
+        public CalculationResponseBuilder runId(String runId) {
+            this.runId = runId;
+            return this;
+        }
+        
+        public CalculationResponseBuilder timestamp(long timestamp) {
+            this.timestamp = timestamp;
+            return this;
+        }
+        
+        public CalculationResponseBuilder p50TaskTimeMs(double p50TaskTimeMs) {
+            this.p50TaskTimeMs = p50TaskTimeMs;
+            return this;
+        }
+        
+        public CalculationResponseBuilder p99TaskTimeMs(double p99TaskTimeMs) {
+            this.p99TaskTimeMs = p99TaskTimeMs;
+            return this;
+        }
+        
+        public CalculationResponseBuilder regression(RegressionReport regression) {
+            this.regression = regression;
+            return this;
+        }
+        
+        public CalculationResponseBuilder profiled(boolean profiled) {
+            this.profiled = profiled;
+            return this;
+        }
+        
+        public CalculationResponseBuilder failedTasks(int failedTasks) {
+            this.failedTasks = failedTasks;
+            return this;
+        }
+        
+        public CalculationResponseBuilder taskTimesNanos(long[] taskTimesNanos) {
+            this.taskTimesNanos = taskTimesNanos;
+            return this;
+        }
+        
+        public CalculationResponseBuilder isolation(RunIsolation isolation) {
+            this.isolation = isolation;
+            return this;
+        }
+        
+        public CalculationResponseBuilder precisionError(double precisionError) {
+            this.precisionError = precisionError;
+            return this;
+        }
+        
+        public CalculationResponseBuilder rssBeforeMB(double rssBeforeMB) {
+            this.rssBeforeMB = rssBeforeMB;
+            return this;
+        }
+        
+        public CalculationResponseBuilder rssPeakMB(double rssPeakMB) {
+            this.rssPeakMB = rssPeakMB;
+            return this;
+        }
+        
+        public CalculationResponseBuilder rssAfterMB(double rssAfterMB) {
+            this.rssAfterMB = rssAfterMB;
+            return this;
+        }
+        
+        public CalculationResponseBuilder pssBeforeMB(double pssBeforeMB) {
+            this.pssBeforeMB = pssBeforeMB;
+            return this;
+        }
+        
+        public CalculationResponseBuilder pssAfterMB(double pssAfterMB) {
+            this.pssAfterMB = pssAfterMB;
+            return this;
+        }
+        
+        public CalculationResponseBuilder directBufferBeforeMB(double directBufferBeforeMB) {
+            this.directBufferBeforeMB = directBufferBeforeMB;
+            return this;
+        }
+        
+        public CalculationResponseBuilder directBufferAfterMB(double directBufferAfterMB) {
+            this.directBufferAfterMB = directBufferAfterMB;
+            return this;
+        }
+        
+        public CalculationResponseBuilder mappedBufferBeforeMB(double mappedBufferBeforeMB) {
+            this.mappedBufferBeforeMB = mappedBufferBeforeMB;
+            return this;
+        }
+        
+        public CalculationResponseBuilder mappedBufferAfterMB(double mappedBufferAfterMB) {
+            this.mappedBufferAfterMB = mappedBufferAfterMB;
+            return this;
+        }
+        
+        public CalculationResponseBuilder nmtThreadBeforeMB(double nmtThreadBeforeMB) {
+            this.nmtThreadBeforeMB = nmtThreadBeforeMB;
+            return this;
+        }
+        
+        public CalculationResponseBuilder nmtThreadAfterMB(double nmtThreadAfterMB) {
+            this.nmtThreadAfterMB = nmtThreadAfterMB;
+            return this;
+        }
+        
+        public CalculationResponseBuilder nmtCommittedBeforeMB(double nmtCommittedBeforeMB) {
+            this.nmtCommittedBeforeMB = nmtCommittedBeforeMB;
+            return this;
+        }
+        
+        public CalculationResponseBuilder nmtCommittedAfterMB(double nmtCommittedAfterMB) {
+            this.nmtCommittedAfterMB = nmtCommittedAfterMB;
+            return this;
+        }
+        
+        public CalculationResponseBuilder gcImpact(GcImpact gcImpact) {
+            this.gcImpact = gcImpact;
+            return this;
+        }
+        
         public CalculationResponse build() {
             CalculationResponse response = new CalculationResponse();
             response.threadModel = this.threadModel;
@@ -144,6 +429,31 @@ public class CalculationResponse {
             response.memoryBeforeMB = this.memoryBeforeMB;
             response.memoryPeakMB = this.memoryPeakMB;
             response.memoryAfterMB = this.memoryAfterMB;
+            response.statistics = this.statistics;
+            response.runId = this.runId;
+            response.timestamp = this.timestamp;
+            response.p50TaskTimeMs = this.p50TaskTimeMs;
+            response.p99TaskTimeMs = this.p99TaskTimeMs;
+            response.regression = this.regression;
+            response.profiled = this.profiled;
+            response.failedTasks = this.failedTasks;
+            response.taskTimesNanos = this.taskTimesNanos;
+            response.isolation = this.isolation;
+            response.precisionError = this.precisionError;
+            response.rssBeforeMB = this.rssBeforeMB;
+            response.rssPeakMB = this.rssPeakMB;
+            response.rssAfterMB = this.rssAfterMB;
+            response.pssBeforeMB = this.pssBeforeMB;
+            response.pssAfterMB = this.pssAfterMB;
+            response.directBufferBeforeMB = this.directBufferBeforeMB;
+            response.directBufferAfterMB = this.directBufferAfterMB;
+            response.mappedBufferBeforeMB = this.mappedBufferBeforeMB;
+            response.mappedBufferAfterMB = this.mappedBufferAfterMB;
+            response.nmtThreadBeforeMB = this.nmtThreadBeforeMB;
+            response.nmtThreadAfterMB = this.nmtThreadAfterMB;
+            response.nmtCommittedBeforeMB = this.nmtCommittedBeforeMB;
+            response.nmtCommittedAfterMB = this.nmtCommittedAfterMB;
+            response.gcImpact = this.gcImpact;
             return response;
         }
     }
@@ -220,4 +530,204 @@ public class CalculationResponse {
     public void setMemoryAfterMB(double memoryAfterMB) {
         this.memoryAfterMB = memoryAfterMB;
     }
+    
+    public ExecutionStatistics getStatistics() {
+        return statistics;
+    }
+    
+    public void setStatistics(ExecutionStatistics statistics) {
+        this.statistics = statistics;
+    }
+    
+    public String getRunId() {
+        return runId;
+    }
+    
+    public void setRunId(String runId) {
+        this.runId = runId;
+    }
+    
+    public long getTimestamp() {
+        return timestamp;
+    }
+    
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+    
+    public double getP50TaskTimeMs() {
+        return p50TaskTimeMs;
+    }
+    
+    public void setP50TaskTimeMs(double p50TaskTimeMs) {
+        this.p50TaskTimeMs = p50TaskTimeMs;
+    }
+    
+    public double getP99TaskTimeMs() {
+        return p99TaskTimeMs;
+    }
+    
+    public void setP99TaskTimeMs(double p99TaskTimeMs) {
+        this.p99TaskTimeMs = p99TaskTimeMs;
+    }
+    
+    public RegressionReport getRegression() {
+        return regression;
+    }
+    
+    public void setRegression(RegressionReport regression) {
+        this.regression = regression;
+    }
+    
+    public boolean isProfiled() {
+        return profiled;
+    }
+    
+    public void setProfiled(boolean profiled) {
+        this.profiled = profiled;
+    }
+    
+    public int getFailedTasks() {
+        return failedTasks;
+    }
+    
+    public void setFailedTasks(int failedTasks) {
+        this.failedTasks = failedTasks;
+    }
+    
+    public long[] getTaskTimesNanos() {
+        return taskTimesNanos;
+    }
+    
+    public void setTaskTimesNanos(long[] taskTimesNanos) {
+        this.taskTimesNanos = taskTimesNanos;
+    }
+    
+    public RunIsolation getIsolation() {
+        return isolation;
+    }
+    
+    public void setIsolation(RunIsolation isolation) {
+        this.isolation = isolation;
+    }
+    
+    public double getPrecisionError() {
+        return precisionError;
+    }
+    
+    public void setPrecisionError(double precisionError) {
+        this.precisionError = precisionError;
+    }
+    
+    public double getRssBeforeMB() {
+        return rssBeforeMB;
+    }
+    
+    public void setRssBeforeMB(double rssBeforeMB) {
+        this.rssBeforeMB = rssBeforeMB;
+    }
+    
+    public double getRssPeakMB() {
+        return rssPeakMB;
+    }
+    
+    public void setRssPeakMB(double rssPeakMB) {
+        this.rssPeakMB = rssPeakMB;
+    }
+    
+    public double getRssAfterMB() {
+        return rssAfterMB;
+    }
+    
+    public void setRssAfterMB(double rssAfterMB) {
+        this.rssAfterMB = rssAfterMB;
+    }
+    
+    public double getPssBeforeMB() {
+        return pssBeforeMB;
+    }
+    
+    public void setPssBeforeMB(double pssBeforeMB) {
+        this.pssBeforeMB = pssBeforeMB;
+    }
+    
+    public double getPssAfterMB() {
+        return pssAfterMB;
+    }
+    
+    public void setPssAfterMB(double pssAfterMB) {
+        this.pssAfterMB = pssAfterMB;
+    }
+    
+    public double getDirectBufferBeforeMB() {
+        return directBufferBeforeMB;
+    }
+    
+    public void setDirectBufferBeforeMB(double directBufferBeforeMB) {
+        this.directBufferBeforeMB = directBufferBeforeMB;
+    }
+    
+    public double getDirectBufferAfterMB() {
+        return directBufferAfterMB;
+    }
+    
+    public void setDirectBufferAfterMB(double directBufferAfterMB) {
+        this.directBufferAfterMB = directBufferAfterMB;
+    }
+    
+    public double getMappedBufferBeforeMB() {
+        return mappedBufferBeforeMB;
+    }
+    
+    public void setMappedBufferBeforeMB(double mappedBufferBeforeMB) {
+        this.mappedBufferBeforeMB = mappedBufferBeforeMB;
+    }
+    
+    public double getMappedBufferAfterMB() {
+        return mappedBufferAfterMB;
+    }
+    
+    public void setMappedBufferAfterMB(double mappedBufferAfterMB) {
+        this.mappedBufferAfterMB = mappedBufferAfterMB;
+    }
+    
+    public double getNmtThreadBeforeMB() {
+        return nmtThreadBeforeMB;
+    }
+    
+    public void setNmtThreadBeforeMB(double nmtThreadBeforeMB) {
+        this.nmtThreadBeforeMB = nmtThreadBeforeMB;
+    }
+    
+    public double getNmtThreadAfterMB() {
+        return nmtThreadAfterMB;
+    }
+    
+    public void setNmtThreadAfterMB(double nmtThreadAfterMB) {
+        this.nmtThreadAfterMB = nmtThreadAfterMB;
+    }
+    
+    public double getNmtCommittedBeforeMB() {
+        return nmtCommittedBeforeMB;
+    }
+    
+    public void setNmtCommittedBeforeMB(double nmtCommittedBeforeMB) {
+        this.nmtCommittedBeforeMB = nmtCommittedBeforeMB;
+    }
+    
+    public double getNmtCommittedAfterMB() {
+        return nmtCommittedAfterMB;
+    }
+    
+    public void setNmtCommittedAfterMB(double nmtCommittedAfterMB) {
+        this.nmtCommittedAfterMB = nmtCommittedAfterMB;
+    }
+    
+    public GcImpact getGcImpact() {
+        return gcImpact;
+    }
+    
+    public void setGcImpact(GcImpact gcImpact) {
+        this.gcImpact = gcImpact;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+/**
+ * DTO für eine Zelle der Carrier-Matrix: ein Testtyp mit einer Carrier-Parallelität (Virtual Threads, eigene JVM)
+ */
+@Data
+public class CarrierMatrixEntry {
+    /**
+     * Wert von jdk.virtualThreadScheduler.parallelism
+     */
+    private int parallelism;
+
+    /**
+     * Wert von jdk.virtualThreadScheduler.maxPoolSize (0 = JDK-Standard)
+     */
+    private int maxPoolSize;
+
+    private String testType;
+
+    /**
+     * Anzahl gemessener Wiederholungen in der Kind-JVM
+     */
+    private int repetitions;
+
+    /**
+     * Mittlere Gesamtdauer über die Wiederholungen
+     */
+    private long totalExecutionTimeMs;
+
+    private double tasksPerSecond;
+    private double p50TaskTimeMs;
+    private double p99TaskTimeMs;
+    private int failedTasks;
+
+    /**
+     * Durchsatz relativ zur besten Parallelität desselben Testtyps (1.0 = beste)
+     */
+    private double relativeThroughput;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    public String getTestType() {
+        return testType;
+    }
+
+    public void setTestType(String testType) {
+        this.testType = testType;
+    }
+
+    public int getRepetitions() {
+        return repetitions;
+    }
+
+    public void setRepetitions(int repetitions) {
+        this.repetitions = repetitions;
+    }
+
+    public long getTotalExecutionTimeMs() {
+        return totalExecutionTimeMs;
+    }
+
+    public void setTotalExecutionTimeMs(long totalExecutionTimeMs) {
+        this.totalExecutionTimeMs = totalExecutionTimeMs;
+    }
+
+    public double getTasksPerSecond() {
+        return tasksPerSecond;
+    }
+
+    public void setTasksPerSecond(double tasksPerSecond) {
+        this.tasksPerSecond = tasksPerSecond;
+    }
+
+    public double getP50TaskTimeMs() {
+        return p50TaskTimeMs;
+    }
+
+    public void setP50TaskTimeMs(double p50TaskTimeMs) {
+        this.p50TaskTimeMs = p50TaskTimeMs;
+    }
+
+    public double getP99TaskTimeMs() {
+        return p99TaskTimeMs;
+    }
+
+    public void setP99TaskTimeMs(double p99TaskTimeMs) {
+        this.p99TaskTimeMs = p99TaskTimeMs;
+    }
+
+    public int getFailedTasks() {
+        return failedTasks;
+    }
+
+    public void setFailedTasks(int failedTasks) {
+        this.failedTasks = failedTasks;
+    }
+
+    public double getRelativeThroughput() {
+        return relativeThroughput;
+    }
+
+    public void setRelativeThroughput(double relativeThroughput) {
+        this.relativeThroughput = relativeThroughput;
+    }
+}
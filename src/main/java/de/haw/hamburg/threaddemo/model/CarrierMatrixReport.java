@@ -0,0 +1,81 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO für die Carrier-Matrix: CPU- und I/O-Ergebnisse der Virtual Threads je Carrier-Parallelität
+ */
+@Data
+public class CarrierMatrixReport {
+    private String javaVersion;
+    private int availableProcessors;
+
+    /**
+     * false vor Java 21: die Scheduler-Eigenschaften werden dann ignoriert
+     */
+    private boolean carrierSettingsEffective;
+
+    private List<CarrierMatrixEntry> entries;
+
+    /**
+     * Je Testtyp die kleinste Parallelität mit mindestens 95 % des besten Durchsatzes
+     */
+    private Map<String, Integer> recommendedParallelism;
+
+    /**
+     * Zulassung durch den Run-Scheduler und überlappende Aktivitäten
+     */
+    private RunIsolation isolation;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public String getJavaVersion() {
+        return javaVersion;
+    }
+
+    public void setJavaVersion(String javaVersion) {
+        this.javaVersion = javaVersion;
+    }
+
+    public int getAvailableProcessors() {
+        return availableProcessors;
+    }
+
+    public void setAvailableProcessors(int availableProcessors) {
+        this.availableProcessors = availableProcessors;
+    }
+
+    public boolean isCarrierSettingsEffective() {
+        return carrierSettingsEffective;
+    }
+
+    public void setCarrierSettingsEffective(boolean carrierSettingsEffective) {
+        this.carrierSettingsEffective = carrierSettingsEffective;
+    }
+
+    public List<CarrierMatrixEntry> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<CarrierMatrixEntry> entries) {
+        this.entries = entries;
+    }
+
+    public Map<String, Integer> getRecommendedParallelism() {
+        return recommendedParallelism;
+    }
+
+    public void setRecommendedParallelism(Map<String, Integer> recommendedParallelism) {
+        this.recommendedParallelism = recommendedParallelism;
+    }
+
+    public RunIsolation getIsolation() {
+        return isolation;
+    }
+
+    public void setIsolation(RunIsolation isolation) {
+        this.isolation = isolation;
+    }
+}
@@ -0,0 +1,56 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+/**
+ * DTO für das Ergebnis einer Kompaktierung des Ergebnisspeichers
+ */
+@Data
+public class CompactionResult {
+    private long recordsBefore;
+    private long recordsAfter;
+    private long bytesBefore;
+    private long bytesAfter;
+    private long durationMs;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public long getRecordsBefore() {
+        return recordsBefore;
+    }
+
+    public void setRecordsBefore(long recordsBefore) {
+        this.recordsBefore = recordsBefore;
+    }
+
+    public long getRecordsAfter() {
+        return recordsAfter;
+    }
+
+    public void setRecordsAfter(long recordsAfter) {
+        this.recordsAfter = recordsAfter;
+    }
+
+    public long getBytesBefore() {
+        return bytesBefore;
+    }
+
+    public void setBytesBefore(long bytesBefore) {
+        this.bytesBefore = bytesBefore;
+    }
+
+    public long getBytesAfter() {
+        return bytesAfter;
+    }
+
+    public void setBytesAfter(long bytesAfter) {
+        this.bytesAfter = bytesAfter;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+}
@@ -0,0 +1,157 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+/**
+ * DTO für den Zustand eines ConcurrencyLimiter (gleichzeitige Zugriffe auf eine Ressource)
+ */
+@Data
+public class ConcurrencyLimitStatus {
+    private String name;
+    private boolean adaptive;
+
+    /**
+     * Aktuelles Limit gleichzeitiger Zugriffe
+     */
+    private int limit;
+
+    private int minLimit;
+
+    /**
+     * Feste Obergrenze (z. B. Budget an Datei-Handles)
+     */
+    private int maxLimit;
+
+    private int inFlight;
+
+    /**
+     * Threads, die auf eine Erlaubnis warten
+     */
+    private int waiting;
+
+    private int peakInFlight;
+    private long acquired;
+    private double averageWaitMs;
+
+    /**
+     * Kleinste beobachtete Zugriffsdauer (langsam nachgeführt)
+     */
+    private double minLatencyMs;
+
+    private double smoothedLatencyMs;
+    private long increases;
+    private long decreases;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public void setInFlight(int inFlight) {
+        this.inFlight = inFlight;
+    }
+
+    public int getWaiting() {
+        return waiting;
+    }
+
+    public void setWaiting(int waiting) {
+        this.waiting = waiting;
+    }
+
+    public int getPeakInFlight() {
+        return peakInFlight;
+    }
+
+    public void setPeakInFlight(int peakInFlight) {
+        this.peakInFlight = peakInFlight;
+    }
+
+    public long getAcquired() {
+        return acquired;
+    }
+
+    public void setAcquired(long acquired) {
+        this.acquired = acquired;
+    }
+
+    public double getAverageWaitMs() {
+        return averageWaitMs;
+    }
+
+    public void setAverageWaitMs(double averageWaitMs) {
+        this.averageWaitMs = averageWaitMs;
+    }
+
+    public double getMinLatencyMs() {
+        return minLatencyMs;
+    }
+
+    public void setMinLatencyMs(double minLatencyMs) {
+        this.minLatencyMs = minLatencyMs;
+    }
+
+    public double getSmoothedLatencyMs() {
+        return smoothedLatencyMs;
+    }
+
+    public void setSmoothedLatencyMs(double smoothedLatencyMs) {
+        this.smoothedLatencyMs = smoothedLatencyMs;
+    }
+
+    public long getIncreases() {
+        return increases;
+    }
+
+    public void setIncreases(long increases) {
+        this.increases = increases;
+    }
+
+    public long getDecreases() {
+        return decreases;
+    }
+
+    public void setDecreases(long decreases) {
+        this.decreases = decreases;
+    }
+}
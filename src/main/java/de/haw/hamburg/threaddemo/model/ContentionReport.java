@@ -0,0 +1,125 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO für die Lock-Contention-Auswertung über ein gleitendes Zeitfenster
+ */
+@Data
+public class ContentionReport {
+    private long windowSeconds;
+
+    /**
+     * Anzahl der Stichproben im Fenster
+     */
+    private int samplesTaken;
+
+    /**
+     * true, wenn die JVM Blockier- und Wartezeiten misst (sonst nur Zählungen)
+     */
+    private boolean contentionMonitoringEnabled;
+
+    private long totalBlockedCount;
+    private long totalBlockedTimeMs;
+    private long totalWaitedCount;
+    private long totalWaitedTimeMs;
+
+    /**
+     * Beobachtete Thread-Zustände je Kategorie; trennt Queue-/Lock-Contention von (simulierter) I/O
+     */
+    private Map<String, Long> categorySamples;
+
+    /**
+     * Blockier- und Wartezeit in Millisekunden je Thread-Gruppe
+     */
+    private Map<String, Long> waitTimeByGroup;
+
+    /**
+     * Die am stärksten umkämpften Locks, absteigend nach Wartezeit
+     */
+    private List<LockContention> topLocks;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public long getWindowSeconds() {
+        return windowSeconds;
+    }
+
+    public void setWindowSeconds(long windowSeconds) {
+        this.windowSeconds = windowSeconds;
+    }
+
+    public int getSamplesTaken() {
+        return samplesTaken;
+    }
+
+    public void setSamplesTaken(int samplesTaken) {
+        this.samplesTaken = samplesTaken;
+    }
+
+    public boolean isContentionMonitoringEnabled() {
+        return contentionMonitoringEnabled;
+    }
+
+    public void setContentionMonitoringEnabled(boolean contentionMonitoringEnabled) {
+        this.contentionMonitoringEnabled = contentionMonitoringEnabled;
+    }
+
+    public long getTotalBlockedCount() {
+        return totalBlockedCount;
+    }
+
+    public void setTotalBlockedCount(long totalBlockedCount) {
+        this.totalBlockedCount = totalBlockedCount;
+    }
+
+    public long getTotalBlockedTimeMs() {
+        return totalBlockedTimeMs;
+    }
+
+    public void setTotalBlockedTimeMs(long totalBlockedTimeMs) {
+        this.totalBlockedTimeMs = totalBlockedTimeMs;
+    }
+
+    public long getTotalWaitedCount() {
+        return totalWaitedCount;
+    }
+
+    public void setTotalWaitedCount(long totalWaitedCount) {
+        this.totalWaitedCount = totalWaitedCount;
+    }
+
+    public long getTotalWaitedTimeMs() {
+        return totalWaitedTimeMs;
+    }
+
+    public void setTotalWaitedTimeMs(long totalWaitedTimeMs) {
+        this.totalWaitedTimeMs = totalWaitedTimeMs;
+    }
+
+    public Map<String, Long> getCategorySamples() {
+        return categorySamples;
+    }
+
+    public void setCategorySamples(Map<String, Long> categorySamples) {
+        this.categorySamples = categorySamples;
+    }
+
+    public Map<String, Long> getWaitTimeByGroup() {
+        return waitTimeByGroup;
+    }
+
+    public void setWaitTimeByGroup(Map<String, Long> waitTimeByGroup) {
+        this.waitTimeByGroup = waitTimeByGroup;
+    }
+
+    public List<LockContention> getTopLocks() {
+        return topLocks;
+    }
+
+    public void setTopLocks(List<LockContention> topLocks) {
+        this.topLocks = topLocks;
+    }
+}
@@ -0,0 +1,56 @@
+package de.haw.hamburg.threaddemo.model;
+
+/**
+ * Dünn besetzte Matrix im CSC-Format (Compressed Sparse Column)
+ * - columnPointers[j] .. columnPointers[j + 1] - 1: Einträge der Spalte j in rowIndices/values
+ * - Zeilenindizes innerhalb einer Spalte aufsteigend sortiert
+ *
+ * Entspricht dem CSR-Format der transponierten Matrix.
+ */
+public final class CscMatrix {
+
+    private final int rows;
+    private final int columns;
+    private final int[] columnPointers;
+    private final int[] rowIndices;
+    private final double[] values;
+
+    public CscMatrix(int rows, int columns, int[] columnPointers, int[] rowIndices, double[] values) {
+        if (columnPointers.length != columns + 1 || rowIndices.length < columnPointers[columns]
+                || values.length < columnPointers[columns]) {
+            throw new IllegalArgumentException("Inkonsistente CSC-Arrays");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.columnPointers = columnPointers;
+        this.rowIndices = rowIndices;
+        this.values = values;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int[] getColumnPointers() {
+        return columnPointers;
+    }
+
+    public int[] getRowIndices() {
+        return rowIndices;
+    }
+
+    public double[] getValues() {
+        return values;
+    }
+
+    /**
+     * Anzahl der gespeicherten Einträge
+     */
+    public int getNonZeros() {
+        return columnPointers[columns];
+    }
+}
@@ -0,0 +1,56 @@
+package de.haw.hamburg.threaddemo.model;
+
+/**
+ * Dünn besetzte Matrix im CSR-Format (Compressed Sparse Row)
+ * - rowPointers[i] .. rowPointers[i + 1] - 1: Einträge der Zeile i in columnIndices/values
+ * - Spaltenindizes innerhalb einer Zeile aufsteigend sortiert
+ *
+ * Nur primitive Arrays, damit die Daten zusammenhängend im Speicher liegen und kein Boxing anfällt.
+ */
+public final class CsrMatrix {
+
+    private final int rows;
+    private final int columns;
+    private final int[] rowPointers;
+    private final int[] columnIndices;
+    private final double[] values;
+
+    public CsrMatrix(int rows, int columns, int[] rowPointers, int[] columnIndices, double[] values) {
+        if (rowPointers.length != rows + 1 || columnIndices.length < rowPointers[rows]
+                || values.length < rowPointers[rows]) {
+            throw new IllegalArgumentException("Inkonsistente CSR-Arrays");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.rowPointers = rowPointers;
+        this.columnIndices = columnIndices;
+        this.values = values;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int[] getRowPointers() {
+        return rowPointers;
+    }
+
+    public int[] getColumnIndices() {
+        return columnIndices;
+    }
+
+    public double[] getValues() {
+        return values;
+    }
+
+    /**
+     * Anzahl der gespeicherten Einträge
+     */
+    public int getNonZeros() {
+        return rowPointers[rows];
+    }
+}
@@ -0,0 +1,143 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+/**
+ * DTO für die statistische Auswertung wiederholter Messungen eines Thread-Modells
+ */
+@Data
+public class ExecutionStatistics {
+    /**
+     * Anzahl verworfener Aufwärmdurchläufe
+     */
+    private int warmupIterations;
+
+    /**
+     * Anzahl gemessener Wiederholungen
+     */
+    private int repetitions;
+
+    /**
+     * Gibt an, ob das Modell in einer eigenen JVM gemessen wurde
+     */
+    private boolean forked;
+
+    /**
+     * Einzelne Ausführungszeiten der gemessenen Wiederholungen in Millisekunden
+     */
+    private long[] samplesMs;
+
+    private double meanExecutionTimeMs;
+    private double stdDevExecutionTimeMs;
+    private long minExecutionTimeMs;
+    private long maxExecutionTimeMs;
+
+    /**
+     * Konfidenzniveau des Intervalls (z. B. 0.95)
+     */
+    private double confidenceLevel;
+    private double confidenceIntervalLowerMs;
+    private double confidenceIntervalUpperMs;
+
+    /**
+     * Mittlerer Durchsatz über alle Wiederholungen (Aufgaben pro Sekunde)
+     */
+    private double meanTasksPerSecond;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public int getWarmupIterations() {
+        return warmupIterations;
+    }
+
+    public void setWarmupIterations(int warmupIterations) {
+        this.warmupIterations = warmupIterations;
+    }
+
+    public int getRepetitions() {
+        return repetitions;
+    }
+
+    public void setRepetitions(int repetitions) {
+        this.repetitions = repetitions;
+    }
+
+    public boolean isForked() {
+        return forked;
+    }
+
+    public void setForked(boolean forked) {
+        this.forked = forked;
+    }
+
+    public long[] getSamplesMs() {
+        return samplesMs;
+    }
+
+    public void setSamplesMs(long[] samplesMs) {
+        this.samplesMs = samplesMs;
+    }
+
+    public double getMeanExecutionTimeMs() {
+        return meanExecutionTimeMs;
+    }
+
+    public void setMeanExecutionTimeMs(double meanExecutionTimeMs) {
+        this.meanExecutionTimeMs = meanExecutionTimeMs;
+    }
+
+    public double getStdDevExecutionTimeMs() {
+        return stdDevExecutionTimeMs;
+    }
+
+    public void setStdDevExecutionTimeMs(double stdDevExecutionTimeMs) {
+        this.stdDevExecutionTimeMs = stdDevExecutionTimeMs;
+    }
+
+    public long getMinExecutionTimeMs() {
+        return minExecutionTimeMs;
+    }
+
+    public void setMinExecutionTimeMs(long minExecutionTimeMs) {
+        this.minExecutionTimeMs = minExecutionTimeMs;
+    }
+
+    public long getMaxExecutionTimeMs() {
+        return maxExecutionTimeMs;
+    }
+
+    public void setMaxExecutionTimeMs(long maxExecutionTimeMs) {
+        this.maxExecutionTimeMs = maxExecutionTimeMs;
+    }
+
+    public double getConfidenceLevel() {
+        return confidenceLevel;
+    }
+
+    public void setConfidenceLevel(double confidenceLevel) {
+        this.confidenceLevel = confidenceLevel;
+    }
+
+    public double getConfidenceIntervalLowerMs() {
+        return confidenceIntervalLowerMs;
+    }
+
+    public void setConfidenceIntervalLowerMs(double confidenceIntervalLowerMs) {
+        this.confidenceIntervalLowerMs = confidenceIntervalLowerMs;
+    }
+
+    public double getConfidenceIntervalUpperMs() {
+        return confidenceIntervalUpperMs;
+    }
+
+    public void setConfidenceIntervalUpperMs(double confidenceIntervalUpperMs) {
+        this.confidenceIntervalUpperMs = confidenceIntervalUpperMs;
+    }
+
+    public double getMeanTasksPerSecond() {
+        return meanTasksPerSecond;
+    }
+
+    public void setMeanTasksPerSecond(double meanTasksPerSecond) {
+        this.meanTasksPerSecond = meanTasksPerSecond;
+    }
+}
@@ -0,0 +1,166 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+/**
+ * Zustand eines überwachten Executors aus Sicht des Watchdogs
+ */
+@Data
+public class ExecutorHealth {
+    /**
+     * Bean-Name des Executors
+     */
+    private String name;
+
+    /**
+     * true für den Virtual-Thread-Executor
+     */
+    private boolean virtual;
+
+    /**
+     * Übergebene Aufgaben seit dem Start
+     */
+    private long submitted;
+
+    /**
+     * Abgeschlossene Aufgaben seit dem Start
+     */
+    private long completed;
+
+    /**
+     * Mit Exception beendete Aufgaben
+     */
+    private long failed;
+
+    /**
+     * Vom Executor abgelehnte Aufgaben
+     */
+    private long rejected;
+
+    /**
+     * Übergebene, aber noch nicht gestartete Aufgaben
+     */
+    private int queued;
+
+    /**
+     * Laufende Aufgaben
+     */
+    private int running;
+
+    /**
+     * Wartezeit der ältesten nicht gestarteten Aufgabe
+     */
+    private long oldestQueuedMs;
+
+    /**
+     * Laufzeit der ältesten laufenden Aufgabe
+     */
+    private long oldestRunningMs;
+
+    /**
+     * Zeit seit dem letzten Start oder Abschluss einer Aufgabe
+     */
+    private long msSinceProgress;
+
+    /**
+     * ok, starved, stuck oder carrier-exhausted
+     */
+    private String status;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public void setVirtual(boolean virtual) {
+        this.virtual = virtual;
+    }
+
+    public long getSubmitted() {
+        return submitted;
+    }
+
+    public void setSubmitted(long submitted) {
+        this.submitted = submitted;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public int getQueued() {
+        return queued;
+    }
+
+    public void setQueued(int queued) {
+        this.queued = queued;
+    }
+
+    public int getRunning() {
+        return running;
+    }
+
+    public void setRunning(int running) {
+        this.running = running;
+    }
+
+    public long getOldestQueuedMs() {
+        return oldestQueuedMs;
+    }
+
+    public void setOldestQueuedMs(long oldestQueuedMs) {
+        this.oldestQueuedMs = oldestQueuedMs;
+    }
+
+    public long getOldestRunningMs() {
+        return oldestRunningMs;
+    }
+
+    public void setOldestRunningMs(long oldestRunningMs) {
+        this.oldestRunningMs = oldestRunningMs;
+    }
+
+    public long getMsSinceProgress() {
+        return msSinceProgress;
+    }
+
+    public void setMsSinceProgress(long msSinceProgress) {
+        this.msSinceProgress = msSinceProgress;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
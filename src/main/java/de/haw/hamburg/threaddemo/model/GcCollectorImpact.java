@@ -0,0 +1,110 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * DTO für den Anteil eines Garbage Collectors (GarbageCollectorMXBean) an einem Lauf
+ */
+@Data
+public class GcCollectorImpact {
+    /**
+     * Name des Collectors, z. B. "G1 Young Generation", "ZGC Pauses", "PS MarkSweep"
+     */
+    private String name;
+
+    private int collections;
+
+    /**
+     * Summe der Dauern von Stop-the-World-Sammlungen
+     */
+    private double pauseTimeMs;
+
+    private double maxPauseMs;
+
+    /**
+     * Summe der Dauern nebenläufiger Zyklen (z. B. "ZGC Cycles"), die die Anwendung nicht anhalten
+     */
+    private double concurrentTimeMs;
+
+    /**
+     * Vom Collector freigegebener Heap (belegt vorher minus nachher)
+     */
+    private double reclaimedMB;
+
+    /**
+     * Zuwachs der Old Generation durch diese Sammlungen
+     */
+    private double promotedMB;
+
+    /**
+     * Anzahl der Sammlungen je Auslöser (gcCause)
+     */
+    private Map<String, Integer> causes;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getCollections() {
+        return collections;
+    }
+
+    public void setCollections(int collections) {
+        this.collections = collections;
+    }
+
+    public double getPauseTimeMs() {
+        return pauseTimeMs;
+    }
+
+    public void setPauseTimeMs(double pauseTimeMs) {
+        this.pauseTimeMs = pauseTimeMs;
+    }
+
+    public double getMaxPauseMs() {
+        return maxPauseMs;
+    }
+
+    public void setMaxPauseMs(double maxPauseMs) {
+        this.maxPauseMs = maxPauseMs;
+    }
+
+    public double getConcurrentTimeMs() {
+        return concurrentTimeMs;
+    }
+
+    public void setConcurrentTimeMs(double concurrentTimeMs) {
+        this.concurrentTimeMs = concurrentTimeMs;
+    }
+
+    public double getReclaimedMB() {
+        return reclaimedMB;
+    }
+
+    public void setReclaimedMB(double reclaimedMB) {
+        this.reclaimedMB = reclaimedMB;
+    }
+
+    public double getPromotedMB() {
+        return promotedMB;
+    }
+
+    public void setPromotedMB(double promotedMB) {
+        this.promotedMB = promotedMB;
+    }
+
+    public Map<String, Integer> getCauses() {
+        return causes;
+    }
+
+    public void setCauses(Map<String, Integer> causes) {
+        this.causes = causes;
+    }
+}
@@ -0,0 +1,143 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO für die Garbage-Collection-Last eines Laufs, aus den Benachrichtigungen der GarbageCollectorMXBeans
+ */
+@Data
+public class GcImpact {
+    /**
+     * Collectors der JVM, damit Läufe mit G1, ZGC, Parallel usw. unterscheidbar sind
+     */
+    private List<String> collectorNames;
+
+    private int collections;
+
+    /**
+     * Summe aller Stop-the-World-Pausen während des Laufs
+     */
+    private double pauseTimeMs;
+
+    /**
+     * Anteil der Pausen an totalExecutionTimeMs (0..1)
+     */
+    private double pauseShare;
+
+    private double maxPauseMs;
+
+    /**
+     * Dauer nebenläufiger GC-Zyklen während des Laufs (keine Pausen)
+     */
+    private double concurrentTimeMs;
+
+    /**
+     * Während des Laufs allokierter Heap: Zuwachs des belegten Heaps zwischen den Sammlungen und bis zum Ende
+     */
+    private double allocatedMB;
+
+    private double allocationRateMBPerSec;
+
+    /**
+     * In die Old Generation übernommener Speicher
+     */
+    private double promotedMB;
+
+    /**
+     * Andere Läufe, die gleichzeitig aktiv waren; GC ist prozessweit und wird jedem dieser Läufe zugerechnet
+     */
+    private int overlappingRuns;
+
+    private List<GcCollectorImpact> collectors;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public List<String> getCollectorNames() {
+        return collectorNames;
+    }
+
+    public void setCollectorNames(List<String> collectorNames) {
+        this.collectorNames = collectorNames;
+    }
+
+    public int getCollections() {
+        return collections;
+    }
+
+    public void setCollections(int collections) {
+        this.collections = collections;
+    }
+
+    public double getPauseTimeMs() {
+        return pauseTimeMs;
+    }
+
+    public void setPauseTimeMs(double pauseTimeMs) {
+        this.pauseTimeMs = pauseTimeMs;
+    }
+
+    public double getPauseShare() {
+        return pauseShare;
+    }
+
+    public void setPauseShare(double pauseShare) {
+        this.pauseShare = pauseShare;
+    }
+
+    public double getMaxPauseMs() {
+        return maxPauseMs;
+    }
+
+    public void setMaxPauseMs(double maxPauseMs) {
+        this.maxPauseMs = maxPauseMs;
+    }
+
+    public double getConcurrentTimeMs() {
+        return concurrentTimeMs;
+    }
+
+    public void setConcurrentTimeMs(double concurrentTimeMs) {
+        this.concurrentTimeMs = concurrentTimeMs;
+    }
+
+    public double getAllocatedMB() {
+        return allocatedMB;
+    }
+
+    public void setAllocatedMB(double allocatedMB) {
+        this.allocatedMB = allocatedMB;
+    }
+
+    public double getAllocationRateMBPerSec() {
+        return allocationRateMBPerSec;
+    }
+
+    public void setAllocationRateMBPerSec(double allocationRateMBPerSec) {
+        this.allocationRateMBPerSec = allocationRateMBPerSec;
+    }
+
+    public double getPromotedMB() {
+        return promotedMB;
+    }
+
+    public void setPromotedMB(double promotedMB) {
+        this.promotedMB = promotedMB;
+    }
+
+    public int getOverlappingRuns() {
+        return overlappingRuns;
+    }
+
+    public void setOverlappingRuns(int overlappingRuns) {
+        this.overlappingRuns = overlappingRuns;
+    }
+
+    public List<GcCollectorImpact> getCollectors() {
+        return collectors;
+    }
+
+    public void setCollectors(List<GcCollectorImpact> collectors) {
+        this.collectors = collectors;
+    }
+}
@@ -0,0 +1,44 @@
+package de.haw.hamburg.threaddemo.model;
+
+/**
+ * Verteilung der Latenz blockierender Aufrufe im Workload-Generator
+ * - FIXED: immer der Mittelwert
+ * - UNIFORM: gleichverteilt zwischen 0 und dem doppelten Mittelwert
+ * - EXPONENTIAL: exponentialverteilt (viele kurze, einzelne lange Aufrufe)
+ * - LOGNORMAL: lognormalverteilt mit Streuung σ, skaliert auf den Mittelwert (ausgeprägter Long Tail)
+ */
+public enum LatencyDistribution {
+
+    FIXED("fixed"),
+    UNIFORM("uniform"),
+    EXPONENTIAL("exponential"),
+    LOGNORMAL("lognormal");
+
+    private final String key;
+
+    LatencyDistribution(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Bezeichnung in der Anfrage (Feld latencyDistribution)
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Ermittelt die Verteilung anhand des Enum-Namens oder der Bezeichnung (null = FIXED)
+     */
+    public static LatencyDistribution fromName(String name) {
+        if (name == null || name.isBlank()) {
+            return FIXED;
+        }
+        for (LatencyDistribution distribution : values()) {
+            if (distribution.name().equalsIgnoreCase(name) || distribution.key.equalsIgnoreCase(name)) {
+                return distribution;
+            }
+        }
+        throw new IllegalArgumentException("Unbekannte Latenzverteilung: " + name);
+    }
+}
@@ -0,0 +1,160 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+/**
+ * DTO für einen Punkt der Durchsatz-Latenz-Kurve (eine Phase des Lasttests)
+ */
+@Data
+public class LoadTestPoint {
+    /**
+     * Index der Phase innerhalb des Laufs
+     */
+    private int phase;
+
+    /**
+     * Angestrebte Ankunftsrate (Anfragen pro Sekunde)
+     */
+    private double targetRate;
+
+    /**
+     * Erreichter Durchsatz: erfolgreiche Antworten, die innerhalb des Zeitfensters der Phase eintrafen (pro Sekunde)
+     */
+    private double achievedThroughput;
+
+    /**
+     * Anzahl gesendeter Anfragen
+     */
+    private long sentRequests;
+
+    /**
+     * Anzahl erfolgreich beantworteter Anfragen
+     */
+    private long completedRequests;
+
+    /**
+     * Anzahl fehlgeschlagener oder abgelaufener Anfragen
+     */
+    private long failedRequests;
+
+    /**
+     * Latenzen gemessen ab dem geplanten Startzeitpunkt (korrigiert um Coordinated Omission)
+     */
+    private double meanLatencyMs;
+
+    private double p50LatencyMs;
+    private double p90LatencyMs;
+    private double p99LatencyMs;
+    private double p999LatencyMs;
+    private double maxLatencyMs;
+
+    /**
+     * 99. Perzentil der reinen Servicezeit ab dem tatsächlichen Sendezeitpunkt (zum Vergleich)
+     */
+    private double p99ServiceTimeMs;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public int getPhase() {
+        return phase;
+    }
+
+    public void setPhase(int phase) {
+        this.phase = phase;
+    }
+
+    public double getTargetRate() {
+        return targetRate;
+    }
+
+    public void setTargetRate(double targetRate) {
+        this.targetRate = targetRate;
+    }
+
+    public double getAchievedThroughput() {
+        return achievedThroughput;
+    }
+
+    public void setAchievedThroughput(double achievedThroughput) {
+        this.achievedThroughput = achievedThroughput;
+    }
+
+    public long getSentRequests() {
+        return sentRequests;
+    }
+
+    public void setSentRequests(long sentRequests) {
+        this.sentRequests = sentRequests;
+    }
+
+    public long getCompletedRequests() {
+        return completedRequests;
+    }
+
+    public void setCompletedRequests(long completedRequests) {
+        this.completedRequests = completedRequests;
+    }
+
+    public long getFailedRequests() {
+        return failedRequests;
+    }
+
+    public void setFailedRequests(long failedRequests) {
+        this.failedRequests = failedRequests;
+    }
+
+    public double getMeanLatencyMs() {
+        return meanLatencyMs;
+    }
+
+    public void setMeanLatencyMs(double meanLatencyMs) {
+        this.meanLatencyMs = meanLatencyMs;
+    }
+
+    public double getP50LatencyMs() {
+        return p50LatencyMs;
+    }
+
+    public void setP50LatencyMs(double p50LatencyMs) {
+        this.p50LatencyMs = p50LatencyMs;
+    }
+
+    public double getP90LatencyMs() {
+        return p90LatencyMs;
+    }
+
+    public void setP90LatencyMs(double p90LatencyMs) {
+        this.p90LatencyMs = p90LatencyMs;
+    }
+
+    public double getP99LatencyMs() {
+        return p99LatencyMs;
+    }
+
+    public void setP99LatencyMs(double p99LatencyMs) {
+        this.p99LatencyMs = p99LatencyMs;
+    }
+
+    public double getP999LatencyMs() {
+        return p999LatencyMs;
+    }
+
+    public void setP999LatencyMs(double p999LatencyMs) {
+        this.p999LatencyMs = p999LatencyMs;
+    }
+
+    public double getMaxLatencyMs() {
+        return maxLatencyMs;
+    }
+
+    public void setMaxLatencyMs(double maxLatencyMs) {
+        this.maxLatencyMs = maxLatencyMs;
+    }
+
+    public double getP99ServiceTimeMs() {
+        return p99ServiceTimeMs;
+    }
+
+    public void setP99ServiceTimeMs(double p99ServiceTimeMs) {
+        this.p99ServiceTimeMs = p99ServiceTimeMs;
+    }
+}
@@ -0,0 +1,77 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO für das Ergebnis eines Open-Loop-Lasttests gegen ein Thread-Modell
+ */
+@Data
+public class LoadTestResult {
+    /**
+     * Endpunkt des getesteten Thread-Modells (z. B. "virtual-threads")
+     */
+    private String threadModel;
+
+    /**
+     * Ankunftsmuster (constant, poisson, step, ramp)
+     */
+    private String arrivalPattern;
+
+    /**
+     * Art des Tests, der pro Anfrage ausgeführt wird
+     */
+    private String testType;
+
+    /**
+     * Durchsatz-Latenz-Kurve, ein Punkt pro Phase
+     */
+    private List<LoadTestPoint> points;
+
+    /**
+     * Höchste Zielrate, bei der der Durchsatz noch mindestens 95 % der Zielrate erreicht hat
+     */
+    private double saturationRate;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public String getThreadModel() {
+        return threadModel;
+    }
+
+    public void setThreadModel(String threadModel) {
+        this.threadModel = threadModel;
+    }
+
+    public String getArrivalPattern() {
+        return arrivalPattern;
+    }
+
+    public void setArrivalPattern(String arrivalPattern) {
+        this.arrivalPattern = arrivalPattern;
+    }
+
+    public String getTestType() {
+        return testType;
+    }
+
+    public void setTestType(String testType) {
+        this.testType = testType;
+    }
+
+    public List<LoadTestPoint> getPoints() {
+        return points;
+    }
+
+    public void setPoints(List<LoadTestPoint> points) {
+        this.points = points;
+    }
+
+    public double getSaturationRate() {
+        return saturationRate;
+    }
+
+    public void setSaturationRate(double saturationRate) {
+        this.saturationRate = saturationRate;
+    }
+}
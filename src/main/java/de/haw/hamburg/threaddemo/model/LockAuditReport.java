@@ -0,0 +1,97 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO für den Lock-Audit: Durchsatz und Pinning je Synchronisationsart für Platform und Virtual Threads
+ */
+@Data
+public class LockAuditReport {
+    private String javaVersion;
+
+    /**
+     * true, wenn der Virtual-Thread-Executor echte virtuelle Threads verwendet
+     */
+    private boolean realVirtualThreads;
+
+    /**
+     * true, wenn die JVM das JFR-Ereignis jdk.VirtualThreadPinned kennt (Java 21+)
+     */
+    private boolean pinningEventsSupported;
+
+    /**
+     * Mindestdauer, ab der ein Pinning als Ereignis gemeldet wird
+     */
+    private long pinningThresholdMs;
+
+    /**
+     * Blockierende Wartezeit innerhalb jedes kritischen Abschnitts
+     */
+    private long criticalSectionMs;
+
+    private List<LockAuditResult> results;
+
+    /**
+     * Zulassung durch den Run-Scheduler und überlappende Aktivitäten
+     */
+    private RunIsolation isolation;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public String getJavaVersion() {
+        return javaVersion;
+    }
+
+    public void setJavaVersion(String javaVersion) {
+        this.javaVersion = javaVersion;
+    }
+
+    public boolean isRealVirtualThreads() {
+        return realVirtualThreads;
+    }
+
+    public void setRealVirtualThreads(boolean realVirtualThreads) {
+        this.realVirtualThreads = realVirtualThreads;
+    }
+
+    public boolean isPinningEventsSupported() {
+        return pinningEventsSupported;
+    }
+
+    public void setPinningEventsSupported(boolean pinningEventsSupported) {
+        this.pinningEventsSupported = pinningEventsSupported;
+    }
+
+    public long getPinningThresholdMs() {
+        return pinningThresholdMs;
+    }
+
+    public void setPinningThresholdMs(long pinningThresholdMs) {
+        this.pinningThresholdMs = pinningThresholdMs;
+    }
+
+    public long getCriticalSectionMs() {
+        return criticalSectionMs;
+    }
+
+    public void setCriticalSectionMs(long criticalSectionMs) {
+        this.criticalSectionMs = criticalSectionMs;
+    }
+
+    public List<LockAuditResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<LockAuditResult> results) {
+        this.results = results;
+    }
+
+    public RunIsolation getIsolation() {
+        return isolation;
+    }
+
+    public void setIsolation(RunIsolation isolation) {
+        this.isolation = isolation;
+    }
+}
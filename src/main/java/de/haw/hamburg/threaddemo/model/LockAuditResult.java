@@ -0,0 +1,119 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+/**
+ * DTO für das Ergebnis einer Kombination aus Synchronisationsart und Thread-Modell im Lock-Audit
+ */
+@Data
+public class LockAuditResult {
+    /**
+     * Synchronisationsart (synchronized, reentrant, stamped)
+     */
+    private String lockMode;
+
+    private String threadModel;
+    private long totalExecutionTimeMs;
+
+    /**
+     * Abgeschlossene Zugriffe auf die gemeinsame Ressource pro Sekunde
+     */
+    private double operationsPerSecond;
+
+    private double p50TaskTimeMs;
+    private double p99TaskTimeMs;
+    private int failedTasks;
+
+    /**
+     * Anzahl der jdk.VirtualThreadPinned-Ereignisse während des Laufs (-1, wenn die JVM das Ereignis nicht kennt)
+     */
+    private long pinnedEvents;
+
+    /**
+     * Summierte Dauer der gemeldeten Pinning-Ereignisse
+     */
+    private double pinnedTimeMs;
+
+    private String runId;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public String getLockMode() {
+        return lockMode;
+    }
+
+    public void setLockMode(String lockMode) {
+        this.lockMode = lockMode;
+    }
+
+    public String getThreadModel() {
+        return threadModel;
+    }
+
+    public void setThreadModel(String threadModel) {
+        this.threadModel = threadModel;
+    }
+
+    public long getTotalExecutionTimeMs() {
+        return totalExecutionTimeMs;
+    }
+
+    public void setTotalExecutionTimeMs(long totalExecutionTimeMs) {
+        this.totalExecutionTimeMs = totalExecutionTimeMs;
+    }
+
+    public double getOperationsPerSecond() {
+        return operationsPerSecond;
+    }
+
+    public void setOperationsPerSecond(double operationsPerSecond) {
+        this.operationsPerSecond = operationsPerSecond;
+    }
+
+    public double getP50TaskTimeMs() {
+        return p50TaskTimeMs;
+    }
+
+    public void setP50TaskTimeMs(double p50TaskTimeMs) {
+        this.p50TaskTimeMs = p50TaskTimeMs;
+    }
+
+    public double getP99TaskTimeMs() {
+        return p99TaskTimeMs;
+    }
+
+    public void setP99TaskTimeMs(double p99TaskTimeMs) {
+        this.p99TaskTimeMs = p99TaskTimeMs;
+    }
+
+    public int getFailedTasks() {
+        return failedTasks;
+    }
+
+    public void setFailedTasks(int failedTasks) {
+        this.failedTasks = failedTasks;
+    }
+
+    public long getPinnedEvents() {
+        return pinnedEvents;
+    }
+
+    public void setPinnedEvents(long pinnedEvents) {
+        this.pinnedEvents = pinnedEvents;
+    }
+
+    public double getPinnedTimeMs() {
+        return pinnedTimeMs;
+    }
+
+    public void setPinnedTimeMs(double pinnedTimeMs) {
+        this.pinnedTimeMs = pinnedTimeMs;
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public void setRunId(String runId) {
+        this.runId = runId;
+    }
+}
@@ -0,0 +1,124 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO für die Contention-Statistik eines Locks bzw. Monitors im Beobachtungsfenster
+ */
+@Data
+public class LockContention {
+    /**
+     * Lock-Bezeichnung wie von ThreadInfo geliefert (Klasse@IdentityHash)
+     */
+    private String lockName;
+
+    private String lockClass;
+
+    /**
+     * Art der Wartezeit (z. B. monitor, lock, queue-lock, queue-idle, sleep, future-wait, wait)
+     */
+    private String category;
+
+    /**
+     * Anzahl der Beobachtungen eines auf dieses Lock wartenden Threads
+     */
+    private long samples;
+
+    private long blockedCount;
+    private long blockedTimeMs;
+    private long waitedCount;
+    private long waitedTimeMs;
+
+    /**
+     * Größte Zahl gleichzeitig wartender Threads in einer Stichprobe
+     */
+    private int maxWaitingThreads;
+
+    /**
+     * Zuletzt beobachtete Besitzer-Threads des Locks
+     */
+    private List<String> owners;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public String getLockName() {
+        return lockName;
+    }
+
+    public void setLockName(String lockName) {
+        this.lockName = lockName;
+    }
+
+    public String getLockClass() {
+        return lockClass;
+    }
+
+    public void setLockClass(String lockClass) {
+        this.lockClass = lockClass;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public long getSamples() {
+        return samples;
+    }
+
+    public void setSamples(long samples) {
+        this.samples = samples;
+    }
+
+    public long getBlockedCount() {
+        return blockedCount;
+    }
+
+    public void setBlockedCount(long blockedCount) {
+        this.blockedCount = blockedCount;
+    }
+
+    public long getBlockedTimeMs() {
+        return blockedTimeMs;
+    }
+
+    public void setBlockedTimeMs(long blockedTimeMs) {
+        this.blockedTimeMs = blockedTimeMs;
+    }
+
+    public long getWaitedCount() {
+        return waitedCount;
+    }
+
+    public void setWaitedCount(long waitedCount) {
+        this.waitedCount = waitedCount;
+    }
+
+    public long getWaitedTimeMs() {
+        return waitedTimeMs;
+    }
+
+    public void setWaitedTimeMs(long waitedTimeMs) {
+        this.waitedTimeMs = waitedTimeMs;
+    }
+
+    public int getMaxWaitingThreads() {
+        return maxWaitingThreads;
+    }
+
+    public void setMaxWaitingThreads(int maxWaitingThreads) {
+        this.maxWaitingThreads = maxWaitingThreads;
+    }
+
+    public List<String> getOwners() {
+        return owners;
+    }
+
+    public void setOwners(List<String> owners) {
+        this.owners = owners;
+    }
+}
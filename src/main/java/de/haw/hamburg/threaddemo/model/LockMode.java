@@ -0,0 +1,45 @@
+package de.haw.hamburg.threaddemo.model;
+
+/**
+ * Synchronisationsart der gemeinsamen Ressource im I/O-Contention-Test
+ * - NONE: normaler gemischter I/O-Test ohne gemeinsame Ressource
+ * - SYNCHRONIZED: Monitor; blockierende Aufrufe im kritischen Abschnitt binden einen
+ *   virtuellen Thread an seinen Carrier (Pinning)
+ * - REENTRANT: ReentrantLock; der virtuelle Thread kann beim Blockieren vom Carrier gelöst werden
+ * - STAMPED: StampedLock; Lesezugriffe teilen sich den Lock, Schreibzugriffe sind exklusiv
+ */
+public enum LockMode {
+
+    NONE("none"),
+    SYNCHRONIZED("synchronized"),
+    REENTRANT("reentrant"),
+    STAMPED("stamped");
+
+    private final String key;
+
+    LockMode(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Bezeichnung in der Anfrage (Feld lockMode)
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Ermittelt die Synchronisationsart anhand des Enum-Namens oder der Bezeichnung (null = NONE)
+     */
+    public static LockMode fromName(String name) {
+        if (name == null || name.isBlank()) {
+            return NONE;
+        }
+        for (LockMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(name) || mode.key.equalsIgnoreCase(name)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unbekannte Synchronisationsart: " + name);
+    }
+}
@@ -0,0 +1,44 @@
+package de.haw.hamburg.threaddemo.model;
+
+/**
+ * Multiplikationsalgorithmus im CPU-Test
+ * - CLASSIC: dreifache Schleife i-j-k, O(n^3) (bisheriges Verhalten, Basis der gespeicherten Läufe)
+ * - IKJ: dreifache Schleife in der Reihenfolge i-k-j; B und das Ergebnis werden zeilenweise gelesen,
+ *   die Laufzeit hängt von der Speicherbandbreite statt von der Latenz ab (alle Zahlenformate)
+ * - STRASSEN: Strassen-Winograd, O(n^2.81); unterhalb der Cutover-Größe geblockter klassischer Kernel,
+ *   die sieben Teilprodukte der obersten Stufen parallel auf dem Strassen-Pool
+ */
+public enum MatrixAlgorithm {
+
+    CLASSIC("classic"),
+    IKJ("ikj"),
+    STRASSEN("strassen");
+
+    private final String key;
+
+    MatrixAlgorithm(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Bezeichnung in der Anfrage (Feld algorithm)
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Ermittelt den Algorithmus anhand des Enum-Namens oder der Bezeichnung (null = CLASSIC)
+     */
+    public static MatrixAlgorithm fromName(String name) {
+        if (name == null || name.isBlank()) {
+            return CLASSIC;
+        }
+        for (MatrixAlgorithm algorithm : values()) {
+            if (algorithm.name().equalsIgnoreCase(name) || algorithm.key.equalsIgnoreCase(name)) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException("Unbekannter Algorithmus: " + name);
+    }
+}
@@ -0,0 +1,43 @@
+package de.haw.hamburg.threaddemo.model;
+
+/**
+ * Zahlenformat der Matrizen im CPU-Test
+ * - DOUBLE: double[][] mit double-Akkumulation (bisheriges Verhalten)
+ * - FLOAT: float-Speicherung und float-Akkumulation; halbe Bytes pro Element
+ * - MIXED: float-Speicherung, Skalarprodukte in double akkumuliert; halbe Bytes pro Element bei
+ *   deutlich kleinerem Rundungsfehler als FLOAT
+ */
+public enum MatrixPrecision {
+
+    DOUBLE("double"),
+    FLOAT("float"),
+    MIXED("mixed");
+
+    private final String key;
+
+    MatrixPrecision(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Bezeichnung in der Anfrage (Feld precision)
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Ermittelt das Zahlenformat anhand des Enum-Namens oder der Bezeichnung (null = DOUBLE)
+     */
+    public static MatrixPrecision fromName(String name) {
+        if (name == null || name.isBlank()) {
+            return DOUBLE;
+        }
+        for (MatrixPrecision precision : values()) {
+            if (precision.name().equalsIgnoreCase(name) || precision.key.equalsIgnoreCase(name)) {
+                return precision;
+            }
+        }
+        throw new IllegalArgumentException("Unbekanntes Zahlenformat: " + name);
+    }
+}
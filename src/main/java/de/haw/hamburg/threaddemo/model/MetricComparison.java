@@ -0,0 +1,97 @@
+package de.haw.hamburg.threaddemo.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+/**
+ * DTO für den Vergleich einer Kennzahl zwischen aktuellem Lauf und Baseline
+ */
+@Data
+public class MetricComparison {
+    /**
+     * Name der Kennzahl (z. B. throughput, p99TaskTimeMs)
+     */
+    private String metric;
+
+    /**
+     * true, wenn ein höherer Wert besser ist
+     */
+    private boolean higherIsBetter;
+
+    private double baselineMedian;
+    private double currentMedian;
+
+    /**
+     * Relative Änderung des Medians gegenüber der Baseline (negativ = schlechter)
+     */
+    private double relativeChange;
+
+    /**
+     * Einseitiger p-Wert des Mann-Whitney-U-Tests für eine Verschlechterung
+     */
+    private double pValue;
+
+    /**
+     * true, wenn die Verschlechterung signifikant und größer als die Mindeständerung ist
+     */
+    private boolean regression;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    public boolean isHigherIsBetter() {
+        return higherIsBetter;
+    }
+
+    public void setHigherIsBetter(boolean higherIsBetter) {
+        this.higherIsBetter = higherIsBetter;
+    }
+
+    public double getBaselineMedian() {
+        return baselineMedian;
+    }
+
+    public void setBaselineMedian(double baselineMedian) {
+        this.baselineMedian = baselineMedian;
+    }
+
+    public double getCurrentMedian() {
+        return currentMedian;
+    }
+
+    public void setCurrentMedian(double currentMedian) {
+        this.currentMedian = currentMedian;
+    }
+
+    public double getRelativeChange() {
+        return relativeChange;
+    }
+
+    public void setRelativeChange(double relativeChange) {
+        this.relativeChange = relativeChange;
+    }
+
+    @JsonProperty("pValue")
+    public double getPValue() {
+        return pValue;
+    }
+
+    @JsonProperty("pValue")
+    public void setPValue(double pValue) {
+        this.pValue = pValue;
+    }
+
+    public boolean isRegression() {
+        return regression;
+    }
+
+    public void setRegression(boolean regression) {
+        this.regression = regression;
+    }
+}
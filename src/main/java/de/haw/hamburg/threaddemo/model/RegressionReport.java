@@ -0,0 +1,129 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO für das Ergebnis der Regressionserkennung eines Laufs gegen seine Baseline
+ */
+@Data
+public class RegressionReport {
+    private String threadModel;
+    private String testType;
+    private int matrixSize;
+    private int parallelTasks;
+
+    /**
+     * Anzahl der Baseline-Läufe (rollierendes Fenster gespeicherter Läufe)
+     */
+    private int baselineRuns;
+
+    /**
+     * Anzahl der bewerteten aktuellen Läufe
+     */
+    private int currentRuns;
+
+    /**
+     * false, wenn die Baseline für einen Test noch zu klein ist
+     */
+    private boolean evaluated;
+
+    /**
+     * true, wenn mindestens eine Kennzahl eine Regression zeigt
+     */
+    private boolean regression;
+
+    private String latestRunId;
+    private long latestTimestamp;
+    private List<MetricComparison> metrics;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public String getThreadModel() {
+        return threadModel;
+    }
+
+    public void setThreadModel(String threadModel) {
+        this.threadModel = threadModel;
+    }
+
+    public String getTestType() {
+        return testType;
+    }
+
+    public void setTestType(String testType) {
+        this.testType = testType;
+    }
+
+    public int getMatrixSize() {
+        return matrixSize;
+    }
+
+    public void setMatrixSize(int matrixSize) {
+        this.matrixSize = matrixSize;
+    }
+
+    public int getParallelTasks() {
+        return parallelTasks;
+    }
+
+    public void setParallelTasks(int parallelTasks) {
+        this.parallelTasks = parallelTasks;
+    }
+
+    public int getBaselineRuns() {
+        return baselineRuns;
+    }
+
+    public void setBaselineRuns(int baselineRuns) {
+        this.baselineRuns = baselineRuns;
+    }
+
+    public int getCurrentRuns() {
+        return currentRuns;
+    }
+
+    public void setCurrentRuns(int currentRuns) {
+        this.currentRuns = currentRuns;
+    }
+
+    public boolean isEvaluated() {
+        return evaluated;
+    }
+
+    public void setEvaluated(boolean evaluated) {
+        this.evaluated = evaluated;
+    }
+
+    public boolean isRegression() {
+        return regression;
+    }
+
+    public void setRegression(boolean regression) {
+        this.regression = regression;
+    }
+
+    public String getLatestRunId() {
+        return latestRunId;
+    }
+
+    public void setLatestRunId(String latestRunId) {
+        this.latestRunId = latestRunId;
+    }
+
+    public long getLatestTimestamp() {
+        return latestTimestamp;
+    }
+
+    public void setLatestTimestamp(long latestTimestamp) {
+        this.latestTimestamp = latestTimestamp;
+    }
+
+    public List<MetricComparison> getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(List<MetricComparison> metrics) {
+        this.metrics = metrics;
+    }
+}
@@ -0,0 +1,107 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+/**
+ * DTO für den Zustand des Ergebnis-Caches und der Zusammenführung gleicher Benchmark-Anfragen
+ */
+@Data
+public class RequestCacheStatus {
+    /**
+     * Anzahl zwischengespeicherter Ergebnisse
+     */
+    private int entries;
+
+    private int maxEntries;
+    private long ttlSeconds;
+
+    /**
+     * Anzahl gerade laufender, für Duplikate offener Ausführungen
+     */
+    private int inFlight;
+
+    /**
+     * Tatsächlich ausgeführte Läufe
+     */
+    private long executions;
+
+    /**
+     * Aus dem Cache beantwortete Anfragen
+     */
+    private long cacheHits;
+
+    /**
+     * An eine laufende Ausführung angehängte Anfragen
+     */
+    private long coalesced;
+
+    /**
+     * Anfragen mit force=true
+     */
+    private long forced;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public int getEntries() {
+        return entries;
+    }
+
+    public void setEntries(int entries) {
+        this.entries = entries;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    public void setTtlSeconds(long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public void setInFlight(int inFlight) {
+        this.inFlight = inFlight;
+    }
+
+    public long getExecutions() {
+        return executions;
+    }
+
+    public void setExecutions(long executions) {
+        this.executions = executions;
+    }
+
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    public void setCacheHits(long cacheHits) {
+        this.cacheHits = cacheHits;
+    }
+
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    public void setCoalesced(long coalesced) {
+        this.coalesced = coalesced;
+    }
+
+    public long getForced() {
+        return forced;
+    }
+
+    public void setForced(long forced) {
+        this.forced = forced;
+    }
+}
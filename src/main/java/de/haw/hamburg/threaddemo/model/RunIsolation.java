@@ -0,0 +1,100 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO für die Zulassung eines Laufs durch den Run-Scheduler und die währenddessen überlappenden Aktivitäten
+ */
+@Data
+public class RunIsolation {
+    /**
+     * Laufende Nummer im Run-Scheduler
+     */
+    private long scheduledRunId;
+
+    /**
+     * "exclusive" oder "shared"
+     */
+    private String runMode;
+
+    private int priority;
+
+    /**
+     * Reservierte CPU-Kerne
+     */
+    private double cpuCores;
+
+    /**
+     * Wartezeit in der Warteschlange bis zur Zulassung
+     */
+    private long queuedMs;
+
+    /**
+     * true, wenn keine andere Aktivität (Lauf oder Hintergrundlast) den Lauf überlappt hat
+     */
+    private boolean isolated;
+
+    /**
+     * Überlappende Aktivitäten, z. B. "compare-all#12 (shared)" oder "heavy-load (background)"
+     */
+    private List<String> overlappingActivities;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public long getScheduledRunId() {
+        return scheduledRunId;
+    }
+
+    public void setScheduledRunId(long scheduledRunId) {
+        this.scheduledRunId = scheduledRunId;
+    }
+
+    public String getRunMode() {
+        return runMode;
+    }
+
+    public void setRunMode(String runMode) {
+        this.runMode = runMode;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    public double getCpuCores() {
+        return cpuCores;
+    }
+
+    public void setCpuCores(double cpuCores) {
+        this.cpuCores = cpuCores;
+    }
+
+    public long getQueuedMs() {
+        return queuedMs;
+    }
+
+    public void setQueuedMs(long queuedMs) {
+        this.queuedMs = queuedMs;
+    }
+
+    public boolean isIsolated() {
+        return isolated;
+    }
+
+    public void setIsolated(boolean isolated) {
+        this.isolated = isolated;
+    }
+
+    public List<String> getOverlappingActivities() {
+        return overlappingActivities;
+    }
+
+    public void setOverlappingActivities(List<String> overlappingActivities) {
+        this.overlappingActivities = overlappingActivities;
+    }
+}
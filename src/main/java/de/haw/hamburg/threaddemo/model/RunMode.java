@@ -0,0 +1,41 @@
+package de.haw.hamburg.threaddemo.model;
+
+/**
+ * Zulassungsmodus eines Benchmark-Laufs im Run-Scheduler
+ * - EXCLUSIVE: läuft allein; wartet, bis kein anderer Lauf aktiv ist, und hält alle weiteren zurück
+ * - SHARED: läuft neben anderen geteilten Läufen, solange deren reservierte Kerne das CPU-Budget
+ *   nicht überschreiten
+ */
+public enum RunMode {
+
+    EXCLUSIVE("exclusive"),
+    SHARED("shared");
+
+    private final String key;
+
+    RunMode(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Bezeichnung in der Anfrage (Feld runMode)
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Ermittelt den Modus anhand des Enum-Namens oder der Bezeichnung (null = EXCLUSIVE)
+     */
+    public static RunMode fromName(String name) {
+        if (name == null || name.isBlank()) {
+            return EXCLUSIVE;
+        }
+        for (RunMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(name) || mode.key.equalsIgnoreCase(name)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unbekannter Zulassungsmodus: " + name);
+    }
+}
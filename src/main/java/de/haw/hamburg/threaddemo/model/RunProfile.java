@@ -0,0 +1,102 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * DTO für das CPU-Profil eines Benchmark-Laufs im Collapsed-Stack-Format
+ */
+@Data
+public class RunProfile {
+    private String runId;
+    private String threadModel;
+
+    /**
+     * Erfassungsart: "mxbean" (ThreadMXBean-Stack-Sampling) oder "jfr" (JFR jdk.ExecutionSample)
+     */
+    private String mode;
+
+    /**
+     * Abtastintervall in Millisekunden
+     */
+    private long intervalMs;
+
+    private long startTimestamp;
+    private long durationMs;
+
+    /**
+     * Anzahl der erfassten Stack-Samples
+     */
+    private long samples;
+
+    /**
+     * Collapsed Stacks: Frames von der Wurzel zum Blatt, durch Semikolon getrennt, mit Anzahl der Samples
+     */
+    private Map<String, Long> stacks;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public String getRunId() {
+        return runId;
+    }
+
+    public void setRunId(String runId) {
+        this.runId = runId;
+    }
+
+    public String getThreadModel() {
+        return threadModel;
+    }
+
+    public void setThreadModel(String threadModel) {
+        this.threadModel = threadModel;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public long getIntervalMs() {
+        return intervalMs;
+    }
+
+    public void setIntervalMs(long intervalMs) {
+        this.intervalMs = intervalMs;
+    }
+
+    public long getStartTimestamp() {
+        return startTimestamp;
+    }
+
+    public void setStartTimestamp(long startTimestamp) {
+        this.startTimestamp = startTimestamp;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public long getSamples() {
+        return samples;
+    }
+
+    public void setSamples(long samples) {
+        this.samples = samples;
+    }
+
+    public Map<String, Long> getStacks() {
+        return stacks;
+    }
+
+    public void setStacks(Map<String, Long> stacks) {
+        this.stacks = stacks;
+    }
+}
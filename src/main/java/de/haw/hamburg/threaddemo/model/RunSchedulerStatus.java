@@ -0,0 +1,105 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO für den Zustand des Run-Schedulers
+ */
+@Data
+public class RunSchedulerStatus {
+    /**
+     * CPU-Budget in Kernen für geteilte Läufe
+     */
+    private double cpuBudget;
+
+    /**
+     * Aktuell von laufenden Läufen reservierte Kerne
+     */
+    private double reservedCores;
+
+    private long maxWaitSeconds;
+    private List<ScheduledRun> running;
+    private List<ScheduledRun> queued;
+
+    /**
+     * Laufende Hintergrundaktivitäten (z. B. Heavy Load); werden nicht blockiert, aber markiert
+     */
+    private List<ScheduledRun> background;
+
+    /**
+     * Bisher zugelassene Läufe
+     */
+    private long admitted;
+
+    /**
+     * Wegen Zeitüberschreitung abgewiesene Läufe
+     */
+    private long rejected;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public double getCpuBudget() {
+        return cpuBudget;
+    }
+
+    public void setCpuBudget(double cpuBudget) {
+        this.cpuBudget = cpuBudget;
+    }
+
+    public double getReservedCores() {
+        return reservedCores;
+    }
+
+    public void setReservedCores(double reservedCores) {
+        this.reservedCores = reservedCores;
+    }
+
+    public long getMaxWaitSeconds() {
+        return maxWaitSeconds;
+    }
+
+    public void setMaxWaitSeconds(long maxWaitSeconds) {
+        this.maxWaitSeconds = maxWaitSeconds;
+    }
+
+    public List<ScheduledRun> getRunning() {
+        return running;
+    }
+
+    public void setRunning(List<ScheduledRun> running) {
+        this.running = running;
+    }
+
+    public List<ScheduledRun> getQueued() {
+        return queued;
+    }
+
+    public void setQueued(List<ScheduledRun> queued) {
+        this.queued = queued;
+    }
+
+    public List<ScheduledRun> getBackground() {
+        return background;
+    }
+
+    public void setBackground(List<ScheduledRun> background) {
+        this.background = background;
+    }
+
+    public long getAdmitted() {
+        return admitted;
+    }
+
+    public void setAdmitted(long admitted) {
+        this.admitted = admitted;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+}
@@ -0,0 +1,91 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+/**
+ * DTO für einen wartenden oder laufenden Eintrag im Run-Scheduler
+ */
+@Data
+public class ScheduledRun {
+    private long id;
+
+    /**
+     * Endpunkt bzw. Bezeichnung der Aktivität
+     */
+    private String name;
+
+    /**
+     * "exclusive", "shared" oder "background"
+     */
+    private String runMode;
+
+    private int priority;
+    private double cpuCores;
+
+    /**
+     * Zeitpunkt der Anmeldung (Epoch-Millisekunden)
+     */
+    private long submittedAt;
+
+    /**
+     * Zeitpunkt der Zulassung (0 = wartet noch)
+     */
+    private long startedAt;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getRunMode() {
+        return runMode;
+    }
+
+    public void setRunMode(String runMode) {
+        this.runMode = runMode;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    public double getCpuCores() {
+        return cpuCores;
+    }
+
+    public void setCpuCores(double cpuCores) {
+        this.cpuCores = cpuCores;
+    }
+
+    public long getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(long submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(long startedAt) {
+        this.startedAt = startedAt;
+    }
+}
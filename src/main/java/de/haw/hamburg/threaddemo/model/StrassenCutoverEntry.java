@@ -0,0 +1,85 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+/**
+ * DTO für eine Messung der Cutover-Suche: eine Matrixgröße mit einer Cutover-Größe
+ */
+@Data
+public class StrassenCutoverEntry {
+    private int matrixSize;
+
+    /**
+     * Cutover-Größe der Strassen-Rekursion (0 = nur geblockter klassischer Kernel, Referenz)
+     */
+    private int cutover;
+
+    /**
+     * Größe nach dem Auffüllen auf base · 2^k
+     */
+    private int paddedSize;
+
+    /**
+     * Schnellster der gemessenen Läufe
+     */
+    private double timeMs;
+
+    /**
+     * Laufzeit des klassischen Kernels geteilt durch diese Laufzeit (> 1 = Strassen schneller)
+     */
+    private double speedup;
+
+    /**
+     * Größte Abweichung vom klassischen Ergebnis relativ zum größten Betrag
+     */
+    private double relativeError;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public int getMatrixSize() {
+        return matrixSize;
+    }
+
+    public void setMatrixSize(int matrixSize) {
+        this.matrixSize = matrixSize;
+    }
+
+    public int getCutover() {
+        return cutover;
+    }
+
+    public void setCutover(int cutover) {
+        this.cutover = cutover;
+    }
+
+    public int getPaddedSize() {
+        return paddedSize;
+    }
+
+    public void setPaddedSize(int paddedSize) {
+        this.paddedSize = paddedSize;
+    }
+
+    public double getTimeMs() {
+        return timeMs;
+    }
+
+    public void setTimeMs(double timeMs) {
+        this.timeMs = timeMs;
+    }
+
+    public double getSpeedup() {
+        return speedup;
+    }
+
+    public void setSpeedup(double speedup) {
+        this.speedup = speedup;
+    }
+
+    public double getRelativeError() {
+        return relativeError;
+    }
+
+    public void setRelativeError(double relativeError) {
+        this.relativeError = relativeError;
+    }
+}
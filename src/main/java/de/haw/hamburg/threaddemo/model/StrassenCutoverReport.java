@@ -0,0 +1,147 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO für die Cutover-Suche der Strassen-Multiplikation auf der aktuellen Hardware
+ */
+@Data
+public class StrassenCutoverReport {
+    private int availableProcessors;
+
+    /**
+     * Threads des Strassen-Pools
+     */
+    private int parallelism;
+
+    /**
+     * Rekursionsstufen, deren Teilprodukte parallel laufen
+     */
+    private int parallelDepth;
+
+    /**
+     * Kachelgröße des klassischen Kernels
+     */
+    private int blockSize;
+
+    /**
+     * Aktuell konfigurierte Cutover-Größe (benchmark.strassen.cutover)
+     */
+    private int configuredCutover;
+
+    private List<StrassenCutoverEntry> entries;
+
+    /**
+     * Je Matrixgröße die schnellste Cutover-Größe (0 = klassisch)
+     */
+    private Map<Integer, Integer> bestCutoverBySize;
+
+    /**
+     * Cutover-Größe mit dem höchsten mittleren Speedup (0 = Strassen lohnt sich nicht)
+     */
+    private int recommendedCutover;
+
+    /**
+     * Seit dem Start neu angelegte bzw. wiederverwendete Zwischenpuffer
+     */
+    private long buffersAllocated;
+
+    private long buffersReused;
+
+    /**
+     * Zulassung durch den Run-Scheduler und überlappende Aktivitäten
+     */
+    private RunIsolation isolation;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public int getAvailableProcessors() {
+        return availableProcessors;
+    }
+
+    public void setAvailableProcessors(int availableProcessors) {
+        this.availableProcessors = availableProcessors;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelDepth() {
+        return parallelDepth;
+    }
+
+    public void setParallelDepth(int parallelDepth) {
+        this.parallelDepth = parallelDepth;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public void setBlockSize(int blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    public int getConfiguredCutover() {
+        return configuredCutover;
+    }
+
+    public void setConfiguredCutover(int configuredCutover) {
+        this.configuredCutover = configuredCutover;
+    }
+
+    public List<StrassenCutoverEntry> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<StrassenCutoverEntry> entries) {
+        this.entries = entries;
+    }
+
+    public Map<Integer, Integer> getBestCutoverBySize() {
+        return bestCutoverBySize;
+    }
+
+    public void setBestCutoverBySize(Map<Integer, Integer> bestCutoverBySize) {
+        this.bestCutoverBySize = bestCutoverBySize;
+    }
+
+    public int getRecommendedCutover() {
+        return recommendedCutover;
+    }
+
+    public void setRecommendedCutover(int recommendedCutover) {
+        this.recommendedCutover = recommendedCutover;
+    }
+
+    public long getBuffersAllocated() {
+        return buffersAllocated;
+    }
+
+    public void setBuffersAllocated(long buffersAllocated) {
+        this.buffersAllocated = buffersAllocated;
+    }
+
+    public long getBuffersReused() {
+        return buffersReused;
+    }
+
+    public void setBuffersReused(long buffersReused) {
+        this.buffersReused = buffersReused;
+    }
+
+    public RunIsolation getIsolation() {
+        return isolation;
+    }
+
+    public void setIsolation(RunIsolation isolation) {
+        this.isolation = isolation;
+    }
+}
@@ -0,0 +1,65 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+/**
+ * DTO für ein Ereignis des Aufgaben-Ereignisprotokolls (Ende einer Aufgabe)
+ */
+@Data
+public class TaskEvent {
+    private long timestamp;
+
+    /**
+     * Art der Aufgabe: matrix, matrix-float, http, file
+     */
+    private String operation;
+
+    private String threadName;
+    private double durationMs;
+
+    /**
+     * Kennzahl der Aufgabe, z. B. Matrixgröße oder Anzahl Anfragen bzw. Dateien
+     */
+    private long detail;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public void setThreadName(String threadName) {
+        this.threadName = threadName;
+    }
+
+    public double getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(double durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public long getDetail() {
+        return detail;
+    }
+
+    public void setDetail(long detail) {
+        this.detail = detail;
+    }
+}
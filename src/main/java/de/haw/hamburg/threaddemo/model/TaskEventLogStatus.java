@@ -0,0 +1,123 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO für den Zustand des Aufgaben-Ereignisprotokolls
+ */
+@Data
+public class TaskEventLogStatus {
+    private boolean enabled;
+
+    /**
+     * Slots des Ringpuffers
+     */
+    private int capacity;
+
+    /**
+     * Aufgezeichneter Anteil der Ereignisse
+     */
+    private double sampleRate;
+
+    private long recorded;
+
+    /**
+     * Durch die Stichprobe ausgelassene Ereignisse
+     */
+    private long sampledOut;
+
+    /**
+     * Bei vollem Ringpuffer verworfene Ereignisse
+     */
+    private long dropped;
+
+    /**
+     * An den Logger übergebene Ereignisse
+     */
+    private long written;
+
+    /**
+     * Reservierte, noch nicht geschriebene Ereignisse
+     */
+    private long pending;
+
+    /**
+     * Zuletzt geschriebene Ereignisse
+     */
+    private List<TaskEvent> recentEvents;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public long getRecorded() {
+        return recorded;
+    }
+
+    public void setRecorded(long recorded) {
+        this.recorded = recorded;
+    }
+
+    public long getSampledOut() {
+        return sampledOut;
+    }
+
+    public void setSampledOut(long sampledOut) {
+        this.sampledOut = sampledOut;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    public void setDropped(long dropped) {
+        this.dropped = dropped;
+    }
+
+    public long getWritten() {
+        return written;
+    }
+
+    public void setWritten(long written) {
+        this.written = written;
+    }
+
+    public long getPending() {
+        return pending;
+    }
+
+    public void setPending(long pending) {
+        this.pending = pending;
+    }
+
+    public List<TaskEvent> getRecentEvents() {
+        return recentEvents;
+    }
+
+    public void setRecentEvents(List<TaskEvent> recentEvents) {
+        this.recentEvents = recentEvents;
+    }
+}
@@ -0,0 +1,111 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+/**
+ * DTO für Thread-Details
+ */
+@Data
+public class ThreadDetail {
+    private long id;
+    private String name;
+    private String state;
+    private boolean blocked;
+    private String threadGroup;
+    private String lockName;
+    private String lockOwnerName;
+    private long blockedCount;
+    private long blockedTimeMs;
+    private long waitedCount;
+    private long waitedTimeMs;
+    
+    // Explizite Getter für den Fall, dass Lombok nicht funktioniert
+    public long getId() {
+        return id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public String getState() {
+        return state;
+    }
+    
+    public boolean isBlocked() {
+        return blocked;
+    }
+    
+    public String getThreadGroup() {
+        return threadGroup;
+    }
+    
+    public String getLockName() {
+        return lockName;
+    }
+    
+    public String getLockOwnerName() {
+        return lockOwnerName;
+    }
+    
+    public long getBlockedCount() {
+        return blockedCount;
+    }
+    
+    public long getBlockedTimeMs() {
+        return blockedTimeMs;
+    }
+    
+    public long getWaitedCount() {
+        return waitedCount;
+    }
+    
+    public long getWaitedTimeMs() {
+        return waitedTimeMs;
+    }
+    
+    // Explizite Setter für Lombok-Unabhängigkeit
+    public void setId(long id) {
+        this.id = id;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public void setState(String state) {
+        this.state = state;
+    }
+    
+    public void setBlocked(boolean blocked) {
+        this.blocked = blocked;
+    }
+    
+    public void setThreadGroup(String threadGroup) {
+        this.threadGroup = threadGroup;
+    }
+    
+    public void setLockName(String lockName) {
+        this.lockName = lockName;
+    }
+    
+    public void setLockOwnerName(String lockOwnerName) {
+        this.lockOwnerName = lockOwnerName;
+    }
+    
+    public void setBlockedCount(long blockedCount) {
+        this.blockedCount = blockedCount;
+    }
+    
+    public void setBlockedTimeMs(long blockedTimeMs) {
+        this.blockedTimeMs = blockedTimeMs;
+    }
+    
+    public void setWaitedCount(long waitedCount) {
+        this.waitedCount = waitedCount;
+    }
+    
+    public void setWaitedTimeMs(long waitedTimeMs) {
+        this.waitedTimeMs = waitedTimeMs;
+    }
+}
@@ -0,0 +1,128 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ereignis des Thread-Monitor-Feeds: vollständiger Zustand oder Änderungen seit dem letzten Ereignis
+ */
+@Data
+public class ThreadFeedDelta {
+    /**
+     * Laufende Nummer der Server-Momentaufnahme, auf der das Ereignis beruht
+     */
+    private long seq;
+
+    /**
+     * Zeitpunkt der Momentaufnahme
+     */
+    private long timestamp;
+
+    /**
+     * true, wenn upserted alle Threads enthält (erstes Ereignis nach dem Verbinden)
+     */
+    private boolean full;
+
+    private long totalStartedThreadCount;
+    private int currentThreadCount;
+    private int peakThreadCount;
+    private int daemonThreadCount;
+
+    /**
+     * Anzahl Threads je Gruppe
+     */
+    private Map<String, Long> threadGroupStats;
+
+    /**
+     * Neue Threads und Threads mit geändertem Zustand, Lock oder Namen
+     */
+    private List<ThreadDetail> upserted;
+
+    /**
+     * IDs beendeter Threads
+     */
+    private List<Long> removed;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(long seq) {
+        this.seq = seq;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public void setFull(boolean full) {
+        this.full = full;
+    }
+
+    public long getTotalStartedThreadCount() {
+        return totalStartedThreadCount;
+    }
+
+    public void setTotalStartedThreadCount(long totalStartedThreadCount) {
+        this.totalStartedThreadCount = totalStartedThreadCount;
+    }
+
+    public int getCurrentThreadCount() {
+        return currentThreadCount;
+    }
+
+    public void setCurrentThreadCount(int currentThreadCount) {
+        this.currentThreadCount = currentThreadCount;
+    }
+
+    public int getPeakThreadCount() {
+        return peakThreadCount;
+    }
+
+    public void setPeakThreadCount(int peakThreadCount) {
+        this.peakThreadCount = peakThreadCount;
+    }
+
+    public int getDaemonThreadCount() {
+        return daemonThreadCount;
+    }
+
+    public void setDaemonThreadCount(int daemonThreadCount) {
+        this.daemonThreadCount = daemonThreadCount;
+    }
+
+    public Map<String, Long> getThreadGroupStats() {
+        return threadGroupStats;
+    }
+
+    public void setThreadGroupStats(Map<String, Long> threadGroupStats) {
+        this.threadGroupStats = threadGroupStats;
+    }
+
+    public List<ThreadDetail> getUpserted() {
+        return upserted;
+    }
+
+    public void setUpserted(List<ThreadDetail> upserted) {
+        this.upserted = upserted;
+    }
+
+    public List<Long> getRemoved() {
+        return removed;
+    }
+
+    public void setRemoved(List<Long> removed) {
+        this.removed = removed;
+    }
+}
@@ -0,0 +1,121 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+/**
+ * DTO für eine Messstufe des Thread-Footprint-Experiments: N geparkte Threads eines Modells
+ */
+@Data
+public class ThreadFootprintEntry {
+    private String threadModel;
+
+    /**
+     * Anzahl gleichzeitig geparkter Threads
+     */
+    private int threads;
+
+    /**
+     * Dauer, bis alle Threads dieser Stufe gestartet und geparkt waren (kumuliert)
+     */
+    private long startupMs;
+
+    /**
+     * Betriebssystem-Threads des Prozesses (/proc/self/status)
+     */
+    private long osThreads;
+
+    /**
+     * Zuwachs der Resident Set Size gegenüber dem Zustand vor dem Experiment
+     */
+    private double rssDeltaMB;
+
+    private double rssBytesPerThread;
+
+    /**
+     * Zuwachs des belegten Heaps nach GC je Thread (Thread-Objekte, Stack-Chunks der Virtual Threads)
+     */
+    private double heapBytesPerThread;
+
+    /**
+     * Zuwachs der NMT-Kategorie Thread (committed, native Stacks) je Thread; null ohne Native Memory Tracking
+     */
+    private Double nmtThreadBytesPerThread;
+
+    /**
+     * Zuwachs des gesamten von NMT erfassten Speichers (committed) je Thread; null ohne Native Memory Tracking
+     */
+    private Double nmtTotalBytesPerThread;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public String getThreadModel() {
+        return threadModel;
+    }
+
+    public void setThreadModel(String threadModel) {
+        this.threadModel = threadModel;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public long getStartupMs() {
+        return startupMs;
+    }
+
+    public void setStartupMs(long startupMs) {
+        this.startupMs = startupMs;
+    }
+
+    public long getOsThreads() {
+        return osThreads;
+    }
+
+    public void setOsThreads(long osThreads) {
+        this.osThreads = osThreads;
+    }
+
+    public double getRssDeltaMB() {
+        return rssDeltaMB;
+    }
+
+    public void setRssDeltaMB(double rssDeltaMB) {
+        this.rssDeltaMB = rssDeltaMB;
+    }
+
+    public double getRssBytesPerThread() {
+        return rssBytesPerThread;
+    }
+
+    public void setRssBytesPerThread(double rssBytesPerThread) {
+        this.rssBytesPerThread = rssBytesPerThread;
+    }
+
+    public double getHeapBytesPerThread() {
+        return heapBytesPerThread;
+    }
+
+    public void setHeapBytesPerThread(double heapBytesPerThread) {
+        this.heapBytesPerThread = heapBytesPerThread;
+    }
+
+    public Double getNmtThreadBytesPerThread() {
+        return nmtThreadBytesPerThread;
+    }
+
+    public void setNmtThreadBytesPerThread(Double nmtThreadBytesPerThread) {
+        this.nmtThreadBytesPerThread = nmtThreadBytesPerThread;
+    }
+
+    public Double getNmtTotalBytesPerThread() {
+        return nmtTotalBytesPerThread;
+    }
+
+    public void setNmtTotalBytesPerThread(Double nmtTotalBytesPerThread) {
+        this.nmtTotalBytesPerThread = nmtTotalBytesPerThread;
+    }
+}
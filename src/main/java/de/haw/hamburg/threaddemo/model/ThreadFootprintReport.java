@@ -0,0 +1,94 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO für das Thread-Footprint-Experiment: Speicherbedarf je geparktem Thread und Modell
+ */
+@Data
+public class ThreadFootprintReport {
+    private int javaVersion;
+
+    /**
+     * true, wenn die JVM mit -XX:NativeMemoryTracking gestartet wurde
+     */
+    private boolean nmtEnabled;
+
+    /**
+     * Threads, die das Betriebssystem vor dem Experiment noch zugelassen hätte (-1 = unbekannt)
+     */
+    private long threadHeadroom;
+
+    /**
+     * Verfügbarer Speicher vor dem Experiment (MemAvailable bzw. Rest bis memory.max der cgroup, -1 = unbekannt)
+     */
+    private double memoryHeadroomMB;
+
+    private List<ThreadFootprintEntry> entries;
+
+    /**
+     * Übersprungene Stufen und Abbruchgründe
+     */
+    private List<String> notes;
+
+    private RunIsolation isolation;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public int getJavaVersion() {
+        return javaVersion;
+    }
+
+    public void setJavaVersion(int javaVersion) {
+        this.javaVersion = javaVersion;
+    }
+
+    public boolean isNmtEnabled() {
+        return nmtEnabled;
+    }
+
+    public void setNmtEnabled(boolean nmtEnabled) {
+        this.nmtEnabled = nmtEnabled;
+    }
+
+    public long getThreadHeadroom() {
+        return threadHeadroom;
+    }
+
+    public void setThreadHeadroom(long threadHeadroom) {
+        this.threadHeadroom = threadHeadroom;
+    }
+
+    public double getMemoryHeadroomMB() {
+        return memoryHeadroomMB;
+    }
+
+    public void setMemoryHeadroomMB(double memoryHeadroomMB) {
+        this.memoryHeadroomMB = memoryHeadroomMB;
+    }
+
+    public List<ThreadFootprintEntry> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<ThreadFootprintEntry> entries) {
+        this.entries = entries;
+    }
+
+    public List<String> getNotes() {
+        return notes;
+    }
+
+    public void setNotes(List<String> notes) {
+        this.notes = notes;
+    }
+
+    public RunIsolation getIsolation() {
+        return isolation;
+    }
+
+    public void setIsolation(RunIsolation isolation) {
+        this.isolation = isolation;
+    }
+}
@@ -0,0 +1,61 @@
+package de.haw.hamburg.threaddemo.model;
+
+/**
+ * Aufzählung der verglichenen Thread-Modelle
+ * - Verknüpft REST-Endpunkt, Executor-Bean und Anzeigename eines Modells
+ * - Die Reihenfolge entspricht der Reihenfolge in den Vergleichsergebnissen
+ */
+public enum ThreadModel {
+
+    PLATFORM("platform-threads", "platformThreadTaskExecutor", "Platform Threads (1:1 OS-Mapping)"),
+    VIRTUAL("virtual-threads", "virtualThreadTaskExecutor", "Virtual Threads (JVM-optimiert)"),
+    LIMITED("limited-threads", "limitedThreadTaskExecutor", "Begrenzte Threads (CPU-Core-limitiert)"),
+    OPTIMIZED("optimized-threads", "optimizedThreadTaskExecutor", "Optimierte Threads (Work-Stealing)"),
+    BOUNDED_VIRTUAL("bounded-virtual-threads", "boundedVirtualThreadTaskExecutor",
+            "Virtual Threads mit Ressourcen-Limits"),
+    REACTIVE("reactive-threads", "reactivePipelineExecutor", "Reaktiv (Project Reactor)");
+
+    private final String endpoint;
+    private final String executorName;
+    private final String displayName;
+
+    ThreadModel(String endpoint, String executorName, String displayName) {
+        this.endpoint = endpoint;
+        this.executorName = executorName;
+        this.displayName = displayName;
+    }
+
+    /**
+     * Pfadsegment des REST-Endpunkts unter /api/matrix
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Name der Executor-Bean aus der ThreadConfig
+     * - Bei REACTIVE die Pipeline auf den Schedulern von Project Reactor
+     */
+    public String getExecutorName() {
+        return executorName;
+    }
+
+    /**
+     * Anzeigename, wie er in der CalculationResponse erscheint
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Ermittelt das Thread-Modell anhand des Enum-Namens oder des Endpunkts
+     */
+    public static ThreadModel fromName(String name) {
+        for (ThreadModel model : values()) {
+            if (model.name().equalsIgnoreCase(name) || model.endpoint.equalsIgnoreCase(name)) {
+                return model;
+            }
+        }
+        throw new IllegalArgumentException("Unbekanntes Thread-Modell: " + name);
+    }
+}
@@ -0,0 +1,69 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO für Thread-System-Informationen
+ */
+@Data
+public class ThreadSystemInfo {
+    private long totalStartedThreadCount;
+    private int currentThreadCount;
+    private int peakThreadCount;
+    private int daemonThreadCount;
+    private List<ThreadDetail> threadDetails = new ArrayList<>();
+    private Map<String, Long> threadGroupStats;
+    
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public long getTotalStartedThreadCount() {
+        return totalStartedThreadCount;
+    }
+    
+    public void setTotalStartedThreadCount(long totalStartedThreadCount) {
+        this.totalStartedThreadCount = totalStartedThreadCount;
+    }
+    
+    public int getCurrentThreadCount() {
+        return currentThreadCount;
+    }
+    
+    public void setCurrentThreadCount(int currentThreadCount) {
+        this.currentThreadCount = currentThreadCount;
+    }
+    
+    public int getPeakThreadCount() {
+        return peakThreadCount;
+    }
+    
+    public void setPeakThreadCount(int peakThreadCount) {
+        this.peakThreadCount = peakThreadCount;
+    }
+    
+    public int getDaemonThreadCount() {
+        return daemonThreadCount;
+    }
+    
+    public void setDaemonThreadCount(int daemonThreadCount) {
+        this.daemonThreadCount = daemonThreadCount;
+    }
+    
+    public List<ThreadDetail> getThreadDetails() {
+        return threadDetails;
+    }
+    
+    public void setThreadDetails(List<ThreadDetail> threadDetails) {
+        this.threadDetails = threadDetails;
+    }
+    
+    public Map<String, Long> getThreadGroupStats() {
+        return threadGroupStats;
+    }
+    
+    public void setThreadGroupStats(Map<String, Long> threadGroupStats) {
+        this.threadGroupStats = threadGroupStats;
+    }
+}
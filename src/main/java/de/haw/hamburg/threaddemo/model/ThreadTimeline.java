@@ -0,0 +1,117 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Zeitreihe der Thread-Zustände je Thread-Gruppe
+ */
+@Data
+public class ThreadTimeline {
+    /**
+     * Gewählte Auflösungsstufe: raw, 1s, 10s oder 1m
+     */
+    private String resolution;
+
+    /**
+     * Abstand zweier Punkte in Millisekunden
+     */
+    private long stepMs;
+
+    /**
+     * Beginn des abgefragten Zeitraums
+     */
+    private long from;
+
+    /**
+     * Ende des abgefragten Zeitraums
+     */
+    private long to;
+
+    /**
+     * Thread-Zustände in der Reihenfolge der Werte
+     */
+    private List<String> states;
+
+    /**
+     * Beginn des Intervalls je Punkt
+     */
+    private long[] timestamps;
+
+    /**
+     * Mittlere Anzahl Threads je Gruppe und Zustand, ein Wert je Zeitstempel
+     */
+    private Map<String, Map<String, float[]>> series;
+
+    /**
+     * Benchmark-Läufe, die den Zeitraum überlappen
+     */
+    private List<TimelineRun> runs;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public String getResolution() {
+        return resolution;
+    }
+
+    public void setResolution(String resolution) {
+        this.resolution = resolution;
+    }
+
+    public long getStepMs() {
+        return stepMs;
+    }
+
+    public void setStepMs(long stepMs) {
+        this.stepMs = stepMs;
+    }
+
+    public long getFrom() {
+        return from;
+    }
+
+    public void setFrom(long from) {
+        this.from = from;
+    }
+
+    public long getTo() {
+        return to;
+    }
+
+    public void setTo(long to) {
+        this.to = to;
+    }
+
+    public List<String> getStates() {
+        return states;
+    }
+
+    public void setStates(List<String> states) {
+        this.states = states;
+    }
+
+    public long[] getTimestamps() {
+        return timestamps;
+    }
+
+    public void setTimestamps(long[] timestamps) {
+        this.timestamps = timestamps;
+    }
+
+    public Map<String, Map<String, float[]>> getSeries() {
+        return series;
+    }
+
+    public void setSeries(Map<String, Map<String, float[]>> series) {
+        this.series = series;
+    }
+
+    public List<TimelineRun> getRuns() {
+        return runs;
+    }
+
+    public void setRuns(List<TimelineRun> runs) {
+        this.runs = runs;
+    }
+}
@@ -0,0 +1,83 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+/**
+ * Benchmark-Lauf als Markierung in der Thread-Zeitleiste, zum Überlagern mit Latenzdaten
+ */
+@Data
+public class TimelineRun {
+    private String runId;
+    private String threadModel;
+    private String testType;
+
+    /**
+     * Start des Laufs in Millisekunden seit Epoch
+     */
+    private long startTimestamp;
+
+    /**
+     * Ende des Laufs in Millisekunden seit Epoch
+     */
+    private long endTimestamp;
+
+    private double p50TaskTimeMs;
+    private double p99TaskTimeMs;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public String getRunId() {
+        return runId;
+    }
+
+    public void setRunId(String runId) {
+        this.runId = runId;
+    }
+
+    public String getThreadModel() {
+        return threadModel;
+    }
+
+    public void setThreadModel(String threadModel) {
+        this.threadModel = threadModel;
+    }
+
+    public String getTestType() {
+        return testType;
+    }
+
+    public void setTestType(String testType) {
+        this.testType = testType;
+    }
+
+    public long getStartTimestamp() {
+        return startTimestamp;
+    }
+
+    public void setStartTimestamp(long startTimestamp) {
+        this.startTimestamp = startTimestamp;
+    }
+
+    public long getEndTimestamp() {
+        return endTimestamp;
+    }
+
+    public void setEndTimestamp(long endTimestamp) {
+        this.endTimestamp = endTimestamp;
+    }
+
+    public double getP50TaskTimeMs() {
+        return p50TaskTimeMs;
+    }
+
+    public void setP50TaskTimeMs(double p50TaskTimeMs) {
+        this.p50TaskTimeMs = p50TaskTimeMs;
+    }
+
+    public double getP99TaskTimeMs() {
+        return p99TaskTimeMs;
+    }
+
+    public void setP99TaskTimeMs(double p99TaskTimeMs) {
+        this.p99TaskTimeMs = p99TaskTimeMs;
+    }
+}
@@ -0,0 +1,90 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Vom Executor-Watchdog gemeldeter Befund
+ */
+@Data
+public class WatchdogAlert {
+    /**
+     * Art des Befunds: deadlock, starvation, stuck-task oder carrier-exhaustion
+     */
+    private String type;
+
+    /**
+     * Betroffener Executor (null bei Deadlocks)
+     */
+    private String executor;
+
+    /**
+     * Beschreibung des Befunds
+     */
+    private String message;
+
+    /**
+     * Zeitpunkt der ersten Erkennung in Millisekunden seit Epoch
+     */
+    private long timestamp;
+
+    /**
+     * Beteiligte Threads
+     */
+    private List<String> threads;
+
+    /**
+     * Datei mit dem automatisch erstellten Thread-Dump (null, wenn keiner geschrieben wurde)
+     */
+    private String dumpFile;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(String executor) {
+        this.executor = executor;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public List<String> getThreads() {
+        return threads;
+    }
+
+    public void setThreads(List<String> threads) {
+        this.threads = threads;
+    }
+
+    public String getDumpFile() {
+        return dumpFile;
+    }
+
+    public void setDumpFile(String dumpFile) {
+        this.dumpFile = dumpFile;
+    }
+}
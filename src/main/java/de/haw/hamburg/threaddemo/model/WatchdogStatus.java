@@ -0,0 +1,90 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Gesamtzustand des Executor-Watchdogs
+ */
+@Data
+public class WatchdogStatus {
+    /**
+     * true, wenn der Watchdog läuft
+     */
+    private boolean enabled;
+
+    /**
+     * Zeitpunkt der letzten Prüfung
+     */
+    private long checkedAt;
+
+    /**
+     * Threads, die bei der letzten Prüfung in einem Deadlock steckten
+     */
+    private List<String> deadlockedThreads;
+
+    /**
+     * Zustand je Executor
+     */
+    private List<ExecutorHealth> executors;
+
+    /**
+     * Derzeit bestehende Befunde
+     */
+    private List<WatchdogAlert> activeAlerts;
+
+    /**
+     * Zuletzt erkannte Befunde, jüngste zuerst
+     */
+    private List<WatchdogAlert> recentAlerts;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getCheckedAt() {
+        return checkedAt;
+    }
+
+    public void setCheckedAt(long checkedAt) {
+        this.checkedAt = checkedAt;
+    }
+
+    public List<String> getDeadlockedThreads() {
+        return deadlockedThreads;
+    }
+
+    public void setDeadlockedThreads(List<String> deadlockedThreads) {
+        this.deadlockedThreads = deadlockedThreads;
+    }
+
+    public List<ExecutorHealth> getExecutors() {
+        return executors;
+    }
+
+    public void setExecutors(List<ExecutorHealth> executors) {
+        this.executors = executors;
+    }
+
+    public List<WatchdogAlert> getActiveAlerts() {
+        return activeAlerts;
+    }
+
+    public void setActiveAlerts(List<WatchdogAlert> activeAlerts) {
+        this.activeAlerts = activeAlerts;
+    }
+
+    public List<WatchdogAlert> getRecentAlerts() {
+        return recentAlerts;
+    }
+
+    public void setRecentAlerts(List<WatchdogAlert> recentAlerts) {
+        this.recentAlerts = recentAlerts;
+    }
+}
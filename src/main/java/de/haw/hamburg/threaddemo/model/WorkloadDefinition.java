@@ -0,0 +1,114 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+/**
+ * DTO für eine synthetische Aufgabe zwischen reiner Rechenlast und reinem I/O (testType "workload")
+ */
+@Data
+public class WorkloadDefinition {
+    /**
+     * Rechenzeit je Aufgabe in Mikrosekunden; als kalibrierte Anzahl Rechenschritte ausgeführt, nicht als Wanduhrzeit
+     */
+    private int cpuMicros = 1000;
+
+    /**
+     * Blockierende Aufrufe je Aufgabe; die Rechenzeit wird gleichmäßig davor, dazwischen und danach verteilt
+     */
+    private int blockingCalls = 2;
+
+    /**
+     * Mittlere Latenz eines blockierenden Aufrufs
+     */
+    private double meanLatencyMs = 10;
+
+    /**
+     * Verteilung der Latenz: "fixed", "uniform" (0 bis 2 · Mittelwert), "exponential" oder "lognormal"
+     */
+    private String latencyDistribution = "exponential";
+
+    /**
+     * Streuung σ des Logarithmus bei "lognormal"
+     */
+    private double latencySigma = 0.5;
+
+    /**
+     * Je blockierendem Aufruf angelegte und beschriebene Nutzlast (simulierte Antwort)
+     */
+    private int payloadBytes = 4096;
+
+    /**
+     * Gemeinsamer Lock: "none", "synchronized", "reentrant" oder "stamped" (Schreib-Lock)
+     */
+    private String lockMode = "none";
+
+    /**
+     * Anteil der blockierenden Aufrufe, die unter dem gemeinsamen Lock ausgeführt werden (0 bis 1)
+     */
+    private double lockedCallFraction;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public int getCpuMicros() {
+        return cpuMicros;
+    }
+
+    public void setCpuMicros(int cpuMicros) {
+        this.cpuMicros = cpuMicros;
+    }
+
+    public int getBlockingCalls() {
+        return blockingCalls;
+    }
+
+    public void setBlockingCalls(int blockingCalls) {
+        this.blockingCalls = blockingCalls;
+    }
+
+    public double getMeanLatencyMs() {
+        return meanLatencyMs;
+    }
+
+    public void setMeanLatencyMs(double meanLatencyMs) {
+        this.meanLatencyMs = meanLatencyMs;
+    }
+
+    public String getLatencyDistribution() {
+        return latencyDistribution;
+    }
+
+    public void setLatencyDistribution(String latencyDistribution) {
+        this.latencyDistribution = latencyDistribution;
+    }
+
+    public double getLatencySigma() {
+        return latencySigma;
+    }
+
+    public void setLatencySigma(double latencySigma) {
+        this.latencySigma = latencySigma;
+    }
+
+    public int getPayloadBytes() {
+        return payloadBytes;
+    }
+
+    public void setPayloadBytes(int payloadBytes) {
+        this.payloadBytes = payloadBytes;
+    }
+
+    public String getLockMode() {
+        return lockMode;
+    }
+
+    public void setLockMode(String lockMode) {
+        this.lockMode = lockMode;
+    }
+
+    public double getLockedCallFraction() {
+        return lockedCallFraction;
+    }
+
+    public void setLockedCallFraction(double lockedCallFraction) {
+        this.lockedCallFraction = lockedCallFraction;
+    }
+}
@@ -0,0 +1,115 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+/**
+ * DTO für eine Zelle des Workload-Sweeps: ein Thread-Modell bei einem CPU-Anteil
+ */
+@Data
+public class WorkloadSweepEntry {
+    private String threadModel;
+
+    /**
+     * Anteil der Rechenzeit an der Bedienzeit einer Aufgabe (0 = reines I/O, 1 = reine Rechenlast)
+     */
+    private double cpuShare;
+
+    private int cpuMicros;
+
+    /**
+     * Mittlere Latenz je blockierendem Aufruf bei diesem CPU-Anteil
+     */
+    private double meanLatencyMs;
+
+    private long totalExecutionTimeMs;
+    private double tasksPerSecond;
+    private double p50TaskTimeMs;
+    private double p99TaskTimeMs;
+    private int failedTasks;
+
+    /**
+     * Durchsatz relativ zum besten Modell beim selben CPU-Anteil (1.0 = bestes)
+     */
+    private double relativeThroughput;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public String getThreadModel() {
+        return threadModel;
+    }
+
+    public void setThreadModel(String threadModel) {
+        this.threadModel = threadModel;
+    }
+
+    public double getCpuShare() {
+        return cpuShare;
+    }
+
+    public void setCpuShare(double cpuShare) {
+        this.cpuShare = cpuShare;
+    }
+
+    public int getCpuMicros() {
+        return cpuMicros;
+    }
+
+    public void setCpuMicros(int cpuMicros) {
+        this.cpuMicros = cpuMicros;
+    }
+
+    public double getMeanLatencyMs() {
+        return meanLatencyMs;
+    }
+
+    public void setMeanLatencyMs(double meanLatencyMs) {
+        this.meanLatencyMs = meanLatencyMs;
+    }
+
+    public long getTotalExecutionTimeMs() {
+        return totalExecutionTimeMs;
+    }
+
+    public void setTotalExecutionTimeMs(long totalExecutionTimeMs) {
+        this.totalExecutionTimeMs = totalExecutionTimeMs;
+    }
+
+    public double getTasksPerSecond() {
+        return tasksPerSecond;
+    }
+
+    public void setTasksPerSecond(double tasksPerSecond) {
+        this.tasksPerSecond = tasksPerSecond;
+    }
+
+    public double getP50TaskTimeMs() {
+        return p50TaskTimeMs;
+    }
+
+    public void setP50TaskTimeMs(double p50TaskTimeMs) {
+        this.p50TaskTimeMs = p50TaskTimeMs;
+    }
+
+    public double getP99TaskTimeMs() {
+        return p99TaskTimeMs;
+    }
+
+    public void setP99TaskTimeMs(double p99TaskTimeMs) {
+        this.p99TaskTimeMs = p99TaskTimeMs;
+    }
+
+    public int getFailedTasks() {
+        return failedTasks;
+    }
+
+    public void setFailedTasks(int failedTasks) {
+        this.failedTasks = failedTasks;
+    }
+
+    public double getRelativeThroughput() {
+        return relativeThroughput;
+    }
+
+    public void setRelativeThroughput(double relativeThroughput) {
+        this.relativeThroughput = relativeThroughput;
+    }
+}
@@ -0,0 +1,98 @@
+package de.haw.hamburg.threaddemo.model;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO für den Sweep der Thread-Modelle über das Verhältnis von Rechenzeit zu I/O
+ */
+@Data
+public class WorkloadSweepReport {
+    private int availableProcessors;
+
+    /**
+     * Bedienzeit einer Aufgabe ohne Wartezeiten (Rechenzeit plus mittlere Latenzen), über alle CPU-Anteile konstant
+     */
+    private double taskMillis;
+
+    /**
+     * Vorlage; cpuMicros und meanLatencyMs werden je CPU-Anteil ersetzt
+     */
+    private WorkloadDefinition baseWorkload;
+
+    private List<WorkloadSweepEntry> entries;
+
+    /**
+     * Je CPU-Anteil das Modell mit dem höchsten Durchsatz
+     */
+    private Map<String, String> bestModelByCpuShare;
+
+    /**
+     * Kleinster CPU-Anteil, ab dem Virtual Threads weniger als 5 % mehr Durchsatz als Platform Threads erreichen (null = nicht gemessen oder nie)
+     */
+    private Double virtualBreakEvenCpuShare;
+
+    /**
+     * Zulassung durch den Run-Scheduler und überlappende Aktivitäten
+     */
+    private RunIsolation isolation;
+
+    // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
+    public int getAvailableProcessors() {
+        return availableProcessors;
+    }
+
+    public void setAvailableProcessors(int availableProcessors) {
+        this.availableProcessors = availableProcessors;
+    }
+
+    public double getTaskMillis() {
+        return taskMillis;
+    }
+
+    public void setTaskMillis(double taskMillis) {
+        this.taskMillis = taskMillis;
+    }
+
+    public WorkloadDefinition getBaseWorkload() {
+        return baseWorkload;
+    }
+
+    public void setBaseWorkload(WorkloadDefinition baseWorkload) {
+        this.baseWorkload = baseWorkload;
+    }
+
+    public List<WorkloadSweepEntry> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<WorkloadSweepEntry> entries) {
+        this.entries = entries;
+    }
+
+    public Map<String, String> getBestModelByCpuShare() {
+        return bestModelByCpuShare;
+    }
+
+    public void setBestModelByCpuShare(Map<String, String> bestModelByCpuShare) {
+        this.bestModelByCpuShare = bestModelByCpuShare;
+    }
+
+    public Double getVirtualBreakEvenCpuShare() {
+        return virtualBreakEvenCpuShare;
+    }
+
+    public void setVirtualBreakEvenCpuShare(Double virtualBreakEvenCpuShare) {
+        this.virtualBreakEvenCpuShare = virtualBreakEvenCpuShare;
+    }
+
+    public RunIsolation getIsolation() {
+        return isolation;
+    }
+
+    public void setIsolation(RunIsolation isolation) {
+        this.isolation = isolation;
+    }
+}
@@ -0,0 +1,131 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.config.ThreadModelExecutors;
+import de.haw.hamburg.threaddemo.model.ThreadModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Gebündelte Multiplikation vieler kleiner Matrizen (typisch 8 bis 64)
+ * - Alle Matrizen eines Stapels liegen zeilenweise hintereinander in einem double[]
+ *   (Matrix m beginnt bei m · size · size); das Ergebnis ist genauso gepackt
+ * - Der Stapel wird in Chunks zerlegt; je Chunk eine Aufgabe des Thread-Modells, sodass
+ *   Dispatch, Future und Logging einmal pro Chunk statt einmal pro Matrix anfallen
+ * - Innerhalb eines Chunks rechnet ein Kernel für kleine Größen ohne Allokation und ohne Logging
+ *
+ * Bei so kleinen Matrizen dominieren sonst supplyAsync, die double[][]-Allokation und das
+ * Logging in multiplyMatrices die eigentliche Rechnung.
+ */
+@Service
+public class BatchedMatrixService {
+
+    // Obergrenze der Matrixgröße, für die der Kernel gedacht ist
+    public static final int MAX_SIZE = 64;
+
+    @Value("${benchmark.batch.chunks-per-worker:4}")
+    private int chunksPerWorker;
+
+    private final ThreadModelExecutors executors;
+
+    @Autowired
+    public BatchedMatrixService(ThreadModelExecutors executors) {
+        this.executors = executors;
+    }
+
+    /**
+     * Erzeugt count zufällige Matrizen der Größe size, gepackt in ein Array
+     */
+    public double[] createRandomBatch(int size, int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double[] batch = new double[count * size * size];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = random.nextDouble() * 10;
+        }
+        return batch;
+    }
+
+    /**
+     * Matrizen je Chunk: bei chunkSize > 0 dieser Wert, sonst so, dass jeder Prozessor
+     * etwa chunks-per-worker Chunks erhält
+     */
+    public int resolveChunkSize(int count, int chunkSize) {
+        if (chunkSize > 0) {
+            return chunkSize;
+        }
+        int chunks = Math.max(1, Runtime.getRuntime().availableProcessors() * Math.max(1, chunksPerWorker));
+        return Math.max(1, (count + chunks - 1) / chunks);
+    }
+
+    /**
+     * Multipliziert den gesamten Stapel im aufrufenden Thread
+     *
+     * @return gepackte Ergebnisse C[m] = A[m] · B[m]
+     */
+    public double[] multiplyBatch(double[] a, double[] b, int size, int count) {
+        double[] c = new double[count * size * size];
+        multiplyRange(a, b, c, size, 0, count);
+        return c;
+    }
+
+    /**
+     * Multipliziert den Stapel in Chunks auf dem Executor des Thread-Modells
+     *
+     * @param chunkSize Matrizen je Chunk (0 = automatisch)
+     */
+    public CompletableFuture<double[]> multiplyBatch(ThreadModel threadModel, double[] a, double[] b, int size,
+                                                     int count, int chunkSize) {
+        double[] c = new double[count * size * size];
+        int chunk = resolveChunkSize(count, chunkSize);
+        CompletableFuture<?>[] chunks = new CompletableFuture<?>[(count + chunk - 1) / chunk];
+        for (int i = 0; i < chunks.length; i++) {
+            int from = i * chunk;
+            chunks[i] = multiplyChunk(threadModel, a, b, c, size, from, Math.min(count, from + chunk));
+        }
+        return CompletableFuture.allOf(chunks).thenApply(ignored -> c);
+    }
+
+    /**
+     * Multipliziert die Matrizen [from, to) des Stapels als eine Aufgabe des Thread-Modells
+     *
+     * @param c gepacktes Ergebnis; jeder Chunk schreibt nur in seinen eigenen Bereich
+     */
+    public CompletableFuture<Void> multiplyChunk(ThreadModel threadModel, double[] a, double[] b, double[] c,
+                                                 int size, int from, int to) {
+        return CompletableFuture.runAsync(() -> multiplyRange(a, b, c, size, from, to),
+                executors.executorFor(threadModel));
+    }
+
+    /**
+     * Kernel für kleine Matrizen: i-k-j-Reihenfolge direkt auf den gepackten Arrays,
+     * innere Schleife vierfach entrollt; c muss im Bereich [from, to) mit 0 belegt sein
+     */
+    static void multiplyRange(double[] a, double[] b, double[] c, int size, int from, int to) {
+        int elements = size * size;
+        int unrolled = size & ~3;
+        for (int m = from; m < to; m++) {
+            int base = m * elements;
+            for (int i = 0; i < size; i++) {
+                int aRow = base + i * size;
+                int cRow = aRow;
+                for (int k = 0; k < size; k++) {
+                    double value = a[aRow + k];
+                    int bRow = base + k * size;
+                    int j = 0;
+                    for (; j < unrolled; j += 4) {
+                        c[cRow + j] += value * b[bRow + j];
+                        c[cRow + j + 1] += value * b[bRow + j + 1];
+                        c[cRow + j + 2] += value * b[bRow + j + 2];
+                        c[cRow + j + 3] += value * b[bRow + j + 3];
+                    }
+                    for (; j < size; j++) {
+                        c[cRow + j] += value * b[bRow + j];
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,549 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.model.CalculationRequest;
+import de.haw.hamburg.threaddemo.model.CalculationResponse;
+import de.haw.hamburg.threaddemo.model.CsrMatrix;
+import de.haw.hamburg.threaddemo.model.GcImpact;
+import de.haw.hamburg.threaddemo.model.LockMode;
+import de.haw.hamburg.threaddemo.model.MatrixAlgorithm;
+import de.haw.hamburg.threaddemo.model.MatrixPrecision;
+import de.haw.hamburg.threaddemo.model.ThreadModel;
+import de.haw.hamburg.threaddemo.service.MemoryMonitorService.MemorySession;
+import de.haw.hamburg.threaddemo.service.MemoryMonitorService.MemorySnapshot;
+import de.haw.hamburg.threaddemo.service.SamplingProfilerService.ProfilingSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service zur Ausführung eines einzelnen Benchmark-Laufs
+ * - Führt CPU-, Sparse-, Batch-, Workload- oder I/O-Test mit dem Executor des gewählten Thread-Modells aus
+ * - Erfasst Ausführungszeit und Speicherverbrauch
+ * - Wird von den Einzel-Endpunkten und vom Modellvergleich gemeinsam genutzt
+ */
+@Service
+public class BenchmarkExecutionService {
+
+    private static final Logger log = LoggerFactory.getLogger(BenchmarkExecutionService.class);
+    private final MatrixCalculationService calculationService;
+    private final SparseMatrixService sparseMatrixService;
+    private final StrassenMatrixService strassenMatrixService;
+    private final BatchedMatrixService batchedMatrixService;
+    private final WorkloadGenerator workloadGenerator;
+    private final IOIntensiveService ioService;
+    private final ReactiveBenchmarkService reactiveService;
+    private final MemoryMonitorService memoryMonitorService;
+    private final BenchmarkResultStore resultStore;
+    private final RegressionDetectionService regressionDetectionService;
+    private final SamplingProfilerService profilerService;
+    private final ThreadStateRecorder threadStateRecorder;
+    private final GcImpactMonitor gcImpactMonitor;
+
+    @Autowired
+    public BenchmarkExecutionService(
+            MatrixCalculationService calculationService,
+            SparseMatrixService sparseMatrixService,
+            StrassenMatrixService strassenMatrixService,
+            BatchedMatrixService batchedMatrixService,
+            WorkloadGenerator workloadGenerator,
+            IOIntensiveService ioService,
+            ReactiveBenchmarkService reactiveService,
+            MemoryMonitorService memoryMonitorService,
+            BenchmarkResultStore resultStore,
+            RegressionDetectionService regressionDetectionService,
+            SamplingProfilerService profilerService,
+            ThreadStateRecorder threadStateRecorder,
+            GcImpactMonitor gcImpactMonitor) {
+        this.calculationService = calculationService;
+        this.sparseMatrixService = sparseMatrixService;
+        this.strassenMatrixService = strassenMatrixService;
+        this.batchedMatrixService = batchedMatrixService;
+        this.workloadGenerator = workloadGenerator;
+        this.ioService = ioService;
+        this.reactiveService = reactiveService;
+        this.memoryMonitorService = memoryMonitorService;
+        this.resultStore = resultStore;
+        this.regressionDetectionService = regressionDetectionService;
+        this.profilerService = profilerService;
+        this.threadStateRecorder = threadStateRecorder;
+        this.gcImpactMonitor = gcImpactMonitor;
+    }
+
+    /**
+     * Führt einen vollständigen Benchmark-Lauf mit dem angegebenen Thread-Modell durch,
+     * speichert das Ergebnis und prüft es auf Regressionen
+     */
+    public CalculationResponse execute(ThreadModel threadModel, CalculationRequest request) {
+        return execute(threadModel, request, true);
+    }
+
+    /**
+     * Führt einen Benchmark-Lauf durch
+     *
+     * @param record false für Aufwärmdurchläufe, die weder gespeichert noch bewertet werden
+     */
+    public CalculationResponse execute(ThreadModel threadModel, CalculationRequest request, boolean record) {
+        LockMode lockMode = LockMode.fromName(request.getLockMode());
+        MatrixPrecision precision = MatrixPrecision.fromName(request.getPrecision());
+        MatrixAlgorithm algorithm = MatrixAlgorithm.fromName(request.getAlgorithm());
+        if (lockMode != LockMode.NONE && threadModel == ThreadModel.REACTIVE) {
+            throw new IllegalArgumentException("lockMode wird vom reaktiven Modell nicht unterstützt");
+        }
+        if (algorithm == MatrixAlgorithm.STRASSEN && precision != MatrixPrecision.DOUBLE) {
+            throw new IllegalArgumentException("algorithm strassen ist nur mit precision double verfügbar");
+        }
+        if ("sparse".equalsIgnoreCase(request.getTestType())
+                && (request.getDensity() <= 0 || request.getDensity() > 1)) {
+            throw new IllegalArgumentException("density muss in (0, 1] liegen: " + request.getDensity());
+        }
+        if ("batch".equalsIgnoreCase(request.getTestType())
+                && (request.getMatrixSize() < 1 || request.getMatrixSize() > BatchedMatrixService.MAX_SIZE)) {
+            throw new IllegalArgumentException("matrixSize muss im Batch-Test zwischen 1 und "
+                    + BatchedMatrixService.MAX_SIZE + " liegen: " + request.getMatrixSize());
+        }
+        if ("workload".equalsIgnoreCase(request.getTestType())) {
+            workloadGenerator.validate(request.getWorkload());
+        }
+        String runId = UUID.randomUUID().toString();
+        long[] taskNanos = new long[request.getParallelTasks()];
+        AtomicInteger failedTasks = new AtomicInteger();
+
+        // Starte Speicherüberwachung
+        MemorySession memorySession = memoryMonitorService.startMonitoring();
+        MemorySnapshot memoryBefore = memorySession.getBefore();
+        ScheduledExecutorService memoryMonitor = startMemoryMonitoring(memorySession);
+
+        // Optional: CPU-Profil der Executor-Threads aufzeichnen
+        ProfilingSession profilingSession = record && request.isProfile()
+                ? profilerService.start(runId, threadModel.getDisplayName())
+                : null;
+
+        // Garbage Collections während des Laufs diesem zurechnen
+        GcImpactMonitor.GcSession gcSession = gcImpactMonitor.start(runId);
+        long startTime = System.currentTimeMillis();
+        long endTime;
+        GcImpact gcImpact;
+
+        try {
+            if ("cpu".equalsIgnoreCase(request.getTestType())) {
+                // CPU-intensiver Test (Matrix-Multiplikation)
+                executeCPUTest(threadModel, request, taskNanos, failedTasks);
+            } else if ("sparse".equalsIgnoreCase(request.getTestType())) {
+                // Speichergebundener Test mit dünn besetzten Matrizen
+                executeSparseTest(threadModel, request, taskNanos, failedTasks);
+            } else if ("batch".equalsIgnoreCase(request.getTestType())) {
+                // Viele kleine Matrizen, gebündelt in Chunks
+                executeBatchTest(threadModel, request, taskNanos, failedTasks);
+            } else if ("workload".equalsIgnoreCase(request.getTestType())) {
+                // Synthetische Aufgaben zwischen Rechenlast und I/O
+                executeWorkloadTest(threadModel, request, taskNanos, failedTasks);
+            } else {
+                // I/O-intensiver Test
+                executeIOTest(threadModel, request, taskNanos, failedTasks);
+            }
+
+            endTime = System.currentTimeMillis();
+            gcImpact = gcImpactMonitor.stop(runId, gcSession, endTime - startTime);
+        } finally {
+            // Auch bei Fehlern: GC-Sitzung verwerfen (nach stop wirkungslos), Profiler anhalten
+            // und den nicht als Daemon laufenden Speicher-Monitor beenden
+            gcImpactMonitor.cancel(runId);
+            if (profilingSession != null) {
+                profilerService.stop(profilingSession);
+            }
+            memoryMonitor.shutdown();
+        }
+
+        // Beende Speicherüberwachung
+        MemorySnapshot memoryAfter = memoryMonitorService.stopMonitoring(memorySession);
+
+        CalculationResponse response = buildResponse(request, threadModel.getDisplayName(), startTime, endTime,
+                            memoryBefore, memoryAfter);
+        response.setRunId(runId);
+        response.setGcImpact(gcImpact);
+        response.setTimestamp(startTime);
+        response.setP50TaskTimeMs(percentileMs(taskNanos, 50));
+        response.setP99TaskTimeMs(percentileMs(taskNanos, 99));
+        response.setProfiled(profilingSession != null);
+        response.setFailedTasks(failedTasks.get());
+        if (request.isIncludeTaskTimes()) {
+            response.setTaskTimesNanos(taskNanos);
+        }
+        if ("cpu".equalsIgnoreCase(request.getTestType()) && precision != MatrixPrecision.DOUBLE) {
+            // Außerhalb der Zeitmessung: Fehler gegenüber double an einem Matrixpaar gleicher Größe
+            response.setPrecisionError(calculationService.measurePrecisionError(request.getMatrixSize(), precision,
+                    algorithm));
+        } else if ("cpu".equalsIgnoreCase(request.getTestType()) && algorithm == MatrixAlgorithm.STRASSEN) {
+            // Ebenso der Fehler von Strassen gegenüber der klassischen Multiplikation
+            response.setPrecisionError(strassenMatrixService.measureError(request.getMatrixSize()));
+        }
+        if (record) {
+            resultStore.append(response);
+            threadStateRecorder.registerRun(response);
+            response.setRegression(regressionDetectionService.evaluate(List.of(response)));
+        }
+        return response;
+    }
+
+    /**
+     * Führt einen CPU-intensiven Test durch
+     */
+    private void executeCPUTest(ThreadModel threadModel, CalculationRequest request, long[] taskNanos,
+                                AtomicInteger failedTasks) {
+        MatrixPrecision precision = MatrixPrecision.fromName(request.getPrecision());
+        MatrixAlgorithm algorithm = MatrixAlgorithm.fromName(request.getAlgorithm());
+        if (precision != MatrixPrecision.DOUBLE) {
+            executeFloatCPUTest(threadModel, request, precision, algorithm, taskNanos, failedTasks);
+            return;
+        }
+        List<CompletableFuture<double[][]>> futures = new ArrayList<>();
+
+        for (int i = 0; i < request.getParallelTasks(); i++) {
+            double[][] matrixA = calculationService.createRandomMatrix(request.getMatrixSize());
+            double[][] matrixB = calculationService.createRandomMatrix(request.getMatrixSize());
+
+            long submitted = System.nanoTime();
+            CompletableFuture<double[][]> future = null;
+            try {
+                if (algorithm == MatrixAlgorithm.STRASSEN) {
+                    future = strassenMatrixService.multiply(threadModel, matrixA, matrixB);
+                } else if (algorithm == MatrixAlgorithm.IKJ) {
+                    future = calculationService.multiplyMatricesIkj(threadModel, matrixA, matrixB);
+                } else {
+                    switch (threadModel) {
+                        case PLATFORM:
+                            future = calculationService.multiplyMatricesWithPlatformThreads(matrixA, matrixB);
+                            break;
+                        case VIRTUAL:
+                            future = calculationService.multiplyMatricesWithVirtualThreads(matrixA, matrixB);
+                            break;
+                        case LIMITED:
+                            future = calculationService.multiplyMatricesWithLimitedThreads(matrixA, matrixB);
+                            break;
+                        case OPTIMIZED:
+                            future = calculationService.multiplyMatricesWithOptimizedThreads(matrixA, matrixB);
+                            break;
+                        case BOUNDED_VIRTUAL:
+                            future = calculationService.multiplyMatricesWithBoundedVirtualThreads(matrixA, matrixB);
+                            break;
+                        case REACTIVE:
+                            future = reactiveService.multiplyMatrices(matrixA, matrixB);
+                            break;
+                    }
+                }
+            } catch (RejectedExecutionException e) {
+                // Voller Pool: Aufgabe als fehlgeschlagen werten, statt auf ein nie abgeschlossenes Future zu warten
+                future = CompletableFuture.failedFuture(e);
+            }
+
+            if (future != null) {
+                futures.add(recordTaskTime(future, taskNanos, i, submitted, failedTasks));
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error during CPU test execution", e);
+        }
+    }
+
+    /**
+     * CPU-Test mit float-Speicherung (float- oder double-Akkumulation)
+     */
+    private void executeFloatCPUTest(ThreadModel threadModel, CalculationRequest request, MatrixPrecision precision,
+                                     MatrixAlgorithm algorithm, long[] taskNanos, AtomicInteger failedTasks) {
+        int size = request.getMatrixSize();
+        List<CompletableFuture<float[]>> futures = new ArrayList<>();
+
+        for (int i = 0; i < request.getParallelTasks(); i++) {
+            float[] matrixA = calculationService.createRandomFloatMatrix(size);
+            float[] matrixB = calculationService.createRandomFloatMatrix(size);
+
+            long submitted = System.nanoTime();
+            CompletableFuture<float[]> future;
+            try {
+                future = calculationService.multiplyFloatMatrices(threadModel, matrixA, matrixB, size, precision,
+                        algorithm);
+            } catch (RejectedExecutionException e) {
+                // Voller Pool: Aufgabe als fehlgeschlagen werten, statt auf ein nie abgeschlossenes Future zu warten
+                future = CompletableFuture.failedFuture(e);
+            }
+            futures.add(recordTaskTime(future, taskNanos, i, submitted, failedTasks));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error during CPU test execution", e);
+        }
+    }
+
+    /**
+     * Führt einen Test mit dünn besetzten Matrizen durch (SpGEMM, SpMV über CSR und CSC)
+     */
+    private void executeSparseTest(ThreadModel threadModel, CalculationRequest request, long[] taskNanos,
+                                   AtomicInteger failedTasks) {
+        List<CompletableFuture<Double>> futures = new ArrayList<>();
+
+        for (int i = 0; i < request.getParallelTasks(); i++) {
+            CsrMatrix matrixA = sparseMatrixService.createRandomSparseMatrix(request.getMatrixSize(), request.getDensity());
+            CsrMatrix matrixB = sparseMatrixService.createRandomSparseMatrix(request.getMatrixSize(), request.getDensity());
+            double[] vector = sparseMatrixService.createRandomVector(request.getMatrixSize());
+
+            long submitted = System.nanoTime();
+            CompletableFuture<Double> future;
+            try {
+                future = sparseMatrixService.runSparseTask(threadModel, matrixA, matrixB, vector);
+            } catch (RejectedExecutionException e) {
+                // Voller Pool: Aufgabe als fehlgeschlagen werten, statt auf ein nie abgeschlossenes Future zu warten
+                future = CompletableFuture.failedFuture(e);
+            }
+            futures.add(recordTaskTime(future, taskNanos, i, submitted, failedTasks));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error during sparse test execution", e);
+        }
+    }
+
+    /**
+     * Führt einen Test mit vielen kleinen Matrizen durch (parallelTasks = Anzahl Matrizen)
+     * - Eine Aufgabe des Thread-Modells je Chunk statt je Matrix
+     * - Jede Matrix eines Chunks erhält die Dauer des Chunks von der Übergabe bis zum Abschluss,
+     *   da ihr Ergebnis erst dann vorliegt
+     */
+    private void executeBatchTest(ThreadModel threadModel, CalculationRequest request, long[] taskNanos,
+                                  AtomicInteger failedTasks) {
+        int size = request.getMatrixSize();
+        int count = request.getParallelTasks();
+        double[] matrixA = batchedMatrixService.createRandomBatch(size, count);
+        double[] matrixB = batchedMatrixService.createRandomBatch(size, count);
+        double[] result = new double[matrixA.length];
+        int chunkSize = batchedMatrixService.resolveChunkSize(count, request.getBatchChunkSize());
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int from = 0; from < count; from += chunkSize) {
+            int start = from;
+            int end = Math.min(count, from + chunkSize);
+            long submitted = System.nanoTime();
+            CompletableFuture<Void> future;
+            try {
+                future = batchedMatrixService.multiplyChunk(threadModel, matrixA, matrixB, result, size, start, end);
+            } catch (RejectedExecutionException e) {
+                // Voller Pool: alle Matrizen des Chunks als fehlgeschlagen werten
+                future = CompletableFuture.failedFuture(e);
+            }
+            futures.add(future.whenComplete((ignored, error) -> {
+                long nanos = error != null ? -1 : System.nanoTime() - submitted;
+                Arrays.fill(taskNanos, start, end, nanos);
+                if (error != null) {
+                    failedTasks.addAndGet(end - start);
+                }
+            }));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error during batch test execution", e);
+        }
+    }
+
+    /**
+     * Führt einen Test mit Aufgaben aus der WorkloadDefinition der Anfrage durch
+     */
+    private void executeWorkloadTest(ThreadModel threadModel, CalculationRequest request, long[] taskNanos,
+                                     AtomicInteger failedTasks) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int i = 0; i < request.getParallelTasks(); i++) {
+            long submitted = System.nanoTime();
+            CompletableFuture<Void> future;
+            try {
+                future = workloadGenerator.run(threadModel, request.getWorkload());
+            } catch (RejectedExecutionException e) {
+                // Voller Pool: Aufgabe als fehlgeschlagen werten, statt auf ein nie abgeschlossenes Future zu warten
+                future = CompletableFuture.failedFuture(e);
+            }
+            futures.add(recordTaskTime(future, taskNanos, i, submitted, failedTasks));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error during workload test execution", e);
+        }
+    }
+
+    /**
+     * Führt einen I/O-intensiven Test durch
+     */
+    private void executeIOTest(ThreadModel threadModel, CalculationRequest request, long[] taskNanos,
+                               AtomicInteger failedTasks) {
+        LockMode lockMode = LockMode.fromName(request.getLockMode());
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int i = 0; i < request.getParallelTasks(); i++) {
+            long submitted = System.nanoTime();
+            CompletableFuture<Void> future = null;
+            try {
+                if (lockMode != LockMode.NONE) {
+                    // Alle Aufgaben teilen sich eine per Lock geschützte Ressource
+                    future = ioService.performContendedIOTest(threadModel, 5, request.getFileSizeKB(), lockMode);
+                } else {
+                    future = startMixedIOTest(threadModel, request.getFileSizeKB());
+                }
+            } catch (RejectedExecutionException e) {
+                // Voller Pool: Aufgabe als fehlgeschlagen werten, statt auf ein nie abgeschlossenes Future zu warten
+                future = CompletableFuture.failedFuture(e);
+            }
+
+            if (future != null) {
+                futures.add(recordTaskTime(future, taskNanos, i, submitted, failedTasks));
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error during I/O test execution", e);
+        }
+    }
+
+    /**
+     * Startet eine Aufgabe des gemischten I/O-Tests auf dem Executor des Thread-Modells
+     */
+    private CompletableFuture<Void> startMixedIOTest(ThreadModel threadModel, int fileSizeKB) {
+        switch (threadModel) {
+            case PLATFORM:
+                return ioService.performMixedIOTestWithPlatformThreads(5, fileSizeKB);
+            case VIRTUAL:
+                return ioService.performMixedIOTestWithVirtualThreads(5, fileSizeKB);
+            case LIMITED:
+                return ioService.performMixedIOTestWithLimitedThreads(5, fileSizeKB);
+            case OPTIMIZED:
+                return ioService.performMixedIOTestWithOptimizedThreads(5, fileSizeKB);
+            case BOUNDED_VIRTUAL:
+                return ioService.performMixedIOTestWithBoundedVirtualThreads(5, fileSizeKB);
+            case REACTIVE:
+                return reactiveService.performMixedIOTest(5, fileSizeKB);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Erfasst die Dauer einer Aufgabe von der Übergabe an den Executor bis zum Abschluss
+     * - Wartezeit in der Queue zählt mit, damit p99 auch Überlast sichtbar macht
+     * - Abgelehnte oder mit Exception beendete Aufgaben werden mitgezählt
+     */
+    private <T> CompletableFuture<T> recordTaskTime(CompletableFuture<T> future, long[] taskNanos,
+                                                    int index, long submitted, AtomicInteger failedTasks) {
+        return future.whenComplete((result, error) -> {
+            if (error != null) {
+                // Fehlgeschlagene Aufgaben gehen nicht in die Perzentile ein
+                taskNanos[index] = -1;
+                failedTasks.incrementAndGet();
+            } else {
+                taskNanos[index] = System.nanoTime() - submitted;
+            }
+        });
+    }
+
+    /**
+     * Perzentil der Aufgabendauer in Millisekunden
+     */
+    private double percentileMs(long[] taskNanos, double percentile) {
+        return BenchmarkStatistics.percentile(Arrays.stream(taskNanos)
+                .filter(nanos -> nanos >= 0)
+                .mapToDouble(nanos -> nanos / 1_000_000.0)
+                .toArray(), percentile);
+    }
+
+    /**
+     * Startet die Speicherüberwachung in einem separaten Thread
+     */
+    private ScheduledExecutorService startMemoryMonitoring(MemorySession memorySession) {
+        ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1);
+        scheduler.scheduleAtFixedRate(
+            () -> memoryMonitorService.updatePeakMemory(memorySession),
+            100, 100, TimeUnit.MILLISECONDS
+        );
+        return scheduler;
+    }
+
+    /**
+     * Erstellt eine Response mit den Ergebnissen des Tests
+     */
+    private CalculationResponse buildResponse(
+            CalculationRequest request,
+            String threadModel,
+            long startTime,
+            long endTime,
+            MemorySnapshot memoryBefore,
+            MemorySnapshot memoryAfter) {
+
+        // Contention-Läufe bilden eigene Testtypen, damit sie nicht in die Vergleichsbasis normaler I/O-Läufe fallen
+        String testType = request.getTestType();
+        LockMode lockMode = LockMode.fromName(request.getLockMode());
+        MatrixPrecision precision = MatrixPrecision.fromName(request.getPrecision());
+        MatrixAlgorithm algorithm = MatrixAlgorithm.fromName(request.getAlgorithm());
+        if ("sparse".equalsIgnoreCase(testType)) {
+            // Ebenso Sparse-Läufe je Dichte, Workload-Läufe je Definition und CPU-Läufe je Zahlenformat
+            // und Algorithmus (z. B. cpu-float, cpu-strassen, cpu-float-ikj); cpu bleibt der klassische Kernel
+            testType = testType + "-" + request.getDensity();
+        } else if ("workload".equalsIgnoreCase(testType)) {
+            testType = testType + "-" + WorkloadGenerator.key(request.getWorkload());
+        } else if ("cpu".equalsIgnoreCase(testType)) {
+            if (precision != MatrixPrecision.DOUBLE) {
+                testType = testType + "-" + precision.getKey();
+            }
+            if (algorithm != MatrixAlgorithm.CLASSIC) {
+                testType = testType + "-" + algorithm.getKey();
+            }
+        } else if (!"cpu".equalsIgnoreCase(testType) && lockMode != LockMode.NONE) {
+            testType = testType + "-" + lockMode.getKey();
+        }
+
+        return CalculationResponse.builder()
+                .threadModel(threadModel)
+                .testType(testType)
+                .matrixSize(request.getMatrixSize())
+                .fileSizeKB(request.getFileSizeKB())
+                .parallelTasks(request.getParallelTasks())
+                .totalExecutionTimeMs(endTime - startTime)
+                .memoryBeforeMB(memoryBefore.getTotalMemoryUsageMB())
+                .memoryPeakMB(memoryAfter.getPeakMemoryUsageMB())
+                .memoryAfterMB(memoryAfter.getTotalMemoryUsageMB())
+                .rssBeforeMB(memoryBefore.getRssMB())
+                .rssPeakMB(memoryAfter.getPeakRssMB())
+                .rssAfterMB(memoryAfter.getRssMB())
+                .pssBeforeMB(memoryBefore.getPssMB())
+                .pssAfterMB(memoryAfter.getPssMB())
+                .directBufferBeforeMB(memoryBefore.getDirectBufferMB())
+                .directBufferAfterMB(memoryAfter.getDirectBufferMB())
+                .mappedBufferBeforeMB(memoryBefore.getMappedBufferMB())
+                .mappedBufferAfterMB(memoryAfter.getMappedBufferMB())
+                .nmtThreadBeforeMB(memoryBefore.getNmtThreadMB())
+                .nmtThreadAfterMB(memoryAfter.getNmtThreadMB())
+                .nmtCommittedBeforeMB(memoryBefore.getNmtCommittedMB())
+                .nmtCommittedAfterMB(memoryAfter.getNmtCommittedMB())
+                .build();
+    }
+}
@@ -0,0 +1,205 @@
+package de.haw.hamburg.threaddemo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.haw.hamburg.threaddemo.model.CalculationRequest;
+import de.haw.hamburg.threaddemo.model.RequestCacheStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Zusammenführung gleicher Benchmark-Anfragen (Single-Flight) mit Ergebnis-Cache
+ * - Schlüssel: Endpunkt und alle Felder der Anfrage außer force und priority
+ * - Trifft eine Anfrage auf eine laufende Ausführung mit gleichem Schlüssel, wartet sie
+ *   auf deren Ergebnis, statt einen zweiten, konkurrierenden Lauf zu starten
+ * - Abgeschlossene Ergebnisse bleiben für eine begrenzte Zeit (TTL) und bis zu einer
+ *   Höchstzahl von Einträgen (LRU) im Cache
+ * - force=true führt immer einen eigenen Lauf aus und ersetzt danach den Cache-Eintrag
+ *
+ * Fehlgeschlagene Läufe werden nicht zwischengespeichert; wartende Duplikate erhalten denselben Fehler.
+ */
+@Service
+public class BenchmarkRequestCoalescer {
+
+    private static final Logger log = LoggerFactory.getLogger(BenchmarkRequestCoalescer.class);
+
+    @Value("${benchmark.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${benchmark.cache.max-entries:100}")
+    private int maxEntries;
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    // LRU-Reihenfolge (accessOrder), nur unter dem Monitor des Cache verändert
+    private final LinkedHashMap<String, CachedResult> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong forced = new AtomicLong();
+
+    @Autowired
+    public BenchmarkRequestCoalescer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Liefert das Ergebnis aus dem Cache, aus einer laufenden Ausführung oder aus einem neuen Lauf
+     *
+     * @param endpoint Endpunkt samt eventueller Query-Parameter, die das Ergebnis beeinflussen
+     * @param run      führt den Lauf im aufrufenden Thread aus
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String endpoint, CalculationRequest request, Supplier<T> run) {
+        String key = key(endpoint, request);
+
+        if (request.isForce()) {
+            forced.incrementAndGet();
+            T result = runAndCount(run);
+            store(key, result);
+            return result;
+        }
+
+        Object cached = lookup(key);
+        if (cached != null) {
+            cacheHits.incrementAndGet();
+            log.debug("Ergebnis für {} aus dem Cache", endpoint);
+            return (T) cached;
+        }
+
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            coalesced.incrementAndGet();
+            log.info("Gleiche Anfrage an {} läuft bereits, warte auf deren Ergebnis", endpoint);
+            return (T) join(running);
+        }
+
+        try {
+            T result = runAndCount(run);
+            store(key, result);
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    public RequestCacheStatus status() {
+        RequestCacheStatus status = new RequestCacheStatus();
+        synchronized (cache) {
+            evictExpired(System.currentTimeMillis());
+            status.setEntries(cache.size());
+        }
+        status.setMaxEntries(maxEntries);
+        status.setTtlSeconds(ttlSeconds);
+        status.setInFlight(inFlight.size());
+        status.setExecutions(executions.get());
+        status.setCacheHits(cacheHits.get());
+        status.setCoalesced(coalesced.get());
+        status.setForced(forced.get());
+        return status;
+    }
+
+    /**
+     * Leert den Cache; laufende Ausführungen sind nicht betroffen
+     */
+    public int clear() {
+        synchronized (cache) {
+            int size = cache.size();
+            cache.clear();
+            return size;
+        }
+    }
+
+    private <T> T runAndCount(Supplier<T> run) {
+        executions.incrementAndGet();
+        return run.get();
+    }
+
+    private static Object join(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } catch (CancellationException e) {
+            throw new IllegalStateException("Laufende Ausführung wurde abgebrochen", e);
+        }
+    }
+
+    private Object lookup(String key) {
+        synchronized (cache) {
+            CachedResult entry = cache.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.currentTimeMillis() - entry.storedAt > ttlSeconds * 1000) {
+                cache.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    private void store(String key, Object value) {
+        if (value == null || maxEntries <= 0 || ttlSeconds <= 0) {
+            return;
+        }
+        synchronized (cache) {
+            long now = System.currentTimeMillis();
+            cache.put(key, new CachedResult(value, now));
+            evictExpired(now);
+            Iterator<String> eldest = cache.keySet().iterator();
+            while (cache.size() > maxEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    private void evictExpired(long now) {
+        cache.values().removeIf(entry -> now - entry.storedAt > ttlSeconds * 1000);
+    }
+
+    /**
+     * Kanonischer Schlüssel: Endpunkt und JSON der Anfrage ohne die Felder force und priority
+     * (die Priorität beeinflusst nur die Reihenfolge der Zulassung, nicht das Ergebnis)
+     */
+    private String key(String endpoint, CalculationRequest request) {
+        ObjectNode node = objectMapper.valueToTree(request);
+        node.remove("force");
+        node.remove("priority");
+        return endpoint + "|" + node;
+    }
+
+    private static final class CachedResult {
+        final Object value;
+        final long storedAt;
+
+        CachedResult(Object value, long storedAt) {
+            this.value = value;
+            this.storedAt = storedAt;
+        }
+    }
+}
@@ -0,0 +1,481 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.model.BenchmarkModelSummary;
+import de.haw.hamburg.threaddemo.model.BenchmarkTrendPoint;
+import de.haw.hamburg.threaddemo.model.CalculationResponse;
+import de.haw.hamburg.threaddemo.model.CompactionResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Persistenter Speicher für Benchmark-Ergebnisse ohne externe Datenbank
+ * - Jeder Lauf wird als kompakter Binärdatensatz an ein memory-mapped Log angehängt
+ * - Thread-Modell und Testtyp werden über ein Wörterbuch als int-IDs gespeichert
+ * - Ein In-Memory-Index aus primitiven Arrays (Position, Zeitstempel, Modell, Testtyp)
+ *   erlaubt Abfragen nach Modell, Testtyp und Zeitraum ohne Deserialisierung aller Datensätze
+ * - Kompaktierung schreibt nur die noch benötigten Datensätze in eine neue Datei
+ */
+@Service
+public class BenchmarkResultStore {
+
+    private static final Logger log = LoggerFactory.getLogger(BenchmarkResultStore.class);
+
+    private static final byte KIND_DICTIONARY = 1;
+    private static final byte KIND_RESULT = 2;
+    private static final byte RESULT_VERSION = 2;
+    private static final int RESULT_SIZE_V2 = 94;
+    private static final String FILE_NAME = "results.log";
+
+    @Value("${benchmark.store.enabled:true}")
+    private boolean enabled;
+
+    @Value("${benchmark.store.dir:./benchmark-store}")
+    private String storeDir;
+
+    @Value("${benchmark.store.segment-size-mb:64}")
+    private int segmentSizeMB;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private MappedRecordLog recordLog;
+
+    // Wörterbuch für wiederkehrende Zeichenketten
+    private final List<String> dictionary = new ArrayList<>();
+    private final Map<String, Integer> dictionaryIds = new HashMap<>();
+
+    // Index in primitiven Arrays, Einträge in Einfügereihenfolge
+    private long[] positions = new long[1024];
+    private long[] timestamps = new long[1024];
+    private int[] modelIds = new int[1024];
+    private int[] testTypeIds = new int[1024];
+    private int size;
+
+    // Indexeinträge je (Modell, Testtyp)
+    private final Map<Long, IntList> byKey = new HashMap<>();
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!enabled) {
+            log.info("Ergebnisspeicher deaktiviert");
+            return;
+        }
+        Path dir = Paths.get(storeDir);
+        Files.createDirectories(dir);
+        recordLog = openLog(dir.resolve(FILE_NAME));
+        log.info("Ergebnisspeicher geöffnet: {} ({} Läufe)", recordLog.getPath().toAbsolutePath(), size);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (recordLog != null) {
+                recordLog.close();
+                recordLog = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Speichert das Ergebnis eines Laufs
+     */
+    public void append(CalculationResponse response) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int modelId = dictionaryId(response.getThreadModel());
+            int testTypeId = dictionaryId(response.getTestType());
+            long position = recordLog.append(encodeResult(response, modelId, testTypeId));
+            addToIndex(position, response.getTimestamp(), modelId, testTypeId);
+        } catch (IOException e) {
+            log.error("Ergebnis {} konnte nicht gespeichert werden: {}", response.getRunId(), e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Liefert gespeicherte Läufe, jüngste zuerst
+     *
+     * @param threadModel Anzeigename des Modells oder null für alle
+     * @param testType    Testtyp oder null für alle
+     * @param from        Beginn des Zeitraums (inklusive, Epoch-Millisekunden)
+     * @param to          Ende des Zeitraums (exklusive, Epoch-Millisekunden)
+     * @param limit       maximale Anzahl der Ergebnisse
+     */
+    public List<CalculationResponse> findRuns(String threadModel, String testType, long from, long to, int limit) {
+        return findRuns(threadModel, testType, from, to, limit, run -> true);
+    }
+
+    /**
+     * Liefert gespeicherte Läufe, jüngste zuerst, die zusätzlich den Filter erfüllen
+     */
+    public List<CalculationResponse> findRuns(String threadModel, String testType, long from, long to, int limit,
+                                              Predicate<CalculationResponse> filter) {
+        List<CalculationResponse> results = new ArrayList<>();
+        if (!enabled) {
+            return results;
+        }
+        lock.readLock().lock();
+        try {
+            int[] matches = matchingEntries(threadModel, testType, from, to);
+            for (int i = matches.length - 1; i >= 0 && results.size() < limit; i--) {
+                CalculationResponse run = decodeResult(recordLog.read(positions[matches[i]]));
+                if (filter.test(run)) {
+                    results.add(run);
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Verlauf eines Modells, zusammengefasst in Zeit-Buckets
+     */
+    public List<BenchmarkTrendPoint> trend(String threadModel, String testType, long from, long to, long bucketMs) {
+        Map<Long, List<CalculationResponse>> buckets = new TreeMap<>();
+        for (CalculationResponse run : findRuns(threadModel, testType, from, to, Integer.MAX_VALUE)) {
+            long bucketStart = run.getTimestamp() - Math.floorMod(run.getTimestamp(), bucketMs);
+            buckets.computeIfAbsent(bucketStart, k -> new ArrayList<>()).add(run);
+        }
+
+        List<BenchmarkTrendPoint> points = new ArrayList<>();
+        for (Map.Entry<Long, List<CalculationResponse>> bucket : buckets.entrySet()) {
+            List<CalculationResponse> runs = bucket.getValue();
+            long[] times = runs.stream().mapToLong(CalculationResponse::getTotalExecutionTimeMs).toArray();
+            BenchmarkTrendPoint point = new BenchmarkTrendPoint();
+            point.setBucketStart(bucket.getKey());
+            point.setRuns(runs.size());
+            point.setMeanExecutionTimeMs(BenchmarkStatistics.mean(times));
+            point.setMinExecutionTimeMs(Arrays.stream(times).min().orElse(0));
+            point.setMaxExecutionTimeMs(Arrays.stream(times).max().orElse(0));
+            point.setMeanTasksPerSecond(runs.stream().mapToDouble(BenchmarkResultStore::tasksPerSecond).average().orElse(0));
+            points.add(point);
+        }
+        return points;
+    }
+
+    /**
+     * Vergleicht alle gespeicherten Modelle eines Testtyps im Zeitraum
+     */
+    public List<BenchmarkModelSummary> compareModels(String testType, long from, long to) {
+        Map<String, List<CalculationResponse>> byModel = new LinkedHashMap<>();
+        List<CalculationResponse> runs = findRuns(null, testType, from, to, Integer.MAX_VALUE);
+        for (int i = runs.size() - 1; i >= 0; i--) {
+            CalculationResponse run = runs.get(i);
+            byModel.computeIfAbsent(run.getThreadModel() + "|" + run.getTestType(), k -> new ArrayList<>()).add(run);
+        }
+
+        List<BenchmarkModelSummary> summaries = new ArrayList<>();
+        for (List<CalculationResponse> modelRuns : byModel.values()) {
+            long[] times = modelRuns.stream().mapToLong(CalculationResponse::getTotalExecutionTimeMs).toArray();
+            CalculationResponse last = modelRuns.get(modelRuns.size() - 1);
+            BenchmarkModelSummary summary = new BenchmarkModelSummary();
+            summary.setThreadModel(last.getThreadModel());
+            summary.setTestType(last.getTestType());
+            summary.setRuns(modelRuns.size());
+            summary.setMeanExecutionTimeMs(BenchmarkStatistics.mean(times));
+            summary.setStdDevExecutionTimeMs(BenchmarkStatistics.stdDev(times));
+            summary.setMeanTasksPerSecond(modelRuns.stream().mapToDouble(BenchmarkResultStore::tasksPerSecond).average().orElse(0));
+            summary.setLastRunTimestamp(last.getTimestamp());
+            summary.setLastExecutionTimeMs(last.getTotalExecutionTimeMs());
+            summaries.add(summary);
+        }
+        return summaries;
+    }
+
+    /**
+     * Anzahl gespeicherter Läufe
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Kompaktiert den Speicher
+     * - Verwirft Läufe, die älter als maxAgeMs sind (0 = keine Altersgrenze)
+     * - Behält pro (Modell, Testtyp) höchstens maxRecordsPerKey jüngste Läufe (0 = unbegrenzt)
+     * - Schreibt eine neue Datei und ersetzt die alte atomar; schlägt das Ersetzen fehl,
+     *   bleibt die alte Datei geöffnet und die neue wird gelöscht
+     */
+    public CompactionResult compact(long maxAgeMs, int maxRecordsPerKey) throws IOException {
+        CompactionResult result = new CompactionResult();
+        if (!enabled) {
+            return result;
+        }
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            result.setRecordsBefore(size);
+            result.setBytesBefore(recordLog.getWritePosition());
+
+            boolean[] keep = new boolean[size];
+            long cutoff = maxAgeMs > 0 ? started - maxAgeMs : Long.MIN_VALUE;
+            for (IntList entries : byKey.values()) {
+                int kept = 0;
+                for (int i = entries.size - 1; i >= 0; i--) {
+                    int entry = entries.values[i];
+                    if (timestamps[entry] >= cutoff && (maxRecordsPerKey <= 0 || kept < maxRecordsPerKey)) {
+                        keep[entry] = true;
+                        kept++;
+                    }
+                }
+            }
+
+            Path current = recordLog.getPath();
+            Path compacted = current.resolveSibling(FILE_NAME + ".compact");
+            Files.deleteIfExists(compacted);
+            try (MappedRecordLog target = MappedRecordLog.open(compacted, segmentSizeMB * 1024 * 1024, (p, b) -> { })) {
+                // Wörterbuch unverändert übernehmen, damit die IDs in den Datensätzen gültig bleiben
+                for (int id = 0; id < dictionary.size(); id++) {
+                    target.append(encodeDictionaryEntry(id, dictionary.get(id)));
+                }
+                for (int i = 0; i < size; i++) {
+                    if (keep[i]) {
+                        ByteBuffer payload = recordLog.read(positions[i]);
+                        byte[] bytes = new byte[payload.remaining()];
+                        payload.get(bytes);
+                        target.append(bytes);
+                    }
+                }
+            }
+
+            recordLog.close();
+            try {
+                Files.move(compacted, current, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException | RuntimeException e) {
+                // Die alte Datei ist unverändert: wieder öffnen, damit der Speicher benutzbar bleibt
+                recordLog = openLog(current);
+                Files.deleteIfExists(compacted);
+                throw e;
+            }
+            recordLog = openLog(current);
+
+            result.setRecordsAfter(size);
+            result.setBytesAfter(recordLog.getWritePosition());
+            result.setDurationMs(System.currentTimeMillis() - started);
+            log.info("Ergebnisspeicher kompaktiert: {} -> {} Läufe", result.getRecordsBefore(), result.getRecordsAfter());
+            return result;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Öffnet das Log und baut Wörterbuch und Index neu auf
+     */
+    private MappedRecordLog openLog(Path file) throws IOException {
+        dictionary.clear();
+        dictionaryIds.clear();
+        byKey.clear();
+        size = 0;
+        return MappedRecordLog.open(file, segmentSizeMB * 1024 * 1024, (position, payload) -> {
+            byte kind = payload.get(0);
+            if (kind == KIND_DICTIONARY) {
+                int id = payload.getInt(1);
+                byte[] bytes = new byte[payload.getShort(5)];
+                payload.get(7, bytes);
+                String value = new String(bytes, StandardCharsets.UTF_8);
+                while (dictionary.size() <= id) {
+                    dictionary.add(null);
+                }
+                dictionary.set(id, value);
+                dictionaryIds.put(value, id);
+            } else if (kind == KIND_RESULT) {
+                // Index-Felder stehen bei allen Versionen an festen Positionen
+                addToIndex(position, payload.getLong(2), payload.getInt(26), payload.getInt(30));
+            }
+        });
+    }
+
+    /**
+     * Liefert die ID einer Zeichenkette und legt bei Bedarf einen Wörterbucheintrag an
+     */
+    private int dictionaryId(String value) throws IOException {
+        String key = value != null ? value : "";
+        Integer id = dictionaryIds.get(key);
+        if (id == null) {
+            id = dictionary.size();
+            recordLog.append(encodeDictionaryEntry(id, key));
+            dictionary.add(key);
+            dictionaryIds.put(key, id);
+        }
+        return id;
+    }
+
+    private byte[] encodeDictionaryEntry(int id, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(7 + bytes.length);
+        buffer.put(KIND_DICTIONARY);
+        buffer.putInt(id);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+        return buffer.array();
+    }
+
+    /**
+     * Kodiert ein Ergebnis als Binärdatensatz
+     * - Version 1 (78 Byte): Zeitstempel, runId, Modell, Testtyp, Parameter, Laufzeit, Speicher
+     * - Version 2 (94 Byte): zusätzlich p50 und p99 der Aufgabendauer
+     */
+    private byte[] encodeResult(CalculationResponse response, int modelId, int testTypeId) {
+        UUID runId = parseRunId(response.getRunId());
+        ByteBuffer buffer = ByteBuffer.allocate(RESULT_SIZE_V2);
+        buffer.put(KIND_RESULT);
+        buffer.put(RESULT_VERSION);
+        buffer.putLong(response.getTimestamp());
+        buffer.putLong(runId.getMostSignificantBits());
+        buffer.putLong(runId.getLeastSignificantBits());
+        buffer.putInt(modelId);
+        buffer.putInt(testTypeId);
+        buffer.putInt(response.getMatrixSize());
+        buffer.putInt(response.getFileSizeKB());
+        buffer.putInt(response.getParallelTasks());
+        buffer.putLong(response.getTotalExecutionTimeMs());
+        buffer.putDouble(response.getMemoryBeforeMB());
+        buffer.putDouble(response.getMemoryPeakMB());
+        buffer.putDouble(response.getMemoryAfterMB());
+        buffer.putDouble(response.getP50TaskTimeMs());
+        buffer.putDouble(response.getP99TaskTimeMs());
+        return buffer.array();
+    }
+
+    private CalculationResponse decodeResult(ByteBuffer payload) {
+        CalculationResponse response = new CalculationResponse();
+        response.setTimestamp(payload.getLong(2));
+        response.setRunId(new UUID(payload.getLong(10), payload.getLong(18)).toString());
+        response.setThreadModel(dictionary.get(payload.getInt(26)));
+        response.setTestType(dictionary.get(payload.getInt(30)));
+        response.setMatrixSize(payload.getInt(34));
+        response.setFileSizeKB(payload.getInt(38));
+        response.setParallelTasks(payload.getInt(42));
+        response.setTotalExecutionTimeMs(payload.getLong(46));
+        response.setMemoryBeforeMB(payload.getDouble(54));
+        response.setMemoryPeakMB(payload.getDouble(62));
+        response.setMemoryAfterMB(payload.getDouble(70));
+        if (payload.get(1) >= 2 && payload.limit() >= RESULT_SIZE_V2) {
+            response.setP50TaskTimeMs(payload.getDouble(78));
+            response.setP99TaskTimeMs(payload.getDouble(86));
+        }
+        return response;
+    }
+
+    private UUID parseRunId(String runId) {
+        if (runId == null) {
+            return UUID.randomUUID();
+        }
+        try {
+            return UUID.fromString(runId);
+        } catch (IllegalArgumentException e) {
+            return UUID.nameUUIDFromBytes(runId.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void addToIndex(long position, long timestamp, int modelId, int testTypeId) {
+        if (size == positions.length) {
+            int capacity = size * 2;
+            positions = Arrays.copyOf(positions, capacity);
+            timestamps = Arrays.copyOf(timestamps, capacity);
+            modelIds = Arrays.copyOf(modelIds, capacity);
+            testTypeIds = Arrays.copyOf(testTypeIds, capacity);
+        }
+        positions[size] = position;
+        timestamps[size] = timestamp;
+        modelIds[size] = modelId;
+        testTypeIds[size] = testTypeId;
+        byKey.computeIfAbsent(key(modelId, testTypeId), k -> new IntList()).add(size);
+        size++;
+    }
+
+    /**
+     * Indexeinträge passend zu Modell, Testtyp und Zeitraum in Einfügereihenfolge
+     */
+    private int[] matchingEntries(String threadModel, String testType, long from, long to) {
+        Integer modelId = threadModel != null ? dictionaryIds.get(threadModel) : null;
+        Integer testTypeId = testType != null ? dictionaryIds.get(testType) : null;
+        if ((threadModel != null && modelId == null) || (testType != null && testTypeId == null)) {
+            return new int[0];
+        }
+
+        IntList matches = new IntList();
+        if (modelId != null && testTypeId != null) {
+            IntList entries = byKey.get(key(modelId, testTypeId));
+            if (entries != null) {
+                for (int i = 0; i < entries.size; i++) {
+                    int entry = entries.values[i];
+                    if (timestamps[entry] >= from && timestamps[entry] < to) {
+                        matches.add(entry);
+                    }
+                }
+            }
+        } else {
+            for (int entry = 0; entry < size; entry++) {
+                if ((modelId == null || modelIds[entry] == modelId)
+                        && (testTypeId == null || testTypeIds[entry] == testTypeId)
+                        && timestamps[entry] >= from && timestamps[entry] < to) {
+                    matches.add(entry);
+                }
+            }
+        }
+        return Arrays.copyOf(matches.values, matches.size);
+    }
+
+    private static long key(int modelId, int testTypeId) {
+        return ((long) modelId << 32) | (testTypeId & 0xFFFFFFFFL);
+    }
+
+    private static double tasksPerSecond(CalculationResponse run) {
+        return run.getTotalExecutionTimeMs() > 0 ? run.getParallelTasks() * 1000.0 / run.getTotalExecutionTimeMs() : 0.0;
+    }
+
+    /**
+     * Wachsende Liste primitiver int-Werte
+     */
+    private static final class IntList {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
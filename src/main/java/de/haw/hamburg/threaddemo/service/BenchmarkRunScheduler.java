@@ -0,0 +1,307 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.model.CalculationRequest;
+import de.haw.hamburg.threaddemo.model.RunIsolation;
+import de.haw.hamburg.threaddemo.model.RunMode;
+import de.haw.hamburg.threaddemo.model.RunSchedulerStatus;
+import de.haw.hamburg.threaddemo.model.ScheduledRun;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Globale Zulassung von Benchmark-Läufen über alle Endpunkte
+ * - Warteschlange nach Priorität (höher zuerst), bei gleicher Priorität in Ankunftsreihenfolge;
+ *   zugelassen wird nur der Kopf der Warteschlange, damit große Läufe nicht verhungern
+ * - EXCLUSIVE: der Lauf startet erst, wenn kein anderer Lauf aktiv ist, und hält bis zu seinem
+ *   Ende alle weiteren zurück
+ * - SHARED: mehrere Läufe gleichzeitig, solange ihre reservierten Kerne das CPU-Budget nicht
+ *   überschreiten (ein einzelner Lauf wird immer zugelassen, auch wenn er mehr reserviert)
+ * - Hintergrundaktivitäten wie die Heavy-Load-Simulation werden nicht blockiert, sondern erfasst
+ * - Nach jedem Lauf wird ermittelt, welche anderen Läufe und Hintergrundaktivitäten ihn zeitlich
+ *   überlappt haben; das Ergebnis wird als RunIsolation an die Messwerte gehängt
+ *
+ * Das CPU-Budget ist eine Reservierung bei der Zulassung, keine Begrenzung der tatsächlich
+ * genutzten Kerne; Executor-Größen und Affinität bleiben unverändert.
+ */
+@Service
+public class BenchmarkRunScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(BenchmarkRunScheduler.class);
+
+    // Abgeschlossene Aktivitäten, die für die Überlappungsprüfung aufbewahrt werden
+    private static final int FINISHED_HISTORY = 500;
+
+    @Value("${benchmark.scheduler.cpu-budget:0}")
+    private double configuredCpuBudget;
+
+    @Value("${benchmark.scheduler.max-wait-seconds:900}")
+    private long maxWaitSeconds;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong admitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    // Nur unter lock verändert
+    private final PriorityQueue<Activity> queue = new PriorityQueue<>(
+            Comparator.comparingInt((Activity activity) -> -activity.priority).thenComparingLong(activity -> activity.id));
+    private final List<Activity> running = new ArrayList<>();
+    private final Map<String, Activity> background = new HashMap<>();
+    private final Deque<Activity> finished = new ArrayDeque<>();
+    private double cpuBudget;
+    private double reservedCores;
+    private boolean exclusiveRunning;
+
+    @PostConstruct
+    public void init() {
+        cpuBudget = configuredCpuBudget > 0 ? configuredCpuBudget : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Wartet auf die Zulassung, führt den Lauf aus und markiert das Ergebnis mit den überlappenden Aktivitäten
+     *
+     * @param name   Endpunkt bzw. Bezeichnung des Laufs
+     * @param run    führt den Lauf im aufrufenden Thread aus
+     * @param tagger hängt die RunIsolation an das Ergebnis
+     * @throws RejectedExecutionException wenn die Zulassung länger als max-wait-seconds dauert
+     */
+    public <T> T execute(String name, CalculationRequest request, Supplier<T> run, BiConsumer<T, RunIsolation> tagger) {
+        RunMode mode = RunMode.fromName(request.getRunMode());
+        if (request.getCpuBudget() < 0) {
+            throw new IllegalArgumentException("cpuBudget darf nicht negativ sein");
+        }
+        double cores = mode == RunMode.EXCLUSIVE ? cpuBudget : (request.getCpuBudget() > 0 ? request.getCpuBudget() : 1);
+        Activity activity = new Activity(sequence.incrementAndGet(), name, mode.getKey(), request.getPriority(), cores);
+
+        admit(activity, mode);
+        T result = null;
+        try {
+            result = run.get();
+        } finally {
+            RunIsolation isolation = release(activity);
+            if (result != null) {
+                tagger.accept(result, isolation);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Meldet eine Hintergrundaktivität an bzw. ab (idempotent je Name)
+     */
+    public void setBackgroundActivity(String name, boolean active) {
+        lock.lock();
+        try {
+            if (active && !background.containsKey(name)) {
+                Activity activity = new Activity(sequence.incrementAndGet(), name, "background", 0, 0);
+                activity.startedAt = System.currentTimeMillis();
+                background.put(name, activity);
+                log.info("Hintergrundaktivität {} gestartet; überlappende Läufe werden markiert", name);
+            } else if (!active) {
+                Activity activity = background.remove(name);
+                if (activity != null) {
+                    finish(activity);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public RunSchedulerStatus status() {
+        lock.lock();
+        try {
+            RunSchedulerStatus status = new RunSchedulerStatus();
+            status.setCpuBudget(cpuBudget);
+            status.setReservedCores(reservedCores);
+            status.setMaxWaitSeconds(maxWaitSeconds);
+            status.setRunning(describe(running));
+            List<Activity> waiting = new ArrayList<>(queue);
+            waiting.sort(queue.comparator());
+            status.setQueued(describe(waiting));
+            status.setBackground(describe(background.values()));
+            status.setAdmitted(admitted.get());
+            status.setRejected(rejected.get());
+            return status;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void admit(Activity activity, RunMode mode) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(maxWaitSeconds);
+        lock.lock();
+        try {
+            queue.add(activity);
+            boolean ready = false;
+            try {
+                while (queue.peek() != activity || !fits(mode, activity.cores)) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        rejected.incrementAndGet();
+                        throw new RejectedExecutionException("Lauf " + activity.label()
+                                + " wurde nicht innerhalb von " + maxWaitSeconds + " s zugelassen");
+                    }
+                    changed.awaitNanos(remaining);
+                }
+                ready = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Warten auf Zulassung unterbrochen", e);
+            } finally {
+                if (!ready) {
+                    // Der nächste Kopf der Warteschlange prüft erneut, ob er zugelassen werden kann
+                    queue.remove(activity);
+                    changed.signalAll();
+                }
+            }
+            queue.poll();
+            activity.startedAt = System.currentTimeMillis();
+            running.add(activity);
+            reservedCores += activity.cores;
+            exclusiveRunning = mode == RunMode.EXCLUSIVE;
+            admitted.incrementAndGet();
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        log.info("Lauf {} zugelassen ({} Kerne, {} ms gewartet)", activity.label(), activity.cores,
+                activity.startedAt - activity.submittedAt);
+    }
+
+    private boolean fits(RunMode mode, double cores) {
+        if (running.isEmpty()) {
+            return true;
+        }
+        return mode == RunMode.SHARED && !exclusiveRunning && reservedCores + cores <= cpuBudget;
+    }
+
+    private RunIsolation release(Activity activity) {
+        lock.lock();
+        try {
+            running.remove(activity);
+            reservedCores = Math.max(0, reservedCores - activity.cores);
+            if (running.isEmpty()) {
+                exclusiveRunning = false;
+                reservedCores = 0;
+            }
+            finish(activity);
+            changed.signalAll();
+
+            List<String> overlapping = new ArrayList<>();
+            for (Activity other : activitiesSince(activity.startedAt)) {
+                if (other != activity && other.overlaps(activity)) {
+                    overlapping.add(other.label());
+                }
+            }
+
+            RunIsolation isolation = new RunIsolation();
+            isolation.setScheduledRunId(activity.id);
+            isolation.setRunMode(activity.mode);
+            isolation.setPriority(activity.priority);
+            isolation.setCpuCores(activity.cores);
+            isolation.setQueuedMs(activity.startedAt - activity.submittedAt);
+            isolation.setIsolated(overlapping.isEmpty());
+            isolation.setOverlappingActivities(overlapping);
+            if (!overlapping.isEmpty()) {
+                log.warn("Lauf {} wurde überlappt von {}", activity.label(), overlapping);
+            }
+            return isolation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void finish(Activity activity) {
+        activity.finishedAt = System.currentTimeMillis();
+        finished.addLast(activity);
+        while (finished.size() > FINISHED_HISTORY) {
+            finished.removeFirst();
+        }
+    }
+
+    /**
+     * Laufende, im Hintergrund aktive und nach from beendete Aktivitäten
+     */
+    private List<Activity> activitiesSince(long from) {
+        List<Activity> candidates = new ArrayList<>(running);
+        candidates.addAll(background.values());
+        for (Activity activity : finished) {
+            if (activity.finishedAt >= from) {
+                candidates.add(activity);
+            }
+        }
+        return candidates;
+    }
+
+    private static List<ScheduledRun> describe(Iterable<Activity> activities) {
+        List<ScheduledRun> runs = new ArrayList<>();
+        for (Activity activity : activities) {
+            ScheduledRun run = new ScheduledRun();
+            run.setId(activity.id);
+            run.setName(activity.name);
+            run.setRunMode(activity.mode);
+            run.setPriority(activity.priority);
+            run.setCpuCores(activity.cores);
+            run.setSubmittedAt(activity.submittedAt);
+            run.setStartedAt(activity.startedAt);
+            runs.add(run);
+        }
+        return runs;
+    }
+
+    /**
+     * Ein Lauf oder eine Hintergrundaktivität; Zeitfelder nur unter lock verändert
+     */
+    private static final class Activity {
+        final long id;
+        final String name;
+        final String mode;
+        final int priority;
+        final double cores;
+        final long submittedAt = System.currentTimeMillis();
+        long startedAt;
+        long finishedAt;
+
+        Activity(long id, String name, String mode, int priority, double cores) {
+            this.id = id;
+            this.name = name;
+            this.mode = mode;
+            this.priority = priority;
+            this.cores = cores;
+        }
+
+        /**
+         * Zeitliche Überlappung; noch laufende Aktivitäten gelten als bis jetzt andauernd
+         */
+        boolean overlaps(Activity other) {
+            long end = finishedAt > 0 ? finishedAt : Long.MAX_VALUE;
+            long otherEnd = other.finishedAt > 0 ? other.finishedAt : Long.MAX_VALUE;
+            return startedAt > 0 && startedAt < otherEnd && other.startedAt < end;
+        }
+
+        String label() {
+            return name + "#" + id + " (" + mode + ")";
+        }
+    }
+}
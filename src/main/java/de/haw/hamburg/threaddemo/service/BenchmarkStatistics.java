@@ -0,0 +1,220 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.model.ExecutionStatistics;
+
+import java.util.Arrays;
+
+/**
+ * Statistische Hilfsfunktionen für die Auswertung von Benchmark-Messreihen
+ */
+public final class BenchmarkStatistics {
+
+    /**
+     * Zweiseitige kritische Werte der t-Verteilung für 95 % Konfidenz (Freiheitsgrade 1 bis 30)
+     */
+    private static final double[] T_CRITICAL_95 = {
+        12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+        2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+        2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+
+    /**
+     * Bis zu diesem Produkt der Stichprobengrößen wird der Mann-Whitney-Test exakt berechnet
+     */
+    private static final int EXACT_MANN_WHITNEY_LIMIT = 600;
+
+    private BenchmarkStatistics() {
+    }
+
+    /**
+     * Arithmetisches Mittel
+     */
+    public static double mean(long[] samples) {
+        if (samples.length == 0) {
+            return 0.0;
+        }
+        double sum = 0;
+        for (long sample : samples) {
+            sum += sample;
+        }
+        return sum / samples.length;
+    }
+
+    /**
+     * Stichproben-Standardabweichung (n - 1 im Nenner)
+     */
+    public static double stdDev(long[] samples) {
+        if (samples.length < 2) {
+            return 0.0;
+        }
+        double mean = mean(samples);
+        double sumSquares = 0;
+        for (long sample : samples) {
+            double diff = sample - mean;
+            sumSquares += diff * diff;
+        }
+        return Math.sqrt(sumSquares / (samples.length - 1));
+    }
+
+    /**
+     * Kritischer Wert der t-Verteilung für ein zweiseitiges 95-%-Intervall
+     */
+    public static double tCritical95(int degreesOfFreedom) {
+        if (degreesOfFreedom < 1) {
+            return 0.0;
+        }
+        if (degreesOfFreedom <= T_CRITICAL_95.length) {
+            return T_CRITICAL_95[degreesOfFreedom - 1];
+        }
+        return 1.960;
+    }
+
+    /**
+     * Fasst eine Messreihe von Ausführungszeiten zusammen
+     */
+    public static ExecutionStatistics summarize(long[] samplesMs, int parallelTasks, int warmupIterations, boolean forked) {
+        ExecutionStatistics statistics = new ExecutionStatistics();
+        statistics.setWarmupIterations(warmupIterations);
+        statistics.setRepetitions(samplesMs.length);
+        statistics.setForked(forked);
+        statistics.setSamplesMs(samplesMs.clone());
+
+        double mean = mean(samplesMs);
+        double stdDev = stdDev(samplesMs);
+        double halfWidth = samplesMs.length > 1
+                ? tCritical95(samplesMs.length - 1) * stdDev / Math.sqrt(samplesMs.length)
+                : 0.0;
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        double tasksPerSecondSum = 0;
+        for (long sample : samplesMs) {
+            min = Math.min(min, sample);
+            max = Math.max(max, sample);
+            tasksPerSecondSum += sample > 0 ? parallelTasks * 1000.0 / sample : 0.0;
+        }
+
+        statistics.setMeanExecutionTimeMs(mean);
+        statistics.setStdDevExecutionTimeMs(stdDev);
+        statistics.setMinExecutionTimeMs(samplesMs.length > 0 ? min : 0);
+        statistics.setMaxExecutionTimeMs(samplesMs.length > 0 ? max : 0);
+        statistics.setConfidenceLevel(0.95);
+        statistics.setConfidenceIntervalLowerMs(mean - halfWidth);
+        statistics.setConfidenceIntervalUpperMs(mean + halfWidth);
+        statistics.setMeanTasksPerSecond(samplesMs.length > 0 ? tasksPerSecondSum / samplesMs.length : 0.0);
+        return statistics;
+    }
+
+    /**
+     * Perzentil nach der Nearest-Rank-Methode
+     *
+     * @param percentile Perzentil zwischen 0 und 100
+     */
+    public static double percentile(double[] values, double percentile) {
+        if (values.length == 0) {
+            return 0.0;
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.min(sorted.length - 1, Math.max(0, rank - 1))];
+    }
+
+    /**
+     * Einseitiger Mann-Whitney-U-Test: Wahrscheinlichkeit, unter der Nullhypothese
+     * (gleiche Verteilung) ein mindestens so kleines U zu beobachten
+     * - Kleine p-Werte bedeuten, dass die Werte in {@code sample} tendenziell kleiner sind als in {@code reference}
+     * - Für kleine Stichproben wird die exakte Verteilung von U berechnet,
+     *   sonst die Normalapproximation mit Bindungs- und Stetigkeitskorrektur
+     */
+    public static double mannWhitneyLessPValue(double[] sample, double[] reference) {
+        int n1 = sample.length;
+        int n2 = reference.length;
+        if (n1 == 0 || n2 == 0) {
+            return 1.0;
+        }
+
+        // U = Anzahl der Paare, in denen der Wert aus sample größer ist (Bindungen zählen halb)
+        double u = 0;
+        for (double a : sample) {
+            for (double b : reference) {
+                if (a > b) {
+                    u += 1.0;
+                } else if (a == b) {
+                    u += 0.5;
+                }
+            }
+        }
+
+        if ((long) n1 * n2 <= EXACT_MANN_WHITNEY_LIMIT) {
+            double[] distribution = mannWhitneyDistribution(n1, n2);
+            double p = 0;
+            for (int k = 0; k <= Math.min((int) Math.floor(u), distribution.length - 1); k++) {
+                p += distribution[k];
+            }
+            return Math.min(1.0, p);
+        }
+
+        double n = n1 + n2;
+        double[] all = new double[n1 + n2];
+        System.arraycopy(sample, 0, all, 0, n1);
+        System.arraycopy(reference, 0, all, n1, n2);
+        Arrays.sort(all);
+        double tieSum = 0;
+        for (int i = 0; i < all.length; ) {
+            int j = i;
+            while (j < all.length && all[j] == all[i]) {
+                j++;
+            }
+            double t = j - i;
+            tieSum += t * t * t - t;
+            i = j;
+        }
+        double mean = n1 * (double) n2 / 2.0;
+        double variance = n1 * (double) n2 / 12.0 * ((n + 1) - tieSum / (n * (n - 1)));
+        if (variance <= 0) {
+            return 1.0;
+        }
+        double z = (u + 0.5 - mean) / Math.sqrt(variance);
+        return normalCdf(z);
+    }
+
+    /**
+     * Exakte Verteilung von U für Stichprobengrößen n1 und n2 (ohne Bindungen)
+     * über die Rekursion P(u; i, j) = i/(i+j) * P(u-j; i-1, j) + j/(i+j) * P(u; i, j-1)
+     */
+    private static double[] mannWhitneyDistribution(int n1, int n2) {
+        double[][] previous = new double[n2 + 1][];
+        for (int i = 0; i <= n1; i++) {
+            double[][] current = new double[n2 + 1][];
+            for (int j = 0; j <= n2; j++) {
+                double[] distribution = new double[i * j + 1];
+                if (i == 0 || j == 0) {
+                    distribution[0] = 1.0;
+                } else {
+                    double pCurrent = i / (double) (i + j);
+                    double pReference = j / (double) (i + j);
+                    for (int k = 0; k < distribution.length; k++) {
+                        double fromCurrent = k - j >= 0 && k - j < previous[j].length ? previous[j][k - j] : 0.0;
+                        double fromReference = k < current[j - 1].length ? current[j - 1][k] : 0.0;
+                        distribution[k] = pCurrent * fromCurrent + pReference * fromReference;
+                    }
+                }
+                current[j] = distribution;
+            }
+            previous = current;
+        }
+        return previous[n2];
+    }
+
+    /**
+     * Verteilungsfunktion der Standardnormalverteilung (Abramowitz/Stegun 7.1.26)
+     */
+    public static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2.0);
+        double t = 1.0 / (1.0 + 0.3275911 * x);
+        double erf = 1.0 - (((((1.061405429 * t - 1.453152027) * t) + 1.421413741) * t - 0.284496736) * t
+                + 0.254829592) * t * Math.exp(-x * x);
+        return z >= 0 ? 0.5 * (1.0 + erf) : 0.5 * (1.0 - erf);
+    }
+}
@@ -0,0 +1,675 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.model.CalculationResponse;
+import de.haw.hamburg.threaddemo.model.ExecutionStatistics;
+import de.haw.hamburg.threaddemo.model.GcCollectorImpact;
+import de.haw.hamburg.threaddemo.model.GcImpact;
+import de.haw.hamburg.threaddemo.model.MetricComparison;
+import de.haw.hamburg.threaddemo.model.RegressionReport;
+import de.haw.hamburg.threaddemo.model.RunIsolation;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kompaktes spaltenweises Binärformat für Listen von CalculationResponse
+ * (Gegenstück in benchmark.js: decodeResponseBatch)
+ *
+ * Aufbau:
+ * - Kopf: "TDCB", Versionsbyte, Anzahl der Responses
+ * - Wörterbuch aller Zeichenketten; Zeichenkettenspalten enthalten nur Indizes (0 = null)
+ * - Jede Eigenschaft als eigene Spalte über alle Responses: ganzzahlige Spalten als Differenz
+ *   zum Vorgänger, ZigZag- und Varint-kodiert; Gleitkommaspalten als 8-Byte-IEEE-754;
+ *   Wahrheitswerte als Bitfeld
+ * - long-Arrays (Aufgabendauern, Stichproben) als Länge + 1 (0 = null) und delta-kodierte Werte
+ * - statistics, regression, isolation und gcImpact nur für die Responses, bei denen sie gesetzt sind;
+ *   die Aufschlüsselung je Collector mit ihren Auslösern als Anzahl + Spalten über alle Einträge
+ * - Speicherwerte außerhalb des Heaps (RSS, PSS, Buffer-Pools, NMT) als Gleitkommaspalten, -1 = nicht verfügbar
+ *
+ * Alle ganzen Zahlen müssen in JavaScript exakt darstellbar sein (|x| < 2^53).
+ */
+public final class CalculationResponseBatchCodec {
+
+    private static final byte[] MAGIC = {'T', 'D', 'C', 'B'};
+    private static final int VERSION = 4;
+
+    private CalculationResponseBatchCodec() {
+    }
+
+    /**
+     * Kodiert eine Liste von Responses
+     */
+    public static byte[] encode(List<CalculationResponse> responses) {
+        int n = responses.size();
+        Output out = new Output(64 + n * 96);
+        out.bytes(MAGIC);
+        out.varint(VERSION);
+        out.varint(n);
+
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        List<ExecutionStatistics> statistics = new ArrayList<>();
+        List<RegressionReport> regressions = new ArrayList<>();
+        List<MetricComparison> metrics = new ArrayList<>();
+        List<RunIsolation> isolations = new ArrayList<>();
+        List<String> overlapping = new ArrayList<>();
+        List<GcImpact> gcImpacts = new ArrayList<>();
+        List<GcCollectorImpact> collectors = new ArrayList<>();
+        for (CalculationResponse response : responses) {
+            intern(dictionary, strings, response.getThreadModel());
+            intern(dictionary, strings, response.getTestType());
+            intern(dictionary, strings, response.getRunId());
+            if (response.getStatistics() != null) {
+                statistics.add(response.getStatistics());
+            }
+            RegressionReport regression = response.getRegression();
+            if (regression != null) {
+                regressions.add(regression);
+                intern(dictionary, strings, regression.getThreadModel());
+                intern(dictionary, strings, regression.getTestType());
+                intern(dictionary, strings, regression.getLatestRunId());
+                if (regression.getMetrics() != null) {
+                    for (MetricComparison metric : regression.getMetrics()) {
+                        metrics.add(metric);
+                        intern(dictionary, strings, metric.getMetric());
+                    }
+                }
+            }
+            RunIsolation isolation = response.getIsolation();
+            if (isolation != null) {
+                isolations.add(isolation);
+                intern(dictionary, strings, isolation.getRunMode());
+                if (isolation.getOverlappingActivities() != null) {
+                    for (String activity : isolation.getOverlappingActivities()) {
+                        overlapping.add(activity);
+                        intern(dictionary, strings, activity);
+                    }
+                }
+            }
+            GcImpact gcImpact = response.getGcImpact();
+            if (gcImpact != null) {
+                gcImpacts.add(gcImpact);
+                if (gcImpact.getCollectorNames() != null) {
+                    gcImpact.getCollectorNames().forEach(name -> intern(dictionary, strings, name));
+                }
+                if (gcImpact.getCollectors() != null) {
+                    for (GcCollectorImpact collector : gcImpact.getCollectors()) {
+                        collectors.add(collector);
+                        intern(dictionary, strings, collector.getName());
+                        if (collector.getCauses() != null) {
+                            collector.getCauses().keySet().forEach(cause -> intern(dictionary, strings, cause));
+                        }
+                    }
+                }
+            }
+        }
+        out.varint(strings.size());
+        for (String string : strings) {
+            byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+            out.varint(utf8.length);
+            out.bytes(utf8);
+        }
+
+        // Kernspalten
+        for (CalculationResponse response : responses) {
+            out.varint(index(dictionary, response.getThreadModel()));
+        }
+        for (CalculationResponse response : responses) {
+            out.varint(index(dictionary, response.getTestType()));
+        }
+        for (CalculationResponse response : responses) {
+            out.varint(index(dictionary, response.getRunId()));
+        }
+        out.deltas(responses, CalculationResponse::getMatrixSize);
+        out.deltas(responses, CalculationResponse::getFileSizeKB);
+        out.deltas(responses, CalculationResponse::getParallelTasks);
+        out.deltas(responses, CalculationResponse::getTotalExecutionTimeMs);
+        out.deltas(responses, CalculationResponse::getTimestamp);
+        out.deltas(responses, CalculationResponse::getFailedTasks);
+        out.doubles(responses, CalculationResponse::getMemoryBeforeMB);
+        out.doubles(responses, CalculationResponse::getMemoryPeakMB);
+        out.doubles(responses, CalculationResponse::getMemoryAfterMB);
+        out.doubles(responses, CalculationResponse::getP50TaskTimeMs);
+        out.doubles(responses, CalculationResponse::getP99TaskTimeMs);
+        out.bits(responses, CalculationResponse::isProfiled);
+        for (CalculationResponse response : responses) {
+            out.longArray(response.getTaskTimesNanos());
+        }
+
+        // Statistik der Wiederholungen
+        out.bits(responses, response -> response.getStatistics() != null);
+        out.deltas(statistics, ExecutionStatistics::getWarmupIterations);
+        out.deltas(statistics, ExecutionStatistics::getRepetitions);
+        out.bits(statistics, ExecutionStatistics::isForked);
+        for (ExecutionStatistics stats : statistics) {
+            out.longArray(stats.getSamplesMs());
+        }
+        out.doubles(statistics, ExecutionStatistics::getMeanExecutionTimeMs);
+        out.doubles(statistics, ExecutionStatistics::getStdDevExecutionTimeMs);
+        out.deltas(statistics, ExecutionStatistics::getMinExecutionTimeMs);
+        out.deltas(statistics, ExecutionStatistics::getMaxExecutionTimeMs);
+        out.doubles(statistics, ExecutionStatistics::getConfidenceLevel);
+        out.doubles(statistics, ExecutionStatistics::getConfidenceIntervalLowerMs);
+        out.doubles(statistics, ExecutionStatistics::getConfidenceIntervalUpperMs);
+        out.doubles(statistics, ExecutionStatistics::getMeanTasksPerSecond);
+
+        // Regressionsberichte und ihre Metriken
+        out.bits(responses, response -> response.getRegression() != null);
+        for (RegressionReport regression : regressions) {
+            out.varint(index(dictionary, regression.getThreadModel()));
+        }
+        for (RegressionReport regression : regressions) {
+            out.varint(index(dictionary, regression.getTestType()));
+        }
+        for (RegressionReport regression : regressions) {
+            out.varint(index(dictionary, regression.getLatestRunId()));
+        }
+        out.deltas(regressions, RegressionReport::getMatrixSize);
+        out.deltas(regressions, RegressionReport::getParallelTasks);
+        out.deltas(regressions, RegressionReport::getBaselineRuns);
+        out.deltas(regressions, RegressionReport::getCurrentRuns);
+        out.deltas(regressions, RegressionReport::getLatestTimestamp);
+        out.bits(regressions, RegressionReport::isEvaluated);
+        out.bits(regressions, RegressionReport::isRegression);
+        for (RegressionReport regression : regressions) {
+            out.varint(regression.getMetrics() != null ? regression.getMetrics().size() : 0);
+        }
+        for (MetricComparison metric : metrics) {
+            out.varint(index(dictionary, metric.getMetric()));
+        }
+        out.bits(metrics, MetricComparison::isHigherIsBetter);
+        out.bits(metrics, MetricComparison::isRegression);
+        out.doubles(metrics, MetricComparison::getBaselineMedian);
+        out.doubles(metrics, MetricComparison::getCurrentMedian);
+        out.doubles(metrics, MetricComparison::getRelativeChange);
+        out.doubles(metrics, MetricComparison::getPValue);
+
+        // Zulassung durch den Run-Scheduler und überlappende Aktivitäten
+        out.bits(responses, response -> response.getIsolation() != null);
+        out.deltas(isolations, RunIsolation::getScheduledRunId);
+        for (RunIsolation isolation : isolations) {
+            out.varint(index(dictionary, isolation.getRunMode()));
+        }
+        out.deltas(isolations, RunIsolation::getPriority);
+        out.doubles(isolations, RunIsolation::getCpuCores);
+        out.deltas(isolations, RunIsolation::getQueuedMs);
+        out.bits(isolations, RunIsolation::isIsolated);
+        for (RunIsolation isolation : isolations) {
+            out.varint(isolation.getOverlappingActivities() != null ? isolation.getOverlappingActivities().size() : 0);
+        }
+        for (String activity : overlapping) {
+            out.varint(index(dictionary, activity));
+        }
+
+        // Fehler reduzierter Präzision gegenüber double
+        out.doubles(responses, CalculationResponse::getPrecisionError);
+
+        // Speicher außerhalb des Heaps
+        out.doubles(responses, CalculationResponse::getRssBeforeMB);
+        out.doubles(responses, CalculationResponse::getRssPeakMB);
+        out.doubles(responses, CalculationResponse::getRssAfterMB);
+        out.doubles(responses, CalculationResponse::getPssBeforeMB);
+        out.doubles(responses, CalculationResponse::getPssAfterMB);
+        out.doubles(responses, CalculationResponse::getDirectBufferBeforeMB);
+        out.doubles(responses, CalculationResponse::getDirectBufferAfterMB);
+        out.doubles(responses, CalculationResponse::getMappedBufferBeforeMB);
+        out.doubles(responses, CalculationResponse::getMappedBufferAfterMB);
+        out.doubles(responses, CalculationResponse::getNmtThreadBeforeMB);
+        out.doubles(responses, CalculationResponse::getNmtThreadAfterMB);
+        out.doubles(responses, CalculationResponse::getNmtCommittedBeforeMB);
+        out.doubles(responses, CalculationResponse::getNmtCommittedAfterMB);
+
+        // GC-Last des Laufs und ihre Aufschlüsselung je Collector
+        out.bits(responses, response -> response.getGcImpact() != null);
+        for (GcImpact gcImpact : gcImpacts) {
+            List<String> names = gcImpact.getCollectorNames();
+            out.varint(names != null ? names.size() + 1L : 0);
+            if (names != null) {
+                names.forEach(name -> out.varint(index(dictionary, name)));
+            }
+        }
+        out.deltas(gcImpacts, GcImpact::getCollections);
+        out.doubles(gcImpacts, GcImpact::getPauseTimeMs);
+        out.doubles(gcImpacts, GcImpact::getPauseShare);
+        out.doubles(gcImpacts, GcImpact::getMaxPauseMs);
+        out.doubles(gcImpacts, GcImpact::getConcurrentTimeMs);
+        out.doubles(gcImpacts, GcImpact::getAllocatedMB);
+        out.doubles(gcImpacts, GcImpact::getAllocationRateMBPerSec);
+        out.doubles(gcImpacts, GcImpact::getPromotedMB);
+        out.deltas(gcImpacts, GcImpact::getOverlappingRuns);
+        for (GcImpact gcImpact : gcImpacts) {
+            out.varint(gcImpact.getCollectors() != null ? gcImpact.getCollectors().size() + 1L : 0);
+        }
+        for (GcCollectorImpact collector : collectors) {
+            out.varint(index(dictionary, collector.getName()));
+        }
+        out.deltas(collectors, GcCollectorImpact::getCollections);
+        out.doubles(collectors, GcCollectorImpact::getPauseTimeMs);
+        out.doubles(collectors, GcCollectorImpact::getMaxPauseMs);
+        out.doubles(collectors, GcCollectorImpact::getConcurrentTimeMs);
+        out.doubles(collectors, GcCollectorImpact::getReclaimedMB);
+        out.doubles(collectors, GcCollectorImpact::getPromotedMB);
+        for (GcCollectorImpact collector : collectors) {
+            Map<String, Integer> causes = collector.getCauses();
+            out.varint(causes != null ? causes.size() + 1L : 0);
+            if (causes != null) {
+                causes.forEach((cause, count) -> {
+                    out.varint(index(dictionary, cause));
+                    out.varint(count);
+                });
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Dekodiert eine mit encode erzeugte Nachricht
+     */
+    public static List<CalculationResponse> decode(byte[] data) {
+        Input in = new Input(ByteBuffer.wrap(data));
+        byte[] magic = in.bytes(MAGIC.length);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IllegalArgumentException("Keine CalculationResponse-Batch-Nachricht");
+        }
+        int version = (int) in.varint();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Nicht unterstützte Version " + version);
+        }
+        int n = (int) in.varint();
+        String[] strings = new String[(int) in.varint()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = new String(in.bytes((int) in.varint()), StandardCharsets.UTF_8);
+        }
+
+        List<CalculationResponse> responses = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            responses.add(new CalculationResponse());
+        }
+        responses.forEach(response -> response.setThreadModel(in.string(strings)));
+        responses.forEach(response -> response.setTestType(in.string(strings)));
+        responses.forEach(response -> response.setRunId(in.string(strings)));
+        in.deltas(responses, (response, value) -> response.setMatrixSize((int) value));
+        in.deltas(responses, (response, value) -> response.setFileSizeKB((int) value));
+        in.deltas(responses, (response, value) -> response.setParallelTasks((int) value));
+        in.deltas(responses, CalculationResponse::setTotalExecutionTimeMs);
+        in.deltas(responses, CalculationResponse::setTimestamp);
+        in.deltas(responses, (response, value) -> response.setFailedTasks((int) value));
+        in.doubles(responses, CalculationResponse::setMemoryBeforeMB);
+        in.doubles(responses, CalculationResponse::setMemoryPeakMB);
+        in.doubles(responses, CalculationResponse::setMemoryAfterMB);
+        in.doubles(responses, CalculationResponse::setP50TaskTimeMs);
+        in.doubles(responses, CalculationResponse::setP99TaskTimeMs);
+        in.bits(responses, CalculationResponse::setProfiled);
+        responses.forEach(response -> response.setTaskTimesNanos(in.longArray()));
+
+        List<ExecutionStatistics> statistics = new ArrayList<>();
+        in.bits(responses, (response, present) -> {
+            if (present) {
+                ExecutionStatistics stats = new ExecutionStatistics();
+                response.setStatistics(stats);
+                statistics.add(stats);
+            }
+        });
+        in.deltas(statistics, (stats, value) -> stats.setWarmupIterations((int) value));
+        in.deltas(statistics, (stats, value) -> stats.setRepetitions((int) value));
+        in.bits(statistics, ExecutionStatistics::setForked);
+        statistics.forEach(stats -> stats.setSamplesMs(in.longArray()));
+        in.doubles(statistics, ExecutionStatistics::setMeanExecutionTimeMs);
+        in.doubles(statistics, ExecutionStatistics::setStdDevExecutionTimeMs);
+        in.deltas(statistics, ExecutionStatistics::setMinExecutionTimeMs);
+        in.deltas(statistics, ExecutionStatistics::setMaxExecutionTimeMs);
+        in.doubles(statistics, ExecutionStatistics::setConfidenceLevel);
+        in.doubles(statistics, ExecutionStatistics::setConfidenceIntervalLowerMs);
+        in.doubles(statistics, ExecutionStatistics::setConfidenceIntervalUpperMs);
+        in.doubles(statistics, ExecutionStatistics::setMeanTasksPerSecond);
+
+        List<RegressionReport> regressions = new ArrayList<>();
+        in.bits(responses, (response, present) -> {
+            if (present) {
+                RegressionReport regression = new RegressionReport();
+                response.setRegression(regression);
+                regressions.add(regression);
+            }
+        });
+        regressions.forEach(regression -> regression.setThreadModel(in.string(strings)));
+        regressions.forEach(regression -> regression.setTestType(in.string(strings)));
+        regressions.forEach(regression -> regression.setLatestRunId(in.string(strings)));
+        in.deltas(regressions, (regression, value) -> regression.setMatrixSize((int) value));
+        in.deltas(regressions, (regression, value) -> regression.setParallelTasks((int) value));
+        in.deltas(regressions, (regression, value) -> regression.setBaselineRuns((int) value));
+        in.deltas(regressions, (regression, value) -> regression.setCurrentRuns((int) value));
+        in.deltas(regressions, RegressionReport::setLatestTimestamp);
+        in.bits(regressions, RegressionReport::setEvaluated);
+        in.bits(regressions, RegressionReport::setRegression);
+        List<MetricComparison> metrics = new ArrayList<>();
+        for (RegressionReport regression : regressions) {
+            int count = (int) in.varint();
+            List<MetricComparison> reportMetrics = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                reportMetrics.add(new MetricComparison());
+            }
+            regression.setMetrics(reportMetrics);
+            metrics.addAll(reportMetrics);
+        }
+        metrics.forEach(metric -> metric.setMetric(in.string(strings)));
+        in.bits(metrics, MetricComparison::setHigherIsBetter);
+        in.bits(metrics, MetricComparison::setRegression);
+        in.doubles(metrics, MetricComparison::setBaselineMedian);
+        in.doubles(metrics, MetricComparison::setCurrentMedian);
+        in.doubles(metrics, MetricComparison::setRelativeChange);
+        in.doubles(metrics, MetricComparison::setPValue);
+
+        List<RunIsolation> isolations = new ArrayList<>();
+        in.bits(responses, (response, present) -> {
+            if (present) {
+                RunIsolation isolation = new RunIsolation();
+                response.setIsolation(isolation);
+                isolations.add(isolation);
+            }
+        });
+        in.deltas(isolations, RunIsolation::setScheduledRunId);
+        isolations.forEach(isolation -> isolation.setRunMode(in.string(strings)));
+        in.deltas(isolations, (isolation, value) -> isolation.setPriority((int) value));
+        in.doubles(isolations, RunIsolation::setCpuCores);
+        in.deltas(isolations, RunIsolation::setQueuedMs);
+        in.bits(isolations, RunIsolation::setIsolated);
+        int[] overlapCounts = new int[isolations.size()];
+        for (int i = 0; i < overlapCounts.length; i++) {
+            overlapCounts[i] = (int) in.varint();
+        }
+        for (int i = 0; i < overlapCounts.length; i++) {
+            List<String> activities = new ArrayList<>(overlapCounts[i]);
+            for (int j = 0; j < overlapCounts[i]; j++) {
+                activities.add(in.string(strings));
+            }
+            isolations.get(i).setOverlappingActivities(activities);
+        }
+
+        in.doubles(responses, CalculationResponse::setPrecisionError);
+
+        in.doubles(responses, CalculationResponse::setRssBeforeMB);
+        in.doubles(responses, CalculationResponse::setRssPeakMB);
+        in.doubles(responses, CalculationResponse::setRssAfterMB);
+        in.doubles(responses, CalculationResponse::setPssBeforeMB);
+        in.doubles(responses, CalculationResponse::setPssAfterMB);
+        in.doubles(responses, CalculationResponse::setDirectBufferBeforeMB);
+        in.doubles(responses, CalculationResponse::setDirectBufferAfterMB);
+        in.doubles(responses, CalculationResponse::setMappedBufferBeforeMB);
+        in.doubles(responses, CalculationResponse::setMappedBufferAfterMB);
+        in.doubles(responses, CalculationResponse::setNmtThreadBeforeMB);
+        in.doubles(responses, CalculationResponse::setNmtThreadAfterMB);
+        in.doubles(responses, CalculationResponse::setNmtCommittedBeforeMB);
+        in.doubles(responses, CalculationResponse::setNmtCommittedAfterMB);
+
+        List<GcImpact> gcImpacts = new ArrayList<>();
+        in.bits(responses, (response, present) -> {
+            if (present) {
+                GcImpact gcImpact = new GcImpact();
+                response.setGcImpact(gcImpact);
+                gcImpacts.add(gcImpact);
+            }
+        });
+        for (GcImpact gcImpact : gcImpacts) {
+            int length = (int) in.varint();
+            if (length > 0) {
+                List<String> names = new ArrayList<>(length - 1);
+                for (int i = 0; i < length - 1; i++) {
+                    names.add(in.string(strings));
+                }
+                gcImpact.setCollectorNames(names);
+            }
+        }
+        in.deltas(gcImpacts, (gcImpact, value) -> gcImpact.setCollections((int) value));
+        in.doubles(gcImpacts, GcImpact::setPauseTimeMs);
+        in.doubles(gcImpacts, GcImpact::setPauseShare);
+        in.doubles(gcImpacts, GcImpact::setMaxPauseMs);
+        in.doubles(gcImpacts, GcImpact::setConcurrentTimeMs);
+        in.doubles(gcImpacts, GcImpact::setAllocatedMB);
+        in.doubles(gcImpacts, GcImpact::setAllocationRateMBPerSec);
+        in.doubles(gcImpacts, GcImpact::setPromotedMB);
+        in.deltas(gcImpacts, (gcImpact, value) -> gcImpact.setOverlappingRuns((int) value));
+        List<GcCollectorImpact> collectors = new ArrayList<>();
+        for (GcImpact gcImpact : gcImpacts) {
+            int length = (int) in.varint();
+            if (length > 0) {
+                List<GcCollectorImpact> impactCollectors = new ArrayList<>(length - 1);
+                for (int i = 0; i < length - 1; i++) {
+                    impactCollectors.add(new GcCollectorImpact());
+                }
+                gcImpact.setCollectors(impactCollectors);
+                collectors.addAll(impactCollectors);
+            }
+        }
+        collectors.forEach(collector -> collector.setName(in.string(strings)));
+        in.deltas(collectors, (collector, value) -> collector.setCollections((int) value));
+        in.doubles(collectors, GcCollectorImpact::setPauseTimeMs);
+        in.doubles(collectors, GcCollectorImpact::setMaxPauseMs);
+        in.doubles(collectors, GcCollectorImpact::setConcurrentTimeMs);
+        in.doubles(collectors, GcCollectorImpact::setReclaimedMB);
+        in.doubles(collectors, GcCollectorImpact::setPromotedMB);
+        for (GcCollectorImpact collector : collectors) {
+            int length = (int) in.varint();
+            if (length > 0) {
+                Map<String, Integer> causes = new LinkedHashMap<>();
+                for (int i = 0; i < length - 1; i++) {
+                    String cause = in.string(strings);
+                    causes.put(cause, (int) in.varint());
+                }
+                collector.setCauses(causes);
+            }
+        }
+        return responses;
+    }
+
+    private static void intern(Map<String, Integer> dictionary, List<String> strings, String value) {
+        if (value != null && !dictionary.containsKey(value)) {
+            dictionary.put(value, strings.size());
+            strings.add(value);
+        }
+    }
+
+    private static int index(Map<String, Integer> dictionary, String value) {
+        return value == null ? 0 : dictionary.get(value) + 1;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    @FunctionalInterface
+    private interface LongGetter<T> {
+        long get(T item);
+    }
+
+    @FunctionalInterface
+    private interface DoubleGetter<T> {
+        double get(T item);
+    }
+
+    @FunctionalInterface
+    private interface BooleanGetter<T> {
+        boolean get(T item);
+    }
+
+    @FunctionalInterface
+    private interface LongSetter<T> {
+        void set(T item, long value);
+    }
+
+    @FunctionalInterface
+    private interface DoubleSetter<T> {
+        void set(T item, double value);
+    }
+
+    @FunctionalInterface
+    private interface BooleanSetter<T> {
+        void set(T item, boolean value);
+    }
+
+    /**
+     * Wachsender Ausgabepuffer
+     */
+    private static final class Output {
+        private byte[] buffer;
+        private int position;
+
+        Output(int initialCapacity) {
+            buffer = new byte[Math.max(16, initialCapacity)];
+        }
+
+        private void ensure(int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+            }
+        }
+
+        void bytes(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void varint(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void rawDouble(double value) {
+            ensure(8);
+            long bits = Double.doubleToLongBits(value);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (bits >>> shift);
+            }
+        }
+
+        <T> void deltas(List<T> items, LongGetter<T> getter) {
+            long previous = 0;
+            for (T item : items) {
+                long value = getter.get(item);
+                varint(zigzag(value - previous));
+                previous = value;
+            }
+        }
+
+        <T> void doubles(List<T> items, DoubleGetter<T> getter) {
+            for (T item : items) {
+                rawDouble(getter.get(item));
+            }
+        }
+
+        <T> void bits(List<T> items, BooleanGetter<T> getter) {
+            ensure((items.size() + 7) / 8);
+            for (int i = 0; i < items.size(); i += 8) {
+                int bits = 0;
+                for (int j = 0; j < 8 && i + j < items.size(); j++) {
+                    if (getter.get(items.get(i + j))) {
+                        bits |= 1 << j;
+                    }
+                }
+                buffer[position++] = (byte) bits;
+            }
+        }
+
+        void longArray(long[] values) {
+            if (values == null) {
+                varint(0);
+                return;
+            }
+            varint(values.length + 1L);
+            long previous = 0;
+            for (long value : values) {
+                varint(zigzag(value - previous));
+                previous = value;
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    /**
+     * Lesezugriff auf eine Nachricht
+     */
+    private static final class Input {
+        private final ByteBuffer buffer;
+
+        Input(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        byte[] bytes(int length) {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return bytes;
+        }
+
+        long varint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Ungültiger Varint");
+        }
+
+        String string(String[] strings) {
+            int index = (int) varint();
+            return index == 0 ? null : strings[index - 1];
+        }
+
+        <T> void deltas(List<T> items, LongSetter<T> setter) {
+            long previous = 0;
+            for (T item : items) {
+                previous += unzigzag(varint());
+                setter.set(item, previous);
+            }
+        }
+
+        <T> void doubles(List<T> items, DoubleSetter<T> setter) {
+            for (T item : items) {
+                setter.set(item, buffer.getDouble());
+            }
+        }
+
+        <T> void bits(List<T> items, BooleanSetter<T> setter) {
+            for (int i = 0; i < items.size(); i += 8) {
+                int bits = buffer.get() & 0xFF;
+                for (int j = 0; j < 8 && i + j < items.size(); j++) {
+                    setter.set(items.get(i + j), (bits & (1 << j)) != 0);
+                }
+            }
+        }
+
+        long[] longArray() {
+            int length = (int) varint();
+            if (length == 0) {
+                return null;
+            }
+            long[] values = new long[length - 1];
+            long previous = 0;
+            for (int i = 0; i < values.length; i++) {
+                previous += unzigzag(varint());
+                values[i] = previous;
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.model.CalculationRequest;
+import de.haw.hamburg.threaddemo.model.CalculationResponse;
+import de.haw.hamburg.threaddemo.model.CarrierMatrixEntry;
+import de.haw.hamburg.threaddemo.model.CarrierMatrixReport;
+import de.haw.hamburg.threaddemo.model.ThreadModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Carrier-Matrix für Virtual Threads
+ * - Misst CPU- und I/O-Test der Virtual Threads für mehrere Carrier-Parallelitäten
+ * - Jede Zelle läuft in einer eigenen Kind-JVM, da der Carrier-Scheduler nur beim Start
+ *   über jdk.virtualThreadScheduler.parallelism/maxPoolSize konfiguriert werden kann
+ * - Die Kind-JVM erzeugt benannte Virtual Threads (Thread.ofVirtual()-Factory)
+ * - Empfiehlt je Testtyp die kleinste Parallelität, die nahezu den besten Durchsatz erreicht
+ *
+ * Für die Dimensionierung auf Knoten mit anderer Kernzahl muss die Matrix dort ausgeführt werden.
+ */
+@Service
+public class CarrierMatrixService {
+
+    private static final Logger log = LoggerFactory.getLogger(CarrierMatrixService.class);
+
+    // Anteil des besten Durchsatzes, ab dem eine Parallelität als ausreichend gilt
+    private static final double RECOMMENDATION_THRESHOLD = 0.95;
+
+    private final ForkedBenchmarkLauncher forkedBenchmarkLauncher;
+
+    @Autowired
+    public CarrierMatrixService(ForkedBenchmarkLauncher forkedBenchmarkLauncher) {
+        this.forkedBenchmarkLauncher = forkedBenchmarkLauncher;
+    }
+
+    /**
+     * Führt die Matrix aus
+     *
+     * @param parallelisms Carrier-Parallelitäten (leer = Zweierpotenzen bis zur Kernzahl und die Kernzahl selbst)
+     * @param maxPoolSize  maximale Carrier-Anzahl bei blockierten Carriern (0 = JDK-Standard)
+     * @param testTypes    Testtypen (leer = cpu und io)
+     */
+    public CarrierMatrixReport run(CalculationRequest request, List<Integer> parallelisms, int maxPoolSize,
+                                   List<String> testTypes) {
+        if (parallelisms == null || parallelisms.isEmpty()) {
+            parallelisms = defaultParallelisms();
+        }
+        if (testTypes == null || testTypes.isEmpty()) {
+            testTypes = List.of("cpu", "io");
+        }
+        for (int parallelism : parallelisms) {
+            if (parallelism < 1 || (maxPoolSize > 0 && maxPoolSize < parallelism)) {
+                throw new IllegalArgumentException("Ungültige Carrier-Parallelität: " + parallelism);
+            }
+        }
+
+        List<CarrierMatrixEntry> entries = new ArrayList<>();
+        for (String testType : testTypes) {
+            CalculationRequest cellRequest = copyFor(request, testType);
+            for (int parallelism : parallelisms) {
+                List<String> jvmArgs = new ArrayList<>();
+                jvmArgs.add("-Djdk.virtualThreadScheduler.parallelism=" + parallelism);
+                if (maxPoolSize > 0) {
+                    jvmArgs.add("-Djdk.virtualThreadScheduler.maxPoolSize=" + maxPoolSize);
+                }
+                jvmArgs.add("-Dbenchmark.virtual.thread-factory=named");
+
+                log.info("Carrier-Matrix: {} mit Parallelität {}", testType, parallelism);
+                List<CalculationResponse> runs =
+                        forkedBenchmarkLauncher.runForked(ThreadModel.VIRTUAL, cellRequest, jvmArgs);
+                entries.add(summarize(parallelism, maxPoolSize, testType, cellRequest, runs));
+            }
+        }
+
+        CarrierMatrixReport report = new CarrierMatrixReport();
+        report.setJavaVersion(System.getProperty("java.version"));
+        report.setAvailableProcessors(Runtime.getRuntime().availableProcessors());
+        report.setCarrierSettingsEffective(Runtime.version().feature() >= 21);
+        report.setEntries(entries);
+        report.setRecommendedParallelism(rate(entries, testTypes));
+        return report;
+    }
+
+    private static List<Integer> defaultParallelisms() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        TreeSet<Integer> values = new TreeSet<>();
+        for (int p = 1; p <= cores; p *= 2) {
+            values.add(p);
+        }
+        values.add(cores);
+        return new ArrayList<>(values);
+    }
+
+    private static CalculationRequest copyFor(CalculationRequest request, String testType) {
+        CalculationRequest copy = new CalculationRequest();
+        copy.setTestType(testType);
+        copy.setMatrixSize(request.getMatrixSize());
+        copy.setParallelTasks(request.getParallelTasks());
+        copy.setFileSizeKB(request.getFileSizeKB());
+        copy.setDensity(request.getDensity());
+        copy.setPrecision(request.getPrecision());
+        copy.setAlgorithm(request.getAlgorithm());
+        copy.setBatchChunkSize(request.getBatchChunkSize());
+        copy.setWorkload(request.getWorkload());
+        copy.setWarmupIterations(request.getWarmupIterations());
+        copy.setRepetitions(request.getRepetitions());
+        return copy;
+    }
+
+    private static CarrierMatrixEntry summarize(int parallelism, int maxPoolSize, String testType,
+                                                CalculationRequest request, List<CalculationResponse> runs) {
+        long totalMs = 0;
+        double p50 = 0;
+        double p99 = 0;
+        int failedTasks = 0;
+        for (CalculationResponse run : runs) {
+            totalMs += run.getTotalExecutionTimeMs();
+            p50 += run.getP50TaskTimeMs();
+            p99 += run.getP99TaskTimeMs();
+            failedTasks += run.getFailedTasks();
+        }
+        int count = Math.max(1, runs.size());
+
+        CarrierMatrixEntry entry = new CarrierMatrixEntry();
+        entry.setParallelism(parallelism);
+        entry.setMaxPoolSize(maxPoolSize);
+        entry.setTestType(testType);
+        entry.setRepetitions(runs.size());
+        entry.setTotalExecutionTimeMs(Math.round((double) totalMs / count));
+        entry.setTasksPerSecond(totalMs > 0 ? request.getParallelTasks() * 1000.0 * count / totalMs : 0);
+        entry.setP50TaskTimeMs(p50 / count);
+        entry.setP99TaskTimeMs(p99 / count);
+        entry.setFailedTasks(failedTasks);
+        return entry;
+    }
+
+    /**
+     * Setzt den relativen Durchsatz je Testtyp und ermittelt die empfohlene Parallelität
+     */
+    private static Map<String, Integer> rate(List<CarrierMatrixEntry> entries, List<String> testTypes) {
+        Map<String, Integer> recommended = new LinkedHashMap<>();
+        for (String testType : testTypes) {
+            double best = 0;
+            for (CarrierMatrixEntry entry : entries) {
+                if (entry.getTestType().equals(testType)) {
+                    best = Math.max(best, entry.getTasksPerSecond());
+                }
+            }
+            Integer smallest = null;
+            for (CarrierMatrixEntry entry : entries) {
+                if (!entry.getTestType().equals(testType)) {
+                    continue;
+                }
+                entry.setRelativeThroughput(best > 0 ? entry.getTasksPerSecond() / best : 0);
+                if (entry.getRelativeThroughput() >= RECOMMENDATION_THRESHOLD
+                        && (smallest == null || entry.getParallelism() < smallest)) {
+                    smallest = entry.getParallelism();
+                }
+            }
+            recommended.put(testType, smallest);
+        }
+        return recommended;
+    }
+}
@@ -0,0 +1,174 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.model.ConcurrencyLimitStatus;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Begrenzt die gleichzeitigen Zugriffe auf eine Ressource (z. B. Dateien oder HTTP-Aufrufe)
+ * - Semaphor mit fester Obergrenze (maxLimit), z. B. entsprechend dem Budget an Datei-Handles
+ * - Optional adaptiv (AIMD, Vegas-artig): Unterhalb der Obergrenze wird das aktuelle Limit
+ *   anhand der beobachteten Latenz geregelt. Liegt die Latenz nahe der kleinsten beobachteten
+ *   Latenz und ist das Limit ausgeschöpft, steigt es additiv um etwa 1 pro Fenster; überschreitet
+ *   sie diese um den Faktor tolerance oder schlägt der Zugriff fehl, sinkt es multiplikativ
+ * - Die kleinste Latenz wird langsam nach oben nachgeführt, damit sich das Limit nach einer
+ *   dauerhaften Änderung der Ressource neu einpendeln kann
+ *
+ * Wartende Threads parken über ReentrantLock/Condition; Virtual Threads geben dabei ihren Carrier frei.
+ */
+public class ConcurrencyLimiter {
+
+    private static final double BACKOFF = 0.9;
+    private static final double MIN_LATENCY_DRIFT = 1.0005;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final boolean adaptive;
+    private final double tolerance;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    // Nur unter lock verändert
+    private double limit;
+    private int inFlight;
+    private int waiting;
+    private int peakInFlight;
+    private long acquired;
+    private long totalWaitNanos;
+    private long increases;
+    private long decreases;
+    private double minLatencyNanos = Double.MAX_VALUE;
+    private double smoothedLatencyNanos;
+
+    /**
+     * @param initialLimit Startwert des Limits (bei adaptive=false das feste Limit)
+     * @param tolerance    Faktor über der kleinsten Latenz, ab dem das Limit sinkt
+     */
+    public ConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, boolean adaptive,
+                              double tolerance) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Ungültige Grenzen für " + name + ": " + minLimit + ".." + maxLimit);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.adaptive = adaptive;
+        this.tolerance = tolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Wartet auf eine freie Erlaubnis
+     *
+     * @return Startzeitpunkt für release
+     */
+    public long acquire() throws InterruptedException {
+        long waitStart = System.nanoTime();
+        lock.lockInterruptibly();
+        try {
+            waiting++;
+            try {
+                while (inFlight >= (int) limit) {
+                    permitReleased.await();
+                }
+            } finally {
+                waiting--;
+            }
+            inFlight++;
+            peakInFlight = Math.max(peakInFlight, inFlight);
+            acquired++;
+            long now = System.nanoTime();
+            totalWaitNanos += now - waitStart;
+            return now;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gibt die Erlaubnis zurück und passt das Limit an die Dauer des Zugriffs an
+     *
+     * @param startNanos Rückgabewert von acquire
+     * @param success    false, wenn der Zugriff fehlgeschlagen ist
+     */
+    public void release(long startNanos, boolean success) {
+        long latency = System.nanoTime() - startNanos;
+        lock.lock();
+        try {
+            boolean saturated = inFlight >= (int) limit;
+            inFlight--;
+            if (adaptive) {
+                adjust(latency, success, saturated);
+            }
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adjust(long latency, boolean success, boolean saturated) {
+        minLatencyNanos = Math.min(minLatencyNanos * MIN_LATENCY_DRIFT, latency);
+        smoothedLatencyNanos = smoothedLatencyNanos == 0 ? latency : 0.9 * smoothedLatencyNanos + 0.1 * latency;
+
+        if (!success || latency > minLatencyNanos * tolerance) {
+            double reduced = Math.max(minLimit, limit * BACKOFF);
+            if (reduced < limit) {
+                limit = reduced;
+                decreases++;
+            }
+        } else if (saturated && limit < maxLimit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+            increases++;
+        }
+    }
+
+    /**
+     * Führt eine Operation mit Erlaubnis aus
+     */
+    public <T> T call(LimitedOperation<T> operation) throws Exception {
+        long start = acquire();
+        boolean success = false;
+        try {
+            T result = operation.run();
+            success = true;
+            return result;
+        } finally {
+            release(start, success);
+        }
+    }
+
+    public ConcurrencyLimitStatus status() {
+        lock.lock();
+        try {
+            ConcurrencyLimitStatus status = new ConcurrencyLimitStatus();
+            status.setName(name);
+            status.setAdaptive(adaptive);
+            status.setLimit((int) limit);
+            status.setMinLimit(minLimit);
+            status.setMaxLimit(maxLimit);
+            status.setInFlight(inFlight);
+            status.setWaiting(waiting);
+            status.setPeakInFlight(peakInFlight);
+            status.setAcquired(acquired);
+            status.setAverageWaitMs(acquired > 0 ? totalWaitNanos / 1_000_000.0 / acquired : 0);
+            status.setMinLatencyMs(minLatencyNanos == Double.MAX_VALUE ? 0 : minLatencyNanos / 1_000_000.0);
+            status.setSmoothedLatencyMs(smoothedLatencyNanos / 1_000_000.0);
+            status.setIncreases(increases);
+            status.setDecreases(decreases);
+            return status;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Operation, die unter dem Limit ausgeführt wird
+     */
+    @FunctionalInterface
+    public interface LimitedOperation<T> {
+        T run() throws Exception;
+    }
+}
@@ -0,0 +1,368 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.config.MonitoredExecutor;
+import de.haw.hamburg.threaddemo.config.MonitoredExecutor.Snapshot;
+import de.haw.hamburg.threaddemo.config.MonitoredExecutor.TaskRecord;
+import de.haw.hamburg.threaddemo.model.ExecutorHealth;
+import de.haw.hamburg.threaddemo.model.WatchdogAlert;
+import de.haw.hamburg.threaddemo.model.WatchdogStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Watchdog für die Executor-Pools aus ThreadConfig
+ * - Sucht in festem Intervall mit findDeadlockedThreads nach Deadlocks
+ * - Erkennt Starvation: Aufgaben warten, aber seit N ms ist keine Aufgabe gestartet oder fertig geworden
+ * - Erkennt hängende Aufgaben, die länger als der Schwellwert laufen
+ * - Erkennt erschöpfte Carrier-Threads beim Virtual-Thread-Executor: dort startet jede Aufgabe
+ *   sofort in einem eigenen Thread, eine wartende Aufgabe bedeutet also, dass kein Carrier frei ist
+ *   (z. B. weil Virtual Threads in synchronized-Blöcken festgepinnt sind)
+ *
+ * Jeder neue Befund wird als Warnung geloggt und löst einen Thread-Dump in eine rollierende
+ * Datei aus, damit hängende Benchmarks nach Sekunden statt erst beim Async-Timeout auffallen.
+ */
+@Service
+public class ExecutorWatchdogService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutorWatchdogService.class);
+
+    private static final int MAX_RECENT_ALERTS = 100;
+
+    @Value("${benchmark.watchdog.enabled:true}")
+    private boolean enabled;
+
+    @Value("${benchmark.watchdog.interval-ms:1000}")
+    private long intervalMs;
+
+    @Value("${benchmark.watchdog.starvation-ms:5000}")
+    private long starvationMs;
+
+    @Value("${benchmark.watchdog.stuck-task-ms:60000}")
+    private long stuckTaskMs;
+
+    @Value("${benchmark.watchdog.carrier-wait-ms:1000}")
+    private long carrierWaitMs;
+
+    @Value("${benchmark.watchdog.dump-dir:./watchdog-dumps}")
+    private String dumpDir;
+
+    @Value("${benchmark.watchdog.max-dump-files:20}")
+    private int maxDumpFiles;
+
+    @Value("${benchmark.watchdog.min-dump-interval-ms:10000}")
+    private long minDumpIntervalMs;
+
+    private final List<MonitoredExecutor> executors;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private ScheduledExecutorService checker;
+
+    // Bestehende Befunde je Schlüssel "typ:executor"
+    private final Map<String, WatchdogAlert> activeAlerts = new LinkedHashMap<>();
+    private final Deque<WatchdogAlert> recentAlerts = new ArrayDeque<>();
+    private List<String> deadlockedThreads = Collections.emptyList();
+    private long checkedAt;
+    private long lastDumpAt;
+
+    @Autowired
+    public ExecutorWatchdogService(List<MonitoredExecutor> executors) {
+        this.executors = executors;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "executor-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checker.scheduleAtFixedRate(this::check, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        log.info("Executor-Watchdog gestartet: {} Executoren, Intervall {} ms, Starvation nach {} ms",
+                executors.size(), intervalMs, starvationMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (checker != null) {
+            checker.shutdownNow();
+        }
+    }
+
+    /**
+     * Aktueller Zustand aller Executoren und die bestehenden und letzten Befunde
+     */
+    public synchronized WatchdogStatus status() {
+        WatchdogStatus status = new WatchdogStatus();
+        status.setEnabled(checker != null);
+        status.setCheckedAt(checkedAt);
+        status.setDeadlockedThreads(new ArrayList<>(deadlockedThreads));
+        List<ExecutorHealth> health = new ArrayList<>();
+        for (MonitoredExecutor executor : executors) {
+            health.add(toHealth(executor, executor.snapshot()));
+        }
+        status.setExecutors(health);
+        status.setActiveAlerts(new ArrayList<>(activeAlerts.values()));
+        status.setRecentAlerts(new ArrayList<>(recentAlerts));
+        return status;
+    }
+
+    /**
+     * Eine Prüfrunde über Deadlocks und alle Executoren
+     */
+    synchronized void check() {
+        try {
+            checkedAt = System.currentTimeMillis();
+            Map<String, WatchdogAlert> found = new LinkedHashMap<>();
+
+            long[] deadlocked = threadMXBean.findDeadlockedThreads();
+            deadlockedThreads = deadlocked != null ? threadNames(deadlocked) : Collections.emptyList();
+            if (!deadlockedThreads.isEmpty()) {
+                found.put("deadlock", alert("deadlock", null,
+                        "Deadlock zwischen " + deadlockedThreads.size() + " Threads", deadlockedThreads));
+            }
+
+            for (MonitoredExecutor executor : executors) {
+                Snapshot snapshot = executor.snapshot();
+                String name = executor.getName();
+                if (executor.isVirtual() && snapshot.getOldestQueuedMs() >= carrierWaitMs) {
+                    found.put("carrier-exhaustion:" + name, alert("carrier-exhaustion", name,
+                            snapshot.getQueued().size() + " Virtual Threads warten seit bis zu "
+                                    + snapshot.getOldestQueuedMs() + " ms auf einen Carrier-Thread",
+                            runningThreads(snapshot)));
+                } else if (!snapshot.getQueued().isEmpty() && snapshot.getMsSinceProgress() >= starvationMs) {
+                    found.put("starvation:" + name, alert("starvation", name,
+                            snapshot.getQueued().size() + " Aufgaben warten, seit "
+                                    + snapshot.getMsSinceProgress() + " ms kein Fortschritt bei "
+                                    + snapshot.getRunning().size() + " laufenden Aufgaben",
+                            runningThreads(snapshot)));
+                }
+                List<String> stuck = new ArrayList<>();
+                for (TaskRecord record : snapshot.getRunning()) {
+                    if (snapshot.ageMs(record) >= stuckTaskMs) {
+                        stuck.add(threadName(record));
+                    }
+                }
+                if (!stuck.isEmpty()) {
+                    found.put("stuck-task:" + name, alert("stuck-task", name,
+                            stuck.size() + " Aufgaben laufen seit über " + stuckTaskMs + " ms, älteste seit "
+                                    + snapshot.getOldestRunningMs() + " ms", stuck));
+                }
+            }
+
+            for (Map.Entry<String, WatchdogAlert> entry : found.entrySet()) {
+                if (!activeAlerts.containsKey(entry.getKey())) {
+                    raise(entry.getKey(), entry.getValue());
+                }
+            }
+            activeAlerts.keySet().removeIf(key -> {
+                if (!found.containsKey(key)) {
+                    log.info("Watchdog-Befund behoben: {}", key);
+                    return true;
+                }
+                return false;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Watchdog-Prüfung fehlgeschlagen: {}", e.toString());
+        }
+    }
+
+    /**
+     * Meldet einen neuen Befund und schreibt, falls nicht kurz zuvor geschehen, einen Thread-Dump
+     */
+    private void raise(String key, WatchdogAlert alert) {
+        log.warn("Watchdog: {}{} - {} {}", alert.getType(),
+                alert.getExecutor() != null ? " in " + alert.getExecutor() : "", alert.getMessage(),
+                alert.getThreads());
+        if (alert.getTimestamp() - lastDumpAt >= minDumpIntervalMs) {
+            lastDumpAt = alert.getTimestamp();
+            alert.setDumpFile(writeThreadDump(alert));
+        }
+        activeAlerts.put(key, alert);
+        recentAlerts.addFirst(alert);
+        while (recentAlerts.size() > MAX_RECENT_ALERTS) {
+            recentAlerts.removeLast();
+        }
+    }
+
+    /**
+     * Schreibt einen vollständigen Thread-Dump samt Executor-Zuständen und entfernt die ältesten Dumps
+     *
+     * @return Pfad der geschriebenen Datei oder null bei einem Fehler
+     */
+    private String writeThreadDump(WatchdogAlert alert) {
+        try {
+            Path directory = Paths.get(dumpDir);
+            Files.createDirectories(directory);
+            String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date(alert.getTimestamp()));
+            Path file = directory.resolve("threaddump-" + timestamp + "-" + alert.getType() + ".txt");
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                 PrintWriter out = new PrintWriter(writer)) {
+                out.println("Watchdog-Befund: " + alert.getType()
+                        + (alert.getExecutor() != null ? " in " + alert.getExecutor() : ""));
+                out.println(alert.getMessage());
+                out.println("Zeitpunkt: " + new Date(alert.getTimestamp()));
+                out.println();
+                for (MonitoredExecutor executor : executors) {
+                    ExecutorHealth health = toHealth(executor, executor.snapshot());
+                    out.printf("%s: status=%s, queued=%d, running=%d, completed=%d, rejected=%d, "
+                                    + "oldestQueuedMs=%d, oldestRunningMs=%d, msSinceProgress=%d%n",
+                            health.getName(), health.getStatus(), health.getQueued(), health.getRunning(),
+                            health.getCompleted(), health.getRejected(), health.getOldestQueuedMs(),
+                            health.getOldestRunningMs(), health.getMsSinceProgress());
+                }
+                out.println();
+                for (ThreadInfo info : threadMXBean.dumpAllThreads(
+                        threadMXBean.isObjectMonitorUsageSupported(), threadMXBean.isSynchronizerUsageSupported())) {
+                    printThread(out, info);
+                }
+            }
+            pruneDumps(directory);
+            log.warn("Thread-Dump geschrieben: {}", file.toAbsolutePath());
+            return file.toString();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Thread-Dump konnte nicht geschrieben werden: {}", e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Gibt einen Thread im jstack-ähnlichen Format mit vollständigem Stack aus
+     * (ThreadInfo.toString kürzt den Stack auf acht Frames)
+     */
+    private void printThread(PrintWriter out, ThreadInfo info) {
+        out.printf("\"%s\" #%d %s%s%n", info.getThreadName(), info.getThreadId(), info.getThreadState(),
+                info.getLockName() != null ? " on " + info.getLockName() : "");
+        if (info.getLockOwnerName() != null) {
+            out.printf("    owned by \"%s\" #%d%n", info.getLockOwnerName(), info.getLockOwnerId());
+        }
+        StackTraceElement[] stack = info.getStackTrace();
+        MonitorInfo[] monitors = info.getLockedMonitors();
+        for (int i = 0; i < stack.length; i++) {
+            out.println("\tat " + stack[i]);
+            for (MonitorInfo monitor : monitors) {
+                if (monitor.getLockedStackDepth() == i) {
+                    out.println("\t- locked " + monitor);
+                }
+            }
+        }
+        LockInfo[] synchronizers = info.getLockedSynchronizers();
+        if (synchronizers.length > 0) {
+            out.println("\tLocked synchronizers:");
+            for (LockInfo synchronizer : synchronizers) {
+                out.println("\t- " + synchronizer);
+            }
+        }
+        out.println();
+    }
+
+    /**
+     * Behält nur die jüngsten Dumps (Dateinamen sind nach Zeitpunkt sortierbar)
+     */
+    private void pruneDumps(Path directory) throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(directory)) {
+            dumps = files.filter(path -> path.getFileName().toString().startsWith("threaddump-"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        for (int i = 0; i < dumps.size() - maxDumpFiles; i++) {
+            Files.deleteIfExists(dumps.get(i));
+        }
+    }
+
+    private ExecutorHealth toHealth(MonitoredExecutor executor, Snapshot snapshot) {
+        ExecutorHealth health = new ExecutorHealth();
+        health.setName(executor.getName());
+        health.setVirtual(executor.isVirtual());
+        health.setSubmitted(snapshot.getSubmitted());
+        health.setCompleted(snapshot.getCompleted());
+        health.setFailed(snapshot.getFailed());
+        health.setRejected(snapshot.getRejected());
+        health.setQueued(snapshot.getQueued().size());
+        health.setRunning(snapshot.getRunning().size());
+        health.setOldestQueuedMs(snapshot.getOldestQueuedMs());
+        health.setOldestRunningMs(snapshot.getOldestRunningMs());
+        health.setMsSinceProgress(snapshot.getMsSinceProgress());
+        if (executor.isVirtual() && snapshot.getOldestQueuedMs() >= carrierWaitMs) {
+            health.setStatus("carrier-exhausted");
+        } else if (!snapshot.getQueued().isEmpty() && snapshot.getMsSinceProgress() >= starvationMs) {
+            health.setStatus("starved");
+        } else if (snapshot.getOldestRunningMs() >= stuckTaskMs) {
+            health.setStatus("stuck");
+        } else {
+            health.setStatus("ok");
+        }
+        return health;
+    }
+
+    private WatchdogAlert alert(String type, String executor, String message, List<String> threads) {
+        WatchdogAlert alert = new WatchdogAlert();
+        alert.setType(type);
+        alert.setExecutor(executor);
+        alert.setMessage(message);
+        alert.setTimestamp(System.currentTimeMillis());
+        alert.setThreads(threads);
+        return alert;
+    }
+
+    private List<String> threadNames(long[] threadIds) {
+        List<String> names = new ArrayList<>();
+        for (ThreadInfo info : threadMXBean.getThreadInfo(threadIds)) {
+            if (info != null) {
+                names.add(info.getThreadName());
+            }
+        }
+        return names;
+    }
+
+    private List<String> runningThreads(Snapshot snapshot) {
+        List<String> names = new ArrayList<>();
+        for (TaskRecord record : snapshot.getRunning()) {
+            names.add(threadName(record));
+        }
+        return names;
+    }
+
+    private static String threadName(TaskRecord record) {
+        Thread thread = record.getThread();
+        if (thread == null) {
+            return "?";
+        }
+        // Virtuelle Threads haben meist keinen Namen
+        return thread.getName().isEmpty() ? thread.toString() : thread.getName();
+    }
+}
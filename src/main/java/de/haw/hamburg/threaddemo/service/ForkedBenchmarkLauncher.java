@@ -0,0 +1,173 @@
+package de.haw.hamburg.threaddemo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.haw.hamburg.threaddemo.ThreadDemoApplication;
+import de.haw.hamburg.threaddemo.model.CalculationRequest;
+import de.haw.hamburg.threaddemo.model.CalculationResponse;
+import de.haw.hamburg.threaddemo.model.ThreadModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Startet Benchmark-Läufe in einer eigenen Kind-JVM
+ * - Jede Kind-JVM startet mit frischem Heap, kaltem JIT und eigenem GC-Zustand
+ * - Die Kind-JVM läuft mit dem Profil "fork-worker" ohne Webserver
+ * - Das Ergebnis wird als JSON-Zeile mit einem Marker auf stdout zurückgegeben
+ */
+@Service
+public class ForkedBenchmarkLauncher {
+
+    private static final Logger log = LoggerFactory.getLogger(ForkedBenchmarkLauncher.class);
+
+    /**
+     * Präfix der Ausgabezeile, die das Ergebnis der Kind-JVM enthält
+     */
+    public static final String RESULT_MARKER = "FORK-RESULT:";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${benchmark.fork.timeout-seconds:900}")
+    private long timeoutSeconds;
+
+    @Value("${benchmark.fork.jvm-args:}")
+    private String defaultJvmArgs;
+
+    @Autowired
+    public ForkedBenchmarkLauncher(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Führt Aufwärmdurchläufe und Wiederholungen eines Thread-Modells in einer Kind-JVM aus
+     *
+     * @param extraJvmArgs zusätzliche JVM-Optionen für die Kind-JVM (z. B. Systemeigenschaften)
+     * @return die gemessenen Wiederholungen (ohne Aufwärmdurchläufe)
+     */
+    public List<CalculationResponse> runForked(ThreadModel threadModel, CalculationRequest request,
+                                               List<String> extraJvmArgs) {
+        List<String> command = buildCommand(threadModel, request, extraJvmArgs);
+        log.info("Starte Kind-JVM für {}: {}", threadModel, String.join(" ", command));
+
+        ProcessBuilder processBuilder = new ProcessBuilder(command);
+        processBuilder.redirectErrorStream(true);
+
+        AtomicReference<String> resultJson = new AtomicReference<>();
+        try {
+            Process process = processBuilder.start();
+            // stdout auf eigenem Thread leeren, damit das Zeitlimit auch greift, wenn die Kind-JVM hängt
+            Thread drainer = new Thread(() -> drainOutput(process, threadModel, resultJson),
+                    "fork-output-" + threadModel.name().toLowerCase());
+            drainer.setDaemon(true);
+            drainer.start();
+
+            if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new IllegalStateException("Kind-JVM für " + threadModel + " hat das Zeitlimit überschritten");
+            }
+            // Nach dem Prozessende ist stdout geschlossen; letzte Zeilen noch abholen
+            drainer.join(TimeUnit.SECONDS.toMillis(10));
+            if (process.exitValue() != 0 || resultJson.get() == null) {
+                throw new IllegalStateException("Kind-JVM für " + threadModel
+                        + " lieferte kein Ergebnis (Exit-Code " + process.exitValue() + ")");
+            }
+            return objectMapper.readValue(resultJson.get(), new TypeReference<List<CalculationResponse>>() { });
+        } catch (IOException e) {
+            throw new IllegalStateException("Kind-JVM für " + threadModel + " konnte nicht ausgeführt werden", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Warten auf Kind-JVM für " + threadModel + " unterbrochen", e);
+        }
+    }
+
+    /**
+     * Liest die Ausgabe der Kind-JVM bis zu ihrem Ende und merkt sich die Ergebniszeile
+     */
+    private void drainOutput(Process process, ThreadModel threadModel, AtomicReference<String> resultJson) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT_MARKER)) {
+                    resultJson.set(line.substring(RESULT_MARKER.length()));
+                } else {
+                    log.debug("[fork {}] {}", threadModel, line);
+                }
+            }
+        } catch (IOException e) {
+            // Stream wird beim Abbruch der Kind-JVM geschlossen
+            log.debug("Ausgabe der Kind-JVM für {} beendet: {}", threadModel, e.toString());
+        }
+    }
+
+    /**
+     * Baut die Kommandozeile für die Kind-JVM
+     * - Fat-Jar: Start über -jar
+     * - Entwicklungsumgebung: Start über den aktuellen Klassenpfad
+     */
+    private List<String> buildCommand(ThreadModel threadModel, CalculationRequest request, List<String> extraJvmArgs) {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command()
+                .orElse(Paths.get(System.getProperty("java.home"), "bin", "java").toString()));
+
+        if (!defaultJvmArgs.isBlank()) {
+            for (String arg : defaultJvmArgs.trim().split("\\s+")) {
+                command.add(arg);
+            }
+        }
+        command.addAll(extraJvmArgs);
+
+        String classPath = System.getProperty("java.class.path");
+        if (classPath.endsWith(".jar") && !classPath.contains(File.pathSeparator)) {
+            command.add("-jar");
+            command.add(classPath);
+        } else {
+            command.add("-cp");
+            command.add(classPath);
+            command.add(ThreadDemoApplication.class.getName());
+        }
+
+        command.add("--spring.profiles.active=fork-worker");
+        command.add("--spring.main.web-application-type=none");
+        command.add("--spring.main.banner-mode=off");
+        // Nur die Eltern-JVM schreibt in den Ergebnisspeicher
+        command.add("--benchmark.store.enabled=false");
+        // Profile der Kind-JVM wären in der Eltern-JVM nicht abrufbar
+        command.add("--benchmark.profiler.enabled=false");
+        // Ebenso die Zeitleiste der Kind-JVM
+        command.add("--benchmark.timeline.enabled=false");
+        // Das Ereignisprotokoll gehört der Eltern-JVM; zwei Schreiber würden dieselbe Datei rollen
+        command.add("--benchmark.events.enabled=false");
+        command.add("--benchmark.fork.model=" + threadModel.name());
+        command.add("--benchmark.fork.request=" + encodeRequest(request));
+        return command;
+    }
+
+    /**
+     * Kodiert die Anfrage als Base64-JSON, damit sie unverändert als Argument übergeben werden kann
+     */
+    private String encodeRequest(CalculationRequest request) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(request);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Anfrage konnte nicht serialisiert werden", e);
+        }
+    }
+}
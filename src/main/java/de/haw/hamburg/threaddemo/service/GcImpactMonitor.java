@@ -0,0 +1,277 @@
+package de.haw.hamburg.threaddemo.service;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import de.haw.hamburg.threaddemo.model.GcCollectorImpact;
+import de.haw.hamburg.threaddemo.model.GcImpact;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.RuntimeMXBean;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ordnet Garbage Collections den gerade laufenden Benchmark-Läufen zu
+ * - Abonniert die Benachrichtigungen aller GarbageCollectorMXBeans; jede Sammlung wird allen Läufen
+ *   zugerechnet, in deren Zeitraum ihr Start fällt (GcInfo.getStartTime, Millisekunden seit JVM-Start)
+ * - Je Lauf und Collector: Anzahl, Pausenzeit, längste Pause, Auslöser, freigegebener und in die
+ *   Old Generation übernommener Speicher
+ * - Collectors, deren Name auf "Cycles" endet (ZGC, Shenandoah), melden nebenläufige Zyklen; deren
+ *   Dauer zählt als concurrentTimeMs, nicht als Pause
+ * - Allokierte Bytes: Zuwachs des belegten Heaps zwischen dem Ende einer Sammlung und dem Beginn der
+ *   nächsten, vom Start des Laufs bis zu seinem Ende; erfasst damit auch Virtual Threads. Bei
+ *   Collectors mit nebenläufigen Zyklen zählen dafür nur die Zyklen, da der Heap zwischen zwei
+ *   Pausen desselben Zyklus bereits schrumpft; was während eines Zyklus allokiert und noch im
+ *   selben Zyklus freigegeben wird, fehlt, der Wert ist dort eine Untergrenze
+ * - GcInfo liefert Dauern in ganzen Millisekunden; kürzere Pausen (typisch bei ZGC) zählen als 0
+ *
+ * Die Benachrichtigungen kommen asynchron; beim Beenden eines Laufs wird kurz gewartet, bis alle
+ * bereits gezählten Sammlungen zugestellt sind. GC ist prozessweit: überlappende Läufe teilen sich
+ * dieselben Sammlungen (siehe GcImpact.overlappingRuns).
+ */
+@Service
+public class GcImpactMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(GcImpactMonitor.class);
+
+    // Höchstens so lange auf ausstehende Benachrichtigungen warten
+    private static final long DELIVERY_TIMEOUT_MS = 500;
+
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+    private final RuntimeMXBean runtimeMXBean = ManagementFactory.getRuntimeMXBean();
+    private final Set<String> heapPools = new HashSet<>();
+    private final Set<String> oldGenPools = new HashSet<>();
+
+    // true bei ZGC und Shenandoah: Allokation an den Zyklen statt an den Pausen messen
+    private boolean cycleCollector;
+
+    // Zugestellte Benachrichtigungen je Collector, zum Abgleich mit getCollectionCount()
+    private final Map<String, AtomicLong> delivered = new ConcurrentHashMap<>();
+    private final Map<String, GcSession> sessions = new ConcurrentHashMap<>();
+    private final NotificationListener listener = this::handleNotification;
+
+    @PostConstruct
+    public void start() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                heapPools.add(pool.getName());
+                if (pool.getName().contains("Old") || pool.getName().contains("Tenured")) {
+                    oldGenPools.add(pool.getName());
+                }
+            }
+        }
+        for (GarbageCollectorMXBean collector : collectors) {
+            cycleCollector |= collector.getName().endsWith("Cycles");
+            delivered.put(collector.getName(), new AtomicLong(Math.max(0, collector.getCollectionCount())));
+            if (collector instanceof NotificationEmitter) {
+                ((NotificationEmitter) collector).addNotificationListener(listener, null, null);
+            }
+        }
+        log.info("GC-Zuordnung aktiv für {}", collectorNames());
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (GarbageCollectorMXBean collector : collectors) {
+            if (collector instanceof NotificationEmitter) {
+                try {
+                    ((NotificationEmitter) collector).removeNotificationListener(listener);
+                } catch (ListenerNotFoundException e) {
+                    // bereits entfernt
+                }
+            }
+        }
+    }
+
+    /**
+     * Beginnt die Zuordnung für einen Lauf
+     */
+    public synchronized GcSession start(String runId) {
+        GcSession session = new GcSession(runtimeMXBean.getUptime(), memoryMXBean.getHeapMemoryUsage().getUsed());
+        session.overlappingRuns = sessions.size();
+        for (GcSession other : sessions.values()) {
+            other.overlappingRuns++;
+        }
+        sessions.put(runId, session);
+        return session;
+    }
+
+    /**
+     * Beendet die Zuordnung und liefert die GC-Last des Laufs
+     *
+     * @param elapsedMs Laufzeit, auf die sich der Pausenanteil bezieht
+     */
+    public GcImpact stop(String runId, GcSession session, long elapsedMs) {
+        session.endUptime = runtimeMXBean.getUptime();
+        long heapAtEnd = memoryMXBean.getHeapMemoryUsage().getUsed();
+        awaitDelivery();
+        sessions.remove(runId);
+
+        GcImpact impact = new GcImpact();
+        impact.setCollectorNames(collectorNames());
+        impact.setOverlappingRuns(session.overlappingRuns);
+        synchronized (session) {
+            session.allocatedBytes += Math.max(0, heapAtEnd - session.lastHeapAfter);
+            List<GcCollectorImpact> breakdown = new ArrayList<>(session.collectors.values());
+            int collections = 0;
+            double pauseMs = 0;
+            double maxPauseMs = 0;
+            double concurrentMs = 0;
+            double promotedMB = 0;
+            for (GcCollectorImpact collector : breakdown) {
+                collections += collector.getCollections();
+                pauseMs += collector.getPauseTimeMs();
+                maxPauseMs = Math.max(maxPauseMs, collector.getMaxPauseMs());
+                concurrentMs += collector.getConcurrentTimeMs();
+                promotedMB += collector.getPromotedMB();
+            }
+            double allocatedMB = bytesToMB(session.allocatedBytes);
+            impact.setCollections(collections);
+            impact.setPauseTimeMs(pauseMs);
+            impact.setPauseShare(elapsedMs > 0 ? Math.min(1, pauseMs / elapsedMs) : 0);
+            impact.setMaxPauseMs(maxPauseMs);
+            impact.setConcurrentTimeMs(concurrentMs);
+            impact.setAllocatedMB(allocatedMB);
+            impact.setAllocationRateMBPerSec(elapsedMs > 0 ? allocatedMB * 1000 / elapsedMs : 0);
+            impact.setPromotedMB(promotedMB);
+            impact.setCollectors(breakdown);
+        }
+        return impact;
+    }
+
+    /**
+     * Verwirft die Zuordnung eines abgebrochenen Laufs
+     */
+    public void cancel(String runId) {
+        sessions.remove(runId);
+    }
+
+    private void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        try {
+            GcInfo gcInfo = info.getGcInfo();
+            long heapBefore = sum(gcInfo.getMemoryUsageBeforeGc(), heapPools);
+            long heapAfter = sum(gcInfo.getMemoryUsageAfterGc(), heapPools);
+            long promoted = Math.max(0, sum(gcInfo.getMemoryUsageAfterGc(), oldGenPools)
+                    - sum(gcInfo.getMemoryUsageBeforeGc(), oldGenPools));
+            boolean concurrent = info.getGcName().endsWith("Cycles");
+            for (GcSession session : sessions.values()) {
+                session.record(info.getGcName(), info.getGcCause(), gcInfo.getStartTime(), gcInfo.getDuration(),
+                        concurrent, cycleCollector == concurrent, heapBefore, heapAfter, promoted);
+            }
+        } finally {
+            delivered.computeIfAbsent(info.getGcName(), name -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    /**
+     * Wartet, bis jede bereits gezählte Sammlung als Benachrichtigung angekommen ist
+     */
+    private void awaitDelivery() {
+        long deadline = System.currentTimeMillis() + DELIVERY_TIMEOUT_MS;
+        for (GarbageCollectorMXBean collector : collectors) {
+            AtomicLong count = delivered.get(collector.getName());
+            long target = collector.getCollectionCount();
+            while (count != null && count.get() < target && System.currentTimeMillis() < deadline) {
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private List<String> collectorNames() {
+        List<String> names = new ArrayList<>();
+        for (GarbageCollectorMXBean collector : collectors) {
+            names.add(collector.getName());
+        }
+        return names;
+    }
+
+    private static long sum(Map<String, MemoryUsage> usage, Set<String> pools) {
+        long total = 0;
+        for (Map.Entry<String, MemoryUsage> entry : usage.entrySet()) {
+            if (pools.contains(entry.getKey())) {
+                total += entry.getValue().getUsed();
+            }
+        }
+        return total;
+    }
+
+    private static double bytesToMB(long bytes) {
+        return (double) bytes / (1024 * 1024);
+    }
+
+    /**
+     * GC-Zuordnung eines einzelnen Laufs; wird vom Benachrichtigungs-Thread befüllt
+     */
+    public static class GcSession {
+        private final long startUptime;
+        private volatile long endUptime = Long.MAX_VALUE;
+        private volatile int overlappingRuns;
+        private long lastHeapAfter;
+        private long allocatedBytes;
+        private final Map<String, GcCollectorImpact> collectors = new LinkedHashMap<>();
+
+        private GcSession(long startUptime, long heapUsed) {
+            this.startUptime = startUptime;
+            this.lastHeapAfter = heapUsed;
+        }
+
+        private synchronized void record(String name, String cause, long gcStart, long durationMs, boolean concurrent,
+                                         boolean measuresAllocation, long heapBefore, long heapAfter, long promoted) {
+            if (gcStart < startUptime || gcStart > endUptime) {
+                return;
+            }
+            GcCollectorImpact collector = collectors.computeIfAbsent(name, key -> {
+                GcCollectorImpact impact = new GcCollectorImpact();
+                impact.setName(key);
+                impact.setCauses(new LinkedHashMap<>());
+                return impact;
+            });
+            collector.setCollections(collector.getCollections() + 1);
+            if (concurrent) {
+                collector.setConcurrentTimeMs(collector.getConcurrentTimeMs() + durationMs);
+            } else {
+                collector.setPauseTimeMs(collector.getPauseTimeMs() + durationMs);
+                collector.setMaxPauseMs(Math.max(collector.getMaxPauseMs(), durationMs));
+            }
+            collector.setReclaimedMB(collector.getReclaimedMB() + bytesToMB(Math.max(0, heapBefore - heapAfter)));
+            collector.setPromotedMB(collector.getPromotedMB() + bytesToMB(promoted));
+            collector.getCauses().merge(cause, 1, Integer::sum);
+            if (measuresAllocation) {
+                allocatedBytes += Math.max(0, heapBefore - lastHeapAfter);
+                lastHeapAfter = heapAfter;
+            }
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package de.haw.hamburg.threaddemo.service;
 
+import de.haw.hamburg.threaddemo.config.ThreadModelExecutors;
+import de.haw.hamburg.threaddemo.model.ConcurrencyLimitStatus;
+import de.haw.hamburg.threaddemo.model.LockMode;
+import de.haw.hamburg.threaddemo.model.ThreadModel;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,7 +27,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
 
 /**
  * Service-Klasse, die I/O-intensive Operationen durchführt
@@ -41,22 +47,53 @@ public class IOIntensiveService {
     @Value("${io.test.temp.dir:./io-test-temp}")
     private String tempDirPath;
     
-    // Injiziere die executor beans direkt für die CompletableFuture Implementierungen
-    private final Executor platformThreadTaskExecutor;
-    private final Executor virtualThreadTaskExecutor;
-    private final Executor limitedThreadTaskExecutor;
-    private final Executor optimizedThreadTaskExecutor;
+    @Value("${io.test.lock.critical-section-ms:20}")
+    private long criticalSectionMs;
+    
+    @Value("${benchmark.bounded-virtual.http.max-concurrency:200}")
+    private int httpMaxConcurrency;
+    
+    @Value("${benchmark.bounded-virtual.file.max-concurrency:64}")
+    private int fileMaxConcurrency;
+    
+    @Value("${benchmark.bounded-virtual.initial-concurrency:16}")
+    private int initialConcurrency;
+    
+    @Value("${benchmark.bounded-virtual.adaptive:true}")
+    private boolean adaptiveLimits;
+    
+    @Value("${benchmark.bounded-virtual.latency-tolerance:2.0}")
+    private double latencyTolerance;
+    
+    // Gemeinsame Ressource des Contention-Tests mit den drei Synchronisationsarten
+    private final Object sharedResourceMonitor = new Object();
+    private final ReentrantLock sharedResourceLock = new ReentrantLock();
+    private final StampedLock sharedResourceStampedLock = new StampedLock();
+    
+    // Executor je Thread-Modell für die CompletableFuture Implementierungen
+    private final ThreadModelExecutors executors;
+    
+    // Ereignisse je Aufgabe ohne synchrones Logging im Hot Path
+    private final TaskEventLog taskEventLog;
+    
+    // Ressourcen-Limits des begrenzten Virtual-Thread-Modells
+    private ConcurrencyLimiter httpLimiter;
+    private ConcurrencyLimiter fileLimiter;
     
     @Autowired
     public IOIntensiveService(
-            Executor platformThreadTaskExecutor,
-            Executor virtualThreadTaskExecutor,
-            Executor limitedThreadTaskExecutor,
-            Executor optimizedThreadTaskExecutor) {
-        this.platformThreadTaskExecutor = platformThreadTaskExecutor;
-        this.virtualThreadTaskExecutor = virtualThreadTaskExecutor;
-        this.limitedThreadTaskExecutor = limitedThreadTaskExecutor;
-        this.optimizedThreadTaskExecutor = optimizedThreadTaskExecutor;
+            ThreadModelExecutors executors,
+            TaskEventLog taskEventLog) {
+        this.executors = executors;
+        this.taskEventLog = taskEventLog;
+    }
+    
+    @PostConstruct
+    public void createLimiters() {
+        httpLimiter = new ConcurrencyLimiter("http", initialConcurrency, 1, httpMaxConcurrency, adaptiveLimits,
+                latencyTolerance);
+        fileLimiter = new ConcurrencyLimiter("file", initialConcurrency, 1, fileMaxConcurrency, adaptiveLimits,
+                latencyTolerance);
     }
     
     /**
@@ -64,28 +101,37 @@ public class IOIntensiveService {
      * Verwendet einen simulierten Delay, um nicht von externen Diensten abhängig zu sein
      */
     public List<String> performHttpRequests(int numberOfRequests) {
+        return performHttpRequests(numberOfRequests, null);
+    }
+    
+    /**
+     * HTTP-Anfragen wie oben, optional begrenzt durch einen ConcurrencyLimiter (null = unbegrenzt)
+     */
+    private List<String> performHttpRequests(int numberOfRequests, ConcurrencyLimiter limiter) {
         List<String> results = new ArrayList<>();
         
-        log.info("Starte {} HTTP-Anfragen auf Thread: {}", 
-                numberOfRequests, Thread.currentThread().getName());
+        if (log.isDebugEnabled()) {
+            log.debug("Starte {} HTTP-Anfragen auf Thread: {}", 
+                    numberOfRequests, Thread.currentThread().getName());
+        }
         
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         
         for (int i = 0; i < numberOfRequests; i++) {
             try {
-                // Simuliere Netzwerk-Latenz statt echte HTTP-Anfragen zu machen
-                Thread.sleep(300); // 300ms simulierte Netzwerklatenz (erhöht für bessere Unterschiede)
-                String result = "HTTP Response #" + i + " - Thread: " + Thread.currentThread().getName();
-                results.add(result);
+                int index = i;
+                results.add(limiter == null ? simulateHttpRequest(index) : limiter.call(() -> simulateHttpRequest(index)));
             } catch (Exception e) {
                 log.error("Fehler bei HTTP-Anfrage: {}", e.getMessage());
                 results.add("Fehler: " + e.getMessage());
             }
         }
         
-        long endTime = System.currentTimeMillis();
-        log.info("HTTP-Anfragen abgeschlossen in {} ms auf Thread: {}", 
-                (endTime - startTime), Thread.currentThread().getName());
+        taskEventLog.record("http", startTime, numberOfRequests);
+        if (log.isDebugEnabled()) {
+            log.debug("HTTP-Anfragen abgeschlossen in {} ms auf Thread: {}", 
+                    (System.nanoTime() - startTime) / 1_000_000, Thread.currentThread().getName());
+        }
         
         return results;
     }
@@ -96,10 +142,20 @@ public class IOIntensiveService {
      * - Zeigt Unterschiede in der Effizienz verschiedener Thread-Modelle
      */
     public List<Path> performFileOperations(int numberOfFiles, int fileSizeKB) {
+        return performFileOperations(numberOfFiles, fileSizeKB, null);
+    }
+    
+    /**
+     * Dateioperationen wie oben, optional begrenzt durch einen ConcurrencyLimiter (null = unbegrenzt)
+     * - Die Erlaubnis gilt vom Anlegen bis zum Löschen der Datei, also solange Handle und Datei existieren
+     */
+    private List<Path> performFileOperations(int numberOfFiles, int fileSizeKB, ConcurrencyLimiter limiter) {
         List<Path> filePaths = new ArrayList<>();
         
-        log.info("Starte Dateioperationen: {} Dateien mit je {} KB auf Thread: {}", 
-                numberOfFiles, fileSizeKB, Thread.currentThread().getName());
+        if (log.isDebugEnabled()) {
+            log.debug("Starte Dateioperationen: {} Dateien mit je {} KB auf Thread: {}", 
+                    numberOfFiles, fileSizeKB, Thread.currentThread().getName());
+        }
         
         // Stelle sicher, dass das temporäre Verzeichnis existiert
         Path tempDir = Paths.get(tempDirPath);
@@ -110,7 +166,7 @@ public class IOIntensiveService {
             return filePaths;
         }
         
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         
         // Erstelle zufällige Daten für die Dateien
         byte[] data = new byte[fileSizeKB * 1024];
@@ -121,34 +177,54 @@ public class IOIntensiveService {
         // Erstelle und lese Dateien
         for (int i = 0; i < numberOfFiles; i++) {
             try {
-                // Erstelle Datei mit eindeutigem Namen
-                Path filePath = tempDir.resolve("file-" + UUID.randomUUID() + ".dat");
-                Files.write(filePath, data, StandardOpenOption.CREATE);
-                filePaths.add(filePath);
-                
-                // Simuliere zusätzliche I/O-Latenz für deutlichere Unterschiede
-                Thread.sleep(100);
-                
-                // Lese die Datei wieder ein
-                byte[] readData = Files.readAllBytes(filePath);
-                
-                // Simuliere Verarbeitung
-                Thread.sleep(50);
-                
-                // Lösche die temporäre Datei
-                Files.delete(filePath);
+                filePaths.add(limiter == null
+                        ? performFileOperation(tempDir, data)
+                        : limiter.call(() -> performFileOperation(tempDir, data)));
             } catch (Exception e) {
                 log.error("Fehler bei Dateioperationen: {}", e.getMessage());
             }
         }
         
-        long endTime = System.currentTimeMillis();
-        log.info("Dateioperationen abgeschlossen in {} ms auf Thread: {}", 
-                (endTime - startTime), Thread.currentThread().getName());
+        taskEventLog.record("file", startTime, numberOfFiles);
+        if (log.isDebugEnabled()) {
+            log.debug("Dateioperationen abgeschlossen in {} ms auf Thread: {}", 
+                    (System.nanoTime() - startTime) / 1_000_000, Thread.currentThread().getName());
+        }
         
         return filePaths;
     }
     
+    /**
+     * Eine simulierte HTTP-Anfrage
+     */
+    private String simulateHttpRequest(int i) throws InterruptedException {
+        // Simuliere Netzwerk-Latenz statt echte HTTP-Anfragen zu machen
+        Thread.sleep(300); // 300ms simulierte Netzwerklatenz (erhöht für bessere Unterschiede)
+        return "HTTP Response #" + i + " - Thread: " + Thread.currentThread().getName();
+    }
+    
+    /**
+     * Eine Dateioperation: schreiben, lesen und löschen einer temporären Datei
+     */
+    private Path performFileOperation(Path tempDir, byte[] data) throws IOException, InterruptedException {
+        // Erstelle Datei mit eindeutigem Namen
+        Path filePath = tempDir.resolve("file-" + UUID.randomUUID() + ".dat");
+        Files.write(filePath, data, StandardOpenOption.CREATE);
+        
+        // Simuliere zusätzliche I/O-Latenz für deutlichere Unterschiede
+        Thread.sleep(100);
+        
+        // Lese die Datei wieder ein
+        byte[] readData = Files.readAllBytes(filePath);
+        
+        // Simuliere Verarbeitung
+        Thread.sleep(50);
+        
+        // Lösche die temporäre Datei
+        Files.delete(filePath);
+        return filePath;
+    }
+    
     /**
      * Führt einen gemischten I/O-Test durch, der sowohl Netzwerk- als auch Dateizugriffe enthält
      */
@@ -156,14 +232,34 @@ public class IOIntensiveService {
         int httpRequests = operations / 2;
         int fileOperations = operations / 2;
         
-        log.info("Starte gemischten I/O-Test mit {} HTTP-Anfragen und {} Dateioperationen", 
+        log.debug("Starte gemischten I/O-Test mit {} HTTP-Anfragen und {} Dateioperationen", 
                 httpRequests, fileOperations);
         
         // Führe synchron im aktuellen Thread aus (der bereits im jeweiligen ThreadPool läuft)
         performHttpRequests(httpRequests);
         performFileOperations(fileOperations, fileSizeKB);
         
-        log.info("Gemischter I/O-Test abgeschlossen auf Thread: {}", Thread.currentThread().getName());
+        if (log.isDebugEnabled()) {
+            log.debug("Gemischter I/O-Test abgeschlossen auf Thread: {}", Thread.currentThread().getName());
+        }
+    }
+    
+    /**
+     * Gemischter I/O-Test mit Begrenzung pro Ressource
+     * - HTTP-Anfragen und Dateioperationen laufen über je einen eigenen ConcurrencyLimiter
+     * - Beliebig viele Aufgaben können als Virtual Threads starten; gleichzeitig offene Dateien
+     *   und Verbindungen bleiben aber unter der konfigurierten Obergrenze
+     */
+    public void performBoundedMixedIOTest(int operations, int fileSizeKB) {
+        performHttpRequests(operations / 2, httpLimiter);
+        performFileOperations(operations / 2, fileSizeKB, fileLimiter);
+    }
+    
+    /**
+     * Zustand der Ressourcen-Limiter des begrenzten Virtual-Thread-Modells
+     */
+    public List<ConcurrencyLimitStatus> getConcurrencyLimits() {
+        return List.of(httpLimiter.status(), fileLimiter.status());
     }
     
     /**
@@ -172,7 +268,8 @@ public class IOIntensiveService {
      * - Threads bleiben während blockierender I/O-Operationen aktiv
      */
     public CompletableFuture<Void> performMixedIOTestWithPlatformThreads(int operations, int fileSizeKB) {
-        return CompletableFuture.runAsync(() -> performMixedIOTest(operations, fileSizeKB), platformThreadTaskExecutor);
+        return CompletableFuture.runAsync(() -> performMixedIOTest(operations, fileSizeKB),
+                executors.executorFor(ThreadModel.PLATFORM));
     }
     
     /**
@@ -182,7 +279,18 @@ public class IOIntensiveService {
      * - Beim Blockieren werden die Threads effizient pausiert
      */
     public CompletableFuture<Void> performMixedIOTestWithVirtualThreads(int operations, int fileSizeKB) {
-        return CompletableFuture.runAsync(() -> performMixedIOTest(operations, fileSizeKB), virtualThreadTaskExecutor);
+        return CompletableFuture.runAsync(() -> performMixedIOTest(operations, fileSizeKB),
+                executors.executorFor(ThreadModel.VIRTUAL));
+    }
+    
+    /**
+     * Asynchrone Ausführung eines gemischten I/O-Tests mit Virtual Threads und Ressourcen-Limits
+     * - Virtual Threads wie oben, Datei- und HTTP-Zugriffe aber begrenzt (fest oder adaptiv)
+     * - Überzählige Aufgaben warten geparkt auf eine Erlaubnis, statt Datei-Handles zu belegen
+     */
+    public CompletableFuture<Void> performMixedIOTestWithBoundedVirtualThreads(int operations, int fileSizeKB) {
+        return CompletableFuture.runAsync(() -> performBoundedMixedIOTest(operations, fileSizeKB),
+                executors.executorFor(ThreadModel.BOUNDED_VIRTUAL));
     }
     
     /**
@@ -191,7 +299,8 @@ public class IOIntensiveService {
      * - Zeigt Verhalten bei begrenzter Thread-Anzahl
      */
     public CompletableFuture<Void> performMixedIOTestWithLimitedThreads(int operations, int fileSizeKB) {
-        return CompletableFuture.runAsync(() -> performMixedIOTest(operations, fileSizeKB), limitedThreadTaskExecutor);
+        return CompletableFuture.runAsync(() -> performMixedIOTest(operations, fileSizeKB),
+                executors.executorFor(ThreadModel.LIMITED));
     }
     
     /**
@@ -200,6 +309,93 @@ public class IOIntensiveService {
      * - Threads können Arbeit von überlasteten Threads "stehlen"
      */
     public CompletableFuture<Void> performMixedIOTestWithOptimizedThreads(int operations, int fileSizeKB) {
-        return CompletableFuture.runAsync(() -> performMixedIOTest(operations, fileSizeKB), optimizedThreadTaskExecutor);
+        return CompletableFuture.runAsync(() -> performMixedIOTest(operations, fileSizeKB),
+                executors.executorFor(ThreadModel.OPTIMIZED));
+    }
+    
+    /**
+     * Führt einen I/O-Test mit einer gemeinsamen, per Lock geschützten Ressource durch
+     * - Alle Aufgaben lesen und schreiben abwechselnd dieselbe Datei
+     * - Der blockierende Dateizugriff und eine zusätzliche Wartezeit liegen innerhalb des kritischen Abschnitts
+     * - Mit synchronized wird ein virtueller Thread dabei an seinen Carrier gebunden (Pinning),
+     *   mit ReentrantLock und StampedLock nicht
+     */
+    public void performContendedIOTest(int operations, int fileSizeKB, LockMode lockMode) {
+        Path sharedFile = Paths.get(tempDirPath).resolve("shared-resource.dat");
+        try {
+            Files.createDirectories(sharedFile.getParent());
+        } catch (IOException e) {
+            log.error("Konnte temporäres Verzeichnis nicht erstellen: {}", e.getMessage());
+            return;
+        }
+        
+        byte[] data = new byte[fileSizeKB * 1024];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (Math.random() * 256);
+        }
+        
+        for (int i = 0; i < operations; i++) {
+            boolean write = i % 2 == 0;
+            try {
+                switch (lockMode) {
+                    case SYNCHRONIZED:
+                        synchronized (sharedResourceMonitor) {
+                            accessSharedResource(sharedFile, data, write);
+                        }
+                        break;
+                    case REENTRANT:
+                        sharedResourceLock.lock();
+                        try {
+                            accessSharedResource(sharedFile, data, write);
+                        } finally {
+                            sharedResourceLock.unlock();
+                        }
+                        break;
+                    case STAMPED:
+                        // Lesende Zugriffe teilen sich den Lock
+                        long stamp = write ? sharedResourceStampedLock.writeLock() : sharedResourceStampedLock.readLock();
+                        try {
+                            accessSharedResource(sharedFile, data, write);
+                        } finally {
+                            sharedResourceStampedLock.unlock(stamp);
+                        }
+                        break;
+                    default:
+                        accessSharedResource(sharedFile, data, write);
+                        break;
+                }
+            } catch (IOException e) {
+                log.error("Fehler beim Zugriff auf die gemeinsame Ressource: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Kritischer Abschnitt: blockierender Dateizugriff und simulierte Latenz
+     */
+    private void accessSharedResource(Path sharedFile, byte[] data, boolean write)
+            throws IOException, InterruptedException {
+        if (write || !Files.exists(sharedFile)) {
+            Files.write(sharedFile, data, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+        } else {
+            Files.readAllBytes(sharedFile);
+        }
+        Thread.sleep(criticalSectionMs);
+    }
+    
+    /**
+     * Asynchrone Ausführung des Contention-Tests auf dem Executor des Thread-Modells
+     */
+    public CompletableFuture<Void> performContendedIOTest(ThreadModel threadModel, int operations, int fileSizeKB,
+                                                         LockMode lockMode) {
+        if (threadModel == ThreadModel.REACTIVE) {
+            throw new IllegalArgumentException("Contention-Test wird für " + threadModel + " nicht unterstützt");
+        }
+        return CompletableFuture.runAsync(() -> performContendedIOTest(operations, fileSizeKB, lockMode),
+                executors.executorFor(threadModel));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,207 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.model.CalculationRequest;
+import de.haw.hamburg.threaddemo.model.CalculationResponse;
+import de.haw.hamburg.threaddemo.model.LockAuditReport;
+import de.haw.hamburg.threaddemo.model.LockAuditResult;
+import de.haw.hamburg.threaddemo.model.LockMode;
+import de.haw.hamburg.threaddemo.model.ThreadModel;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Lock-Audit für die Umstellung auf Virtual Threads
+ * - Führt den I/O-Contention-Test für synchronized, ReentrantLock und StampedLock jeweils
+ *   mit Platform Threads und Virtual Threads aus
+ * - Zeichnet während jedes Laufs das JFR-Ereignis jdk.VirtualThreadPinned auf
+ * - Liefert Durchsatz, p50/p99 und Pinning-Ereignisse je Kombination
+ *
+ * Blockierende Aufrufe innerhalb von synchronized binden einen virtuellen Thread an seinen Carrier;
+ * der Audit macht dieses Risiko vor dem Einschalten von spring.threads.virtual.enabled messbar.
+ * Läuft die Anwendung ohne echte Virtual Threads (Java < 21), gibt es keine Pinning-Ereignisse.
+ */
+@Service
+public class LockAuditService {
+
+    private static final Logger log = LoggerFactory.getLogger(LockAuditService.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    // Operationen je Aufgabe wie im gemischten I/O-Test
+    private static final int OPERATIONS_PER_TASK = 5;
+
+    private static final ThreadModel[] MODELS = {ThreadModel.PLATFORM, ThreadModel.VIRTUAL};
+    private static final LockMode[] LOCK_MODES = {LockMode.SYNCHRONIZED, LockMode.REENTRANT, LockMode.STAMPED};
+
+    @Value("${benchmark.lock-audit.pinning-threshold-ms:1}")
+    private long pinningThresholdMs;
+
+    @Value("${io.test.lock.critical-section-ms:20}")
+    private long criticalSectionMs;
+
+    private final BenchmarkExecutionService executionService;
+    private final Executor virtualThreadTaskExecutor;
+
+    @Autowired
+    public LockAuditService(BenchmarkExecutionService executionService, Executor virtualThreadTaskExecutor) {
+        this.executionService = executionService;
+        this.virtualThreadTaskExecutor = virtualThreadTaskExecutor;
+    }
+
+    /**
+     * Führt alle Kombinationen nacheinander aus; Aufgabenzahl und Dateigröße stammen aus der Anfrage
+     */
+    public LockAuditReport audit(CalculationRequest request) {
+        boolean pinningSupported = isPinningEventAvailable();
+
+        List<LockAuditResult> results = new ArrayList<>();
+        for (LockMode lockMode : LOCK_MODES) {
+            for (ThreadModel model : MODELS) {
+                results.add(run(model, lockMode, request, pinningSupported));
+            }
+        }
+
+        LockAuditReport report = new LockAuditReport();
+        report.setJavaVersion(System.getProperty("java.version"));
+        report.setRealVirtualThreads(usesRealVirtualThreads());
+        report.setPinningEventsSupported(pinningSupported);
+        report.setPinningThresholdMs(pinningThresholdMs);
+        report.setCriticalSectionMs(criticalSectionMs);
+        report.setResults(results);
+        return report;
+    }
+
+    private LockAuditResult run(ThreadModel model, LockMode lockMode, CalculationRequest base,
+                                boolean pinningSupported) {
+        CalculationRequest request = new CalculationRequest();
+        request.setTestType("io");
+        request.setLockMode(lockMode.getKey());
+        request.setParallelTasks(base.getParallelTasks());
+        request.setFileSizeKB(base.getFileSizeKB());
+        request.setMatrixSize(base.getMatrixSize());
+
+        Recording recording = null;
+        if (pinningSupported) {
+            recording = new Recording();
+            recording.setName("lock-audit-" + lockMode.getKey());
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(pinningThresholdMs));
+            recording.start();
+        }
+
+        LockAuditResult result = new LockAuditResult();
+        try {
+            // Nicht speichern: die Audit-Läufe sollen keine Vergleichsbasis für Regressionen bilden
+            CalculationResponse response = executionService.execute(model, request, false);
+
+            result.setLockMode(lockMode.getKey());
+            result.setThreadModel(response.getThreadModel());
+            result.setRunId(response.getRunId());
+            result.setTotalExecutionTimeMs(response.getTotalExecutionTimeMs());
+            result.setP50TaskTimeMs(response.getP50TaskTimeMs());
+            result.setP99TaskTimeMs(response.getP99TaskTimeMs());
+            result.setFailedTasks(response.getFailedTasks());
+            int operations = (response.getParallelTasks() - response.getFailedTasks()) * OPERATIONS_PER_TASK;
+            result.setOperationsPerSecond(response.getTotalExecutionTimeMs() > 0
+                    ? operations * 1000.0 / response.getTotalExecutionTimeMs()
+                    : 0);
+            result.setPinnedEvents(-1);
+            if (recording != null) {
+                collectPinning(recording, result);
+            }
+        } finally {
+            // Auch bei einem fehlgeschlagenen Lauf freigeben
+            if (recording != null) {
+                recording.close();
+            }
+        }
+        log.info("Lock-Audit {} / {}: {} ms, {} Pinning-Ereignisse", lockMode.getKey(), model,
+                result.getTotalExecutionTimeMs(), result.getPinnedEvents());
+        return result;
+    }
+
+    /**
+     * Liest die Pinning-Ereignisse eines Laufs aus der JFR-Aufzeichnung
+     */
+    private void collectPinning(Recording recording, LockAuditResult result) {
+        Path file = null;
+        try {
+            recording.stop();
+            file = Files.createTempFile("lock-audit", ".jfr");
+            recording.dump(file);
+            long events = 0;
+            double pinnedMs = 0;
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (PINNED_EVENT.equals(event.getEventType().getName())) {
+                    events++;
+                    pinnedMs += event.getDuration().toNanos() / 1_000_000.0;
+                }
+            }
+            result.setPinnedEvents(events);
+            result.setPinnedTimeMs(pinnedMs);
+        } catch (IOException e) {
+            log.error("Pinning-Ereignisse konnten nicht gelesen werden: {}", e.getMessage());
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.debug("Temporäre JFR-Datei {} konnte nicht gelöscht werden", file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Prüft, ob die JVM das Pinning-Ereignis kennt (ab Java 21)
+     */
+    private static boolean isPinningEventAvailable() {
+        try {
+            for (EventType type : FlightRecorder.getFlightRecorder().getEventTypes()) {
+                if (PINNED_EVENT.equals(type.getName())) {
+                    return true;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("JFR nicht verfügbar: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Prüft über Thread.isVirtual() (per Reflection, ab Java 21), ob der Virtual-Thread-Executor
+     * echte virtuelle Threads startet
+     */
+    private boolean usesRealVirtualThreads() {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return (Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread());
+                } catch (ReflectiveOperationException e) {
+                    return false;
+                }
+            }, virtualThreadTaskExecutor).get();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+    }
+}
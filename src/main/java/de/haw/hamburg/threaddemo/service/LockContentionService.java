@@ -0,0 +1,341 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.model.ContentionReport;
+import de.haw.hamburg.threaddemo.model.LockContention;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service für Lock-Contention- und Monitor-Wait-Statistiken
+ * - Aktiviert die Contention-Messung der JVM (Blockier- und Wartezeiten pro Thread)
+ * - Tastet die Threads in festem Intervall ab und ordnet die Zuwächse von
+ *   Blockier-/Wartezählern und -zeiten dem Lock zu, auf das der Thread wartet
+ * - Jede Beobachtung wird einer Kategorie zugeordnet, damit sich Contention auf
+ *   Queue-Locks von Leerlauf, simulierter I/O (sleep) und echter I/O unterscheiden lässt
+ * - Ausgewertet wird ein gleitendes Zeitfenster
+ *
+ * Virtuelle Threads sind für den ThreadMXBean nicht sichtbar; erfasst werden Plattform-Threads
+ * einschließlich der Carrier-Threads.
+ */
+@Service
+public class LockContentionService {
+
+    private static final Logger log = LoggerFactory.getLogger(LockContentionService.class);
+
+    private static final int STACK_DEPTH = 16;
+
+    @Value("${benchmark.contention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${benchmark.contention.sample-interval-ms:500}")
+    private long sampleIntervalMs;
+
+    @Value("${benchmark.contention.window-seconds:60}")
+    private long windowSeconds;
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private ScheduledExecutorService sampler;
+
+    // Letzte Zählerstände je Thread-ID
+    private final Map<Long, ThreadCounters> previous = new HashMap<>();
+
+    // Stichproben im gleitenden Fenster, älteste zuerst
+    private final Deque<Bucket> window = new ArrayDeque<>();
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        if (threadMXBean.isThreadContentionMonitoringSupported()) {
+            threadMXBean.setThreadContentionMonitoringEnabled(true);
+        } else {
+            log.warn("Thread-Contention-Monitoring wird von dieser JVM nicht unterstützt; nur Zählungen verfügbar");
+        }
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "contention-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(this::sample, sampleIntervalMs, sampleIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (sampler != null) {
+            sampler.shutdownNow();
+        }
+    }
+
+    /**
+     * Wertet das gleitende Fenster aus
+     *
+     * @param limit       maximale Anzahl der gelieferten Locks
+     * @param includeIdle auch Locks liefern, auf denen Pool-Threads nur im Leerlauf auf Arbeit warten
+     */
+    public ContentionReport report(int limit, boolean includeIdle) {
+        ContentionReport report = new ContentionReport();
+        report.setWindowSeconds(windowSeconds);
+        report.setContentionMonitoringEnabled(threadMXBean.isThreadContentionMonitoringSupported()
+                && threadMXBean.isThreadContentionMonitoringEnabled());
+
+        Map<String, LockContention> locks = new HashMap<>();
+        Map<String, Long> categorySamples = new TreeMap<>();
+        Map<String, Long> waitTimeByGroup = new TreeMap<>();
+        synchronized (window) {
+            report.setSamplesTaken(window.size());
+            for (Bucket bucket : window) {
+                report.setTotalBlockedCount(report.getTotalBlockedCount() + bucket.blockedCount);
+                report.setTotalBlockedTimeMs(report.getTotalBlockedTimeMs() + bucket.blockedTimeMs);
+                report.setTotalWaitedCount(report.getTotalWaitedCount() + bucket.waitedCount);
+                report.setTotalWaitedTimeMs(report.getTotalWaitedTimeMs() + bucket.waitedTimeMs);
+                bucket.categorySamples.forEach((category, count) -> categorySamples.merge(category, count, Long::sum));
+                bucket.waitTimeByGroup.forEach((group, time) -> waitTimeByGroup.merge(group, time, Long::sum));
+                for (LockContention lock : bucket.locks.values()) {
+                    merge(locks.computeIfAbsent(lock.getLockName(), name -> newLock(name, lock.getLockClass())), lock);
+                }
+            }
+        }
+
+        List<LockContention> topLocks = new ArrayList<>();
+        for (LockContention lock : locks.values()) {
+            if (includeIdle || !"queue-idle".equals(lock.getCategory())) {
+                topLocks.add(lock);
+            }
+        }
+        topLocks.sort(Comparator
+                .comparingLong((LockContention lock) -> lock.getBlockedTimeMs() + lock.getWaitedTimeMs())
+                .thenComparingLong(LockContention::getSamples)
+                .reversed());
+        report.setTopLocks(new ArrayList<>(topLocks.subList(0, Math.min(Math.max(0, limit), topLocks.size()))));
+        report.setCategorySamples(categorySamples);
+        report.setWaitTimeByGroup(waitTimeByGroup);
+        return report;
+    }
+
+    /**
+     * Nimmt eine Stichprobe aller Threads und legt die Zuwächse im Fenster ab
+     */
+    void sample() {
+        try {
+            ThreadInfo[] infos = threadMXBean.getThreadInfo(threadMXBean.getAllThreadIds(), STACK_DEPTH);
+            Bucket bucket = new Bucket(System.currentTimeMillis());
+            Map<String, Integer> waitingPerLock = new HashMap<>();
+            Map<Long, ThreadCounters> seen = new HashMap<>();
+
+            for (ThreadInfo info : infos) {
+                if (info == null) {
+                    continue;
+                }
+                LockInfo lockInfo = info.getLockInfo();
+                String lockName = lockInfo != null ? lockInfo.toString() : null;
+                String category = classify(info);
+
+                ThreadCounters current = new ThreadCounters(info.getBlockedCount(), info.getBlockedTime(),
+                        info.getWaitedCount(), info.getWaitedTime(), lockName, category);
+                ThreadCounters last = previous.get(info.getThreadId());
+                seen.put(info.getThreadId(), current);
+
+                if (category != null) {
+                    bucket.categorySamples.merge(category, 1L, Long::sum);
+                }
+
+                if (last == null) {
+                    continue;
+                }
+                long blockedCount = Math.max(0, current.blockedCount - last.blockedCount);
+                long waitedCount = Math.max(0, current.waitedCount - last.waitedCount);
+                // Zeiten sind -1, wenn die Contention-Messung nicht aktiv ist
+                long blockedTime = current.blockedTime >= 0 && last.blockedTime >= 0
+                        ? Math.max(0, current.blockedTime - last.blockedTime) : 0;
+                long waitedTime = current.waitedTime >= 0 && last.waitedTime >= 0
+                        ? Math.max(0, current.waitedTime - last.waitedTime) : 0;
+
+                bucket.blockedCount += blockedCount;
+                bucket.blockedTimeMs += blockedTime;
+                bucket.waitedCount += waitedCount;
+                bucket.waitedTimeMs += waitedTime;
+                if (blockedTime + waitedTime > 0) {
+                    bucket.waitTimeByGroup.merge(ThreadGroups.groupOf(info.getThreadName()),
+                            blockedTime + waitedTime, Long::sum);
+                }
+
+                // Zuwachs dem aktuellen Lock zuordnen, sonst dem Lock der gerade beendeten Wartephase
+                String attributedLock = lockName != null ? lockName : last.lockName;
+                String attributedCategory = lockName != null ? category : last.category;
+                if (attributedLock == null) {
+                    continue;
+                }
+                LockContention lock = bucket.locks.computeIfAbsent(attributedLock,
+                        name -> newLock(name, name.substring(0, Math.max(0, name.lastIndexOf('@')))));
+                lock.setCategory(attributedCategory);
+                lock.setBlockedCount(lock.getBlockedCount() + blockedCount);
+                lock.setBlockedTimeMs(lock.getBlockedTimeMs() + blockedTime);
+                lock.setWaitedCount(lock.getWaitedCount() + waitedCount);
+                lock.setWaitedTimeMs(lock.getWaitedTimeMs() + waitedTime);
+
+                if (lockName != null) {
+                    lock.setSamples(lock.getSamples() + 1);
+                    waitingPerLock.merge(lockName, 1, Integer::sum);
+                    if (info.getLockOwnerName() != null && !lock.getOwners().contains(info.getLockOwnerName())) {
+                        lock.getOwners().add(info.getLockOwnerName());
+                    }
+                }
+            }
+
+            waitingPerLock.forEach((name, waiting) -> {
+                LockContention lock = bucket.locks.get(name);
+                lock.setMaxWaitingThreads(Math.max(lock.getMaxWaitingThreads(), waiting));
+            });
+
+            previous.clear();
+            previous.putAll(seen);
+
+            synchronized (window) {
+                window.addLast(bucket);
+                long cutoff = bucket.timestamp - TimeUnit.SECONDS.toMillis(windowSeconds);
+                while (!window.isEmpty() && window.peekFirst().timestamp < cutoff) {
+                    window.removeFirst();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Contention-Stichprobe fehlgeschlagen: {}", e.toString());
+        }
+    }
+
+    /**
+     * Ordnet den Zustand eines Threads einer Wartekategorie zu (null = rechnet)
+     */
+    static String classify(ThreadInfo info) {
+        StackTraceElement[] stack = info.getStackTrace();
+        String lockClass = info.getLockInfo() != null ? info.getLockInfo().getClassName() : "";
+        switch (info.getThreadState()) {
+            case RUNNABLE:
+                return containsFrame(stack, "java.net.", "sun.nio.ch.", "java.io.FileInputStream",
+                        "java.io.FileOutputStream", "sun.nio.fs.") ? "io" : null;
+            case BLOCKED:
+                return "monitor";
+            case WAITING:
+            case TIMED_WAITING:
+                if (containsFrame(stack, "java.lang.Thread.sleep")) {
+                    return "sleep";
+                }
+                if (lockClass.contains("ConditionObject")
+                        && containsFrame(stack, "ThreadPoolExecutor.getTask")) {
+                    return "queue-idle";
+                }
+                if (containsFrame(stack, "java.util.concurrent.ForkJoinPool.awaitWork")) {
+                    return "queue-idle";
+                }
+                if (lockClass.contains("ReentrantLock") && containsFrame(stack, "BlockingQueue")) {
+                    return "queue-lock";
+                }
+                if (containsFrame(stack, "java.util.concurrent.CompletableFuture.waitingGet",
+                        "java.util.concurrent.CompletableFuture.timedGet")) {
+                    return "future-wait";
+                }
+                if (lockClass.contains("ReentrantLock") || lockClass.contains("ReentrantReadWriteLock")
+                        || lockClass.contains("StampedLock")) {
+                    return "lock";
+                }
+                return "wait";
+            default:
+                return null;
+        }
+    }
+
+    private static boolean containsFrame(StackTraceElement[] stack, String... fragments) {
+        for (StackTraceElement element : stack) {
+            String frame = element.getClassName() + "." + element.getMethodName();
+            for (String fragment : fragments) {
+                if (frame.contains(fragment)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static LockContention newLock(String name, String lockClass) {
+        LockContention lock = new LockContention();
+        lock.setLockName(name);
+        lock.setLockClass(lockClass);
+        lock.setOwners(new ArrayList<>());
+        return lock;
+    }
+
+    private static void merge(LockContention target, LockContention source) {
+        target.setCategory(source.getCategory());
+        target.setSamples(target.getSamples() + source.getSamples());
+        target.setBlockedCount(target.getBlockedCount() + source.getBlockedCount());
+        target.setBlockedTimeMs(target.getBlockedTimeMs() + source.getBlockedTimeMs());
+        target.setWaitedCount(target.getWaitedCount() + source.getWaitedCount());
+        target.setWaitedTimeMs(target.getWaitedTimeMs() + source.getWaitedTimeMs());
+        target.setMaxWaitingThreads(Math.max(target.getMaxWaitingThreads(), source.getMaxWaitingThreads()));
+        Set<String> owners = new LinkedHashSet<>(target.getOwners());
+        owners.addAll(source.getOwners());
+        target.setOwners(new ArrayList<>(owners));
+    }
+
+    /**
+     * Zählerstände eines Threads zum Zeitpunkt der letzten Stichprobe
+     */
+    private static final class ThreadCounters {
+        final long blockedCount;
+        final long blockedTime;
+        final long waitedCount;
+        final long waitedTime;
+        final String lockName;
+        final String category;
+
+        ThreadCounters(long blockedCount, long blockedTime, long waitedCount, long waitedTime,
+                       String lockName, String category) {
+            this.blockedCount = blockedCount;
+            this.blockedTime = blockedTime;
+            this.waitedCount = waitedCount;
+            this.waitedTime = waitedTime;
+            this.lockName = lockName;
+            this.category = category;
+        }
+    }
+
+    /**
+     * Zuwächse einer Stichprobe
+     */
+    private static final class Bucket {
+        final long timestamp;
+        final Map<String, LockContention> locks = new HashMap<>();
+        final Map<String, Long> categorySamples = new HashMap<>();
+        final Map<String, Long> waitTimeByGroup = new HashMap<>();
+        long blockedCount;
+        long blockedTimeMs;
+        long waitedCount;
+        long waitedTimeMs;
+
+        Bucket(long timestamp) {
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package de.haw.hamburg.threaddemo.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only Log mit längenpräfixierten Datensätzen in einer memory-mapped Datei
+ *
+ * Aufbau der Datei:
+ * - Header (16 Byte): Magic, Formatversion, Segmentgröße
+ * - Datensätze: [int Länge][Nutzdaten][int CRC32]
+ *
+ * Die Datei wird in Segmenten fester Größe gemappt. Ein Datensatz überschreitet nie eine
+ * Segmentgrenze; passt er nicht mehr hinein, beginnt er im nächsten Segment. Die Länge wird
+ * zuletzt geschrieben, sodass ein abgebrochener Schreibvorgang beim Öffnen als Ende erkannt wird.
+ *
+ * Schreibende Methoden sind synchronisiert. read liest ohne Sperre aus einem Array der Segmente,
+ * das bei jedem neuen Segment kopiert und über ein volatile-Feld veröffentlicht wird.
+ */
+public class MappedRecordLog implements Closeable {
+
+    private static final int MAGIC = 0x54445253; // "TDRS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_OVERHEAD = 8;
+
+    /**
+     * Callback für das sequentielle Lesen aller Datensätze
+     */
+    public interface RecordVisitor {
+        void visit(long position, ByteBuffer payload);
+    }
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int segmentSize;
+    // Copy-on-write: nur unter der Sperre ersetzt, von read ohne Sperre gelesen
+    private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+    private long writePosition;
+
+    private MappedRecordLog(Path path, FileChannel channel, int segmentSize) {
+        this.path = path;
+        this.channel = channel;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Öffnet ein bestehendes Log oder legt ein neues an
+     * - Die Segmentgröße eines bestehenden Logs wird aus dem Header übernommen
+     * - Alle vorhandenen Datensätze werden über den Visitor gemeldet
+     */
+    public static MappedRecordLog open(Path path, int segmentSize, RecordVisitor visitor) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                MappedRecordLog log = new MappedRecordLog(path, channel, segmentSize);
+                MappedByteBuffer first = log.segment(0);
+                first.putInt(0, MAGIC);
+                first.putInt(4, FORMAT_VERSION);
+                first.putInt(8, segmentSize);
+                log.writePosition = HEADER_SIZE;
+                return log;
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            channel.read(header, 0);
+            header.flip();
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException("Keine gültige Ergebnisdatei: " + path);
+            }
+            if (header.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Nicht unterstützte Formatversion " + header.getInt(4) + " in " + path);
+            }
+            MappedRecordLog log = new MappedRecordLog(path, channel, header.getInt(8));
+            log.scan(visitor);
+            return log;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Hängt einen Datensatz an und gibt seine Position zurück
+     */
+    public synchronized long append(byte[] payload) throws IOException {
+        int recordSize = payload.length + RECORD_OVERHEAD;
+        if (recordSize > segmentSize - HEADER_SIZE) {
+            throw new IOException("Datensatz zu groß für Segmentgröße " + segmentSize + ": " + payload.length);
+        }
+
+        long position = writePosition;
+        int offset = (int) (position % segmentSize);
+        if (offset + recordSize > segmentSize) {
+            // Rest des Segments bleibt leer (Länge 0), Datensatz beginnt im nächsten Segment
+            position = position - offset + segmentSize;
+            offset = 0;
+        }
+
+        MappedByteBuffer segment = segment((int) (position / segmentSize));
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        segment.put(offset + 4, payload);
+        segment.putInt(offset + 4 + payload.length, (int) crc.getValue());
+        // Länge zuletzt schreiben: erst damit wird der Datensatz sichtbar
+        segment.putInt(offset, payload.length);
+
+        writePosition = position + recordSize;
+        return position;
+    }
+
+    /**
+     * Liefert eine schreibgeschützte Sicht auf die Nutzdaten des Datensatzes an der Position
+     */
+    public ByteBuffer read(long position) {
+        MappedByteBuffer[] current = segments;
+        int index = (int) (position / segmentSize);
+        if (index >= current.length) {
+            throw new IllegalStateException("Position " + position + " liegt außerhalb des Logs " + path
+                    + (current.length == 0 ? " (geschlossen)" : ""));
+        }
+        MappedByteBuffer segment = current[index];
+        int offset = (int) (position % segmentSize);
+        int length = segment.getInt(offset);
+        return segment.slice(offset + 4, length).asReadOnlyBuffer();
+    }
+
+    /**
+     * Größe des belegten Bereichs in Byte
+     */
+    public long getWritePosition() {
+        return writePosition;
+    }
+
+    /**
+     * Größe der Datei auf dem Datenträger (inklusive vorab gemappter Segmente)
+     */
+    public long getFileSize() throws IOException {
+        return channel.size();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Schreibt alle Änderungen auf den Datenträger
+     */
+    public synchronized void force() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        force();
+        segments = new MappedByteBuffer[0];
+        channel.close();
+    }
+
+    /**
+     * Liest alle gültigen Datensätze und bestimmt die Schreibposition
+     */
+    private void scan(RecordVisitor visitor) throws IOException {
+        long fileSize = channel.size();
+        int segmentCount = (int) ((fileSize + segmentSize - 1) / segmentSize);
+        for (int i = 0; i < segmentCount; i++) {
+            segment(i);
+        }
+
+        long position = HEADER_SIZE;
+        while (position < (long) segmentCount * segmentSize) {
+            MappedByteBuffer segment = segments[(int) (position / segmentSize)];
+            int offset = (int) (position % segmentSize);
+            int length = offset + 4 <= segmentSize ? segment.getInt(offset) : 0;
+
+            if (length == 0) {
+                // Leerer Rest: entweder Ende des Logs oder Sprung ins nächste Segment
+                long next = position - offset + segmentSize;
+                if (next < (long) segmentCount * segmentSize && segments[(int) (next / segmentSize)].getInt(0) != 0) {
+                    position = next;
+                    continue;
+                }
+                break;
+            }
+
+            if (length < 0 || offset + 4 + length + 4 > segmentSize || !checksumMatches(segment, offset, length)) {
+                // Abgebrochener oder beschädigter Schreibvorgang: ab hier wird überschrieben
+                break;
+            }
+
+            visitor.visit(position, segment.slice(offset + 4, length).asReadOnlyBuffer());
+            position += length + RECORD_OVERHEAD;
+        }
+        writePosition = position;
+    }
+
+    private boolean checksumMatches(MappedByteBuffer segment, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(segment.slice(offset + 4, length));
+        return (int) crc.getValue() == segment.getInt(offset + 4 + length);
+    }
+
+    /**
+     * Liefert das Segment mit dem Index und mappt es bei Bedarf (vergrößert die Datei)
+     */
+    private MappedByteBuffer segment(int index) throws IOException {
+        MappedByteBuffer[] current = segments;
+        if (index < current.length) {
+            return current[index];
+        }
+        MappedByteBuffer[] grown = Arrays.copyOf(current, index + 1);
+        for (int i = current.length; i <= index; i++) {
+            grown[i] = channel.map(FileChannel.MapMode.READ_WRITE, (long) i * segmentSize, segmentSize);
+        }
+        segments = grown;
+        return grown[index];
+    }
+}
@@ -1,5 +1,9 @@
 package de.haw.hamburg.threaddemo.service;
 
+import de.haw.hamburg.threaddemo.config.ThreadModelExecutors;
+import de.haw.hamburg.threaddemo.model.MatrixAlgorithm;
+import de.haw.hamburg.threaddemo.model.MatrixPrecision;
+import de.haw.hamburg.threaddemo.model.ThreadModel;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -7,13 +11,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Service-Klasse, die eine rechenintensive Matrix-Multiplikation durchführt
  * Diese Operation eignet sich gut, um die Unterschiede zwischen Thread-Modellen zu zeigen
+ *
+ * Neben double[][] gibt es Varianten mit float-Speicherung (zeilenweise in einem float[]):
+ * float mit float-Akkumulation und mixed mit double-Akkumulation.
+ *
+ * Schleifenreihenfolge je Algorithmus, für alle Zahlenformate gleich, damit sich Messunterschiede
+ * auf die Elementgröße zurückführen lassen:
+ * - classic: i-j-k, B wird spaltenweise gelesen (unverändert, Basis der gespeicherten cpu-Läufe)
+ * - ikj: i-k-j, die innere Schleife läuft zeilenweise durch B und das Ergebnis, sodass die Laufzeit
+ *   von der Speicherbandbreite und nicht von der Latenz abhängt (eigener Testtyp, z. B. cpu-ikj)
  */
 @Service
 @Slf4j
@@ -23,22 +37,18 @@ public class MatrixCalculationService {
     private final Random random = new Random();
     private volatile boolean isHeavyLoadEnabled = false;
     
-    // Injiziere die executor beans direkt für die CompletableFuture Implementierungen
-    private final Executor platformThreadTaskExecutor;
-    private final Executor virtualThreadTaskExecutor;
-    private final Executor limitedThreadTaskExecutor;
-    private final Executor optimizedThreadTaskExecutor;
+    // Executor je Thread-Modell für die CompletableFuture Implementierungen
+    private final ThreadModelExecutors executors;
+    
+    // Ereignisse je Aufgabe ohne synchrones Logging im Hot Path
+    private final TaskEventLog taskEventLog;
     
     @Autowired
     public MatrixCalculationService(
-            Executor platformThreadTaskExecutor,
-            Executor virtualThreadTaskExecutor,
-            Executor limitedThreadTaskExecutor,
-            Executor optimizedThreadTaskExecutor) {
-        this.platformThreadTaskExecutor = platformThreadTaskExecutor;
-        this.virtualThreadTaskExecutor = virtualThreadTaskExecutor;
-        this.limitedThreadTaskExecutor = limitedThreadTaskExecutor;
-        this.optimizedThreadTaskExecutor = optimizedThreadTaskExecutor;
+            ThreadModelExecutors executors,
+            TaskEventLog taskEventLog) {
+        this.executors = executors;
+        this.taskEventLog = taskEventLog;
     }
 
     /**
@@ -110,10 +120,12 @@ public class MatrixCalculationService {
         int size = matrixA.length;
         double[][] result = new double[size][size];
         
-        log.info("Starting matrix multiplication with size {} on thread: {}", 
-                size, Thread.currentThread().getName());
+        if (log.isDebugEnabled()) {
+            log.debug("Starting matrix multiplication with size {} on thread: {}", 
+                    size, Thread.currentThread().getName());
+        }
         
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         
         // Führe Matrix-Multiplikation durch
         for (int i = 0; i < size; i++) {
@@ -125,19 +137,57 @@ public class MatrixCalculationService {
             }
         }
         
-        long endTime = System.currentTimeMillis();
-        log.info("Matrix multiplication completed in {} ms on thread: {}", 
-                (endTime - startTime), Thread.currentThread().getName());
+        taskEventLog.record("matrix", startTime, size);
+        if (log.isDebugEnabled()) {
+            log.debug("Matrix multiplication completed in {} ms on thread: {}", 
+                    (System.nanoTime() - startTime) / 1_000_000, Thread.currentThread().getName());
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Matrix-Multiplikation in der Schleifenreihenfolge i-k-j (algorithm ikj)
+     * - Zeile k von B und die Ergebniszeile werden fortlaufend gelesen bzw. geschrieben
+     */
+    public double[][] multiplyMatricesIkj(double[][] matrixA, double[][] matrixB) {
+        int size = matrixA.length;
+        double[][] result = new double[size][size];
+        
+        long startTime = System.nanoTime();
+        
+        for (int i = 0; i < size; i++) {
+            double[] rowA = matrixA[i];
+            double[] rowResult = result[i];
+            for (int k = 0; k < size; k++) {
+                double a = rowA[k];
+                double[] rowB = matrixB[k];
+                for (int j = 0; j < size; j++) {
+                    rowResult[j] += a * rowB[j];
+                }
+            }
+        }
         
+        taskEventLog.record("matrix-ikj", startTime, size);
         return result;
     }
     
+    /**
+     * Asynchrone Matrix-Multiplikation in der Reihenfolge i-k-j auf dem Executor des Thread-Modells
+     */
+    public CompletableFuture<double[][]> multiplyMatricesIkj(ThreadModel threadModel, double[][] matrixA,
+                                                             double[][] matrixB) {
+        return CompletableFuture.supplyAsync(() -> multiplyMatricesIkj(matrixA, matrixB),
+                executors.executorFor(threadModel));
+    }
+    
     /**
      * Asynchrone Matrix-Multiplikation mit Platform Threads
      * Verwendet 1:1-Mapping zu OS-Threads (Standard-Java-Threads)
      */
     public CompletableFuture<double[][]> multiplyMatricesWithPlatformThreads(double[][] matrixA, double[][] matrixB) {
-        return CompletableFuture.supplyAsync(() -> multiplyMatrices(matrixA, matrixB), platformThreadTaskExecutor);
+        return CompletableFuture.supplyAsync(() -> multiplyMatrices(matrixA, matrixB),
+                executors.executorFor(ThreadModel.PLATFORM));
     }
     
     /**
@@ -145,7 +195,8 @@ public class MatrixCalculationService {
      * Verwendet leichtgewichtige JVM-Threads (echte in Java 21+, simuliert in älteren Versionen)
      */
     public CompletableFuture<double[][]> multiplyMatricesWithVirtualThreads(double[][] matrixA, double[][] matrixB) {
-        return CompletableFuture.supplyAsync(() -> multiplyMatrices(matrixA, matrixB), virtualThreadTaskExecutor);
+        return CompletableFuture.supplyAsync(() -> multiplyMatrices(matrixA, matrixB),
+                executors.executorFor(ThreadModel.VIRTUAL));
     }
     
     /**
@@ -153,7 +204,8 @@ public class MatrixCalculationService {
      * Simuliert ressourcenbegrenzte Umgebung, ähnlich zu OS-Kernel-Thread-Limitierungen
      */
     public CompletableFuture<double[][]> multiplyMatricesWithLimitedThreads(double[][] matrixA, double[][] matrixB) {
-        return CompletableFuture.supplyAsync(() -> multiplyMatrices(matrixA, matrixB), limitedThreadTaskExecutor);
+        return CompletableFuture.supplyAsync(() -> multiplyMatrices(matrixA, matrixB),
+                executors.executorFor(ThreadModel.LIMITED));
     }
     
     /**
@@ -161,6 +213,159 @@ public class MatrixCalculationService {
      * Verwendet optimiertes Scheduling für eine bessere Lastverteilung
      */
     public CompletableFuture<double[][]> multiplyMatricesWithOptimizedThreads(double[][] matrixA, double[][] matrixB) {
-        return CompletableFuture.supplyAsync(() -> multiplyMatrices(matrixA, matrixB), optimizedThreadTaskExecutor);
+        return CompletableFuture.supplyAsync(() -> multiplyMatrices(matrixA, matrixB),
+                executors.executorFor(ThreadModel.OPTIMIZED));
+    }
+    
+    /**
+     * Asynchrone Matrix-Multiplikation mit dem Virtual-Thread-Executor für begrenzte Ressourcen
+     * Reine Rechenaufgaben belegen keine begrenzte Ressource und laufen wie bei Virtual Threads
+     */
+    public CompletableFuture<double[][]> multiplyMatricesWithBoundedVirtualThreads(double[][] matrixA, double[][] matrixB) {
+        return CompletableFuture.supplyAsync(() -> multiplyMatrices(matrixA, matrixB),
+                executors.executorFor(ThreadModel.BOUNDED_VIRTUAL));
+    }
+
+    /**
+     * Erstellt eine zufällige Matrix mit float-Elementen (zeilenweise, Element (i, j) an i * size + j)
+     */
+    public float[] createRandomFloatMatrix(int size) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        float[] matrix = new float[size * size];
+        for (int i = 0; i < matrix.length; i++) {
+            matrix[i] = random.nextFloat();
+        }
+        return matrix;
+    }
+
+    /**
+     * Matrix-Multiplikation mit float-Speicherung
+     *
+     * @param precision FLOAT akkumuliert in float, MIXED in double
+     * @param algorithm CLASSIC in der Reihenfolge i-j-k, IKJ in i-k-j
+     */
+    public float[] multiplyFloatMatrices(float[] matrixA, float[] matrixB, int size, MatrixPrecision precision,
+                                         MatrixAlgorithm algorithm) {
+        float[] result = new float[size * size];
+
+        if (log.isDebugEnabled()) {
+            log.debug("Starting {} matrix multiplication with size {} on thread: {}",
+                    precision.getKey(), size, Thread.currentThread().getName());
+        }
+
+        long startTime = System.nanoTime();
+        boolean ikj = algorithm == MatrixAlgorithm.IKJ;
+
+        if (!ikj && precision == MatrixPrecision.MIXED) {
+            for (int i = 0; i < size; i++) {
+                int row = i * size;
+                for (int j = 0; j < size; j++) {
+                    double sum = 0;
+                    for (int k = 0; k < size; k++) {
+                        sum += (double) matrixA[row + k] * matrixB[k * size + j];
+                    }
+                    result[row + j] = (float) sum;
+                }
+            }
+        } else if (!ikj) {
+            for (int i = 0; i < size; i++) {
+                int row = i * size;
+                for (int j = 0; j < size; j++) {
+                    float sum = 0;
+                    for (int k = 0; k < size; k++) {
+                        sum += matrixA[row + k] * matrixB[k * size + j];
+                    }
+                    result[row + j] = sum;
+                }
+            }
+        } else if (precision == MatrixPrecision.MIXED) {
+            // Akkumulation einer Ergebniszeile in double, B wird weiterhin als float gelesen
+            double[] rowSum = new double[size];
+            for (int i = 0; i < size; i++) {
+                int row = i * size;
+                Arrays.fill(rowSum, 0);
+                for (int k = 0; k < size; k++) {
+                    double a = matrixA[row + k];
+                    int rowB = k * size;
+                    for (int j = 0; j < size; j++) {
+                        rowSum[j] += a * matrixB[rowB + j];
+                    }
+                }
+                for (int j = 0; j < size; j++) {
+                    result[row + j] = (float) rowSum[j];
+                }
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                int row = i * size;
+                for (int k = 0; k < size; k++) {
+                    float a = matrixA[row + k];
+                    int rowB = k * size;
+                    for (int j = 0; j < size; j++) {
+                        result[row + j] += a * matrixB[rowB + j];
+                    }
+                }
+            }
+        }
+
+        taskEventLog.record(ikj ? "matrix-" + precision.getKey() + "-ikj" : "matrix-" + precision.getKey(),
+                startTime, size);
+        if (log.isDebugEnabled()) {
+            log.debug("Matrix multiplication completed in {} ms on thread: {}",
+                    (System.nanoTime() - startTime) / 1_000_000, Thread.currentThread().getName());
+        }
+
+        return result;
+    }
+
+    /**
+     * Asynchrone Multiplikation mit float-Speicherung auf dem Executor des Thread-Modells
+     * - Reaktives Modell: über die gemeinsame parallele Pipeline wie der reaktive CPU-Test
+     */
+    public CompletableFuture<float[]> multiplyFloatMatrices(ThreadModel threadModel, float[] matrixA, float[] matrixB,
+                                                            int size, MatrixPrecision precision,
+                                                            MatrixAlgorithm algorithm) {
+        return CompletableFuture.supplyAsync(() -> multiplyFloatMatrices(matrixA, matrixB, size, precision, algorithm),
+                executors.executorFor(threadModel));
+    }
+
+    /**
+     * Ermittelt den Fehler einer Variante mit float-Speicherung gegenüber double
+     * - Beide Ergebnisse aus denselben (als float darstellbaren) Eingaben, daher misst der Wert
+     *   nur den Rundungsfehler der Rechnung in float bzw. der Rückgabe als float
+     * - Referenz in double mit derselben Schleifenreihenfolge wie die gemessene Variante
+     *
+     * @return größte absolute Abweichung relativ zum größten Betrag des double-Ergebnisses
+     */
+    public double measurePrecisionError(int size, MatrixPrecision precision, MatrixAlgorithm algorithm) {
+        if (precision == MatrixPrecision.DOUBLE) {
+            return 0;
+        }
+        float[] matrixA = createRandomFloatMatrix(size);
+        float[] matrixB = createRandomFloatMatrix(size);
+        float[] reduced = multiplyFloatMatrices(matrixA, matrixB, size, precision, algorithm);
+        double[][] reference = algorithm == MatrixAlgorithm.IKJ
+                ? multiplyMatricesIkj(toDoubleMatrix(matrixA, size), toDoubleMatrix(matrixB, size))
+                : multiplyMatrices(toDoubleMatrix(matrixA, size), toDoubleMatrix(matrixB, size));
+
+        double maxError = 0;
+        double maxValue = 0;
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                maxError = Math.max(maxError, Math.abs(reference[i][j] - reduced[i * size + j]));
+                maxValue = Math.max(maxValue, Math.abs(reference[i][j]));
+            }
+        }
+        return maxValue > 0 ? maxError / maxValue : 0;
+    }
+
+    private static double[][] toDoubleMatrix(float[] matrix, int size) {
+        double[][] result = new double[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                result[i][j] = matrix[i * size + j];
+            }
+        }
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -1,61 +1,127 @@
 package de.haw.hamburg.threaddemo.service;
 
 import lombok.Data;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.lang.management.BufferPoolMXBean;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
 import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Service zur Überwachung des Speicherverbrauchs
+ * - Jeder Lauf erhält eine eigene Überwachungssitzung mit eigenem Peak-Wert, damit gleichzeitige
+ *   Läufe ihre Messwerte nicht gegenseitig zurücksetzen
+ * - Neben Heap und Non-Heap des MemoryMXBean auch der Speicher außerhalb davon: RSS (mit Peak)
+ *   und PSS des Prozesses, Direct- und Mapped-Buffer der BufferPoolMXBeans sowie optional die
+ *   NMT-Zusammenfassung (Thread-Stacks, gesamter belegter Speicher der JVM)
+ * - PSS und NMT sind teurer und werden nur zu Beginn und am Ende gelesen, nicht beim Peak-Abtasten
+ *
+ * Nicht verfügbare Werte (kein Linux, JVM ohne -XX:NativeMemoryTracking) sind -1.
  */
 @Service
 public class MemoryMonitorService {
 
     private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
-    private AtomicReference<Double> peakMemoryUsage = new AtomicReference<>(0.0);
+    private final List<BufferPoolMXBean> bufferPools = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class);
+    private final ProcessMemoryReader processMemoryReader;
+
+    @Value("${benchmark.memory.native-tracking:true}")
+    private boolean nativeTracking;
+
+    // Einmalig beim Start aus den JVM-Optionen bestimmt; eine leere Abfrage schaltet NMT nicht ab
+    private final boolean nmtAvailable = isNativeMemoryTrackingEnabled();
+
+    @Autowired
+    public MemoryMonitorService(ProcessMemoryReader processMemoryReader) {
+        this.processMemoryReader = processMemoryReader;
+    }
+    
+    /**
+     * Prüft, ob die JVM mit -XX:NativeMemoryTracking=summary oder =detail gestartet wurde
+     */
+    private static boolean isNativeMemoryTrackingEnabled() {
+        for (String arg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (arg.startsWith("-XX:NativeMemoryTracking=")) {
+                return !arg.endsWith("=off");
+            }
+        }
+        return false;
+    }
     
     /**
      * Startet eine neue Speicherüberwachung
      */
-    public MemorySnapshot startMonitoring() {
+    public MemorySession startMonitoring() {
         // Speicherbereinigung erzwingen für konsistentere Messungen
         System.gc();
         
-        MemorySnapshot snapshot = new MemorySnapshot();
-        snapshot.setHeapMemoryUsageMB(getHeapMemoryUsageMB());
-        snapshot.setNonHeapMemoryUsageMB(getNonHeapMemoryUsageMB());
-        snapshot.setTotalMemoryUsageMB(getTotalMemoryUsageMB());
-        
-        // Peak zurücksetzen
-        peakMemoryUsage.set(snapshot.getTotalMemoryUsageMB());
-        
-        return snapshot;
+        return new MemorySession(snapshot());
     }
     
     /**
-     * Aktualisiert den Peak-Wert der Speichernutzung
+     * Aktualisiert den Peak-Wert der Speichernutzung einer Sitzung
      */
-    public void updatePeakMemory() {
+    public void updatePeakMemory(MemorySession session) {
         double currentMemory = getTotalMemoryUsageMB();
-        peakMemoryUsage.getAndUpdate(peak -> Math.max(peak, currentMemory));
+        session.peakMemoryUsage.getAndUpdate(peak -> Math.max(peak, currentMemory));
+        double currentRss = bytesToMB(processMemoryReader.rssBytes());
+        session.peakRss.getAndUpdate(peak -> Math.max(peak, currentRss));
     }
     
     /**
      * Beendet die Speicherüberwachung und gibt den finalen Snapshot zurück
      */
-    public MemorySnapshot stopMonitoring() {
+    public MemorySnapshot stopMonitoring(MemorySession session) {
+        MemorySnapshot snapshot = snapshot();
+        snapshot.setPeakMemoryUsageMB(session.peakMemoryUsage.get());
+        snapshot.setPeakRssMB(Math.max(session.peakRss.get(), snapshot.getRssMB()));
+        
+        return snapshot;
+    }
+    
+    /**
+     * Momentaufnahme aller Werte; der Peak der Sitzung wird vom Aufrufer gesetzt
+     */
+    private MemorySnapshot snapshot() {
         MemorySnapshot snapshot = new MemorySnapshot();
         snapshot.setHeapMemoryUsageMB(getHeapMemoryUsageMB());
         snapshot.setNonHeapMemoryUsageMB(getNonHeapMemoryUsageMB());
         snapshot.setTotalMemoryUsageMB(getTotalMemoryUsageMB());
-        snapshot.setPeakMemoryUsageMB(peakMemoryUsage.get());
-        
+        snapshot.setRssMB(bytesToMB(processMemoryReader.rssBytes()));
+        snapshot.setPeakRssMB(snapshot.getRssMB());
+        snapshot.setPssMB(bytesToMB(processMemoryReader.pssBytes()));
+        snapshot.setDirectBufferMB(getBufferPoolMB("direct"));
+        snapshot.setMappedBufferMB(getBufferPoolMB("mapped"));
+        snapshot.setNmtThreadMB(-1);
+        snapshot.setNmtCommittedMB(-1);
+        if (nativeTracking && nmtAvailable) {
+            Map<String, Long> nmt = processMemoryReader.nmtCommittedBytes();
+            if (!nmt.isEmpty()) {
+                snapshot.setNmtThreadMB(bytesToMB(nmt.getOrDefault("Thread", 0L)));
+                snapshot.setNmtCommittedMB(bytesToMB(nmt.values().stream().mapToLong(Long::longValue).sum()));
+            }
+        }
         return snapshot;
     }
     
+    /**
+     * Belegter Speicher eines Buffer-Pools ("direct" oder "mapped") in MB
+     */
+    private double getBufferPoolMB(String name) {
+        for (BufferPoolMXBean pool : bufferPools) {
+            if (pool.getName().equals(name)) {
+                return bytesToMB(pool.getMemoryUsed());
+            }
+        }
+        return -1;
+    }
+    
     /**
      * Gibt die aktuelle Heap-Speichernutzung in MB zurück
      */
@@ -80,12 +146,31 @@ public class MemoryMonitorService {
     }
     
     /**
-     * Konvertiert Bytes in Megabytes
+     * Konvertiert Bytes in Megabytes (-1 bleibt -1)
      */
     private double bytesToMB(long bytes) {
-        return (double) bytes / (1024 * 1024);
+        return bytes < 0 ? -1 : (double) bytes / (1024 * 1024);
     }
     
+    /**
+     * Speicherüberwachung eines einzelnen Laufs: Ausgangswert und laufender Peak
+     */
+    public static class MemorySession {
+        private final MemorySnapshot before;
+        private final AtomicReference<Double> peakMemoryUsage;
+        private final AtomicReference<Double> peakRss;
+
+        private MemorySession(MemorySnapshot before) {
+            this.before = before;
+            this.peakMemoryUsage = new AtomicReference<>(before.getTotalMemoryUsageMB());
+            this.peakRss = new AtomicReference<>(before.getRssMB());
+        }
+
+        public MemorySnapshot getBefore() {
+            return before;
+        }
+    }
+
     /**
      * DTO für Speicher-Snapshots
      */
@@ -96,6 +181,21 @@ public class MemoryMonitorService {
         private double totalMemoryUsageMB;
         private double peakMemoryUsageMB;
         
+        // Resident Set Size des Prozesses (inkl. Thread-Stacks, Direct Buffer, malloc-Arenen)
+        private double rssMB;
+        private double peakRssMB;
+        
+        // Proportional Set Size: geteilte Seiten anteilig
+        private double pssMB;
+        
+        // Belegung der Buffer-Pools "direct" und "mapped"
+        private double directBufferMB;
+        private double mappedBufferMB;
+        
+        // NMT-Kategorie Thread und Summe aller Kategorien (committed)
+        private double nmtThreadMB;
+        private double nmtCommittedMB;
+        
         // Explizite Getter und Setter für den Fall, dass Lombok nicht funktioniert
         public double getHeapMemoryUsageMB() {
             return heapMemoryUsageMB;
@@ -128,5 +228,61 @@ public class MemoryMonitorService {
         public void setPeakMemoryUsageMB(Double peakMemoryUsageMB) {
             this.peakMemoryUsageMB = peakMemoryUsageMB != null ? peakMemoryUsageMB : 0.0;
         }
+        
+        public double getRssMB() {
+            return rssMB;
+        }
+        
+        public void setRssMB(double rssMB) {
+            this.rssMB = rssMB;
+        }
+        
+        public double getPeakRssMB() {
+            return peakRssMB;
+        }
+        
+        public void setPeakRssMB(double peakRssMB) {
+            this.peakRssMB = peakRssMB;
+        }
+        
+        public double getPssMB() {
+            return pssMB;
+        }
+        
+        public void setPssMB(double pssMB) {
+            this.pssMB = pssMB;
+        }
+        
+        public double getDirectBufferMB() {
+            return directBufferMB;
+        }
+        
+        public void setDirectBufferMB(double directBufferMB) {
+            this.directBufferMB = directBufferMB;
+        }
+        
+        public double getMappedBufferMB() {
+            return mappedBufferMB;
+        }
+        
+        public void setMappedBufferMB(double mappedBufferMB) {
+            this.mappedBufferMB = mappedBufferMB;
+        }
+        
+        public double getNmtThreadMB() {
+            return nmtThreadMB;
+        }
+        
+        public void setNmtThreadMB(double nmtThreadMB) {
+            this.nmtThreadMB = nmtThreadMB;
+        }
+        
+        public double getNmtCommittedMB() {
+            return nmtCommittedMB;
+        }
+        
+        public void setNmtCommittedMB(double nmtCommittedMB) {
+            this.nmtCommittedMB = nmtCommittedMB;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package de.haw.hamburg.threaddemo.service;
+
+import java.util.Random;
+
+/**
+ * Erzeugt die geplanten Startzeitpunkte eines Open-Loop-Lasttests
+ * - Die Ankunftszeiten hängen nur vom Muster ab, nie von der Antwortzeit des Servers
+ * - Der Lauf ist in Phasen gleicher Dauer aufgeteilt; jede Phase wird ein Punkt der Durchsatz-Latenz-Kurve
+ *
+ * Unterstützte Muster:
+ * - constant: feste Rate, gleichmäßige Abstände
+ * - poisson:  feste mittlere Rate, exponentialverteilte Abstände
+ * - step:     Rate steigt stufenweise von startRate bis maxRate
+ * - ramp:     Rate steigt linear von startRate bis maxRate
+ */
+public class OpenLoopArrivalSchedule {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final String pattern;
+    private final double startRate;
+    private final double maxRate;
+    private final int phases;
+    private final long phaseDurationNanos;
+    private final Random random;
+
+    private long nextOffsetNanos = 0;
+
+    public OpenLoopArrivalSchedule(String pattern, double startRate, double maxRate,
+                                   int phases, long phaseDurationSeconds, long seed) {
+        this.pattern = pattern.toLowerCase();
+        if (!this.pattern.equals("constant") && !this.pattern.equals("poisson")
+                && !this.pattern.equals("step") && !this.pattern.equals("ramp")) {
+            throw new IllegalArgumentException("Unbekanntes Ankunftsmuster: " + pattern);
+        }
+        if (startRate <= 0) {
+            throw new IllegalArgumentException("Die Rate muss positiv sein: " + startRate);
+        }
+        this.startRate = startRate;
+        this.maxRate = Math.max(startRate, maxRate);
+        this.phases = isSteadyRate() ? 1 : Math.max(1, phases);
+        this.phaseDurationNanos = phaseDurationSeconds * NANOS_PER_SECOND;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Liefert den geplanten Start der nächsten Anfrage relativ zum Testbeginn
+     *
+     * @return Offset in Nanosekunden oder -1, wenn der Lauf beendet ist
+     */
+    public long nextIntendedStartNanos() {
+        long current = nextOffsetNanos;
+        if (current >= getTotalDurationNanos()) {
+            return -1;
+        }
+        double rate = rateAt(current);
+        double intervalSeconds = "poisson".equals(pattern)
+                ? -Math.log(1.0 - random.nextDouble()) / rate
+                : 1.0 / rate;
+        nextOffsetNanos = current + Math.max(1, (long) (intervalSeconds * NANOS_PER_SECOND));
+        return current;
+    }
+
+    /**
+     * Angestrebte Ankunftsrate (Anfragen pro Sekunde) zum angegebenen Offset
+     */
+    public double rateAt(long offsetNanos) {
+        switch (pattern) {
+            case "step":
+                return targetRateOfPhase(phaseOf(offsetNanos));
+            case "ramp":
+                double progress = Math.min(1.0, (double) offsetNanos / getTotalDurationNanos());
+                return startRate + (maxRate - startRate) * progress;
+            default:
+                return startRate;
+        }
+    }
+
+    /**
+     * Mittlere Zielrate einer Phase
+     */
+    public double targetRateOfPhase(int phase) {
+        if (phases == 1) {
+            return "ramp".equals(pattern) ? (startRate + maxRate) / 2 : startRate;
+        }
+        if ("ramp".equals(pattern)) {
+            double midpoint = (phase + 0.5) / phases;
+            return startRate + (maxRate - startRate) * midpoint;
+        }
+        return startRate + (maxRate - startRate) * phase / (phases - 1);
+    }
+
+    /**
+     * Phase, in die ein geplanter Startzeitpunkt fällt
+     */
+    public int phaseOf(long offsetNanos) {
+        return (int) Math.min(phases - 1, offsetNanos / phaseDurationNanos);
+    }
+
+    public int getPhases() {
+        return phases;
+    }
+
+    public long getPhaseDurationNanos() {
+        return phaseDurationNanos;
+    }
+
+    public long getTotalDurationNanos() {
+        return phaseDurationNanos * phases;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    private boolean isSteadyRate() {
+        return "constant".equals(pattern) || "poisson".equals(pattern);
+    }
+}
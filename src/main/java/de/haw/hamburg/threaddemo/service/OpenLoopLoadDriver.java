@@ -0,0 +1,234 @@
+package de.haw.hamburg.threaddemo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.haw.hamburg.threaddemo.model.CalculationRequest;
+import de.haw.hamburg.threaddemo.model.LoadTestPoint;
+import de.haw.hamburg.threaddemo.model.LoadTestResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Headless Open-Loop-Lastgenerator für die Benchmark-Endpunkte (Profil "loadtest")
+ *
+ * Im Gegensatz zu benchmark.js wartet der Generator nicht auf die vorherige Antwort:
+ * - Jede Anfrage hat einen geplanten Startzeitpunkt aus dem Ankunftsmuster
+ * - Jede Anfrage läuft in einem eigenen (wenn möglich virtuellen) Client-Thread
+ * - Die Latenz wird ab dem geplanten Start gemessen, nicht ab dem tatsächlichen Senden.
+ *   Staut sich der Server, fließt die Wartezeit damit in die Latenz ein (keine Coordinated Omission)
+ */
+@Service
+@Profile("loadtest")
+public class OpenLoopLoadDriver {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenLoopLoadDriver.class);
+    private static final long NANOS_PER_MICRO = 1_000L;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${loadtest.target-url:http://localhost:8081}")
+    private String targetUrl;
+
+    @Value("${loadtest.pattern:step}")
+    private String pattern;
+
+    @Value("${loadtest.rate:5}")
+    private double startRate;
+
+    @Value("${loadtest.max-rate:50}")
+    private double maxRate;
+
+    @Value("${loadtest.steps:5}")
+    private int steps;
+
+    @Value("${loadtest.step-duration-seconds:10}")
+    private long stepDurationSeconds;
+
+    @Value("${loadtest.duration-seconds:30}")
+    private long durationSeconds;
+
+    @Value("${loadtest.request-timeout-seconds:60}")
+    private long requestTimeoutSeconds;
+
+    @Value("${loadtest.seed:42}")
+    private long seed;
+
+    @Autowired
+    public OpenLoopLoadDriver(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Führt einen vollständigen Lasttest gegen den Endpunkt eines Thread-Modells aus
+     *
+     * @param endpoint Endpunkt unter /api/matrix, z. B. "virtual-threads"
+     * @param request  Anfrage, die bei jedem Aufruf gesendet wird
+     */
+    public LoadTestResult run(String endpoint, CalculationRequest request) {
+        OpenLoopArrivalSchedule schedule = createSchedule();
+        int phases = schedule.getPhases();
+
+        LatencyHistogram[] latencies = new LatencyHistogram[phases];
+        LatencyHistogram[] serviceTimes = new LatencyHistogram[phases];
+        for (int i = 0; i < phases; i++) {
+            latencies[i] = new LatencyHistogram();
+            serviceTimes[i] = new LatencyHistogram();
+        }
+        AtomicLongArray sent = new AtomicLongArray(phases);
+        AtomicLongArray failed = new AtomicLongArray(phases);
+        // Abschlüsse nach dem Zeitfenster, in dem die Antwort eintraf (Basis für den erreichten Durchsatz)
+        AtomicLongArray completedInWindow = new AtomicLongArray(phases);
+
+        byte[] body = serialize(request);
+        URI uri = URI.create(targetUrl + "/api/matrix/" + endpoint);
+        ExecutorService clientExecutor = createClientExecutor();
+        // Der HttpClient nutzt seinen eigenen internen Executor, damit er beim Beenden
+        // der Client-Threads weiterhin ausstehende Antworten verarbeiten kann
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        log.info("Lasttest gegen {} mit Muster '{}' ({} Phasen, {} s)", uri, schedule.getPattern(),
+                phases, schedule.getTotalDurationNanos() / 1_000_000_000L);
+
+        long testStart = System.nanoTime();
+        long offset;
+        while ((offset = schedule.nextIntendedStartNanos()) >= 0) {
+            long intendedStart = testStart + offset;
+            long waitNanos = intendedStart - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            int phase = schedule.phaseOf(offset);
+            sent.incrementAndGet(phase);
+
+            // Senden blockiert nie den Taktgeber: jede Anfrage bekommt ihren eigenen Client-Thread
+            clientExecutor.execute(() -> {
+                long actualStart = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = httpClient.send(
+                            HttpRequest.newBuilder(uri)
+                                    .timeout(Duration.ofSeconds(requestTimeoutSeconds))
+                                    .header("Content-Type", "application/json")
+                                    .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                                    .build(),
+                            HttpResponse.BodyHandlers.discarding());
+                    long end = System.nanoTime();
+                    if (response.statusCode() >= 200 && response.statusCode() < 300) {
+                        latencies[phase].record((end - intendedStart) / NANOS_PER_MICRO);
+                        serviceTimes[phase].record((end - actualStart) / NANOS_PER_MICRO);
+                        long completionPhase = (end - testStart) / schedule.getPhaseDurationNanos();
+                        if (completionPhase < phases) {
+                            completedInWindow.incrementAndGet((int) completionPhase);
+                        }
+                    } else {
+                        failed.incrementAndGet(phase);
+                    }
+                } catch (Exception e) {
+                    failed.incrementAndGet(phase);
+                    log.debug("Anfrage fehlgeschlagen: {}", e.toString());
+                }
+            });
+        }
+
+        // Auf ausstehende Antworten warten
+        clientExecutor.shutdown();
+        try {
+            if (!clientExecutor.awaitTermination(requestTimeoutSeconds + 10, TimeUnit.SECONDS)) {
+                log.warn("Nicht alle Anfragen wurden rechtzeitig beantwortet");
+                clientExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            clientExecutor.shutdownNow();
+        }
+
+        LoadTestResult result = new LoadTestResult();
+        result.setThreadModel(endpoint);
+        result.setArrivalPattern(schedule.getPattern());
+        result.setTestType(request.getTestType());
+        List<LoadTestPoint> points = new ArrayList<>();
+        double phaseSeconds = schedule.getPhaseDurationNanos() / 1e9;
+        double saturationRate = 0;
+        for (int i = 0; i < phases; i++) {
+            LoadTestPoint point = new LoadTestPoint();
+            point.setPhase(i);
+            point.setTargetRate(schedule.targetRateOfPhase(i));
+            point.setSentRequests(sent.get(i));
+            point.setCompletedRequests(latencies[i].getCount());
+            point.setFailedRequests(failed.get(i));
+            point.setAchievedThroughput(completedInWindow.get(i) / phaseSeconds);
+            point.setMeanLatencyMs(latencies[i].getMean() / 1000.0);
+            point.setP50LatencyMs(latencies[i].getValueAtPercentile(50) / 1000.0);
+            point.setP90LatencyMs(latencies[i].getValueAtPercentile(90) / 1000.0);
+            point.setP99LatencyMs(latencies[i].getValueAtPercentile(99) / 1000.0);
+            point.setP999LatencyMs(latencies[i].getValueAtPercentile(99.9) / 1000.0);
+            point.setMaxLatencyMs(latencies[i].getMax() / 1000.0);
+            point.setP99ServiceTimeMs(serviceTimes[i].getValueAtPercentile(99) / 1000.0);
+            points.add(point);
+
+            if (point.getAchievedThroughput() >= 0.95 * point.getTargetRate()) {
+                saturationRate = Math.max(saturationRate, point.getTargetRate());
+            }
+        }
+        result.setPoints(points);
+        result.setSaturationRate(saturationRate);
+        return result;
+    }
+
+    /**
+     * Erstellt das Ankunftsmuster aus der Konfiguration
+     * - constant/poisson: eine Phase über loadtest.duration-seconds
+     * - step/ramp: loadtest.steps Phasen zu je loadtest.step-duration-seconds
+     */
+    private OpenLoopArrivalSchedule createSchedule() {
+        boolean steadyRate = "constant".equalsIgnoreCase(pattern) || "poisson".equalsIgnoreCase(pattern);
+        return new OpenLoopArrivalSchedule(pattern, startRate, maxRate,
+                steadyRate ? 1 : steps,
+                steadyRate ? durationSeconds : stepDurationSeconds,
+                seed);
+    }
+
+    /**
+     * Client-Threads: echte Virtual Threads ab Java 21, sonst ein unbegrenzter Pool
+     */
+    private ExecutorService createClientExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (Exception e) {
+            log.info("Keine Virtual Threads verfügbar, Lastgenerator verwendet einen unbegrenzten Thread-Pool");
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r);
+                t.setDaemon(true);
+                t.setName("loadtest-client-" + t.getId());
+                return t;
+            });
+        }
+    }
+
+    private byte[] serialize(CalculationRequest request) {
+        try {
+            return objectMapper.writeValueAsBytes(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Anfrage konnte nicht serialisiert werden", e);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package de.haw.hamburg.threaddemo.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Liest Speicher- und Thread-Kennzahlen des Prozesses, die der MemoryMXBean nicht kennt
+ * - RSS und Thread-Anzahl aus /proc/self/status, PSS aus /proc/self/smaps_rollup (nur Linux)
+ * - Native Memory Tracking der JVM über den DiagnosticCommand-MBean (vmNativeMemory summary);
+ *   nur verfügbar, wenn die JVM mit -XX:NativeMemoryTracking=summary gestartet wurde
+ * - Betriebssystem-Grenzen für Threads (threads-max, RLIMIT_NPROC, pids.max der cgroup,
+ *   vm.max_map_count) und verfügbarer Speicher (MemAvailable, memory.max der cgroup)
+ *
+ * Nicht lesbare Werte werden als -1 geliefert.
+ */
+@Service
+public class ProcessMemoryReader {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessMemoryReader.class);
+
+    // Zeilen wie "-                    Thread (reserved=20568KB, committed=1184KB)"
+    private static final Pattern NMT_CATEGORY =
+            Pattern.compile("^-\\s+(.+?) \\(reserved=(\\d+)KB, committed=(\\d+)KB\\)");
+
+    private static final Path STATUS = Paths.get("/proc/self/status");
+
+    /**
+     * Wert einer Zeile aus /proc/self/status in KB bzw. als Anzahl (z. B. "VmRSS", "Threads")
+     */
+    public long statusValue(String field) {
+        try {
+            for (String line : Files.readAllLines(STATUS)) {
+                if (line.startsWith(field + ":")) {
+                    String value = line.substring(field.length() + 1).trim();
+                    int space = value.indexOf(' ');
+                    return Long.parseLong(space < 0 ? value : value.substring(0, space));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("{} nicht lesbar: {}", field, e.toString());
+        }
+        return -1;
+    }
+
+    /**
+     * Resident Set Size des Prozesses in Bytes
+     */
+    public long rssBytes() {
+        long kb = statusValue("VmRSS");
+        return kb < 0 ? -1 : kb * 1024;
+    }
+
+    /**
+     * Proportional Set Size in Bytes aus /proc/self/smaps_rollup: mit anderen Prozessen geteilte
+     * Seiten zählen anteilig (ab Linux 4.14)
+     */
+    public long pssBytes() {
+        try {
+            for (String line : Files.readAllLines(Paths.get("/proc/self/smaps_rollup"))) {
+                if (line.startsWith("Pss:")) {
+                    return Long.parseLong(line.substring(4).trim().split("\\s+")[0]) * 1024;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Pss nicht lesbar: {}", e.toString());
+        }
+        return -1;
+    }
+
+    /**
+     * Anzahl der Betriebssystem-Threads des Prozesses
+     */
+    public long osThreads() {
+        return statusValue("Threads");
+    }
+
+    /**
+     * Belegter (committed) Speicher je NMT-Kategorie in Bytes, z. B. "Java Heap", "Thread", "Class";
+     * leer, wenn Native Memory Tracking nicht aktiv ist
+     */
+    public Map<String, Long> nmtCommittedBytes() {
+        Map<String, Long> categories = new LinkedHashMap<>();
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            Object output = server.invoke(new ObjectName("com.sun.management:type=DiagnosticCommand"),
+                    "vmNativeMemory", new Object[]{new String[]{"summary"}}, new String[]{String[].class.getName()});
+            for (String line : String.valueOf(output).split("\n")) {
+                Matcher matcher = NMT_CATEGORY.matcher(line.trim());
+                if (matcher.find()) {
+                    categories.put(matcher.group(1).trim(), Long.parseLong(matcher.group(3)) * 1024);
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Native Memory Tracking nicht abrufbar: {}", e.toString());
+        }
+        return categories;
+    }
+
+    /**
+     * Wie viele Threads der Prozess nach den Grenzen des Betriebssystems noch starten kann
+     * - RLIMIT_NPROC zählt alle Threads des Benutzers; hier wird nur der eigene Prozess abgezogen
+     * - Jeder Thread-Stack belegt zwei Mappings (Stack und Guard Page), daher max_map_count / 2
+     *
+     * @return verbleibende Threads oder Long.MAX_VALUE, wenn keine Grenze lesbar ist
+     */
+    public long platformThreadHeadroom() {
+        long limit = Long.MAX_VALUE;
+        limit = min(limit, readLong(Paths.get("/proc/sys/kernel/threads-max")));
+        limit = min(limit, processLimit("Max processes"));
+        limit = min(limit, readLong(Paths.get("/sys/fs/cgroup/pids.max")));
+        limit = min(limit, readLong(Paths.get("/sys/fs/cgroup/pids/pids.max")));
+        long maps = readLong(Paths.get("/proc/sys/vm/max_map_count"));
+        if (maps > 0) {
+            limit = min(limit, maps / 2);
+        }
+        if (limit == Long.MAX_VALUE) {
+            return limit;
+        }
+        return Math.max(0, limit - Math.max(0, osThreads()));
+    }
+
+    /**
+     * Für den Prozess noch verfügbarer Speicher in Bytes: MemAvailable bzw. Rest bis memory.max der cgroup
+     *
+     * @return verfügbarer Speicher oder Long.MAX_VALUE, wenn nichts lesbar ist
+     */
+    public long memoryHeadroomBytes() {
+        long headroom = Long.MAX_VALUE;
+        long available = meminfoValue("MemAvailable");
+        if (available >= 0) {
+            headroom = available * 1024;
+        }
+        long cgroupMax = readLong(Paths.get("/sys/fs/cgroup/memory.max"));
+        long cgroupCurrent = readLong(Paths.get("/sys/fs/cgroup/memory.current"));
+        if (cgroupMax < 0) {
+            cgroupMax = readLong(Paths.get("/sys/fs/cgroup/memory/memory.limit_in_bytes"));
+            cgroupCurrent = readLong(Paths.get("/sys/fs/cgroup/memory/memory.usage_in_bytes"));
+        }
+        if (cgroupMax > 0 && cgroupCurrent >= 0) {
+            headroom = Math.min(headroom, Math.max(0, cgroupMax - cgroupCurrent));
+        }
+        return headroom;
+    }
+
+    private long meminfoValue(String field) {
+        try {
+            for (String line : Files.readAllLines(Paths.get("/proc/meminfo"))) {
+                if (line.startsWith(field + ":")) {
+                    return Long.parseLong(line.substring(field.length() + 1).trim().split("\\s+")[0]);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("{} nicht lesbar: {}", field, e.toString());
+        }
+        return -1;
+    }
+
+    /**
+     * Weiches Limit aus /proc/self/limits (z. B. "Max processes"); -1 bei "unlimited"
+     */
+    private long processLimit(String name) {
+        try {
+            List<String> lines = Files.readAllLines(Paths.get("/proc/self/limits"));
+            for (String line : lines) {
+                if (line.startsWith(name)) {
+                    String soft = line.substring(name.length()).trim().split("\\s+")[0];
+                    return "unlimited".equals(soft) ? -1 : Long.parseLong(soft);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Limit {} nicht lesbar: {}", name, e.toString());
+        }
+        return -1;
+    }
+
+    /**
+     * Erste Zahl einer Datei; -1, wenn sie fehlt oder "max" enthält
+     */
+    private static long readLong(Path path) {
+        try {
+            // Zeilenweise lesen: Dateien unter /proc und /sys melden die Größe 0
+            List<String> lines = Files.readAllLines(path);
+            String value = lines.isEmpty() ? "" : lines.get(0).trim();
+            return "max".equals(value) ? -1 : Long.parseLong(value.split("\\s+")[0]);
+        } catch (IOException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    private static long min(long current, long value) {
+        return value > 0 ? Math.min(current, value) : current;
+    }
+}
@@ -0,0 +1,185 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.config.ReactivePipelineExecutor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reaktives Ausführungsmodell mit Project Reactor
+ *
+ * CPU-Test:
+ * - Alle Matrix-Multiplikationen laufen durch die gemeinsame Pipeline des ReactivePipelineExecutor
+ *   (Flux.parallel().runOn(Schedulers.parallel()), also ein Thread je CPU-Kern); die übrigen
+ *   Rechentests des reaktiven Modells nutzen dieselbe Pipeline über ThreadModelExecutors
+ *
+ * I/O-Test (gleicher Ablauf wie IOIntensiveService.performMixedIOTest, aber nicht blockierend):
+ * - Simulierte Netzwerklatenz über Mono.delay statt Thread.sleep
+ * - Dateien werden über AsynchronousFileChannel geschrieben und gelesen; dessen Completion-Handler
+ *   laufen auf einem begrenzten Pool
+ * - Verbleibende blockierende Aufrufe (Öffnen, Löschen) laufen auf dem begrenzten Scheduler der Pipeline
+ *
+ * Hinweis: Unter Linux ist asynchrone Datei-I/O der JVM intern ebenfalls über einen Thread-Pool
+ * realisiert; nicht blockierend ist hier vor allem die Wartezeit (delay) und die Verkettung.
+ */
+@Service
+public class ReactiveBenchmarkService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveBenchmarkService.class);
+
+    @Value("${io.test.temp.dir:./io-test-temp}")
+    private String tempDirPath;
+
+    @Value("${benchmark.reactive.io-threads:4}")
+    private int ioThreads;
+
+    private final MatrixCalculationService calculationService;
+    private final ReactivePipelineExecutor pipeline;
+    private final Scheduler blockingScheduler;
+
+    private ExecutorService fileChannelExecutor;
+
+    @Autowired
+    public ReactiveBenchmarkService(MatrixCalculationService calculationService,
+                                    ReactivePipelineExecutor reactivePipelineExecutor) {
+        this.calculationService = calculationService;
+        this.pipeline = reactivePipelineExecutor;
+        this.blockingScheduler = reactivePipelineExecutor.getBlockingScheduler();
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadCounter = new AtomicInteger();
+        fileChannelExecutor = Executors.newFixedThreadPool(ioThreads, runnable -> {
+            Thread thread = new Thread(runnable, "reactive-io-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        fileChannelExecutor.shutdownNow();
+    }
+
+    /**
+     * Reicht eine Matrix-Multiplikation in die parallele CPU-Pipeline ein
+     */
+    public CompletableFuture<double[][]> multiplyMatrices(double[][] matrixA, double[][] matrixB) {
+        return CompletableFuture.supplyAsync(() -> calculationService.multiplyMatrices(matrixA, matrixB), pipeline);
+    }
+
+    /**
+     * Reaktiver gemischter I/O-Test: erst die simulierten HTTP-Anfragen, dann die Dateioperationen
+     */
+    public CompletableFuture<Void> performMixedIOTest(int operations, int fileSizeKB) {
+        int httpRequests = operations / 2;
+        int fileOperations = operations / 2;
+
+        Mono<Void> http = Flux.range(0, httpRequests)
+                .concatMap(i -> Mono.delay(Duration.ofMillis(300)))
+                .then();
+
+        Mono<Void> files = Mono.fromCallable(() -> {
+                    Path tempDir = Paths.get(tempDirPath);
+                    Files.createDirectories(tempDir);
+                    return tempDir;
+                })
+                .subscribeOn(blockingScheduler)
+                .flatMap(tempDir -> Mono.fromCallable(() -> randomData(fileSizeKB))
+                        .subscribeOn(Schedulers.parallel())
+                        .flatMap(data -> Flux.range(0, fileOperations)
+                                .concatMap(i -> fileOperation(tempDir, data))
+                                .then()));
+
+        return http.then(files)
+                .doOnError(e -> log.error("Fehler im reaktiven I/O-Test: {}", e.getMessage()))
+                .toFuture();
+    }
+
+    /**
+     * Eine Dateioperation wie im blockierenden Test: schreiben, 100 ms warten, lesen, 50 ms warten, löschen
+     */
+    private Mono<Void> fileOperation(Path tempDir, byte[] data) {
+        Path filePath = tempDir.resolve("file-" + UUID.randomUUID() + ".dat");
+        return Mono.using(
+                        () -> AsynchronousFileChannel.open(filePath,
+                                Set.of(StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.READ),
+                                fileChannelExecutor),
+                        channel -> writeFully(channel, ByteBuffer.wrap(data), 0)
+                                .then(Mono.delay(Duration.ofMillis(100)))
+                                .then(readFully(channel, ByteBuffer.allocate(data.length), 0))
+                                .then(Mono.delay(Duration.ofMillis(50))),
+                        this::closeQuietly)
+                .subscribeOn(blockingScheduler)
+                .then(Mono.fromCallable(() -> Files.deleteIfExists(filePath)).subscribeOn(blockingScheduler))
+                .then();
+    }
+
+    private Mono<Void> writeFully(AsynchronousFileChannel channel, ByteBuffer buffer, long position) {
+        return Mono.<Integer>create(sink -> channel.write(buffer, position, null, completion(sink)))
+                .flatMap(written -> buffer.hasRemaining()
+                        ? writeFully(channel, buffer, position + written)
+                        : Mono.empty());
+    }
+
+    private Mono<Void> readFully(AsynchronousFileChannel channel, ByteBuffer buffer, long position) {
+        return Mono.<Integer>create(sink -> channel.read(buffer, position, null, completion(sink)))
+                .flatMap(read -> read > 0 && buffer.hasRemaining()
+                        ? readFully(channel, buffer, position + read)
+                        : Mono.empty());
+    }
+
+    private static CompletionHandler<Integer, Void> completion(reactor.core.publisher.MonoSink<Integer> sink) {
+        return new CompletionHandler<>() {
+            @Override
+            public void completed(Integer result, Void attachment) {
+                sink.success(result);
+            }
+
+            @Override
+            public void failed(Throwable error, Void attachment) {
+                sink.error(error);
+            }
+        };
+    }
+
+    private void closeQuietly(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Dateikanal konnte nicht geschlossen werden: {}", e.getMessage());
+        }
+    }
+
+    private static byte[] randomData(int fileSizeKB) {
+        byte[] data = new byte[fileSizeKB * 1024];
+        ThreadLocalRandom.current().nextBytes(data);
+        return data;
+    }
+}
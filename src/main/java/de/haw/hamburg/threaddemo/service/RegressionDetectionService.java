@@ -0,0 +1,244 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.model.CalculationResponse;
+import de.haw.hamburg.threaddemo.model.MetricComparison;
+import de.haw.hamburg.threaddemo.model.RegressionReport;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Service zur Erkennung von Leistungsregressionen gegenüber gespeicherten Läufen
+ * - Baseline: die letzten N gespeicherten Läufe desselben Tupels
+ *   (Thread-Modell, Testtyp, Matrixgröße, parallele Aufgaben)
+ * - Bewertet werden Durchsatz (Aufgaben pro Sekunde) und p99 der Aufgabendauer
+ * - Eine Regression liegt vor, wenn der einseitige Mann-Whitney-U-Test signifikant ist
+ *   und sich der Median mindestens um die konfigurierte relative Änderung verschlechtert hat
+ * - Der exakte Test erreicht mit n aktuellen und m Baseline-Läufen höchstens p = 1 / C(n+m, n);
+ *   ein einzelner Lauf braucht bei alpha = 0.05 daher mindestens 20 Baseline-Läufe. Bewertet wird
+ *   erst, wenn die Baseline sowohl min-baseline-runs als auch diese Untergrenze erreicht
+ */
+@Service
+public class RegressionDetectionService {
+
+    private static final Logger log = LoggerFactory.getLogger(RegressionDetectionService.class);
+
+    // Obergrenze für requiredBaselineRuns bei sehr kleinem alpha
+    private static final int MAX_REQUIRED_BASELINE = 100_000;
+
+    private final BenchmarkResultStore resultStore;
+
+    @Value("${benchmark.regression.baseline-window:20}")
+    private int baselineWindow;
+
+    @Value("${benchmark.regression.min-baseline-runs:5}")
+    private int minBaselineRuns;
+
+    @Value("${benchmark.regression.alpha:0.05}")
+    private double alpha;
+
+    @Value("${benchmark.regression.min-relative-change:0.10}")
+    private double minRelativeChange;
+
+    @Autowired
+    public RegressionDetectionService(BenchmarkResultStore resultStore) {
+        this.resultStore = resultStore;
+    }
+
+    @PostConstruct
+    public void checkConfiguration() {
+        int required = requiredBaselineRuns(1);
+        if (required > baselineWindow) {
+            log.warn("Einzelne Läufe brauchen bei alpha={} mindestens {} Baseline-Läufe, baseline-window ist {}; "
+                    + "Regressionen einzelner Läufe werden nie erkannt", alpha, required, baselineWindow);
+        }
+    }
+
+    /**
+     * Kleinste Baseline, mit der n aktuelle Läufe signifikant werden können: min-baseline-runs,
+     * mindestens aber das kleinste m mit 1 / C(n+m, n) < alpha
+     */
+    int requiredBaselineRuns(int currentRuns) {
+        int n = Math.max(1, currentRuns);
+        double combinations = 1;
+        int m = 0;
+        // C(n+m, n) = C(n+m-1, n) * (n+m) / m
+        while (1.0 / combinations >= alpha && m < MAX_REQUIRED_BASELINE) {
+            m++;
+            combinations = combinations * (n + m) / m;
+        }
+        return Math.max(minBaselineRuns, m);
+    }
+
+    /**
+     * Bewertet die aktuellen Läufe eines Tupels gegen ihre Baseline aus dem Ergebnisspeicher
+     *
+     * @param currentRuns Läufe mit gleichem Tupel (z. B. alle Wiederholungen eines Modellvergleichs)
+     * @return der Bericht oder null, wenn der Ergebnisspeicher deaktiviert ist
+     */
+    public RegressionReport evaluate(List<CalculationResponse> currentRuns) {
+        if (!resultStore.isEnabled() || currentRuns.isEmpty()) {
+            return null;
+        }
+        CalculationResponse reference = currentRuns.get(0);
+        Set<String> currentIds = new HashSet<>();
+        long earliest = Long.MAX_VALUE;
+        for (CalculationResponse run : currentRuns) {
+            currentIds.add(run.getRunId());
+            earliest = Math.min(earliest, run.getTimestamp());
+        }
+
+        List<CalculationResponse> baseline = resultStore.findRuns(reference.getThreadModel(), reference.getTestType(),
+                0, earliest, baselineWindow,
+                run -> sameTuple(run, reference) && !currentIds.contains(run.getRunId()));
+        return compare(currentRuns, baseline);
+    }
+
+    /**
+     * Bewertet für jedes gespeicherte Tupel die jüngsten Läufe gegen die davor liegenden
+     *
+     * @param testType        Testtyp oder null für alle
+     * @param currentRuns     Anzahl der jüngsten Läufe, die als aktuelle Stichprobe gelten
+     * @param onlyRegressions nur Tupel mit erkannter Regression liefern
+     */
+    public List<RegressionReport> detectLatest(String testType, int currentRuns, boolean onlyRegressions) {
+        List<RegressionReport> reports = new ArrayList<>();
+        if (!resultStore.isEnabled()) {
+            return reports;
+        }
+
+        // Läufe kommen jüngste zuerst und werden pro Tupel gruppiert
+        Map<String, List<CalculationResponse>> byTuple = new LinkedHashMap<>();
+        for (CalculationResponse run : resultStore.findRuns(null, testType, 0, Long.MAX_VALUE, Integer.MAX_VALUE)) {
+            byTuple.computeIfAbsent(tupleKey(run), k -> new ArrayList<>()).add(run);
+        }
+
+        int current = Math.max(1, currentRuns);
+        for (List<CalculationResponse> runs : byTuple.values()) {
+            List<CalculationResponse> latest = runs.subList(0, Math.min(current, runs.size()));
+            List<CalculationResponse> baseline = runs.subList(latest.size(),
+                    Math.min(runs.size(), latest.size() + baselineWindow));
+            RegressionReport report = compare(latest, baseline);
+            if (!onlyRegressions || report.isRegression()) {
+                reports.add(report);
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * Vergleicht aktuelle Läufe mit einer Baseline
+     */
+    private RegressionReport compare(List<CalculationResponse> currentRuns, List<CalculationResponse> baseline) {
+        CalculationResponse latest = currentRuns.get(0);
+        for (CalculationResponse run : currentRuns) {
+            if (run.getTimestamp() > latest.getTimestamp()) {
+                latest = run;
+            }
+        }
+
+        RegressionReport report = new RegressionReport();
+        report.setThreadModel(latest.getThreadModel());
+        report.setTestType(latest.getTestType());
+        report.setMatrixSize(latest.getMatrixSize());
+        report.setParallelTasks(latest.getParallelTasks());
+        report.setLatestRunId(latest.getRunId());
+        report.setLatestTimestamp(latest.getTimestamp());
+        report.setBaselineRuns(baseline.size());
+        report.setCurrentRuns(currentRuns.size());
+        report.setMetrics(new ArrayList<>());
+
+        int requiredBaseline = requiredBaselineRuns(currentRuns.size());
+        if (baseline.size() < requiredBaseline) {
+            return report;
+        }
+        report.setEvaluated(true);
+
+        addMetric(report, "throughput", true, currentRuns, baseline,
+                RegressionDetectionService::tasksPerSecond);
+        // Ältere Datensätze enthalten kein p99 und bleiben für diese Kennzahl unberücksichtigt
+        List<CalculationResponse> baselineWithP99 = new ArrayList<>();
+        for (CalculationResponse run : baseline) {
+            if (run.getP99TaskTimeMs() > 0) {
+                baselineWithP99.add(run);
+            }
+        }
+        if (baselineWithP99.size() >= requiredBaseline) {
+            addMetric(report, "p99TaskTimeMs", false, currentRuns, baselineWithP99,
+                    CalculationResponse::getP99TaskTimeMs);
+        }
+
+        for (MetricComparison metric : report.getMetrics()) {
+            if (metric.isRegression()) {
+                report.setRegression(true);
+                log.warn("Regression erkannt: {} {} (Matrix {}, {} Aufgaben) - {} Median {} -> {} ({}%, p={})",
+                        report.getThreadModel(), report.getTestType(), report.getMatrixSize(),
+                        report.getParallelTasks(), metric.getMetric(),
+                        String.format("%.2f", metric.getBaselineMedian()),
+                        String.format("%.2f", metric.getCurrentMedian()),
+                        String.format("%.1f", metric.getRelativeChange() * 100),
+                        String.format("%.4f", metric.getPValue()));
+            }
+        }
+        return report;
+    }
+
+    private void addMetric(RegressionReport report, String name, boolean higherIsBetter,
+                           List<CalculationResponse> currentRuns, List<CalculationResponse> baseline,
+                           ToDoubleFunction<CalculationResponse> extractor) {
+        double[] current = currentRuns.stream().mapToDouble(extractor).toArray();
+        double[] reference = baseline.stream().mapToDouble(extractor).toArray();
+        double currentMedian = BenchmarkStatistics.percentile(current, 50);
+        double baselineMedian = BenchmarkStatistics.percentile(reference, 50);
+
+        // Test auf "schlechter": beim Durchsatz kleinere Werte, bei Latenzen größere Werte
+        double pValue = higherIsBetter
+                ? BenchmarkStatistics.mannWhitneyLessPValue(current, reference)
+                : BenchmarkStatistics.mannWhitneyLessPValue(negate(current), negate(reference));
+        double relativeChange = baselineMedian != 0
+                ? (higherIsBetter ? currentMedian - baselineMedian : baselineMedian - currentMedian) / baselineMedian
+                : 0.0;
+
+        MetricComparison metric = new MetricComparison();
+        metric.setMetric(name);
+        metric.setHigherIsBetter(higherIsBetter);
+        metric.setBaselineMedian(baselineMedian);
+        metric.setCurrentMedian(currentMedian);
+        metric.setRelativeChange(relativeChange);
+        metric.setPValue(pValue);
+        metric.setRegression(pValue < alpha && relativeChange <= -minRelativeChange);
+        report.getMetrics().add(metric);
+    }
+
+    private static boolean sameTuple(CalculationResponse run, CalculationResponse reference) {
+        return run.getMatrixSize() == reference.getMatrixSize()
+                && run.getParallelTasks() == reference.getParallelTasks();
+    }
+
+    private static String tupleKey(CalculationResponse run) {
+        return run.getThreadModel() + "|" + run.getTestType() + "|" + run.getMatrixSize() + "|" + run.getParallelTasks();
+    }
+
+    private static double tasksPerSecond(CalculationResponse run) {
+        return run.getTotalExecutionTimeMs() > 0 ? run.getParallelTasks() * 1000.0 / run.getTotalExecutionTimeMs() : 0.0;
+    }
+
+    private static double[] negate(double[] values) {
+        double[] negated = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            negated[i] = -values[i];
+        }
+        return negated;
+    }
+}
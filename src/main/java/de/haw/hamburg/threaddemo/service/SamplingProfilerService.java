@@ -0,0 +1,405 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.model.RunProfile;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-Process-Sampling-Profiler für Benchmark-Läufe
+ * - "mxbean": ein Sampler-Thread liest in festem Intervall die Stacks aller Executor-Threads
+ *   über den ThreadMXBean; blockierte und wartende Threads erhalten ein zusätzliches Blatt
+ *   mit dem Lock, auf das sie warten
+ * - "jfr": eine JFR-Aufzeichnung mit jdk.ExecutionSample (sieht auch virtuelle Threads)
+ *   sowie jdk.JavaMonitorEnter und jdk.ThreadPark für Lock-Wartezeiten
+ * - Leerlaufende Pool-Threads (Warten auf neue Aufgaben) werden nicht gezählt
+ * - Die Stacks werden im Collapsed-Stack-Format pro runId aggregiert
+ */
+@Service
+public class SamplingProfilerService {
+
+    private static final Logger log = LoggerFactory.getLogger(SamplingProfilerService.class);
+
+    /**
+     * Namenspräfixe der Threads, die zu den Benchmark-Executoren gehören
+     */
+    private static final String[] EXECUTOR_THREAD_PREFIXES = {
+        "platform-thread-", "virtual-thread-", "limited-thread-", "ForkJoinPool-",
+        "bounded-virtual-thread-", "strassen-worker-",
+        "parallel-", "reactive-"
+    };
+
+    /**
+     * Frames, an denen ein Pool-Thread im Leerlauf auf Arbeit wartet
+     */
+    private static final String[] IDLE_FRAMES = {
+        "java.util.concurrent.ThreadPoolExecutor.getTask",
+        "java.util.concurrent.ForkJoinPool.awaitWork"
+    };
+
+    @Value("${benchmark.profiler.enabled:true}")
+    private boolean enabled;
+
+    @Value("${benchmark.profiler.mode:mxbean}")
+    private String mode;
+
+    @Value("${benchmark.profiler.interval-ms:10}")
+    private long intervalMs;
+
+    @Value("${benchmark.profiler.max-profiles:50}")
+    private int maxProfiles;
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    // Zuletzt aufgezeichnete Profile, älteste werden verdrängt
+    private final Map<String, RunProfile> profiles = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Startet die Aufzeichnung für einen Lauf
+     *
+     * @return die laufende Aufzeichnung oder null, wenn der Profiler deaktiviert ist
+     */
+    public ProfilingSession start(String runId, String threadModel) {
+        if (!enabled) {
+            return null;
+        }
+        ProfilingSession session = "jfr".equalsIgnoreCase(mode)
+                ? new JfrSession(runId, threadModel)
+                : new MXBeanSession(runId, threadModel);
+        session.begin();
+        return session;
+    }
+
+    /**
+     * Beendet die Aufzeichnung und legt das Profil unter der runId ab
+     */
+    public RunProfile stop(ProfilingSession session) {
+        session.end();
+
+        RunProfile profile = new RunProfile();
+        profile.setRunId(session.runId);
+        profile.setThreadModel(session.threadModel);
+        profile.setMode(session.modeName());
+        profile.setIntervalMs(intervalMs);
+        profile.setStartTimestamp(session.startTimestamp);
+        profile.setDurationMs(System.currentTimeMillis() - session.startTimestamp);
+        profile.setSamples(session.stacks.values().stream().mapToLong(Long::longValue).sum());
+        profile.setStacks(new LinkedHashMap<>(session.stacks));
+
+        synchronized (profiles) {
+            profiles.put(profile.getRunId(), profile);
+            while (profiles.size() > maxProfiles) {
+                profiles.remove(profiles.keySet().iterator().next());
+            }
+        }
+        log.info("Profil für Lauf {} aufgezeichnet: {} Samples, {} verschiedene Stacks",
+                profile.getRunId(), profile.getSamples(), profile.getStacks().size());
+        return profile;
+    }
+
+    public RunProfile getProfile(String runId) {
+        synchronized (profiles) {
+            return profiles.get(runId);
+        }
+    }
+
+    /**
+     * Übersicht der gespeicherten Profile (ohne Stacks), jüngste zuerst
+     */
+    public List<RunProfile> listProfiles() {
+        List<RunProfile> summaries = new ArrayList<>();
+        synchronized (profiles) {
+            for (RunProfile profile : profiles.values()) {
+                RunProfile summary = new RunProfile();
+                summary.setRunId(profile.getRunId());
+                summary.setThreadModel(profile.getThreadModel());
+                summary.setMode(profile.getMode());
+                summary.setIntervalMs(profile.getIntervalMs());
+                summary.setStartTimestamp(profile.getStartTimestamp());
+                summary.setDurationMs(profile.getDurationMs());
+                summary.setSamples(profile.getSamples());
+                summaries.add(summary);
+            }
+        }
+        Collections.reverse(summaries);
+        return summaries;
+    }
+
+    /**
+     * Gibt ein Profil im Collapsed-Stack-Format aus (eine Zeile pro Stack: "frame;frame;frame anzahl")
+     */
+    public String toCollapsed(RunProfile profile) {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, Long> entry : profile.getStacks().entrySet()) {
+            builder.append(entry.getKey()).append(' ').append(entry.getValue()).append('\n');
+        }
+        return builder.toString();
+    }
+
+    private static boolean isExecutorThread(String threadName) {
+        if (threadName == null || threadName.isEmpty()) {
+            // Unbenannte Threads sind virtuelle Threads aus newVirtualThreadPerTaskExecutor
+            return true;
+        }
+        for (String prefix : EXECUTOR_THREAD_PREFIXES) {
+            if (threadName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Wurzel-Frame eines Stacks: der Pool-Name ohne laufende Nummer
+     */
+    private static String poolFrame(String threadName) {
+        if (threadName == null || threadName.isEmpty()) {
+            return "virtual";
+        }
+        return threadName.replaceAll("-?\\d+$", "").replaceAll("-worker$", "");
+    }
+
+    /**
+     * Frame-Name "Klasse.Methode"; Lambda-Klassen verlieren ihre laufende Nummer,
+     * damit gleiche Lambdas über Läufe hinweg zu einem Frame zusammenfallen
+     */
+    private static String frameName(String className, String methodName) {
+        return className.replaceAll("\\$\\$Lambda.*$", "\\$\\$Lambda") + "." + methodName;
+    }
+
+    private static boolean isIdle(List<String> framesLeafFirst) {
+        for (String frame : framesLeafFirst) {
+            for (String idleFrame : IDLE_FRAMES) {
+                if (frame.equals(idleFrame)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Baut einen Collapsed-Stack von der Wurzel zum Blatt
+     */
+    private static String collapse(String root, List<String> framesLeafFirst, String leaf) {
+        StringBuilder builder = new StringBuilder(root);
+        for (int i = framesLeafFirst.size() - 1; i >= 0; i--) {
+            builder.append(';').append(framesLeafFirst.get(i));
+        }
+        if (leaf != null) {
+            builder.append(';').append(leaf);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Laufende Aufzeichnung eines Benchmark-Laufs
+     */
+    public abstract static class ProfilingSession {
+        final String runId;
+        final String threadModel;
+        final Map<String, Long> stacks = new ConcurrentHashMap<>();
+        long startTimestamp;
+
+        ProfilingSession(String runId, String threadModel) {
+            this.runId = runId;
+            this.threadModel = threadModel;
+        }
+
+        void addSample(String stack, long weight) {
+            stacks.merge(stack, weight, Long::sum);
+        }
+
+        abstract String modeName();
+
+        abstract void begin();
+
+        abstract void end();
+    }
+
+    /**
+     * Stack-Sampling über den ThreadMXBean in einem eigenen Sampler-Thread
+     */
+    private class MXBeanSession extends ProfilingSession {
+        private volatile boolean running;
+        private Thread sampler;
+
+        MXBeanSession(String runId, String threadModel) {
+            super(runId, threadModel);
+        }
+
+        @Override
+        String modeName() {
+            return "mxbean";
+        }
+
+        @Override
+        void begin() {
+            startTimestamp = System.currentTimeMillis();
+            running = true;
+            sampler = new Thread(this::sampleLoop, "profiler-sampler-" + runId.substring(0, Math.min(8, runId.length())));
+            sampler.setDaemon(true);
+            sampler.start();
+        }
+
+        @Override
+        void end() {
+            running = false;
+            try {
+                sampler.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void sampleLoop() {
+            long intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, intervalMs));
+            long next = System.nanoTime();
+            while (running) {
+                sample();
+                next += intervalNanos;
+                long delay = next - System.nanoTime();
+                if (delay > 0) {
+                    LockSupport.parkNanos(delay);
+                } else {
+                    // Sampling dauert länger als das Intervall: nicht aufholen
+                    next = System.nanoTime();
+                }
+            }
+        }
+
+        private void sample() {
+            for (ThreadInfo info : threadMXBean.dumpAllThreads(false, false)) {
+                if (info == null || !isExecutorThread(info.getThreadName())) {
+                    continue;
+                }
+                List<String> frames = new ArrayList<>();
+                for (StackTraceElement element : info.getStackTrace()) {
+                    frames.add(frameName(element.getClassName(), element.getMethodName()));
+                }
+                if (frames.isEmpty() || isIdle(frames)) {
+                    continue;
+                }
+                String leaf = null;
+                switch (info.getThreadState()) {
+                    case BLOCKED:
+                    case WAITING:
+                    case TIMED_WAITING:
+                        leaf = "[" + info.getThreadState() + (info.getLockName() != null ? " " + info.getLockName() : "") + "]";
+                        break;
+                    default:
+                        break;
+                }
+                addSample(collapse(poolFrame(info.getThreadName()), frames, leaf), 1);
+            }
+        }
+    }
+
+    /**
+     * Aufzeichnung über JFR; die Ereignisse werden nach dem Lauf aus der Aufzeichnung gelesen
+     */
+    private class JfrSession extends ProfilingSession {
+        private Recording recording;
+
+        JfrSession(String runId, String threadModel) {
+            super(runId, threadModel);
+        }
+
+        @Override
+        String modeName() {
+            return "jfr";
+        }
+
+        @Override
+        void begin() {
+            startTimestamp = System.currentTimeMillis();
+            recording = new Recording();
+            recording.setName("profile-" + runId);
+            recording.enable("jdk.ExecutionSample").withPeriod(Duration.ofMillis(Math.max(1, intervalMs)));
+            recording.enable("jdk.JavaMonitorEnter").withThreshold(Duration.ofMillis(1)).withStackTrace();
+            recording.enable("jdk.ThreadPark").withThreshold(Duration.ofMillis(1)).withStackTrace();
+            recording.start();
+        }
+
+        @Override
+        void end() {
+            Path file = null;
+            try {
+                recording.stop();
+                file = Files.createTempFile("profile-" + runId, ".jfr");
+                recording.dump(file);
+                for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                    addEvent(event);
+                }
+            } catch (IOException e) {
+                log.error("JFR-Profil für Lauf {} konnte nicht gelesen werden: {}", runId, e.getMessage());
+            } finally {
+                recording.close();
+                if (file != null) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException e) {
+                        log.debug("Temporäre JFR-Datei {} konnte nicht gelöscht werden", file);
+                    }
+                }
+            }
+        }
+
+        private void addEvent(RecordedEvent event) {
+            String eventName = event.getEventType().getName();
+            RecordedThread thread = "jdk.ExecutionSample".equals(eventName)
+                    ? event.getThread("sampledThread")
+                    : event.getThread();
+            RecordedStackTrace stackTrace = event.getStackTrace();
+            if (thread == null || stackTrace == null || !isExecutorThread(thread.getJavaName())) {
+                return;
+            }
+
+            List<String> frames = new ArrayList<>();
+            for (RecordedFrame frame : stackTrace.getFrames()) {
+                if (frame.isJavaFrame()) {
+                    frames.add(frameName(frame.getMethod().getType().getName(), frame.getMethod().getName()));
+                }
+            }
+            if (frames.isEmpty() || isIdle(frames)) {
+                return;
+            }
+
+            if ("jdk.ExecutionSample".equals(eventName)) {
+                addSample(collapse(poolFrame(thread.getJavaName()), frames, null), 1);
+            } else {
+                // Wartezeiten werden in Intervall-Einheiten gewichtet, damit sie mit den Samples vergleichbar sind
+                long weight = Math.max(1, event.getDuration().toMillis() / Math.max(1, intervalMs));
+                String leaf = "jdk.JavaMonitorEnter".equals(eventName) ? "[BLOCKED]" : "[PARKED]";
+                addSample(collapse(poolFrame(thread.getJavaName()), frames, leaf), weight);
+            }
+        }
+    }
+}
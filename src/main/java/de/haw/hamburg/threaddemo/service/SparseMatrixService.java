@@ -0,0 +1,258 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.config.ThreadModelExecutors;
+import de.haw.hamburg.threaddemo.model.CscMatrix;
+import de.haw.hamburg.threaddemo.model.CsrMatrix;
+import de.haw.hamburg.threaddemo.model.ThreadModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Dünn besetzte Matrizen als speichergebundene, unregelmäßige Rechenlast
+ *
+ * Eine Aufgabe des Sparse-Tests:
+ * - SpGEMM: C = A · B (Gustavson, zeilenweise mit dichtem Akkumulator)
+ * - SpMV: y = C · x über das CSR-Format
+ * - SpMV der Transponierten: z = Cᵀ · y über das CSC-Format von C
+ *
+ * Die Zeilenlängen sind binomialverteilt; Zugriffe auf B und x folgen den Spaltenindizes und sind
+ * damit indirekt und schlecht vorhersagbar. Die Laufzeit hängt anders als bei dichten Matrizen
+ * vor allem von Speicherbandbreite und Cache-Treffern ab.
+ */
+@Service
+public class SparseMatrixService {
+
+    private final ThreadModelExecutors executors;
+    // Ereignisse je Aufgabe ohne synchrones Logging im Hot Path
+    private final TaskEventLog taskEventLog;
+
+    @Autowired
+    public SparseMatrixService(ThreadModelExecutors executors, TaskEventLog taskEventLog) {
+        this.executors = executors;
+        this.taskEventLog = taskEventLog;
+    }
+
+    /**
+     * Erzeugt eine zufällige quadratische CSR-Matrix; jeder Eintrag ist mit Wahrscheinlichkeit density belegt
+     * - Die Abstände zwischen belegten Spalten sind geometrisch verteilt, der Aufwand ist daher
+     *   proportional zur Anzahl der Einträge statt zu size²
+     */
+    public CsrMatrix createRandomSparseMatrix(int size, double density) {
+        if (density <= 0 || density > 1) {
+            throw new IllegalArgumentException("density muss in (0, 1] liegen: " + density);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int[] rowPointers = new int[size + 1];
+        int capacity = (int) Math.min((long) size * size, Math.max(16, (long) (size * (double) size * density * 1.1)));
+        int[] columnIndices = new int[capacity];
+        double[] values = new double[capacity];
+        double logSkip = density < 1 ? Math.log1p(-density) : 0;
+
+        int nonZeros = 0;
+        for (int row = 0; row < size; row++) {
+            int column = nextColumn(-1, logSkip, random);
+            while (column < size) {
+                if (nonZeros == columnIndices.length) {
+                    int grown = (int) Math.min((long) size * size, columnIndices.length * 2L);
+                    columnIndices = Arrays.copyOf(columnIndices, grown);
+                    values = Arrays.copyOf(values, grown);
+                }
+                columnIndices[nonZeros] = column;
+                values[nonZeros] = random.nextDouble();
+                nonZeros++;
+                column = nextColumn(column, logSkip, random);
+            }
+            rowPointers[row + 1] = nonZeros;
+        }
+        return new CsrMatrix(size, size, rowPointers, columnIndices, values);
+    }
+
+    private static int nextColumn(int column, double logSkip, ThreadLocalRandom random) {
+        if (logSkip == 0) {
+            return column + 1;
+        }
+        // Geometrisch verteilter Abstand zum nächsten belegten Eintrag
+        double skip = Math.floor(Math.log(1.0 - random.nextDouble()) / logSkip);
+        return skip >= Integer.MAX_VALUE - column - 1 ? Integer.MAX_VALUE : column + 1 + (int) skip;
+    }
+
+    /**
+     * Erzeugt einen zufälligen dichten Vektor
+     */
+    public double[] createRandomVector(int size) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double[] vector = new double[size];
+        for (int i = 0; i < size; i++) {
+            vector[i] = random.nextDouble();
+        }
+        return vector;
+    }
+
+    /**
+     * SpMV: y = A · x
+     */
+    public double[] multiply(CsrMatrix matrix, double[] vector) {
+        if (vector.length != matrix.getColumns()) {
+            throw new IllegalArgumentException("Vektorlänge passt nicht zur Matrix");
+        }
+        int[] rowPointers = matrix.getRowPointers();
+        int[] columnIndices = matrix.getColumnIndices();
+        double[] values = matrix.getValues();
+        double[] result = new double[matrix.getRows()];
+        for (int row = 0; row < result.length; row++) {
+            double sum = 0;
+            for (int k = rowPointers[row]; k < rowPointers[row + 1]; k++) {
+                sum += values[k] * vector[columnIndices[k]];
+            }
+            result[row] = sum;
+        }
+        return result;
+    }
+
+    /**
+     * SpMV der Transponierten über das CSC-Format: z = Aᵀ · y
+     * - Jede Spalte von A ergibt ein Skalarprodukt mit y, ohne verstreute Schreibzugriffe
+     */
+    public double[] multiplyTransposed(CscMatrix matrix, double[] vector) {
+        if (vector.length != matrix.getRows()) {
+            throw new IllegalArgumentException("Vektorlänge passt nicht zur Matrix");
+        }
+        int[] columnPointers = matrix.getColumnPointers();
+        int[] rowIndices = matrix.getRowIndices();
+        double[] values = matrix.getValues();
+        double[] result = new double[matrix.getColumns()];
+        for (int column = 0; column < result.length; column++) {
+            double sum = 0;
+            for (int k = columnPointers[column]; k < columnPointers[column + 1]; k++) {
+                sum += values[k] * vector[rowIndices[k]];
+            }
+            result[column] = sum;
+        }
+        return result;
+    }
+
+    /**
+     * SpGEMM: C = A · B nach Gustavson
+     * - Je Zeile von A werden die Zeilen von B skaliert in einen dichten Akkumulator addiert
+     * - Belegte Spalten werden in einer Liste gesammelt und vor dem Übernehmen sortiert
+     */
+    public CsrMatrix multiply(CsrMatrix a, CsrMatrix b) {
+        if (a.getColumns() != b.getRows()) {
+            throw new IllegalArgumentException("Dimensionen passen nicht: " + a.getColumns() + " != " + b.getRows());
+        }
+        int rows = a.getRows();
+        int columns = b.getColumns();
+        int[] aPointers = a.getRowPointers();
+        int[] aColumns = a.getColumnIndices();
+        double[] aValues = a.getValues();
+        int[] bPointers = b.getRowPointers();
+        int[] bColumns = b.getColumnIndices();
+        double[] bValues = b.getValues();
+
+        double[] accumulator = new double[columns];
+        // Zeile + 1, in der die Spalte zuletzt belegt wurde (0 = nie), spart das Zurücksetzen je Zeile
+        int[] marker = new int[columns];
+        int[] rowColumns = new int[columns];
+
+        int[] rowPointers = new int[rows + 1];
+        int capacity = Math.max(16, a.getNonZeros() + b.getNonZeros());
+        int[] columnIndices = new int[capacity];
+        double[] values = new double[capacity];
+        int nonZeros = 0;
+
+        for (int row = 0; row < rows; row++) {
+            int count = 0;
+            for (int ka = aPointers[row]; ka < aPointers[row + 1]; ka++) {
+                int k = aColumns[ka];
+                double scale = aValues[ka];
+                for (int kb = bPointers[k]; kb < bPointers[k + 1]; kb++) {
+                    int column = bColumns[kb];
+                    if (marker[column] != row + 1) {
+                        marker[column] = row + 1;
+                        accumulator[column] = 0;
+                        rowColumns[count++] = column;
+                    }
+                    accumulator[column] += scale * bValues[kb];
+                }
+            }
+            Arrays.sort(rowColumns, 0, count);
+            if (nonZeros + count > columnIndices.length) {
+                int grown = Math.max(nonZeros + count, columnIndices.length * 2);
+                columnIndices = Arrays.copyOf(columnIndices, grown);
+                values = Arrays.copyOf(values, grown);
+            }
+            for (int i = 0; i < count; i++) {
+                int column = rowColumns[i];
+                columnIndices[nonZeros] = column;
+                values[nonZeros] = accumulator[column];
+                nonZeros++;
+            }
+            rowPointers[row + 1] = nonZeros;
+        }
+        return new CsrMatrix(rows, columns, rowPointers, columnIndices, values);
+    }
+
+    /**
+     * Wandelt CSR in CSC um (Zählen der Einträge je Spalte, Präfixsumme, Verteilen)
+     */
+    public CscMatrix toCsc(CsrMatrix matrix) {
+        int rows = matrix.getRows();
+        int columns = matrix.getColumns();
+        int nonZeros = matrix.getNonZeros();
+        int[] rowPointers = matrix.getRowPointers();
+        int[] columnIndices = matrix.getColumnIndices();
+        double[] values = matrix.getValues();
+
+        int[] columnPointers = new int[columns + 1];
+        for (int k = 0; k < nonZeros; k++) {
+            columnPointers[columnIndices[k] + 1]++;
+        }
+        for (int column = 0; column < columns; column++) {
+            columnPointers[column + 1] += columnPointers[column];
+        }
+
+        int[] next = Arrays.copyOf(columnPointers, columns);
+        int[] rowIndices = new int[nonZeros];
+        double[] cscValues = new double[nonZeros];
+        // Zeilen in aufsteigender Reihenfolge, dadurch sind die Zeilenindizes je Spalte sortiert
+        for (int row = 0; row < rows; row++) {
+            for (int k = rowPointers[row]; k < rowPointers[row + 1]; k++) {
+                int position = next[columnIndices[k]]++;
+                rowIndices[position] = row;
+                cscValues[position] = values[k];
+            }
+        }
+        return new CscMatrix(rows, columns, columnPointers, rowIndices, cscValues);
+    }
+
+    /**
+     * Eine Aufgabe des Sparse-Tests: SpGEMM, SpMV und SpMV der Transponierten
+     *
+     * @return Summe der Einträge von Cᵀ · (C · x) als Prüfwert
+     */
+    public double runSparseTask(CsrMatrix a, CsrMatrix b, double[] vector) {
+        long startTime = System.nanoTime();
+        CsrMatrix product = multiply(a, b);
+        double[] y = multiply(product, vector);
+        double[] z = multiplyTransposed(toCsc(product), y);
+        double checksum = 0;
+        for (double value : z) {
+            checksum += value;
+        }
+        taskEventLog.record("sparse", startTime, product.getNonZeros());
+        return checksum;
+    }
+
+    /**
+     * Asynchrone Ausführung einer Sparse-Aufgabe auf dem Executor des Thread-Modells
+     * - Reaktives Modell: über die gemeinsame parallele Pipeline wie der reaktive CPU-Test
+     */
+    public CompletableFuture<Double> runSparseTask(ThreadModel threadModel, CsrMatrix a, CsrMatrix b,
+                                                   double[] vector) {
+        return CompletableFuture.supplyAsync(() -> runSparseTask(a, b, vector), executors.executorFor(threadModel));
+    }
+}
@@ -0,0 +1,622 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.config.ThreadModelExecutors;
+import de.haw.hamburg.threaddemo.model.StrassenCutoverEntry;
+import de.haw.hamburg.threaddemo.model.StrassenCutoverReport;
+import de.haw.hamburg.threaddemo.model.ThreadModel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Matrix-Multiplikation nach Strassen-Winograd für große Matrizen
+ * - 7 statt 8 Teilprodukte je Rekursionsstufe (O(n^2.81)) mit 15 statt 18 Additionen
+ * - Unterhalb der Cutover-Größe übernimmt ein geblockter klassischer Kernel (i-k-j, Kacheln)
+ * - Die Eingaben werden auf base · 2^k mit base <= cutover aufgefüllt, damit jede Stufe sauber
+ *   halbiert und möglichst wenig Auffüllung entsteht
+ * - In den obersten parallelDepth Stufen laufen die sieben Teilprodukte parallel auf einem
+ *   eigenen Fork/Join-Pool, darunter sequenziell mit nur drei Zwischenpuffern je Stufe
+ * - Zwischenpuffer kommen aus einem Pool und werden wiederverwendet
+ *
+ * Matrizen werden zeilenweise in double[] gehalten; Quadranten sind Sichten (Offset, Zeilenabstand)
+ * ohne Kopie.
+ */
+@Service
+public class StrassenMatrixService {
+
+    private static final Logger log = LoggerFactory.getLogger(StrassenMatrixService.class);
+
+    // Höchstzahl aufbewahrter Puffer je Größe
+    private static final int MAX_POOLED_PER_SIZE = 32;
+
+    @Value("${benchmark.strassen.cutover:128}")
+    private int defaultCutover;
+
+    @Value("${benchmark.strassen.block-size:64}")
+    private int blockSize;
+
+    @Value("${benchmark.strassen.parallel-depth:1}")
+    private int parallelDepth;
+
+    @Value("${benchmark.strassen.parallelism:0}")
+    private int parallelism;
+
+    private final MatrixCalculationService calculationService;
+    private final ThreadModelExecutors executors;
+    // Ereignisse je Aufgabe ohne synchrones Logging im Hot Path
+    private final TaskEventLog taskEventLog;
+
+    private ForkJoinPool pool;
+    private final Map<Integer, Queue<double[]>> scratchBuffers = new ConcurrentHashMap<>();
+    private final AtomicLong buffersAllocated = new AtomicLong();
+    private final AtomicLong buffersReused = new AtomicLong();
+
+    @Autowired
+    public StrassenMatrixService(
+            MatrixCalculationService calculationService,
+            ThreadModelExecutors executors,
+            TaskEventLog taskEventLog) {
+        this.calculationService = calculationService;
+        this.executors = executors;
+        this.taskEventLog = taskEventLog;
+    }
+
+    @PostConstruct
+    public void start() {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(threads, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("strassen-worker-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    @PreDestroy
+    public void stop() {
+        pool.shutdownNow();
+    }
+
+    public int getDefaultCutover() {
+        return defaultCutover;
+    }
+
+    /**
+     * Multipliziert zwei quadratische Matrizen mit der konfigurierten Cutover-Größe
+     */
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        return multiply(matrixA, matrixB, defaultCutover);
+    }
+
+    /**
+     * Multipliziert zwei quadratische Matrizen
+     *
+     * @param cutover Größe, ab der der klassische Kernel rechnet; ist die Matrix nicht größer,
+     *                wird ausschließlich klassisch gerechnet
+     */
+    public double[][] multiply(double[][] matrixA, double[][] matrixB, int cutover) {
+        if (cutover < 1) {
+            throw new IllegalArgumentException("cutover muss positiv sein: " + cutover);
+        }
+        int n = matrixA.length;
+        int padded = paddedSize(n, cutover);
+        double[] a = pad(matrixA, padded);
+        double[] b = pad(matrixB, padded);
+        double[] c = new double[padded * padded];
+
+        long startTime = System.nanoTime();
+        View viewA = new View(a, 0, padded);
+        View viewB = new View(b, 0, padded);
+        if (padded <= cutover) {
+            multiplyClassic(viewA, viewB, c, padded);
+        } else if (parallelDepth > 0) {
+            pool.invoke(new ProductTask(viewA, viewB, c, padded, cutover, 0));
+        } else {
+            multiplyRecursive(viewA, viewB, c, padded, cutover, 0);
+        }
+        taskEventLog.record("strassen", startTime, n);
+
+        double[][] result = new double[n][];
+        for (int i = 0; i < n; i++) {
+            result[i] = Arrays.copyOfRange(c, i * padded, i * padded + n);
+        }
+        return result;
+    }
+
+    /**
+     * Führt eine Strassen-Multiplikation als Aufgabe des gewählten Thread-Modells aus
+     * - Der Thread des Modells wartet, während die sieben Teilprodukte auf dem Strassen-Pool laufen
+     */
+    public CompletableFuture<double[][]> multiply(ThreadModel threadModel, double[][] matrixA, double[][] matrixB) {
+        return CompletableFuture.supplyAsync(() -> multiply(matrixA, matrixB), executors.executorFor(threadModel));
+    }
+
+    /**
+     * Fehler der Strassen-Multiplikation gegenüber der klassischen Multiplikation an einem Matrixpaar der Größe size
+     *
+     * @return größte absolute Abweichung relativ zum größten Betrag des klassischen Ergebnisses
+     */
+    public double measureError(int size) {
+        double[][] matrixA = calculationService.createRandomMatrix(size);
+        double[][] matrixB = calculationService.createRandomMatrix(size);
+        return relativeError(calculationService.multiplyMatrices(matrixA, matrixB), multiply(matrixA, matrixB));
+    }
+
+    /**
+     * Misst für jede Matrixgröße den geblockten klassischen Kernel und Strassen mit jeder Cutover-Größe
+     * - Je Kombination warmups verworfene und repetitions gemessene Läufe; gewertet wird der schnellste
+     * - Empfohlen wird die Cutover-Größe mit dem höchsten mittleren Speedup über alle Größen,
+     *   0, wenn Strassen bei keiner Cutover-Größe im Mittel schneller ist
+     */
+    public StrassenCutoverReport benchmarkCutover(List<Integer> sizes, List<Integer> cutovers, int warmups,
+                                                  int repetitions) {
+        List<StrassenCutoverEntry> entries = new ArrayList<>();
+        Map<Integer, Double> speedupSums = new LinkedHashMap<>();
+        Map<Integer, Integer> bestBySize = new LinkedHashMap<>();
+
+        for (int size : sizes) {
+            if (size < 1) {
+                throw new IllegalArgumentException("Matrixgröße muss positiv sein: " + size);
+            }
+            double[][] matrixA = calculationService.createRandomMatrix(size);
+            double[][] matrixB = calculationService.createRandomMatrix(size);
+            double[][] reference = multiplyBlocked(matrixA, matrixB);
+            double classicMs = fastestMs(() -> multiplyBlocked(matrixA, matrixB), warmups, repetitions);
+            entries.add(entry(size, 0, size, classicMs, 1.0, 0));
+
+            int bestCutover = 0;
+            double bestMs = classicMs;
+            for (int cutover : cutovers) {
+                double timeMs = fastestMs(() -> multiply(matrixA, matrixB, cutover), warmups, repetitions);
+                double error = relativeError(reference, multiply(matrixA, matrixB, cutover));
+                double speedup = timeMs > 0 ? classicMs / timeMs : 0;
+                entries.add(entry(size, cutover, paddedSize(size, cutover), timeMs, speedup, error));
+                speedupSums.merge(cutover, speedup, Double::sum);
+                if (timeMs < bestMs) {
+                    bestMs = timeMs;
+                    bestCutover = cutover;
+                }
+            }
+            bestBySize.put(size, bestCutover);
+            log.info("Strassen-Cutover für {}: bestes {} ({} ms, klassisch {} ms)", size, bestCutover,
+                    String.format("%.1f", bestMs), String.format("%.1f", classicMs));
+        }
+
+        int recommended = 0;
+        double bestMeanSpeedup = 1.0;
+        for (Map.Entry<Integer, Double> sum : speedupSums.entrySet()) {
+            double mean = sum.getValue() / sizes.size();
+            if (mean > bestMeanSpeedup) {
+                bestMeanSpeedup = mean;
+                recommended = sum.getKey();
+            }
+        }
+
+        StrassenCutoverReport report = new StrassenCutoverReport();
+        report.setAvailableProcessors(Runtime.getRuntime().availableProcessors());
+        report.setParallelism(pool.getParallelism());
+        report.setParallelDepth(parallelDepth);
+        report.setBlockSize(blockSize);
+        report.setConfiguredCutover(defaultCutover);
+        report.setEntries(entries);
+        report.setBestCutoverBySize(bestBySize);
+        report.setRecommendedCutover(recommended);
+        report.setBuffersAllocated(buffersAllocated.get());
+        report.setBuffersReused(buffersReused.get());
+        return report;
+    }
+
+    private static double fastestMs(Runnable run, int warmups, int repetitions) {
+        for (int i = 0; i < warmups; i++) {
+            run.run();
+        }
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < Math.max(1, repetitions); i++) {
+            long start = System.nanoTime();
+            run.run();
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return fastest / 1_000_000.0;
+    }
+
+    private static StrassenCutoverEntry entry(int size, int cutover, int paddedSize, double timeMs, double speedup,
+                                              double error) {
+        StrassenCutoverEntry entry = new StrassenCutoverEntry();
+        entry.setMatrixSize(size);
+        entry.setCutover(cutover);
+        entry.setPaddedSize(paddedSize);
+        entry.setTimeMs(timeMs);
+        entry.setSpeedup(speedup);
+        entry.setRelativeError(error);
+        return entry;
+    }
+
+    /**
+     * Klassische Multiplikation mit dem geblockten Kernel, ohne Rekursion (Referenz für Cutover-Messungen)
+     */
+    public double[][] multiplyBlocked(double[][] matrixA, double[][] matrixB) {
+        int n = matrixA.length;
+        double[] c = new double[n * n];
+        multiplyClassic(new View(pad(matrixA, n), 0, n), new View(pad(matrixB, n), 0, n), c, n);
+        double[][] result = new double[n][];
+        for (int i = 0; i < n; i++) {
+            result[i] = Arrays.copyOfRange(c, i * n, i * n + n);
+        }
+        return result;
+    }
+
+    /**
+     * Kleinste Größe base · 2^k >= n mit base <= cutover
+     */
+    public static int paddedSize(int n, int cutover) {
+        int levels = 0;
+        while (ceilDiv(n, 1 << levels) > cutover) {
+            levels++;
+        }
+        return ceilDiv(n, 1 << levels) << levels;
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
+    /**
+     * Größte absolute Abweichung relativ zum größten Betrag der Referenz
+     */
+    public static double relativeError(double[][] reference, double[][] result) {
+        double maxError = 0;
+        double maxValue = 0;
+        for (int i = 0; i < reference.length; i++) {
+            for (int j = 0; j < reference[i].length; j++) {
+                maxError = Math.max(maxError, Math.abs(reference[i][j] - result[i][j]));
+                maxValue = Math.max(maxValue, Math.abs(reference[i][j]));
+            }
+        }
+        return maxValue > 0 ? maxError / maxValue : 0;
+    }
+
+    public long getBuffersAllocated() {
+        return buffersAllocated.get();
+    }
+
+    public long getBuffersReused() {
+        return buffersReused.get();
+    }
+
+    private static double[] pad(double[][] matrix, int padded) {
+        double[] result = new double[padded * padded];
+        for (int i = 0; i < matrix.length; i++) {
+            System.arraycopy(matrix[i], 0, result, i * padded, matrix[i].length);
+        }
+        return result;
+    }
+
+    /**
+     * Sequenzielle Rekursion: jedes Teilprodukt wird sofort in die Quadranten von C addiert,
+     * daher genügen ein Produkt- und zwei Operandenpuffer je Stufe
+     *
+     * @param c zusammenhängendes Ergebnis der Größe size · size (wird vollständig überschrieben)
+     */
+    private void multiplyRecursive(View a, View b, double[] c, int size, int cutover, int depth) {
+        if (size <= cutover) {
+            multiplyClassic(a, b, c, size);
+            return;
+        }
+        int h = size / 2;
+        View a11 = a.quadrant(0, 0, h), a12 = a.quadrant(0, 1, h), a21 = a.quadrant(1, 0, h), a22 = a.quadrant(1, 1, h);
+        View b11 = b.quadrant(0, 0, h), b12 = b.quadrant(0, 1, h), b21 = b.quadrant(1, 0, h), b22 = b.quadrant(1, 1, h);
+        View c11 = new View(c, 0, size), c12 = new View(c, h, size);
+        View c21 = new View(c, h * size, size), c22 = new View(c, h * size + h, size);
+
+        double[] product = acquire(h * h);
+        double[] left = acquire(h * h);
+        double[] right = acquire(h * h);
+        try {
+            // M1 = A11 · B11 geht in alle vier Quadranten ein
+            multiplyRecursive(a11, b11, product, h, cutover, depth + 1);
+            for (View quadrant : new View[]{c11, c12, c21, c22}) {
+                quadrant.set(product, h);
+            }
+            // M2 = A12 · B21 -> C11
+            multiplyRecursive(a12, b21, product, h, cutover, depth + 1);
+            c11.add(product, h, 1);
+            // M6 = S2 · T2 -> C12, C21, C22
+            combine(left, h, a21, 1, a22, 1, a11, -1, null, 0);
+            combine(right, h, b22, 1, b12, -1, b11, 1, null, 0);
+            multiplyRecursive(contiguous(left, h), contiguous(right, h), product, h, cutover, depth + 1);
+            c12.add(product, h, 1);
+            c21.add(product, h, 1);
+            c22.add(product, h, 1);
+            // M7 = S3 · T3 -> C21, C22
+            combine(left, h, a11, 1, a21, -1, null, 0, null, 0);
+            combine(right, h, b22, 1, b12, -1, null, 0, null, 0);
+            multiplyRecursive(contiguous(left, h), contiguous(right, h), product, h, cutover, depth + 1);
+            c21.add(product, h, 1);
+            c22.add(product, h, 1);
+            // M5 = S1 · T1 -> C12, C22
+            combine(left, h, a21, 1, a22, 1, null, 0, null, 0);
+            combine(right, h, b12, 1, b11, -1, null, 0, null, 0);
+            multiplyRecursive(contiguous(left, h), contiguous(right, h), product, h, cutover, depth + 1);
+            c12.add(product, h, 1);
+            c22.add(product, h, 1);
+            // M3 = S4 · B22 -> C12
+            combine(left, h, a12, 1, a21, -1, a22, -1, a11, 1);
+            multiplyRecursive(contiguous(left, h), b22, product, h, cutover, depth + 1);
+            c12.add(product, h, 1);
+            // M4 = A22 · T4 -> C21 (negativ)
+            combine(right, h, b22, 1, b12, -1, b11, 1, b21, -1);
+            multiplyRecursive(a22, contiguous(right, h), product, h, cutover, depth + 1);
+            c21.add(product, h, -1);
+        } finally {
+            release(product);
+            release(left);
+            release(right);
+        }
+    }
+
+    /**
+     * Geblockter klassischer Kernel: C = A · B in i-k-j-Reihenfolge über Kacheln
+     */
+    private void multiplyClassic(View a, View b, double[] c, int size) {
+        Arrays.fill(c, 0, size * size, 0.0);
+        int block = Math.max(1, blockSize);
+        for (int ii = 0; ii < size; ii += block) {
+            int iEnd = Math.min(ii + block, size);
+            for (int kk = 0; kk < size; kk += block) {
+                int kEnd = Math.min(kk + block, size);
+                for (int jj = 0; jj < size; jj += block) {
+                    int jEnd = Math.min(jj + block, size);
+                    for (int i = ii; i < iEnd; i++) {
+                        int aRow = a.offset + i * a.stride;
+                        int cRow = i * size;
+                        for (int k = kk; k < kEnd; k++) {
+                            double value = a.data[aRow + k];
+                            int bRow = b.offset + k * b.stride;
+                            for (int j = jj; j < jEnd; j++) {
+                                c[cRow + j] += value * b.data[bRow + j];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * target = s1 · v1 + s2 · v2 + s3 · v3 + s4 · v4 (nicht benötigte Summanden null)
+     */
+    private static void combine(double[] target, int size, View v1, int s1, View v2, int s2, View v3, int s3,
+                                View v4, int s4) {
+        for (int i = 0; i < size; i++) {
+            int row = i * size;
+            int r1 = v1.offset + i * v1.stride;
+            int r2 = v2.offset + i * v2.stride;
+            for (int j = 0; j < size; j++) {
+                target[row + j] = s1 * v1.data[r1 + j] + s2 * v2.data[r2 + j];
+            }
+            if (v3 != null) {
+                int r3 = v3.offset + i * v3.stride;
+                for (int j = 0; j < size; j++) {
+                    target[row + j] += s3 * v3.data[r3 + j];
+                }
+            }
+            if (v4 != null) {
+                int r4 = v4.offset + i * v4.stride;
+                for (int j = 0; j < size; j++) {
+                    target[row + j] += s4 * v4.data[r4 + j];
+                }
+            }
+        }
+    }
+
+    private static View contiguous(double[] data, int size) {
+        return new View(data, 0, size);
+    }
+
+    private double[] acquire(int length) {
+        Queue<double[]> queue = scratchBuffers.get(length);
+        double[] buffer = queue != null ? queue.poll() : null;
+        if (buffer != null) {
+            buffersReused.incrementAndGet();
+            return buffer;
+        }
+        buffersAllocated.incrementAndGet();
+        return new double[length];
+    }
+
+    private void release(double[] buffer) {
+        Queue<double[]> queue = scratchBuffers.computeIfAbsent(buffer.length, length -> new ConcurrentLinkedQueue<>());
+        if (queue.size() < MAX_POOLED_PER_SIZE) {
+            queue.offer(buffer);
+        }
+    }
+
+    /**
+     * Parallele Rekursionsstufe: die sieben Teilprodukte als Fork/Join-Aufgaben mit eigenen
+     * Ergebnispuffern, danach Zusammensetzen von C
+     */
+    private final class ProductTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final View a;
+        private final View b;
+        private final double[] c;
+        private final int size;
+        private final int cutover;
+        private final int depth;
+
+        ProductTask(View a, View b, double[] c, int size, int cutover, int depth) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.size = size;
+            this.cutover = cutover;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            if (size <= cutover || depth >= parallelDepth) {
+                multiplyRecursive(a, b, c, size, cutover, depth);
+                return;
+            }
+            int h = size / 2;
+            View a11 = a.quadrant(0, 0, h), a12 = a.quadrant(0, 1, h), a21 = a.quadrant(1, 0, h), a22 = a.quadrant(1, 1, h);
+            View b11 = b.quadrant(0, 0, h), b12 = b.quadrant(0, 1, h), b21 = b.quadrant(1, 0, h), b22 = b.quadrant(1, 1, h);
+
+            double[][] m = new double[7][];
+            for (int i = 0; i < m.length; i++) {
+                m[i] = acquire(h * h);
+            }
+            try {
+                ForkJoinTask.invokeAll(
+                        new ProductTask(a11, b11, m[0], h, cutover, depth + 1),
+                        new ProductTask(a12, b21, m[1], h, cutover, depth + 1),
+                        new OperandProductTask(m[2], h, depth, new View[]{a12, a21, a22, a11}, new int[]{1, -1, -1, 1},
+                                null, null, b22),
+                        new OperandProductTask(m[3], h, depth, null, null,
+                                new View[]{b22, b12, b11, b21}, new int[]{1, -1, 1, -1}, a22),
+                        new OperandProductTask(m[4], h, depth, new View[]{a21, a22}, new int[]{1, 1},
+                                new View[]{b12, b11}, new int[]{1, -1}, null),
+                        new OperandProductTask(m[5], h, depth, new View[]{a21, a22, a11}, new int[]{1, 1, -1},
+                                new View[]{b22, b12, b11}, new int[]{1, -1, 1}, null),
+                        new OperandProductTask(m[6], h, depth, new View[]{a11, a21}, new int[]{1, -1},
+                                new View[]{b22, b12}, new int[]{1, -1}, null));
+
+                // C11 = M1 + M2, C12 = M1 + M6 + M5 + M3, C21 = M1 + M6 + M7 - M4, C22 = M1 + M6 + M7 + M5
+                for (int i = 0; i < h; i++) {
+                    int top = i * size;
+                    int bottom = (i + h) * size;
+                    int row = i * h;
+                    for (int j = 0; j < h; j++) {
+                        int k = row + j;
+                        double u2 = m[0][k] + m[5][k];
+                        double u3 = u2 + m[6][k];
+                        c[top + j] = m[0][k] + m[1][k];
+                        c[top + h + j] = u2 + m[4][k] + m[2][k];
+                        c[bottom + j] = u3 - m[3][k];
+                        c[bottom + h + j] = u3 + m[4][k];
+                    }
+                }
+            } finally {
+                for (double[] buffer : m) {
+                    release(buffer);
+                }
+            }
+        }
+
+        /**
+         * Teilprodukt, dessen Operanden zuerst als Linearkombination von Quadranten gebildet werden
+         * (bzw. direkt ein Quadrant sind, wenn keine Kombination angegeben ist)
+         */
+        private final class OperandProductTask extends RecursiveAction {
+            private static final long serialVersionUID = 1L;
+
+            private final double[] target;
+            private final int h;
+            private final int depth;
+            private final View[] leftParts;
+            private final int[] leftSigns;
+            private final View[] rightParts;
+            private final int[] rightSigns;
+            private final View plain;
+
+            OperandProductTask(double[] target, int h, int depth, View[] leftParts, int[] leftSigns,
+                               View[] rightParts, int[] rightSigns, View plain) {
+                this.target = target;
+                this.h = h;
+                this.depth = depth;
+                this.leftParts = leftParts;
+                this.leftSigns = leftSigns;
+                this.rightParts = rightParts;
+                this.rightSigns = rightSigns;
+                this.plain = plain;
+            }
+
+            @Override
+            protected void compute() {
+                double[] left = leftParts != null ? operand(leftParts, leftSigns) : null;
+                double[] right = rightParts != null ? operand(rightParts, rightSigns) : null;
+                try {
+                    View leftView = left != null ? contiguous(left, h) : plain;
+                    View rightView = right != null ? contiguous(right, h) : plain;
+                    new ProductTask(leftView, rightView, target, h, cutover, depth + 1).compute();
+                } finally {
+                    if (left != null) {
+                        release(left);
+                    }
+                    if (right != null) {
+                        release(right);
+                    }
+                }
+            }
+
+            private double[] operand(View[] parts, int[] signs) {
+                double[] buffer = acquire(h * h);
+                combine(buffer, h, parts[0], signs[0], parts[1], signs[1],
+                        parts.length > 2 ? parts[2] : null, parts.length > 2 ? signs[2] : 0,
+                        parts.length > 3 ? parts[3] : null, parts.length > 3 ? signs[3] : 0);
+                return buffer;
+            }
+        }
+    }
+
+    /**
+     * Quadratische Sicht auf ein zeilenweise gespeichertes Array
+     */
+    private static final class View {
+        final double[] data;
+        final int offset;
+        final int stride;
+
+        View(double[] data, int offset, int stride) {
+            this.data = data;
+            this.offset = offset;
+            this.stride = stride;
+        }
+
+        View quadrant(int row, int column, int h) {
+            return new View(data, offset + row * h * stride + column * h, stride);
+        }
+
+        /**
+         * Überschreibt die Sicht mit einer zusammenhängenden Matrix der Größe size
+         */
+        void set(double[] source, int size) {
+            for (int i = 0; i < size; i++) {
+                System.arraycopy(source, i * size, data, offset + i * stride, size);
+            }
+        }
+
+        /**
+         * Addiert sign · source auf die Sicht
+         */
+        void add(double[] source, int size, int sign) {
+            for (int i = 0; i < size; i++) {
+                int row = offset + i * stride;
+                int sourceRow = i * size;
+                for (int j = 0; j < size; j++) {
+                    data[row + j] += sign * source[sourceRow + j];
+                }
+            }
+        }
+    }
+}
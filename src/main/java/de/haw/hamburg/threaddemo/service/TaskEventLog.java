@@ -0,0 +1,219 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.model.TaskEvent;
+import de.haw.hamburg.threaddemo.model.TaskEventLogStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ereignisprotokoll der Aufgaben mit geringem Overhead im Hot Path
+ * - Aufgaben melden ihr Ende (Operation, Dauer, Thread, Detailwert) über record; das kostet eine
+ *   CAS-Operation und einige Feldzuweisungen, kein Lock, keine Formatierung und kein I/O
+ * - Ringpuffer fester Größe mit vorab angelegten Slots; ist er voll, wird das Ereignis verworfen
+ *   und gezählt, statt den Aufrufer zu blockieren (kein Parken, kein Pinning von Carriern)
+ * - Stichprobe: nur ein Anteil sample-rate der Ereignisse wird aufgezeichnet
+ * - Ein eigener Hintergrund-Thread leert den Puffer in festen Abständen in den Logger
+ *   de.haw.hamburg.threaddemo.events, der in logback-spring.xml an einen AsyncAppender gebunden ist
+ *
+ * Mehrere Erzeuger, ein Verbraucher: Erzeuger reservieren per CAS eine Sequenznummer, solange der
+ * Verbraucher weniger als capacity Ereignisse zurückliegt, und veröffentlichen den Slot danach mit
+ * einem geordneten Schreibzugriff. Der Verbraucher liest nur veröffentlichte Slots in Reihenfolge.
+ */
+@Service
+public class TaskEventLog {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskEventLog.class);
+
+    // Eigener Logger für die Ereignisse, damit sie getrennt geleitet und abgeschaltet werden können
+    private static final Logger eventLogger = LoggerFactory.getLogger("de.haw.hamburg.threaddemo.events");
+
+    // Anzahl der zuletzt geschriebenen Ereignisse, die über die Status-Abfrage sichtbar sind
+    private static final int RECENT_EVENTS = 50;
+
+    @Value("${benchmark.events.enabled:true}")
+    private boolean enabled;
+
+    @Value("${benchmark.events.capacity:65536}")
+    private int configuredCapacity;
+
+    @Value("${benchmark.events.sample-rate:1.0}")
+    private double sampleRate;
+
+    @Value("${benchmark.events.drain-interval-ms:200}")
+    private long drainIntervalMs;
+
+    private Slot[] slots;
+    private AtomicLongArray published;
+    private int mask;
+    private ScheduledExecutorService writer;
+
+    // Nächste zu vergebende Sequenznummer
+    private final AtomicLong head = new AtomicLong();
+
+    // Nächste zu lesende Sequenznummer; nur vom Schreiber-Thread verändert
+    private volatile long tail;
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong written = new AtomicLong();
+
+    // Nur unter dem eigenen Monitor verändert
+    private final Deque<TaskEvent> recent = new ArrayDeque<>();
+
+    @PostConstruct
+    public void start() {
+        // Kapazität auf die nächste Zweierpotenz runden, damit der Index per Maske berechnet werden kann
+        int capacity = Integer.highestOneBit(Math.max(2, configuredCapacity) - 1) << 1;
+        slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        mask = capacity - 1;
+        if (!enabled) {
+            return;
+        }
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-event-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::drainSafely, drainIntervalMs, drainIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("Aufgaben-Ereignisprotokoll gestartet: Kapazität {}, Stichprobe {}", capacity, sampleRate);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer != null) {
+            writer.shutdown();
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+            drainSafely();
+        }
+    }
+
+    /**
+     * Meldet das Ende einer Aufgabe; blockiert nie
+     *
+     * @param operation  Art der Aufgabe (z. B. "matrix", "http", "file")
+     * @param startNanos System.nanoTime() beim Start der Aufgabe
+     * @param detail     Kennzahl der Aufgabe (z. B. Matrixgröße oder Anzahl Anfragen)
+     */
+    public void record(String operation, long startNanos, long detail) {
+        if (!enabled) {
+            return;
+        }
+        if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            sampledOut.increment();
+            return;
+        }
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence - tail >= slots.length) {
+                dropped.increment();
+                return;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) sequence & mask;
+        Slot slot = slots[index];
+        slot.timestamp = System.currentTimeMillis();
+        slot.operation = operation;
+        slot.threadName = Thread.currentThread().getName();
+        slot.durationNanos = System.nanoTime() - startNanos;
+        slot.detail = detail;
+        published.lazySet(index, sequence);
+        recorded.increment();
+    }
+
+    public TaskEventLogStatus status() {
+        TaskEventLogStatus status = new TaskEventLogStatus();
+        status.setEnabled(enabled);
+        status.setCapacity(slots.length);
+        status.setSampleRate(sampleRate);
+        status.setRecorded(recorded.sum());
+        status.setSampledOut(sampledOut.sum());
+        status.setDropped(dropped.sum());
+        status.setWritten(written.get());
+        status.setPending(Math.max(0, head.get() - tail));
+        synchronized (recent) {
+            status.setRecentEvents(new ArrayList<>(recent));
+        }
+        return status;
+    }
+
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.warn("Ereignisprotokoll konnte nicht geleert werden: {}", e.toString());
+        }
+    }
+
+    /**
+     * Schreibt alle veröffentlichten Ereignisse in Reihenfolge; bleibt an einem reservierten,
+     * aber noch nicht veröffentlichten Slot stehen und setzt beim nächsten Durchlauf dort fort
+     */
+    private void drain() {
+        long next = tail;
+        while (true) {
+            int index = (int) next & mask;
+            if (published.get(index) != next) {
+                break;
+            }
+            Slot slot = slots[index];
+            TaskEvent event = new TaskEvent();
+            event.setTimestamp(slot.timestamp);
+            event.setOperation(slot.operation);
+            event.setThreadName(slot.threadName);
+            event.setDurationMs(slot.durationNanos / 1_000_000.0);
+            event.setDetail(slot.detail);
+            // Erst nach dem Kopieren freigeben, damit Erzeuger den Slot wiederverwenden dürfen
+            next++;
+            tail = next;
+
+            if (eventLogger.isInfoEnabled()) {
+                eventLogger.info("{} detail={} {} ms thread={}", event.getOperation(), event.getDetail(),
+                        String.format("%.3f", event.getDurationMs()), event.getThreadName());
+            }
+            written.incrementAndGet();
+            synchronized (recent) {
+                recent.addLast(event);
+                while (recent.size() > RECENT_EVENTS) {
+                    recent.removeFirst();
+                }
+            }
+        }
+    }
+
+    /**
+     * Vorab angelegter Eintrag des Ringpuffers; Felder werden vor der Veröffentlichung geschrieben
+     * und erst danach vom Schreiber-Thread gelesen
+     */
+    private static final class Slot {
+        long timestamp;
+        String operation;
+        String threadName;
+        long durationNanos;
+        long detail;
+    }
+}
@@ -0,0 +1,227 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.model.ThreadDetail;
+import de.haw.hamburg.threaddemo.model.ThreadFeedDelta;
+import de.haw.hamburg.threaddemo.model.ThreadSystemInfo;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Push-Feed für den Thread-Monitor (Server-Sent Events)
+ * - Pro Takt wird genau eine Momentaufnahme erstellt und mit der vorherigen verglichen,
+ *   unabhängig von der Anzahl der verbundenen Clients
+ * - Clients erhalten nur Änderungen: neue und beendete Threads sowie Wechsel von Zustand, Lock oder Namen
+ * - Jeder Client kann den Feed drosseln; bis zu seinem nächsten Ereignis werden die Änderungen
+ *   für ihn zusammengefasst, so dass die Größe eines Ereignisses von der Zahl der Änderungen
+ *   und nicht von der Zahl der Threads abhängt
+ * - Ohne verbundene Clients werden keine Momentaufnahmen erstellt
+ *
+ * Die Blockier- und Wartezähler eines Threads werden nur zusammen mit einer dieser Änderungen übertragen.
+ */
+@Service
+public class ThreadFeedService {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadFeedService.class);
+
+    @Value("${benchmark.thread-feed.tick-ms:500}")
+    private long tickMs;
+
+    private final ThreadSnapshotService snapshotService;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService ticker;
+
+    // Zustand der letzten gemeinsamen Momentaufnahme, nur unter dem Monitor dieses Service verändert
+    private Map<Long, ThreadDetail> previous = Collections.emptyMap();
+    private ThreadSystemInfo lastSnapshot;
+    private long seq;
+
+    @Autowired
+    public ThreadFeedService(ThreadSnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    @PostConstruct
+    public void start() {
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "thread-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    /**
+     * Meldet einen Client an und schickt ihm sofort den vollständigen Zustand
+     *
+     * @param intervalMs gewünschter Mindestabstand zwischen zwei Ereignissen (mindestens ein Takt)
+     */
+    public synchronized SseEmitter subscribe(long intervalMs) {
+        SseEmitter emitter = new SseEmitter(0L);
+        Subscriber subscriber = new Subscriber(emitter, Math.max(tickMs, intervalMs));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        // Ohne Clients ist die letzte Momentaufnahme veraltet
+        if (subscribers.isEmpty() || lastSnapshot == null) {
+            ThreadSystemInfo snapshot = snapshotService.snapshot();
+            previous = index(snapshot);
+            lastSnapshot = snapshot;
+            seq++;
+        }
+
+        ThreadFeedDelta full = newEvent(lastSnapshot);
+        full.setFull(true);
+        full.setUpserted(new ArrayList<>(previous.values()));
+        full.setRemoved(Collections.emptyList());
+        try {
+            emitter.send(SseEmitter.event().name("snapshot").data(full));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        subscriber.lastSentAt = System.currentTimeMillis();
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Ein Takt: gemeinsame Momentaufnahme, Vergleich mit der vorherigen, Verteilung an die Clients
+     */
+    synchronized void tick() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            ThreadSystemInfo snapshot = snapshotService.snapshot();
+            Map<Long, ThreadDetail> current = index(snapshot);
+
+            List<ThreadDetail> upserted = new ArrayList<>();
+            for (ThreadDetail detail : current.values()) {
+                ThreadDetail before = previous.get(detail.getId());
+                if (before == null || changed(before, detail)) {
+                    upserted.add(detail);
+                }
+            }
+            List<Long> removed = new ArrayList<>();
+            for (Long id : previous.keySet()) {
+                if (!current.containsKey(id)) {
+                    removed.add(id);
+                }
+            }
+            previous = current;
+            lastSnapshot = snapshot;
+            seq++;
+
+            long now = System.currentTimeMillis();
+            for (Subscriber subscriber : subscribers) {
+                subscriber.accumulate(upserted, removed);
+                if (now - subscriber.lastSentAt >= subscriber.intervalMs) {
+                    flush(subscriber, snapshot, now);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Thread-Feed-Takt fehlgeschlagen: {}", e.toString());
+        }
+    }
+
+    private void flush(Subscriber subscriber, ThreadSystemInfo snapshot, long now) {
+        ThreadFeedDelta delta = newEvent(snapshot);
+        delta.setUpserted(new ArrayList<>(subscriber.pendingUpserts.values()));
+        delta.setRemoved(new ArrayList<>(subscriber.pendingRemovals));
+        try {
+            subscriber.emitter.send(SseEmitter.event().name("delta").data(delta));
+            subscriber.pendingUpserts.clear();
+            subscriber.pendingRemovals.clear();
+            subscriber.lastSentAt = now;
+        } catch (IOException | IllegalStateException e) {
+            // Client hat die Verbindung geschlossen
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    private ThreadFeedDelta newEvent(ThreadSystemInfo snapshot) {
+        ThreadFeedDelta event = new ThreadFeedDelta();
+        event.setSeq(seq);
+        event.setTimestamp(System.currentTimeMillis());
+        event.setTotalStartedThreadCount(snapshot.getTotalStartedThreadCount());
+        event.setCurrentThreadCount(snapshot.getCurrentThreadCount());
+        event.setPeakThreadCount(snapshot.getPeakThreadCount());
+        event.setDaemonThreadCount(snapshot.getDaemonThreadCount());
+        event.setThreadGroupStats(snapshot.getThreadGroupStats());
+        return event;
+    }
+
+    private static Map<Long, ThreadDetail> index(ThreadSystemInfo snapshot) {
+        Map<Long, ThreadDetail> details = new HashMap<>();
+        for (ThreadDetail detail : snapshot.getThreadDetails()) {
+            details.put(detail.getId(), detail);
+        }
+        return details;
+    }
+
+    private static boolean changed(ThreadDetail before, ThreadDetail after) {
+        return !Objects.equals(before.getState(), after.getState())
+                || !Objects.equals(before.getLockName(), after.getLockName())
+                || !Objects.equals(before.getLockOwnerName(), after.getLockOwnerName())
+                || !Objects.equals(before.getName(), after.getName());
+    }
+
+    /**
+     * Verbundener Client mit den seit seinem letzten Ereignis aufgelaufenen Änderungen
+     */
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final long intervalMs;
+        final Map<Long, ThreadDetail> pendingUpserts = new LinkedHashMap<>();
+        final Set<Long> pendingRemovals = new LinkedHashSet<>();
+        long lastSentAt;
+
+        Subscriber(SseEmitter emitter, long intervalMs) {
+            this.emitter = emitter;
+            this.intervalMs = intervalMs;
+        }
+
+        void accumulate(List<ThreadDetail> upserted, List<Long> removed) {
+            for (ThreadDetail detail : upserted) {
+                pendingUpserts.put(detail.getId(), detail);
+                pendingRemovals.remove(detail.getId());
+            }
+            for (Long id : removed) {
+                pendingUpserts.remove(id);
+                pendingRemovals.add(id);
+            }
+        }
+    }
+}
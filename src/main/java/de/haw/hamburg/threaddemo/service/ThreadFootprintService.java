@@ -0,0 +1,308 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.model.ThreadFootprintEntry;
+import de.haw.hamburg.threaddemo.model.ThreadFootprintReport;
+import de.haw.hamburg.threaddemo.model.ThreadModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Experiment zum Speicherbedarf je Thread
+ * - Startet stufenweise N Threads eines Modells (Platform oder Virtual), die an einem Latch geparkt
+ *   werden, und misst nach jeder Stufe RSS, NMT-Kategorie Thread, gesamten NMT-Speicher und Heap
+ *   (nach GC) gegenüber dem Zustand vor dem Experiment
+ * - memoryUsageMB der Benchmark-Läufe erfasst nur Heap und Non-Heap; native Stacks der Platform
+ *   Threads erscheinen erst in RSS und NMT, Stacks geparkter Virtual Threads dagegen im Heap
+ * - Vor jeder Stufe wird geprüft, ob sie die Grenzen des Betriebssystems (Threads, Mappings,
+ *   Speicher) oder die konfigurierten Obergrenzen überschreiten würde; dann endet die Messreihe
+ *   des Modells mit einem Hinweis statt mit einem Absturz des Prozesses
+ *
+ * NMT-Werte gibt es nur mit -XX:NativeMemoryTracking=summary, Virtual Threads erst ab Java 21.
+ */
+@Service
+public class ThreadFootprintService {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadFootprintService.class);
+
+    // Annahmen für die erste Stufe, solange noch kein gemessener Wert vorliegt
+    private static final long PLATFORM_BYTES_ESTIMATE = 256 * 1024;
+    private static final long VIRTUAL_BYTES_ESTIMATE = 4 * 1024;
+
+    @Value("${benchmark.footprint.max-platform-threads:10000}")
+    private int maxPlatformThreads;
+
+    @Value("${benchmark.footprint.max-virtual-threads:1000000}")
+    private int maxVirtualThreads;
+
+    // Threads, die unterhalb der Betriebssystem-Grenze frei bleiben müssen
+    @Value("${benchmark.footprint.thread-reserve:512}")
+    private long threadReserve;
+
+    // Anteil des verfügbaren Speichers bzw. freien Heaps, den eine Stufe höchstens belegen darf
+    @Value("${benchmark.footprint.memory-fraction:0.5}")
+    private double memoryFraction;
+
+    @Value("${benchmark.footprint.start-timeout-seconds:120}")
+    private long startTimeoutSeconds;
+
+    private final ProcessMemoryReader memoryReader;
+    private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+
+    @Autowired
+    public ThreadFootprintService(ProcessMemoryReader memoryReader) {
+        this.memoryReader = memoryReader;
+    }
+
+    /**
+     * Führt das Experiment aus
+     *
+     * @param models Thread-Modelle (platform-threads und/oder virtual-threads)
+     * @param counts Anzahl geparkter Threads je Stufe, aufsteigend gemessen
+     */
+    public ThreadFootprintReport measure(List<String> models, List<Integer> counts) {
+        List<ThreadModel> threadModels = new ArrayList<>();
+        for (String name : models) {
+            ThreadModel model = ThreadModel.fromName(name.trim());
+            if (model != ThreadModel.PLATFORM && model != ThreadModel.VIRTUAL) {
+                throw new IllegalArgumentException("Thread-Footprint wird nur für platform-threads und "
+                        + "virtual-threads gemessen: " + name);
+            }
+            threadModels.add(model);
+        }
+        List<Integer> steps = new ArrayList<>(counts);
+        steps.sort(Integer::compare);
+        if (steps.isEmpty() || steps.get(0) < 1) {
+            throw new IllegalArgumentException("counts muss positive Werte enthalten: " + counts);
+        }
+
+        long threadHeadroom = memoryReader.platformThreadHeadroom();
+        long memoryHeadroom = memoryReader.memoryHeadroomBytes();
+
+        ThreadFootprintReport report = new ThreadFootprintReport();
+        report.setJavaVersion(Runtime.version().feature());
+        report.setNmtEnabled(!memoryReader.nmtCommittedBytes().isEmpty());
+        report.setThreadHeadroom(threadHeadroom == Long.MAX_VALUE ? -1 : threadHeadroom);
+        report.setMemoryHeadroomMB(memoryHeadroom == Long.MAX_VALUE ? -1 : bytesToMB(memoryHeadroom));
+        report.setEntries(new ArrayList<>());
+        report.setNotes(new ArrayList<>());
+        for (ThreadModel model : threadModels) {
+            measureModel(model, steps, report);
+        }
+        return report;
+    }
+
+    private void measureModel(ThreadModel model, List<Integer> steps, ThreadFootprintReport report) {
+        ThreadFactory factory = model == ThreadModel.VIRTUAL ? virtualThreadFactory() : platformThreadFactory();
+        if (factory == null) {
+            report.getNotes().add(model.getEndpoint() + ": Virtual Threads erst ab Java 21 verfügbar, übersprungen");
+            return;
+        }
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger parked = new AtomicInteger();
+        Snapshot baseline = snapshot();
+        Snapshot last = baseline;
+        int started = 0;
+        long startupNanos = 0;
+
+        try {
+            for (int count : steps) {
+                String reason = checkLimits(model, count, started, baseline, last);
+                if (reason != null) {
+                    report.getNotes().add(model.getEndpoint() + ": ab " + count + " Threads nicht gemessen – " + reason);
+                    break;
+                }
+                long stepStart = System.nanoTime();
+                try {
+                    while (started < count) {
+                        factory.newThread(() -> park(parked, release)).start();
+                        started++;
+                    }
+                } catch (OutOfMemoryError e) {
+                    // "unable to create native thread": Grenze erreicht, bevor die Prüfung sie erkannt hat
+                    report.getNotes().add(model.getEndpoint() + ": Abbruch nach " + started + " Threads – " + e.getMessage());
+                    break;
+                }
+                if (!awaitParked(parked, count)) {
+                    report.getNotes().add(model.getEndpoint() + ": " + count + " Threads nicht innerhalb von "
+                            + startTimeoutSeconds + " s geparkt");
+                    break;
+                }
+                startupNanos += System.nanoTime() - stepStart;
+                last = snapshot();
+                report.getEntries().add(entry(model, count, startupNanos, baseline, last));
+                log.info("Thread-Footprint {}: {} Threads, RSS +{} MB", model, count,
+                        String.format("%.1f", bytesToMB(last.rss - baseline.rss)));
+            }
+        } finally {
+            release.countDown();
+            awaitTerminated(parked);
+        }
+    }
+
+    /**
+     * Prüft, ob eine Stufe die Grenzen einhält; liefert sonst den Grund
+     */
+    private String checkLimits(ThreadModel model, int count, int started, Snapshot baseline, Snapshot last) {
+        long additional = count - started;
+        if (model == ThreadModel.PLATFORM && count > maxPlatformThreads) {
+            return "Obergrenze benchmark.footprint.max-platform-threads (" + maxPlatformThreads + ")";
+        }
+        if (model == ThreadModel.VIRTUAL && count > maxVirtualThreads) {
+            return "Obergrenze benchmark.footprint.max-virtual-threads (" + maxVirtualThreads + ")";
+        }
+        if (model == ThreadModel.PLATFORM) {
+            long headroom = memoryReader.platformThreadHeadroom();
+            if (headroom != Long.MAX_VALUE && additional > headroom - threadReserve) {
+                return "Betriebssystem lässt nur noch " + headroom + " Threads zu (Reserve " + threadReserve + ")";
+            }
+        }
+
+        long estimate = model == ThreadModel.PLATFORM ? PLATFORM_BYTES_ESTIMATE : VIRTUAL_BYTES_ESTIMATE;
+        long rssEstimate = started > 0 && last.rss >= 0 ? Math.max(0, (last.rss - baseline.rss) / started) : estimate;
+        long memoryHeadroom = memoryReader.memoryHeadroomBytes();
+        if (memoryHeadroom != Long.MAX_VALUE && rssEstimate * additional > memoryHeadroom * memoryFraction) {
+            return String.format("geschätzt %.0f MB zusätzlicher Speicher, verfügbar %.0f MB",
+                    bytesToMB(rssEstimate * additional), bytesToMB(memoryHeadroom));
+        }
+
+        long heapEstimate = started > 0 ? Math.max(0, (last.heapUsed - baseline.heapUsed) / started) : estimate;
+        MemoryUsage heap = memoryMXBean.getHeapMemoryUsage();
+        long heapFree = (heap.getMax() > 0 ? heap.getMax() : heap.getCommitted()) - heap.getUsed();
+        if (heapEstimate * additional > heapFree * memoryFraction) {
+            return String.format("geschätzt %.0f MB zusätzlicher Heap, frei %.0f MB",
+                    bytesToMB(heapEstimate * additional), bytesToMB(heapFree));
+        }
+        return null;
+    }
+
+    private ThreadFootprintEntry entry(ThreadModel model, int count, long startupNanos, Snapshot baseline, Snapshot now) {
+        ThreadFootprintEntry entry = new ThreadFootprintEntry();
+        entry.setThreadModel(model.getEndpoint());
+        entry.setThreads(count);
+        entry.setStartupMs(TimeUnit.NANOSECONDS.toMillis(startupNanos));
+        entry.setOsThreads(now.osThreads);
+        if (now.rss >= 0 && baseline.rss >= 0) {
+            entry.setRssDeltaMB(bytesToMB(now.rss - baseline.rss));
+            entry.setRssBytesPerThread((double) (now.rss - baseline.rss) / count);
+        }
+        entry.setHeapBytesPerThread((double) (now.heapUsed - baseline.heapUsed) / count);
+        if (now.nmtThread >= 0 && baseline.nmtThread >= 0) {
+            entry.setNmtThreadBytesPerThread((double) (now.nmtThread - baseline.nmtThread) / count);
+            entry.setNmtTotalBytesPerThread((double) (now.nmtTotal - baseline.nmtTotal) / count);
+        }
+        return entry;
+    }
+
+    /**
+     * Messwerte nach GC, damit der Heap nur noch erreichbare Objekte (Threads, Stack-Chunks) enthält
+     */
+    private Snapshot snapshot() {
+        System.gc();
+        System.gc();
+        Snapshot snapshot = new Snapshot();
+        snapshot.rss = memoryReader.rssBytes();
+        snapshot.osThreads = memoryReader.osThreads();
+        snapshot.heapUsed = memoryMXBean.getHeapMemoryUsage().getUsed();
+        Map<String, Long> nmt = memoryReader.nmtCommittedBytes();
+        if (!nmt.isEmpty()) {
+            snapshot.nmtThread = nmt.getOrDefault("Thread", 0L);
+            snapshot.nmtTotal = nmt.values().stream().mapToLong(Long::longValue).sum();
+        }
+        return snapshot;
+    }
+
+    private static void park(AtomicInteger parked, CountDownLatch release) {
+        parked.incrementAndGet();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            parked.decrementAndGet();
+        }
+    }
+
+    private boolean awaitParked(AtomicInteger parked, int count) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(startTimeoutSeconds);
+        while (parked.get() < count) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            sleepQuietly();
+        }
+        return true;
+    }
+
+    private void awaitTerminated(AtomicInteger parked) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(startTimeoutSeconds);
+        while (parked.get() > 0 && System.nanoTime() < deadline) {
+            sleepQuietly();
+        }
+        if (parked.get() > 0) {
+            log.warn("Thread-Footprint: {} Threads noch nicht beendet", parked.get());
+        }
+    }
+
+    private static void sleepQuietly() {
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory platformThreadFactory() {
+        AtomicLong counter = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "footprint-platform-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Thread.ofVirtual().name("footprint-virtual-", 0).factory() per Reflection wie in ThreadConfig;
+     * null vor Java 21
+     */
+    private static ThreadFactory virtualThreadFactory() {
+        if (Runtime.version().feature() < 21) {
+            return null;
+        }
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "footprint-virtual-", 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            log.warn("Virtual-Thread-Factory nicht verfügbar: {}", e.toString());
+            return null;
+        }
+    }
+
+    private static double bytesToMB(long bytes) {
+        return (double) bytes / (1024 * 1024);
+    }
+
+    private static final class Snapshot {
+        long rss;
+        long osThreads;
+        long heapUsed;
+        long nmtThread = -1;
+        long nmtTotal = -1;
+    }
+}
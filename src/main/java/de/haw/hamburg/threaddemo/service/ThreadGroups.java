@@ -0,0 +1,47 @@
+package de.haw.hamburg.threaddemo.service;
+
+import java.util.List;
+
+/**
+ * Zuordnung von Threads zu den Thread-Gruppen der Anwendung anhand des Thread-Namens
+ */
+public final class ThreadGroups {
+
+    /**
+     * Alle Gruppen, die groupOf liefern kann
+     */
+    public static final List<String> GROUPS = List.of("Platform Threads", "Virtual Threads", "Kernel Threads",
+            "User Threads", "Tomcat Threads", "ForkJoin Pool", "Reactor Threads", "Other");
+
+    private ThreadGroups() {
+    }
+
+    /**
+     * Ermittelt die Thread-Gruppe anhand des Namens
+     */
+    public static String groupOf(String threadName) {
+        if (threadName.startsWith("platform-thread-")) {
+            return "Platform Threads";
+        } else if (threadName.startsWith("VirtualThread") || threadName.startsWith("virtual-thread-")
+                || threadName.startsWith("bounded-virtual-thread-")) {
+            // Unterstützt sowohl echte Virtual Threads (Java 21) als auch unsere simulierten
+            return "Virtual Threads";
+        } else if (threadName.startsWith("kernel-thread-")) {
+            return "Kernel Threads";
+        } else if (threadName.startsWith("user-thread-")) {
+            return "User Threads";
+        } else if (threadName.startsWith("http-nio")) {
+            return "Tomcat Threads";
+        } else if (threadName.startsWith("ForkJoinPool") || threadName.startsWith("strassen-worker-")) {
+            return "ForkJoin Pool";
+        } else if (threadName.startsWith("parallel-") || threadName.startsWith("boundedElastic-")
+                || threadName.startsWith("reactive-")) {
+            return "Reactor Threads";
+        } else if (threadName.startsWith("pool-")) {
+            // Dies könnte ein Thread aus unserem cached Thread-Pool sein (simulierte Virtual Threads)
+            return "Virtual Threads";
+        } else {
+            return "Other";
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.model.CalculationRequest;
+import de.haw.hamburg.threaddemo.model.CalculationResponse;
+import de.haw.hamburg.threaddemo.model.GcCollectorImpact;
+import de.haw.hamburg.threaddemo.model.GcImpact;
+import de.haw.hamburg.threaddemo.model.LockMode;
+import de.haw.hamburg.threaddemo.model.ThreadModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.LongStream;
+
+/**
+ * Service für den statistisch belastbaren Vergleich aller Thread-Modelle
+ * - Aufwärmdurchläufe werden ausgeführt, aber nicht gewertet
+ * - Die Reihenfolge der Modelle wird je Wiederholung zufällig gemischt,
+ *   damit kein Modell systematisch GC-Schulden oder JIT-Zustand eines anderen erbt
+ * - Optional wird jedes Modell in einer eigenen Kind-JVM gemessen
+ * - Pro Modell werden Mittelwert, Standardabweichung und 95-%-Konfidenzintervall berechnet
+ * - Aufwärmdurchläufe werden nicht im Ergebnisspeicher abgelegt
+ */
+@Service
+public class ThreadModelComparisonService {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadModelComparisonService.class);
+    private final BenchmarkExecutionService executionService;
+    private final ForkedBenchmarkLauncher forkedBenchmarkLauncher;
+    private final BenchmarkResultStore resultStore;
+    private final RegressionDetectionService regressionDetectionService;
+
+    @Autowired
+    public ThreadModelComparisonService(
+            BenchmarkExecutionService executionService,
+            ForkedBenchmarkLauncher forkedBenchmarkLauncher,
+            BenchmarkResultStore resultStore,
+            RegressionDetectionService regressionDetectionService) {
+        this.executionService = executionService;
+        this.forkedBenchmarkLauncher = forkedBenchmarkLauncher;
+        this.resultStore = resultStore;
+        this.regressionDetectionService = regressionDetectionService;
+    }
+
+    /**
+     * Vergleicht alle Thread-Modelle mit der gegebenen Anfrage
+     *
+     * @return ein aggregiertes Ergebnis pro Thread-Modell in fester Reihenfolge
+     */
+    public List<CalculationResponse> compare(CalculationRequest request) {
+        List<ThreadModel> models = new ArrayList<>(Arrays.asList(ThreadModel.values()));
+        if (LockMode.fromName(request.getLockMode()) != LockMode.NONE) {
+            // Die gemeinsame Ressource ist nur für Executor-basierte Modelle umgesetzt
+            models.remove(ThreadModel.REACTIVE);
+        }
+        int warmupIterations = Math.max(0, request.getWarmupIterations());
+        int repetitions = Math.max(1, request.getRepetitions());
+
+        Map<ThreadModel, List<CalculationResponse>> samples = new EnumMap<>(ThreadModel.class);
+        for (ThreadModel model : models) {
+            samples.put(model, new ArrayList<>());
+        }
+
+        if (request.isForkPerModel()) {
+            // Jedes Modell in eigener JVM; Aufwärmen und Wiederholen erledigt die Kind-JVM.
+            // Die Kind-JVM speichert nicht selbst, daher werden ihre Läufe hier übernommen
+            for (ThreadModel model : executionOrder(models, request)) {
+                List<CalculationResponse> forkedRuns =
+                        forkedBenchmarkLauncher.runForked(model, request, Collections.emptyList());
+                forkedRuns.forEach(resultStore::append);
+                samples.get(model).addAll(forkedRuns);
+            }
+        } else {
+            for (int i = 0; i < warmupIterations; i++) {
+                for (ThreadModel model : executionOrder(models, request)) {
+                    log.info("Aufwärmdurchlauf {}/{} für {}", i + 1, warmupIterations, model);
+                    executionService.execute(model, request, false);
+                }
+            }
+            for (int i = 0; i < repetitions; i++) {
+                for (ThreadModel model : executionOrder(models, request)) {
+                    samples.get(model).add(executionService.execute(model, request));
+                }
+            }
+        }
+
+        List<CalculationResponse> results = new ArrayList<>();
+        for (ThreadModel model : models) {
+            results.add(aggregate(model, request, samples.get(model), warmupIterations));
+        }
+        return results;
+    }
+
+    /**
+     * Liefert die Ausführungsreihenfolge der Modelle für einen Durchgang
+     */
+    private List<ThreadModel> executionOrder(List<ThreadModel> models, CalculationRequest request) {
+        List<ThreadModel> order = new ArrayList<>(models);
+        if (request.isRandomizeOrder()) {
+            Collections.shuffle(order);
+        }
+        return order;
+    }
+
+    /**
+     * Fasst die Wiederholungen eines Modells zu einer Response mit Statistik zusammen
+     * - Zeit- und Speicherwerte sind Mittelwerte über alle Wiederholungen
+     * - failedTasks ist die Summe über alle Wiederholungen, taskTimesNanos die Aneinanderreihung
+     * - runId verweist auf die letzte gemessene Wiederholung (und damit auf deren Profil)
+     * - Die Regressionsprüfung bewertet alle Wiederholungen gemeinsam gegen die Baseline
+     */
+    private CalculationResponse aggregate(ThreadModel model, CalculationRequest request,
+                                          List<CalculationResponse> runs, int warmupIterations) {
+        long[] samplesMs = new long[runs.size()];
+        double memoryBefore = 0;
+        double memoryPeak = 0;
+        double memoryAfter = 0;
+        double p50 = 0;
+        double p99 = 0;
+        double precisionError = 0;
+        int failedTasks = 0;
+        LongStream.Builder taskTimes = LongStream.builder();
+        for (int i = 0; i < runs.size(); i++) {
+            CalculationResponse run = runs.get(i);
+            samplesMs[i] = run.getTotalExecutionTimeMs();
+            memoryBefore += run.getMemoryBeforeMB();
+            memoryPeak += run.getMemoryPeakMB();
+            memoryAfter += run.getMemoryAfterMB();
+            p50 += run.getP50TaskTimeMs();
+            p99 += run.getP99TaskTimeMs();
+            precisionError = Math.max(precisionError, run.getPrecisionError());
+            failedTasks += run.getFailedTasks();
+            if (run.getTaskTimesNanos() != null) {
+                Arrays.stream(run.getTaskTimesNanos()).forEach(taskTimes::add);
+            }
+        }
+        int count = Math.max(1, runs.size());
+        CalculationResponse lastRun = runs.isEmpty() ? null : runs.get(runs.size() - 1);
+
+        return CalculationResponse.builder()
+                .threadModel(model.getDisplayName())
+                // Testtyp des Laufs, z. B. mit Dichte- oder Lock-Suffix
+                .testType(lastRun != null ? lastRun.getTestType() : request.getTestType())
+                .matrixSize(request.getMatrixSize())
+                .fileSizeKB(request.getFileSizeKB())
+                .parallelTasks(request.getParallelTasks())
+                .totalExecutionTimeMs(Math.round(BenchmarkStatistics.mean(samplesMs)))
+                .memoryBeforeMB(memoryBefore / count)
+                .memoryPeakMB(memoryPeak / count)
+                .memoryAfterMB(memoryAfter / count)
+                .p50TaskTimeMs(p50 / count)
+                .p99TaskTimeMs(p99 / count)
+                .precisionError(precisionError)
+                .rssBeforeMB(averageIfAvailable(runs, CalculationResponse::getRssBeforeMB))
+                .rssPeakMB(averageIfAvailable(runs, CalculationResponse::getRssPeakMB))
+                .rssAfterMB(averageIfAvailable(runs, CalculationResponse::getRssAfterMB))
+                .pssBeforeMB(averageIfAvailable(runs, CalculationResponse::getPssBeforeMB))
+                .pssAfterMB(averageIfAvailable(runs, CalculationResponse::getPssAfterMB))
+                .directBufferBeforeMB(averageIfAvailable(runs, CalculationResponse::getDirectBufferBeforeMB))
+                .directBufferAfterMB(averageIfAvailable(runs, CalculationResponse::getDirectBufferAfterMB))
+                .mappedBufferBeforeMB(averageIfAvailable(runs, CalculationResponse::getMappedBufferBeforeMB))
+                .mappedBufferAfterMB(averageIfAvailable(runs, CalculationResponse::getMappedBufferAfterMB))
+                .nmtThreadBeforeMB(averageIfAvailable(runs, CalculationResponse::getNmtThreadBeforeMB))
+                .nmtThreadAfterMB(averageIfAvailable(runs, CalculationResponse::getNmtThreadAfterMB))
+                .nmtCommittedBeforeMB(averageIfAvailable(runs, CalculationResponse::getNmtCommittedBeforeMB))
+                .nmtCommittedAfterMB(averageIfAvailable(runs, CalculationResponse::getNmtCommittedAfterMB))
+                .gcImpact(aggregateGcImpact(runs))
+                .statistics(BenchmarkStatistics.summarize(samplesMs, request.getParallelTasks(),
+                        warmupIterations, request.isForkPerModel()))
+                .runId(lastRun != null ? lastRun.getRunId() : null)
+                .profiled(lastRun != null && lastRun.isProfiled())
+                .failedTasks(failedTasks)
+                .taskTimesNanos(request.isIncludeTaskTimes() ? taskTimes.build().toArray() : null)
+                .timestamp(runs.isEmpty() ? 0 : runs.get(0).getTimestamp())
+                .regression(regressionDetectionService.evaluate(runs))
+                .build();
+    }
+
+    /**
+     * GC-Last über alle gemessenen Läufe
+     * - Sammlungen, Pausen, nebenläufige Zeit, allokierter und übernommener Speicher werden summiert
+     * - Längste Pause und gleichzeitige Läufe als Maximum, Allokationsrate als Mittelwert
+     * - Pausenanteil bezogen auf die summierte Laufzeit
+     * - Aufschlüsselung je Collector über den Namen zusammengeführt
+     */
+    private static GcImpact aggregateGcImpact(List<CalculationResponse> runs) {
+        GcImpact total = null;
+        Map<String, GcCollectorImpact> collectors = new LinkedHashMap<>();
+        long elapsedMs = 0;
+        int measured = 0;
+        double allocationRate = 0;
+        for (CalculationResponse run : runs) {
+            GcImpact impact = run.getGcImpact();
+            if (impact == null) {
+                continue;
+            }
+            if (total == null) {
+                total = new GcImpact();
+            }
+            measured++;
+            elapsedMs += run.getTotalExecutionTimeMs();
+            total.setCollectorNames(impact.getCollectorNames());
+            total.setCollections(total.getCollections() + impact.getCollections());
+            total.setPauseTimeMs(total.getPauseTimeMs() + impact.getPauseTimeMs());
+            total.setMaxPauseMs(Math.max(total.getMaxPauseMs(), impact.getMaxPauseMs()));
+            total.setConcurrentTimeMs(total.getConcurrentTimeMs() + impact.getConcurrentTimeMs());
+            total.setAllocatedMB(total.getAllocatedMB() + impact.getAllocatedMB());
+            total.setPromotedMB(total.getPromotedMB() + impact.getPromotedMB());
+            total.setOverlappingRuns(Math.max(total.getOverlappingRuns(), impact.getOverlappingRuns()));
+            allocationRate += impact.getAllocationRateMBPerSec();
+            if (impact.getCollectors() != null) {
+                for (GcCollectorImpact collector : impact.getCollectors()) {
+                    mergeCollector(collectors, collector);
+                }
+            }
+        }
+        if (total == null) {
+            return null;
+        }
+        total.setPauseShare(elapsedMs > 0 ? Math.min(1, total.getPauseTimeMs() / elapsedMs) : 0);
+        total.setAllocationRateMBPerSec(allocationRate / measured);
+        total.setCollectors(new ArrayList<>(collectors.values()));
+        return total;
+    }
+
+    /**
+     * Addiert den Anteil eines Collectors zur Summe gleichen Namens
+     */
+    private static void mergeCollector(Map<String, GcCollectorImpact> collectors, GcCollectorImpact collector) {
+        GcCollectorImpact sum = collectors.computeIfAbsent(collector.getName(), name -> {
+            GcCollectorImpact impact = new GcCollectorImpact();
+            impact.setName(name);
+            impact.setCauses(new LinkedHashMap<>());
+            return impact;
+        });
+        sum.setCollections(sum.getCollections() + collector.getCollections());
+        sum.setPauseTimeMs(sum.getPauseTimeMs() + collector.getPauseTimeMs());
+        sum.setMaxPauseMs(Math.max(sum.getMaxPauseMs(), collector.getMaxPauseMs()));
+        sum.setConcurrentTimeMs(sum.getConcurrentTimeMs() + collector.getConcurrentTimeMs());
+        sum.setReclaimedMB(sum.getReclaimedMB() + collector.getReclaimedMB());
+        sum.setPromotedMB(sum.getPromotedMB() + collector.getPromotedMB());
+        if (collector.getCauses() != null) {
+            collector.getCauses().forEach((cause, count) -> sum.getCauses().merge(cause, count, Integer::sum));
+        }
+    }
+
+    /**
+     * Mittelwert eines Speicherwerts über die Läufe; -1, sobald ein Lauf den Wert nicht liefern konnte
+     */
+    private static double averageIfAvailable(List<CalculationResponse> runs,
+                                             ToDoubleFunction<CalculationResponse> value) {
+        if (runs.isEmpty()) {
+            return -1;
+        }
+        double sum = 0;
+        for (CalculationResponse run : runs) {
+            double v = value.applyAsDouble(run);
+            if (v < 0) {
+                return -1;
+            }
+            sum += v;
+        }
+        return sum / runs.size();
+    }
+}
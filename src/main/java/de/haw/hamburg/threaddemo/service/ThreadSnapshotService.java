@@ -0,0 +1,72 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.model.ThreadDetail;
+import de.haw.hamburg.threaddemo.model.ThreadSystemInfo;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service für Momentaufnahmen aller Threads der JVM
+ * - Wird vom Abfrage-Endpunkt und vom Delta-Feed des Thread-Monitors gemeinsam genutzt
+ */
+@Service
+public class ThreadSnapshotService {
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    /**
+     * Erstellt eine Momentaufnahme mit Zählern, Thread-Details und Gruppenstatistik
+     */
+    public ThreadSystemInfo snapshot() {
+        ThreadSystemInfo info = new ThreadSystemInfo();
+        
+        info.setTotalStartedThreadCount(threadMXBean.getTotalStartedThreadCount());
+        info.setCurrentThreadCount(threadMXBean.getThreadCount());
+        info.setPeakThreadCount(threadMXBean.getPeakThreadCount());
+        info.setDaemonThreadCount(threadMXBean.getDaemonThreadCount());
+        
+        // Aktuelle Thread-Details
+        long[] threadIds = threadMXBean.getAllThreadIds();
+        ThreadInfo[] threadInfos = threadMXBean.getThreadInfo(threadIds, 3);
+        
+        List<ThreadDetail> threadDetails = new ArrayList<>();
+        for (ThreadInfo t : threadInfos) {
+            if (t != null) {
+                ThreadDetail detail = new ThreadDetail();
+                detail.setId(t.getThreadId());
+                detail.setName(t.getThreadName());
+                detail.setState(t.getThreadState().name());
+                detail.setBlocked(t.getThreadState() == Thread.State.WAITING || 
+                               t.getThreadState() == Thread.State.TIMED_WAITING || 
+                               t.getThreadState() == Thread.State.BLOCKED);
+                detail.setThreadGroup(ThreadGroups.groupOf(t.getThreadName()));
+                detail.setLockName(t.getLockName());
+                detail.setLockOwnerName(t.getLockOwnerName());
+                detail.setBlockedCount(t.getBlockedCount());
+                detail.setBlockedTimeMs(t.getBlockedTime());
+                detail.setWaitedCount(t.getWaitedCount());
+                detail.setWaitedTimeMs(t.getWaitedTime());
+                threadDetails.add(detail);
+            }
+        }
+        
+        info.setThreadDetails(threadDetails);
+        
+        // Thread-Gruppen-Statistik
+        info.setThreadGroupStats(
+            info.getThreadDetails().stream()
+                .collect(Collectors.groupingBy(
+                    ThreadDetail::getThreadGroup,
+                    Collectors.counting()
+                ))
+        );
+        
+        return info;
+    }
+}
@@ -0,0 +1,283 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.model.CalculationResponse;
+import de.haw.hamburg.threaddemo.model.ThreadTimeline;
+import de.haw.hamburg.threaddemo.model.TimelineRun;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Zeitreihen-Recorder für Thread-Zustände
+ * - Zählt in hoher Frequenz die Threads je Thread-Gruppe und Zustand
+ * - Legt die Zählungen in Ringpuffern fester Größe aus primitiven Arrays ab und verdichtet sie
+ *   in die Stufen 1 s, 10 s und 1 min (Mittelwerte); der Speicherbedarf ist damit konstant
+ * - Merkt sich Beginn und Ende der Benchmark-Läufe, damit die Zeitleiste eines Laufs
+ *   über dessen runId abgefragt und mit p50/p99 überlagert werden kann
+ *
+ * Aufbewahrung: Rohdaten 60 s, 1 s-Stufe 1 h, 10 s-Stufe 6 h, 1 min-Stufe 24 h.
+ * Virtuelle Threads sind für den ThreadMXBean nicht sichtbar; gezählt werden Plattform-Threads.
+ */
+@Service
+public class ThreadStateRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadStateRecorder.class);
+
+    private static final Thread.State[] STATES = Thread.State.values();
+    private static final int WIDTH = ThreadGroups.GROUPS.size() * STATES.length;
+    private static final int MAX_RUNS = 500;
+    private static final int MAX_POINTS = 2000;
+
+    @Value("${benchmark.timeline.enabled:true}")
+    private boolean enabled;
+
+    @Value("${benchmark.timeline.sample-ms:100}")
+    private long sampleMs;
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private ScheduledExecutorService sampler;
+
+    // Feinste Stufe zuerst
+    private final List<Tier> tiers = new ArrayList<>();
+    private final Deque<TimelineRun> runs = new ArrayDeque<>();
+
+    @PostConstruct
+    public void start() {
+        tiers.add(new Tier("raw", sampleMs, (int) Math.max(1, 60_000 / sampleMs)));
+        tiers.add(new Tier("1s", 1_000, 3_600));
+        tiers.add(new Tier("10s", 10_000, 2_160));
+        tiers.add(new Tier("1m", 60_000, 1_440));
+        if (!enabled) {
+            return;
+        }
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "timeline-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(this::sample, sampleMs, sampleMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (sampler != null) {
+            sampler.shutdownNow();
+        }
+    }
+
+    /**
+     * Vermerkt einen abgeschlossenen Benchmark-Lauf für die Abfrage per runId
+     */
+    public synchronized void registerRun(CalculationResponse response) {
+        TimelineRun run = new TimelineRun();
+        run.setRunId(response.getRunId());
+        run.setThreadModel(response.getThreadModel());
+        run.setTestType(response.getTestType());
+        run.setStartTimestamp(response.getTimestamp());
+        run.setEndTimestamp(response.getTimestamp() + response.getTotalExecutionTimeMs());
+        run.setP50TaskTimeMs(response.getP50TaskTimeMs());
+        run.setP99TaskTimeMs(response.getP99TaskTimeMs());
+        runs.addLast(run);
+        while (runs.size() > MAX_RUNS) {
+            runs.removeFirst();
+        }
+    }
+
+    /**
+     * Sucht einen vermerkten Lauf
+     */
+    public synchronized TimelineRun findRun(String runId) {
+        for (TimelineRun run : runs) {
+            if (run.getRunId().equals(runId)) {
+                return run;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Liefert die Zeitleiste eines Zeitraums
+     *
+     * @param resolution raw, 1s, 10s, 1m oder null für die feinste Stufe, die den Zeitraum
+     *                   abdeckt und höchstens MAX_POINTS Punkte liefert
+     * @param group      nur diese Thread-Gruppe liefern (null = alle)
+     */
+    public synchronized ThreadTimeline query(long from, long to, String resolution, String group) {
+        Tier tier = selectTier(from, to, resolution);
+
+        List<Integer> slots = tier.slotsBetween(from, to);
+        long[] timestamps = new long[slots.size()];
+        for (int i = 0; i < slots.size(); i++) {
+            timestamps[i] = tier.timestamps[slots.get(i)];
+        }
+
+        Map<String, Map<String, float[]>> series = new LinkedHashMap<>();
+        for (int g = 0; g < ThreadGroups.GROUPS.size(); g++) {
+            String groupName = ThreadGroups.GROUPS.get(g);
+            if (group != null && !group.equals(groupName)) {
+                continue;
+            }
+            Map<String, float[]> byState = new LinkedHashMap<>();
+            for (int s = 0; s < STATES.length; s++) {
+                float[] values = new float[slots.size()];
+                int column = g * STATES.length + s;
+                for (int i = 0; i < slots.size(); i++) {
+                    values[i] = tier.values[slots.get(i) * WIDTH + column];
+                }
+                byState.put(STATES[s].name(), values);
+            }
+            series.put(groupName, byState);
+        }
+
+        List<TimelineRun> overlapping = new ArrayList<>();
+        for (TimelineRun run : runs) {
+            if (run.getEndTimestamp() >= from && run.getStartTimestamp() <= to) {
+                overlapping.add(run);
+            }
+        }
+
+        ThreadTimeline timeline = new ThreadTimeline();
+        timeline.setResolution(tier.name);
+        timeline.setStepMs(tier.stepMs);
+        timeline.setFrom(from);
+        timeline.setTo(to);
+        List<String> states = new ArrayList<>();
+        for (Thread.State state : STATES) {
+            states.add(state.name());
+        }
+        timeline.setStates(states);
+        timeline.setTimestamps(timestamps);
+        timeline.setSeries(series);
+        timeline.setRuns(overlapping);
+        return timeline;
+    }
+
+    private Tier selectTier(long from, long to, String resolution) {
+        if (resolution != null && !resolution.isEmpty() && !"auto".equalsIgnoreCase(resolution)) {
+            for (Tier tier : tiers) {
+                if (tier.name.equalsIgnoreCase(resolution)) {
+                    return tier;
+                }
+            }
+            throw new IllegalArgumentException("Unbekannte Auflösung: " + resolution);
+        }
+        for (Tier tier : tiers) {
+            boolean covers = tier.size < tier.capacity || tier.oldestTimestamp() <= from;
+            if (covers && (to - from) / tier.stepMs <= MAX_POINTS) {
+                return tier;
+            }
+        }
+        return tiers.get(tiers.size() - 1);
+    }
+
+    /**
+     * Eine Stichprobe: Threads je Gruppe und Zustand zählen und in alle Stufen eintragen
+     */
+    void sample() {
+        try {
+            int[] counts = new int[WIDTH];
+            for (ThreadInfo info : threadMXBean.getThreadInfo(threadMXBean.getAllThreadIds(), 0)) {
+                if (info == null) {
+                    continue;
+                }
+                int group = ThreadGroups.GROUPS.indexOf(ThreadGroups.groupOf(info.getThreadName()));
+                counts[group * STATES.length + info.getThreadState().ordinal()]++;
+            }
+            long now = System.currentTimeMillis();
+            synchronized (this) {
+                for (Tier tier : tiers) {
+                    tier.add(now, counts);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Zeitleisten-Stichprobe fehlgeschlagen: {}", e.toString());
+        }
+    }
+
+    /**
+     * Verdichtungsstufe: Ringpuffer mit einem Zeitstempel und WIDTH Mittelwerten je Intervall
+     */
+    private static final class Tier {
+        final String name;
+        final long stepMs;
+        final int capacity;
+        final long[] timestamps;
+        final float[] values;
+        int next;
+        int size;
+
+        // Summen des laufenden, noch nicht abgeschlossenen Intervalls
+        final long[] sums = new long[WIDTH];
+        long bucketStart = -1;
+        int samples;
+
+        Tier(String name, long stepMs, int capacity) {
+            this.name = name;
+            this.stepMs = stepMs;
+            this.capacity = capacity;
+            this.timestamps = new long[capacity];
+            this.values = new float[capacity * WIDTH];
+        }
+
+        void add(long timestamp, int[] counts) {
+            long bucket = timestamp - timestamp % stepMs;
+            if (bucket != bucketStart && samples > 0) {
+                flush();
+            }
+            bucketStart = bucket;
+            for (int i = 0; i < WIDTH; i++) {
+                sums[i] += counts[i];
+            }
+            samples++;
+        }
+
+        /**
+         * Schließt das laufende Intervall ab und überschreibt gegebenenfalls den ältesten Eintrag
+         */
+        private void flush() {
+            timestamps[next] = bucketStart;
+            int offset = next * WIDTH;
+            for (int i = 0; i < WIDTH; i++) {
+                values[offset + i] = (float) sums[i] / samples;
+                sums[i] = 0;
+            }
+            samples = 0;
+            next = (next + 1) % capacity;
+            size = Math.min(size + 1, capacity);
+        }
+
+        long oldestTimestamp() {
+            return size == 0 ? Long.MAX_VALUE : timestamps[(next - size + capacity) % capacity];
+        }
+
+        /**
+         * Indizes der Einträge im Zeitraum, älteste zuerst
+         */
+        List<Integer> slotsBetween(long from, long to) {
+            List<Integer> slots = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                int slot = (next - size + i + capacity) % capacity;
+                if (timestamps[slot] + stepMs > from && timestamps[slot] <= to) {
+                    slots.add(slot);
+                }
+            }
+            return slots;
+        }
+    }
+}
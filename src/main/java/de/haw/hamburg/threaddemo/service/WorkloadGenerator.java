@@ -0,0 +1,247 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.config.ThreadModelExecutors;
+import de.haw.hamburg.threaddemo.model.LatencyDistribution;
+import de.haw.hamburg.threaddemo.model.LockMode;
+import de.haw.hamburg.threaddemo.model.ThreadModel;
+import de.haw.hamburg.threaddemo.model.WorkloadDefinition;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Erzeugt Aufgaben aus einer WorkloadDefinition
+ * - Eine Aufgabe besteht aus blockingCalls + 1 Rechenabschnitten mit je einem blockierenden Aufruf dazwischen
+ * - Rechenabschnitte: kalibrierte Anzahl Rechenschritte statt Warten auf die Uhr, damit verdrängte
+ *   Threads ihre Rechenzeit tatsächlich nachholen müssen
+ * - Blockierender Aufruf: LockSupport.parkNanos bis zum Ablauf einer Latenz aus der gewählten
+ *   Verteilung (auch unter einer Millisekunde), danach wird eine Nutzlast der Größe payloadBytes
+ *   angelegt und beschrieben (simulierte Antwort)
+ * - Ein Anteil lockedCallFraction der Aufrufe läuft unter einem gemeinsamen Lock; mit synchronized
+ *   bindet das einen virtuellen Thread während der Latenz an seinen Carrier
+ *
+ * Im reaktiven Modell laufen die Aufgaben auf dem Scheduler der Pipeline für blockierende Aufgaben.
+ */
+@Service
+public class WorkloadGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkloadGenerator.class);
+
+    // Dauer der Kalibrierung der Rechenschritte
+    private static final long CALIBRATION_NANOS = 50_000_000L;
+
+    private final ThreadModelExecutors executors;
+    private final TaskEventLog taskEventLog;
+
+    // Gemeinsame Ressource aller erzeugten Aufgaben
+    private final Object sharedMonitor = new Object();
+    private final ReentrantLock sharedLock = new ReentrantLock();
+    private final StampedLock sharedStampedLock = new StampedLock();
+
+    private double iterationsPerMicro;
+
+    // Verhindert, dass der JIT die Rechenschritte als wirkungslos entfernt
+    private volatile long sink;
+
+    @Autowired
+    public WorkloadGenerator(
+            ThreadModelExecutors executors,
+            TaskEventLog taskEventLog) {
+        this.executors = executors;
+        this.taskEventLog = taskEventLog;
+    }
+
+    /**
+     * Ermittelt, wie viele Rechenschritte eine Mikrosekunde CPU-Zeit dauern (nach kurzem Aufwärmen)
+     */
+    @PostConstruct
+    public void calibrate() {
+        sink = compute(1_000_000);
+        long iterations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            sink += compute(100_000);
+            iterations += 100_000;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < CALIBRATION_NANOS);
+        iterationsPerMicro = iterations * 1000.0 / elapsed;
+        log.info("Workload-Generator kalibriert: {} Rechenschritte je µs", String.format("%.1f", iterationsPerMicro));
+    }
+
+    /**
+     * Prüft eine Definition auf gültige Werte
+     */
+    public void validate(WorkloadDefinition workload) {
+        if (workload == null) {
+            throw new IllegalArgumentException("workload fehlt");
+        }
+        if (workload.getCpuMicros() < 0 || workload.getBlockingCalls() < 0 || workload.getMeanLatencyMs() < 0
+                || workload.getPayloadBytes() < 0 || workload.getLatencySigma() < 0) {
+            throw new IllegalArgumentException("workload: cpuMicros, blockingCalls, meanLatencyMs, payloadBytes "
+                    + "und latencySigma dürfen nicht negativ sein");
+        }
+        if (workload.getLockedCallFraction() < 0 || workload.getLockedCallFraction() > 1) {
+            throw new IllegalArgumentException("workload.lockedCallFraction muss zwischen 0 und 1 liegen: "
+                    + workload.getLockedCallFraction());
+        }
+        LatencyDistribution.fromName(workload.getLatencyDistribution());
+        LockMode.fromName(workload.getLockMode());
+    }
+
+    /**
+     * Kurzbezeichnung für den Testtyp, damit Läufe mit verschiedenen Definitionen getrennte Vergleichsbasen haben
+     * - Enthält alle Felder, die die Messung beeinflussen; σ nur bei lognormal, wo es wirkt
+     */
+    public static String key(WorkloadDefinition workload) {
+        LatencyDistribution distribution = LatencyDistribution.fromName(workload.getLatencyDistribution());
+        StringBuilder key = new StringBuilder()
+                .append("c").append(workload.getCpuMicros())
+                .append("-b").append(workload.getBlockingCalls())
+                .append("x").append(workload.getMeanLatencyMs())
+                .append(distribution.getKey());
+        if (distribution == LatencyDistribution.LOGNORMAL) {
+            key.append("s").append(workload.getLatencySigma());
+        }
+        key.append("-p").append(workload.getPayloadBytes());
+        LockMode lockMode = LockMode.fromName(workload.getLockMode());
+        if (lockMode != LockMode.NONE && workload.getLockedCallFraction() > 0) {
+            key.append("-").append(lockMode.getKey()).append(workload.getLockedCallFraction());
+        }
+        return key.toString();
+    }
+
+    /**
+     * Führt eine Aufgabe im aufrufenden Thread aus
+     */
+    public void runTask(WorkloadDefinition workload) {
+        long start = System.nanoTime();
+        int calls = workload.getBlockingCalls();
+        long iterations = Math.round(workload.getCpuMicros() * iterationsPerMicro);
+        long perSegment = iterations / (calls + 1);
+        LatencyDistribution distribution = LatencyDistribution.fromName(workload.getLatencyDistribution());
+        LockMode lockMode = LockMode.fromName(workload.getLockMode());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long checksum = 0;
+
+        try {
+            for (int call = 0; call < calls; call++) {
+                checksum += compute(perSegment);
+                boolean locked = lockMode != LockMode.NONE && random.nextDouble() < workload.getLockedCallFraction();
+                long latencyNanos = sampleLatencyNanos(distribution, workload, random);
+                checksum += locked ? blockingCallLocked(lockMode, latencyNanos, workload.getPayloadBytes())
+                        : blockingCall(latencyNanos, workload.getPayloadBytes());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Workload-Aufgabe unterbrochen", e);
+        }
+        checksum += compute(iterations - perSegment * calls);
+        sink = checksum;
+        taskEventLog.record("workload", start, calls);
+    }
+
+    /**
+     * Führt eine Aufgabe als Aufgabe des Thread-Modells aus
+     */
+    public CompletableFuture<Void> run(ThreadModel threadModel, WorkloadDefinition workload) {
+        return CompletableFuture.runAsync(() -> runTask(workload), executors.blockingExecutorFor(threadModel));
+    }
+
+    private long blockingCallLocked(LockMode lockMode, long latencyNanos, int payloadBytes) throws InterruptedException {
+        switch (lockMode) {
+            case SYNCHRONIZED:
+                synchronized (sharedMonitor) {
+                    return blockingCall(latencyNanos, payloadBytes);
+                }
+            case REENTRANT:
+                sharedLock.lock();
+                try {
+                    return blockingCall(latencyNanos, payloadBytes);
+                } finally {
+                    sharedLock.unlock();
+                }
+            case STAMPED:
+                long stamp = sharedStampedLock.writeLock();
+                try {
+                    return blockingCall(latencyNanos, payloadBytes);
+                } finally {
+                    sharedStampedLock.unlockWrite(stamp);
+                }
+            default:
+                return blockingCall(latencyNanos, payloadBytes);
+        }
+    }
+
+    /**
+     * Simulierter blockierender Aufruf: Latenz abwarten, dann die Antwort anlegen und beschreiben
+     */
+    private static long blockingCall(long latencyNanos, int payloadBytes) throws InterruptedException {
+        if (latencyNanos > 0) {
+            // Thread.sleep(millis, nanos) rundet unter Java 17 auf ganze Millisekunden
+            long deadline = System.nanoTime() + latencyNanos;
+            long remaining = latencyNanos;
+            while (remaining > 0) {
+                LockSupport.parkNanos(remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                remaining = deadline - System.nanoTime();
+            }
+        }
+        if (payloadBytes == 0) {
+            return 0;
+        }
+        byte[] payload = new byte[payloadBytes];
+        // Eine Schreiboperation je Cache-Zeile, damit die Seiten tatsächlich belegt werden
+        for (int i = 0; i < payload.length; i += 64) {
+            payload[i] = (byte) i;
+        }
+        return payload[payload.length - 1] + payload.length;
+    }
+
+    private static long sampleLatencyNanos(LatencyDistribution distribution, WorkloadDefinition workload,
+                                           ThreadLocalRandom random) {
+        double mean = workload.getMeanLatencyMs();
+        double latencyMs;
+        switch (distribution) {
+            case UNIFORM:
+                latencyMs = random.nextDouble() * 2 * mean;
+                break;
+            case EXPONENTIAL:
+                latencyMs = -mean * Math.log(1 - random.nextDouble());
+                break;
+            case LOGNORMAL:
+                // E[exp(μ + σZ)] = exp(μ + σ²/2), daher μ so, dass der Mittelwert mean ergibt
+                double sigma = workload.getLatencySigma();
+                double mu = Math.log(Math.max(mean, 1e-9)) - sigma * sigma / 2;
+                latencyMs = mean > 0 ? Math.exp(mu + sigma * random.nextGaussian()) : 0;
+                break;
+            default:
+                latencyMs = mean;
+                break;
+        }
+        return (long) (latencyMs * 1_000_000);
+    }
+
+    /**
+     * Rechenschritte ohne Speicherzugriffe (xorshift), Ergebnis als Prüfsumme
+     */
+    private static long compute(long iterations) {
+        long x = 0x9E3779B97F4A7C15L;
+        for (long i = 0; i < iterations; i++) {
+            x ^= x << 13;
+            x ^= x >>> 7;
+            x ^= x << 17;
+        }
+        return x;
+    }
+}
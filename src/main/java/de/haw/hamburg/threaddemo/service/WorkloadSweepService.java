@@ -0,0 +1,213 @@
+package de.haw.hamburg.threaddemo.service;
+
+import de.haw.hamburg.threaddemo.model.CalculationRequest;
+import de.haw.hamburg.threaddemo.model.CalculationResponse;
+import de.haw.hamburg.threaddemo.model.ThreadModel;
+import de.haw.hamburg.threaddemo.model.WorkloadDefinition;
+import de.haw.hamburg.threaddemo.model.WorkloadSweepEntry;
+import de.haw.hamburg.threaddemo.model.WorkloadSweepReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sweep der Thread-Modelle über das Verhältnis von Rechenzeit zu I/O
+ * - Je CPU-Anteil s wird die Vorlage so angepasst, dass die Bedienzeit einer Aufgabe konstant bleibt:
+ *   cpuMicros = s · taskMillis, mittlere Latenz je Aufruf = (1 - s) · taskMillis / blockingCalls
+ * - Latenzverteilung, Nutzlast und Lock-Nutzung stammen unverändert aus der Vorlage
+ * - Jede Zelle ist ein gewöhnlicher Workload-Lauf (gespeichert, mit Regressionsprüfung);
+ *   Aufwärmdurchläufe und Wiederholungen stammen aus der Anfrage
+ * - Ermittelt den CPU-Anteil, ab dem Virtual Threads gegenüber Platform Threads keinen
+ *   nennenswerten Durchsatzvorteil mehr haben
+ */
+@Service
+public class WorkloadSweepService {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkloadSweepService.class);
+
+    // Durchsatzvorteil, unterhalb dessen sich Virtual Threads nicht mehr lohnen
+    private static final double BREAK_EVEN_ADVANTAGE = 1.05;
+
+    private static final List<Double> DEFAULT_CPU_SHARES = List.of(0.0, 0.05, 0.1, 0.25, 0.5, 0.75, 1.0);
+
+    private final BenchmarkExecutionService executionService;
+    private final WorkloadGenerator workloadGenerator;
+
+    @Autowired
+    public WorkloadSweepService(BenchmarkExecutionService executionService, WorkloadGenerator workloadGenerator) {
+        this.executionService = executionService;
+        this.workloadGenerator = workloadGenerator;
+    }
+
+    /**
+     * Führt den Sweep aus
+     *
+     * @param models     Thread-Modelle (leer = alle)
+     * @param cpuShares  CPU-Anteile zwischen 0 und 1 (leer = 0, 0.05, 0.1, 0.25, 0.5, 0.75, 1)
+     * @param taskMillis Bedienzeit einer Aufgabe aus Rechenzeit und mittleren Latenzen
+     */
+    public WorkloadSweepReport sweep(CalculationRequest request, List<String> models, List<Double> cpuShares,
+                                     double taskMillis) {
+        List<ThreadModel> threadModels = new ArrayList<>();
+        if (models == null || models.isEmpty()) {
+            threadModels.addAll(Arrays.asList(ThreadModel.values()));
+        } else {
+            for (String model : models) {
+                threadModels.add(ThreadModel.fromName(model.trim()));
+            }
+        }
+        List<Double> shares = new ArrayList<>(cpuShares == null || cpuShares.isEmpty() ? DEFAULT_CPU_SHARES : cpuShares);
+        shares.sort(Double::compare);
+        WorkloadDefinition base = request.getWorkload() != null ? request.getWorkload() : new WorkloadDefinition();
+        if (taskMillis <= 0) {
+            throw new IllegalArgumentException("taskMillis muss positiv sein: " + taskMillis);
+        }
+        for (double share : shares) {
+            if (share < 0 || share > 1) {
+                throw new IllegalArgumentException("cpuShare muss zwischen 0 und 1 liegen: " + share);
+            }
+            if (share < 1 && base.getBlockingCalls() < 1) {
+                throw new IllegalArgumentException("workload.blockingCalls muss für CPU-Anteile unter 1 positiv sein");
+            }
+        }
+        workloadGenerator.validate(base);
+
+        List<WorkloadSweepEntry> entries = new ArrayList<>();
+        for (double share : shares) {
+            CalculationRequest cellRequest = cellRequest(request, withCpuShare(base, share, taskMillis));
+            for (ThreadModel model : threadModels) {
+                log.info("Workload-Sweep: CPU-Anteil {} mit {}", share, model);
+                for (int i = 0; i < request.getWarmupIterations(); i++) {
+                    executionService.execute(model, cellRequest, false);
+                }
+                List<CalculationResponse> runs = new ArrayList<>();
+                for (int i = 0; i < Math.max(1, request.getRepetitions()); i++) {
+                    runs.add(executionService.execute(model, cellRequest));
+                }
+                entries.add(summarize(model, share, cellRequest, runs));
+            }
+        }
+
+        WorkloadSweepReport report = new WorkloadSweepReport();
+        report.setAvailableProcessors(Runtime.getRuntime().availableProcessors());
+        report.setTaskMillis(taskMillis);
+        report.setBaseWorkload(base);
+        report.setEntries(entries);
+        report.setBestModelByCpuShare(rate(entries, shares));
+        report.setVirtualBreakEvenCpuShare(breakEven(entries, shares));
+        return report;
+    }
+
+    private static WorkloadDefinition withCpuShare(WorkloadDefinition base, double share, double taskMillis) {
+        WorkloadDefinition workload = new WorkloadDefinition();
+        workload.setCpuMicros((int) Math.round(share * taskMillis * 1000));
+        workload.setBlockingCalls(share < 1 ? base.getBlockingCalls() : 0);
+        workload.setMeanLatencyMs(share < 1 ? (1 - share) * taskMillis / base.getBlockingCalls() : 0);
+        workload.setLatencyDistribution(base.getLatencyDistribution());
+        workload.setLatencySigma(base.getLatencySigma());
+        workload.setPayloadBytes(base.getPayloadBytes());
+        workload.setLockMode(base.getLockMode());
+        workload.setLockedCallFraction(base.getLockedCallFraction());
+        return workload;
+    }
+
+    private static CalculationRequest cellRequest(CalculationRequest request, WorkloadDefinition workload) {
+        CalculationRequest cell = new CalculationRequest();
+        cell.setTestType("workload");
+        cell.setWorkload(workload);
+        cell.setParallelTasks(request.getParallelTasks());
+        cell.setMatrixSize(request.getMatrixSize());
+        cell.setFileSizeKB(request.getFileSizeKB());
+        return cell;
+    }
+
+    private static WorkloadSweepEntry summarize(ThreadModel model, double share, CalculationRequest request,
+                                                List<CalculationResponse> runs) {
+        long totalMs = 0;
+        double p50 = 0;
+        double p99 = 0;
+        int failedTasks = 0;
+        for (CalculationResponse run : runs) {
+            totalMs += run.getTotalExecutionTimeMs();
+            p50 += run.getP50TaskTimeMs();
+            p99 += run.getP99TaskTimeMs();
+            failedTasks += run.getFailedTasks();
+        }
+        int count = Math.max(1, runs.size());
+
+        WorkloadSweepEntry entry = new WorkloadSweepEntry();
+        entry.setThreadModel(model.getEndpoint());
+        entry.setCpuShare(share);
+        entry.setCpuMicros(request.getWorkload().getCpuMicros());
+        entry.setMeanLatencyMs(request.getWorkload().getMeanLatencyMs());
+        entry.setTotalExecutionTimeMs(Math.round((double) totalMs / count));
+        // Nur abgeschlossene Aufgaben zählen, abgewiesene würden den Durchsatz sonst schönen
+        long completedTasks = (long) request.getParallelTasks() * runs.size() - failedTasks;
+        entry.setTasksPerSecond(totalMs > 0 ? completedTasks * 1000.0 / totalMs : 0);
+        entry.setP50TaskTimeMs(p50 / count);
+        entry.setP99TaskTimeMs(p99 / count);
+        entry.setFailedTasks(failedTasks);
+        return entry;
+    }
+
+    /**
+     * Setzt den relativen Durchsatz je CPU-Anteil und liefert das jeweils beste Modell
+     */
+    private static Map<String, String> rate(List<WorkloadSweepEntry> entries, List<Double> shares) {
+        Map<String, String> best = new LinkedHashMap<>();
+        for (double share : shares) {
+            WorkloadSweepEntry fastest = null;
+            for (WorkloadSweepEntry entry : entries) {
+                if (entry.getCpuShare() == share
+                        && (fastest == null || entry.getTasksPerSecond() > fastest.getTasksPerSecond())) {
+                    fastest = entry;
+                }
+            }
+            if (fastest == null) {
+                continue;
+            }
+            for (WorkloadSweepEntry entry : entries) {
+                if (entry.getCpuShare() == share) {
+                    entry.setRelativeThroughput(fastest.getTasksPerSecond() > 0
+                            ? entry.getTasksPerSecond() / fastest.getTasksPerSecond() : 0);
+                }
+            }
+            best.put(String.valueOf(share), fastest.getThreadModel());
+        }
+        return best;
+    }
+
+    /**
+     * Kleinster CPU-Anteil, bei dem Virtual Threads weniger als BREAK_EVEN_ADVANTAGE des
+     * Durchsatzes der Platform Threads erreichen
+     */
+    private static Double breakEven(List<WorkloadSweepEntry> entries, List<Double> shares) {
+        for (double share : shares) {
+            WorkloadSweepEntry platform = find(entries, ThreadModel.PLATFORM, share);
+            WorkloadSweepEntry virtual = find(entries, ThreadModel.VIRTUAL, share);
+            if (platform == null || virtual == null) {
+                return null;
+            }
+            if (virtual.getTasksPerSecond() < platform.getTasksPerSecond() * BREAK_EVEN_ADVANTAGE) {
+                return share;
+            }
+        }
+        return null;
+    }
+
+    private static WorkloadSweepEntry find(List<WorkloadSweepEntry> entries, ThreadModel model, double share) {
+        for (WorkloadSweepEntry entry : entries) {
+            if (entry.getCpuShare() == share && entry.getThreadModel().equals(model.getEndpoint())) {
+                return entry;
+            }
+        }
+        return null;
+    }
+}
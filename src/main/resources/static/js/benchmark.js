@@ -21,10 +21,31 @@ document.getElementById('ioParallelTasks').addEventListener('input', function()
     document.getElementById('ioParallelTasksValue').textContent = this.value;
 });
 
-// Wechsel zwischen CPU- und I/O-Test-Konfiguration
+// Wechsel zwischen CPU-, Sparse-, Batch- und I/O-Test-Konfiguration
 document.getElementById('testTypeCPU').addEventListener('change', function() {
     if (this.checked) {
         document.getElementById('cpuTestConfig').style.display = 'block';
+        document.getElementById('batchTestConfig').style.display = 'none';
+        document.getElementById('precisionConfig').style.display = 'flex';
+        document.getElementById('sparseTestConfig').style.display = 'none';
+        document.getElementById('ioTestConfig').style.display = 'none';
+    }
+});
+
+document.getElementById('testTypeSparse').addEventListener('change', function() {
+    if (this.checked) {
+        document.getElementById('cpuTestConfig').style.display = 'block';
+        document.getElementById('batchTestConfig').style.display = 'none';
+        document.getElementById('precisionConfig').style.display = 'none';
+        document.getElementById('sparseTestConfig').style.display = 'flex';
+        document.getElementById('ioTestConfig').style.display = 'none';
+    }
+});
+
+document.getElementById('testTypeBatch').addEventListener('change', function() {
+    if (this.checked) {
+        document.getElementById('cpuTestConfig').style.display = 'none';
+        document.getElementById('batchTestConfig').style.display = 'block';
         document.getElementById('ioTestConfig').style.display = 'none';
     }
 });
@@ -32,6 +53,7 @@ document.getElementById('testTypeCPU').addEventListener('change', function() {
 document.getElementById('testTypeIO').addEventListener('change', function() {
     if (this.checked) {
         document.getElementById('cpuTestConfig').style.display = 'none';
+        document.getElementById('batchTestConfig').style.display = 'none';
         document.getElementById('ioTestConfig').style.display = 'block';
     }
 });
@@ -57,6 +79,14 @@ document.getElementById('runOptimizedBtn').addEventListener('click', function()
     runTest('optimized-threads');
 });
 
+document.getElementById('runBoundedVirtualBtn').addEventListener('click', function() {
+    runTest('bounded-virtual-threads');
+});
+
+document.getElementById('runReactiveBtn').addEventListener('click', function() {
+    runTest('reactive-threads');
+});
+
 document.getElementById("heavyLoadSwitch").addEventListener("change", (event) => {
     const isChecked = event.target.checked;
     const url = isChecked ? "/api/system/heavy-load/start" : "/api/system/heavy-load/stop";
@@ -81,6 +111,8 @@ const threadModelLabels = {
     'virtual-threads': 'Virtual Threads',
     'limited-threads': 'Begrenzte Threads',
     'optimized-threads': 'Optimierte Threads',
+    'bounded-virtual-threads': 'Virtual Threads mit Ressourcen-Limits',
+    'reactive-threads': 'Reaktiv (Project Reactor)',
     'kernel-threads': 'Begrenzte Threads',  // Abwärtskompatibilität
     'user-threads': 'Optimierte Threads'    // Abwärtskompatibilität
 };
@@ -91,10 +123,14 @@ function runTest(endpoint) {
     const testType = document.querySelector('input[name="testType"]:checked').value;
     let parallelTasks, matrixSize, fileSizeKB;
     
-    if (testType === 'cpu') {
+    if (testType === 'cpu' || testType === 'sparse') {
         parallelTasks = parseInt(document.getElementById('parallelTasks').value);
         matrixSize = parseInt(document.getElementById('matrixSize').value);
         fileSizeKB = 100; // Standardwert
+    } else if (testType === 'batch') {
+        parallelTasks = parseInt(document.getElementById('batchCount').value) || 1;
+        matrixSize = parseInt(document.getElementById('batchMatrixSize').value) || 16;
+        fileSizeKB = 100; // Standardwert
     } else { // io
         parallelTasks = parseInt(document.getElementById('ioParallelTasks').value);
         matrixSize = 100; // Standardwert
@@ -106,7 +142,18 @@ function runTest(endpoint) {
         testType: testType,
         matrixSize: matrixSize,
         parallelTasks: parallelTasks,
-        fileSizeKB: fileSizeKB
+        fileSizeKB: fileSizeKB,
+        density: parseFloat(document.getElementById('density').value) || 0.01,
+        precision: testType === 'cpu' ? document.getElementById('precision').value : 'double',
+        algorithm: testType === 'cpu' ? document.getElementById('algorithm').value : 'classic',
+        batchChunkSize: testType === 'batch' ? (parseInt(document.getElementById('batchChunkSize').value) || 0) : 0,
+        warmupIterations: parseInt(document.getElementById('warmupIterations').value) || 0,
+        repetitions: parseInt(document.getElementById('repetitions').value) || 1,
+        randomizeOrder: document.getElementById('randomizeOrder').checked,
+        forkPerModel: document.getElementById('forkPerModel').checked,
+        profile: document.getElementById('profileSwitch').checked,
+        // Ohne Cache-Schalter immer neu messen
+        force: !document.getElementById('cacheSwitch').checked
     };
     
     // Anzeige
@@ -114,15 +161,22 @@ function runTest(endpoint) {
     let resultCard = createResultCard(resultId, endpoint, requestData);
     document.getElementById('resultsContainer').prepend(resultCard);
     
-    // API-Anfrage
+    // API-Anfrage; der Modellvergleich wird im kompakten Binärformat übertragen
+    const binary = endpoint === 'compare-all';
     fetch(`/api/matrix/${endpoint}`, {
         method: 'POST',
         headers: {
-            'Content-Type': 'application/json'
+            'Content-Type': 'application/json',
+            'Accept': binary ? 'application/octet-stream' : 'application/json'
         },
         body: JSON.stringify(requestData)
     })
-    .then(response => response.json())
+    .then(response => {
+        if (!response.ok) {
+            throw new Error(`HTTP ${response.status}`);
+        }
+        return binary ? response.arrayBuffer().then(decodeResponseBatch) : response.json();
+    })
     .then(data => {
         // Normalisiere Thread-Modell-Namen für konsistente Darstellung
         if (Array.isArray(data)) {
@@ -186,9 +240,15 @@ function createResultCard(id, endpoint, requestData) {
         case 'user-threads':    // Abwärtskompatibilität
             cardClass = "thread-model-optimized";
             break;
+        case 'bounded-virtual-threads':
+            cardClass = "thread-model-bounded-virtual";
+            break;
+        case 'reactive-threads':
+            cardClass = "thread-model-reactive";
+            break;
     }
     
-    const testTypeClass = requestData.testType === 'cpu' ? 'test-type-cpu' : 'test-type-io';
+    const testTypeClass = 'test-type-' + requestData.testType;
     
     const card = document.createElement('div');
     card.className = 'col-md-' + (endpoint === 'compare-all' ? '12' : '6');
@@ -201,7 +261,11 @@ function createResultCard(id, endpoint, requestData) {
             <div class="card-body">`;
             
     if (requestData.testType === 'cpu') {
-        cardContent += `<p>Matrix: ${requestData.matrixSize} x ${requestData.matrixSize}</p>`;
+        cardContent += `<p>Matrix: ${requestData.matrixSize} x ${requestData.matrixSize} (${requestData.precision}, ${requestData.algorithm})</p>`;
+    } else if (requestData.testType === 'sparse') {
+        cardContent += `<p>Matrix: ${requestData.matrixSize} x ${requestData.matrixSize}, Dichte ${requestData.density}</p>`;
+    } else if (requestData.testType === 'batch') {
+        cardContent += `<p>${requestData.parallelTasks} Matrizen ${requestData.matrixSize} x ${requestData.matrixSize}, Chunk ${requestData.batchChunkSize || 'automatisch'}</p>`;
     } else {
         cardContent += `<p>Dateigröße: ${requestData.fileSizeKB} KB</p>`;
     }
@@ -231,17 +295,19 @@ function updateResultCard(id, data) {
     if (Array.isArray(data)) {
         // Vergleich aller Thread-Modelle
         let resultsHtml = '<div class="table-responsive"><table class="table table-striped">';
-        resultsHtml += '<thead><tr><th>Thread-Modell</th><th>Ausführungszeit (ms)</th><th>Aufgaben/Sekunde</th><th>Speicherverbrauch (MB)</th></tr></thead>';
+        resultsHtml += '<thead><tr><th>Thread-Modell</th><th>Ausführungszeit (ms)</th><th>95%-Konfidenzintervall (ms)</th><th>Aufgaben/Sekunde</th><th>Speicherverbrauch (MB)</th><th>Regression</th></tr></thead>';
         resultsHtml += '<tbody>';
         
         data.forEach(result => {
             const tasksPerSecond = (result.parallelTasks / (result.totalExecutionTimeMs / 1000)).toFixed(2);
             resultsHtml += `
                 <tr>
-                    <td>${result.threadModel}</td>
-                    <td>${result.totalExecutionTimeMs}</td>
+                    <td>${result.threadModel}${formatProfileLink(result)}${formatIsolation(result.isolation)}</td>
+                    <td>${formatExecutionTime(result)}</td>
+                    <td>${formatConfidenceInterval(result)}</td>
                     <td>${tasksPerSecond}</td>
                     <td>${result.memoryUsageMB ? result.memoryUsageMB.toFixed(2) : 'N/A'}</td>
+                    <td>${formatRegression(result.regression)}</td>
                 </tr>
             `;
         });
@@ -253,12 +319,17 @@ function updateResultCard(id, data) {
         const tasksPerSecond = (data.parallelTasks / (data.totalExecutionTimeMs / 1000)).toFixed(2);
         let resultsHtml = `
             <h5>Ergebnisse:</h5>
-            <p><strong>Thread-Modell:</strong> ${data.threadModel}</p>
+            <p><strong>Thread-Modell:</strong> ${data.threadModel}${formatProfileLink(data)}${formatIsolation(data.isolation)}</p>
             <p><strong>Test-Typ:</strong> ${data.testType ? data.testType.toUpperCase() : 'CPU'}</p>
         `;
         
-        if (!data.testType || data.testType === 'cpu') {
+        if (!data.testType || data.testType.startsWith('cpu') || data.testType.startsWith('sparse')
+                || data.testType === 'batch') {
             resultsHtml += `<p><strong>Matrix:</strong> ${data.matrixSize} x ${data.matrixSize}</p>`;
+            if (data.precisionError) {
+                const reference = data.testType === 'cpu-strassen' ? 'klassischer Multiplikation' : 'double';
+                resultsHtml += `<p><strong>Relativer Fehler gegenüber ${reference}:</strong> ${data.precisionError.toExponential(2)}</p>`;
+            }
         } else {
             resultsHtml += `<p><strong>Dateigröße:</strong> ${data.fileSizeKB} KB</p>`;
         }
@@ -268,6 +339,8 @@ function updateResultCard(id, data) {
             <p><strong>Gesamtausführungszeit:</strong> ${data.totalExecutionTimeMs} ms</p>
             <p><strong>Durchschnittliche Zeit pro Aufgabe:</strong> ${(data.totalExecutionTimeMs / data.parallelTasks).toFixed(2)} ms</p>
             <p><strong>Aufgaben pro Sekunde:</strong> ${tasksPerSecond}</p>
+            <p><strong>Aufgabendauer p50 / p99:</strong> ${data.p50TaskTimeMs !== undefined ? data.p50TaskTimeMs.toFixed(1) : 'N/A'} / ${data.p99TaskTimeMs !== undefined ? data.p99TaskTimeMs.toFixed(1) : 'N/A'} ms</p>
+            <p><strong>Regression gegenüber Baseline:</strong> ${formatRegression(data.regression)}</p>
         `;
         
         // Optional: Speichernutzung anzeigen, wenn verfügbar
@@ -280,10 +353,81 @@ function updateResultCard(id, data) {
             `;
         }
         
+        // Garbage Collection während des Laufs
+        if (data.gcImpact) {
+            const gc = data.gcImpact;
+            resultsHtml += `
+                <p><strong>GC (${gc.collectorNames.join(', ')}):</strong> ${gc.collections} Sammlungen, Pausen ${gc.pauseTimeMs.toFixed(0)} ms (${(gc.pauseShare * 100).toFixed(1)} %, max. ${gc.maxPauseMs.toFixed(0)} ms), nebenläufig ${gc.concurrentTimeMs.toFixed(0)} ms</p>
+                <p><strong>Allokation:</strong> ${gc.allocatedMB.toFixed(1)} MB (${gc.allocationRateMBPerSec.toFixed(1)} MB/s), übernommen in Old Gen ${gc.promotedMB.toFixed(1)} MB</p>
+            `;
+        }
+        
+        // Prozessspeicher außerhalb von Heap/Non-Heap (-1 = nicht verfügbar)
+        if (data.rssBeforeMB !== undefined && data.rssBeforeMB >= 0) {
+            resultsHtml += `
+                <p><strong>RSS (Start / Peak / Ende):</strong> ${data.rssBeforeMB.toFixed(1)} / ${data.rssPeakMB.toFixed(1)} / ${data.rssAfterMB.toFixed(1)} MB</p>
+                <p><strong>PSS (Ende):</strong> ${data.pssAfterMB >= 0 ? data.pssAfterMB.toFixed(1) + ' MB' : 'N/A'}</p>
+                <p><strong>Direct / Mapped Buffer (Ende):</strong> ${data.directBufferAfterMB.toFixed(1)} / ${data.mappedBufferAfterMB.toFixed(1)} MB</p>
+                <p><strong>NMT Thread / gesamt (Ende):</strong> ${data.nmtCommittedAfterMB >= 0 ? data.nmtThreadAfterMB.toFixed(1) + ' / ' + data.nmtCommittedAfterMB.toFixed(1) + ' MB' : 'N/A (-XX:NativeMemoryTracking=summary)'}</p>
+            `;
+        }
+        
         cardBody.innerHTML = resultsHtml;
     }
 }
 
+// Formatiert die Ausführungszeit, bei Wiederholungen als Mittelwert ± Standardabweichung
+function formatExecutionTime(result) {
+    const stats = result.statistics;
+    if (!stats || stats.repetitions < 2) {
+        return result.totalExecutionTimeMs;
+    }
+    return `${stats.meanExecutionTimeMs.toFixed(1)} ± ${stats.stdDevExecutionTimeMs.toFixed(1)} (n=${stats.repetitions})`;
+}
+
+// Formatiert das Konfidenzintervall, sofern mehrere Wiederholungen vorliegen
+function formatConfidenceInterval(result) {
+    const stats = result.statistics;
+    if (!stats || stats.repetitions < 2) {
+        return 'N/A';
+    }
+    return `${stats.confidenceIntervalLowerMs.toFixed(1)} – ${stats.confidenceIntervalUpperMs.toFixed(1)}`;
+}
+
+// Verweis auf den Flame Graph, sofern für den Lauf ein Profil aufgezeichnet wurde
+function formatProfileLink(result) {
+    if (!result.profiled || !result.runId) {
+        return '';
+    }
+    return ` <a href="flamegraph.html?runId=${encodeURIComponent(result.runId)}" target="_blank" class="badge bg-secondary text-decoration-none">Flame Graph</a>`;
+}
+
+// Hinweis, wenn andere Läufe oder Hintergrundlast den Lauf überlappt haben
+function formatIsolation(isolation) {
+    if (!isolation || isolation.isolated) {
+        return '';
+    }
+    const activities = isolation.overlappingActivities.join(', ');
+    return ` <span class="badge bg-warning text-dark" title="Überlappt von: ${activities}">nicht isoliert</span>`;
+}
+
+// Formatiert das Ergebnis der Regressionserkennung
+function formatRegression(regression) {
+    if (!regression) {
+        return 'N/A';
+    }
+    if (!regression.evaluated) {
+        return `Baseline zu klein (${regression.baselineRuns} Läufe)`;
+    }
+    if (!regression.regression) {
+        return `keine (Baseline: ${regression.baselineRuns} Läufe)`;
+    }
+    return regression.metrics
+        .filter(metric => metric.regression)
+        .map(metric => `<span class="text-danger">${metric.metric}: ${(metric.relativeChange * 100).toFixed(1)}% (p=${metric.pValue.toFixed(3)})</span>`)
+        .join('<br>');
+}
+
 // Aktualisiert die Diagramme mit den aktuellen Testergebnissen
 function updateCharts() {
     if (testResults.length === 0) return;
@@ -302,9 +446,11 @@ function updateCharts() {
     // Farben für die verschiedenen Thread-Modelle
     const backgroundColors = testResults.map(result => {
         if (result.threadModel.includes("Platform")) return 'rgba(40, 167, 69, 0.6)';
+        if (result.threadModel.includes("Ressourcen-Limits")) return 'rgba(13, 202, 240, 0.6)';
         if (result.threadModel.includes("Virtual")) return 'rgba(0, 123, 255, 0.6)';
         if (result.threadModel.includes("Begrenzte")) return 'rgba(255, 193, 7, 0.6)';
         if (result.threadModel.includes("Optimierte")) return 'rgba(220, 53, 69, 0.6)';
+        if (result.threadModel.includes("Reaktiv")) return 'rgba(111, 66, 193, 0.6)';
         return 'rgba(108, 117, 125, 0.6)';
     });
     
@@ -428,3 +574,242 @@ function updateCharts() {
         }
     });
 }
+
+/**
+ * Dekodiert eine Liste von CalculationResponse aus dem spaltenweisen Binärformat
+ * (Gegenstück zu CalculationResponseBatchCodec.encode)
+ */
+function decodeResponseBatch(arrayBuffer) {
+    const view = new DataView(arrayBuffer);
+    let pos = 0;
+
+    // Varint ohne Bitoperationen, damit Werte bis 2^53 exakt bleiben
+    function varint() {
+        let value = 0;
+        let factor = 1;
+        let b;
+        do {
+            b = view.getUint8(pos++);
+            value += (b & 0x7f) * factor;
+            factor *= 128;
+        } while (b & 0x80);
+        return value;
+    }
+    function unzigzag(value) {
+        return value % 2 === 0 ? value / 2 : -(value + 1) / 2;
+    }
+    function strings(items, dictionary, setter) {
+        items.forEach(item => {
+            const index = varint();
+            setter(item, index === 0 ? null : dictionary[index - 1]);
+        });
+    }
+    function deltas(items, setter) {
+        let previous = 0;
+        items.forEach(item => {
+            previous += unzigzag(varint());
+            setter(item, previous);
+        });
+    }
+    function doubles(items, setter) {
+        items.forEach(item => {
+            setter(item, view.getFloat64(pos));
+            pos += 8;
+        });
+    }
+    function bits(items, setter) {
+        for (let i = 0; i < items.length; i += 8) {
+            const byte = view.getUint8(pos++);
+            for (let j = 0; j < 8 && i + j < items.length; j++) {
+                setter(items[i + j], (byte & (1 << j)) !== 0);
+            }
+        }
+    }
+    function longArray() {
+        const length = varint();
+        if (length === 0) {
+            return null;
+        }
+        const values = new Array(length - 1);
+        let previous = 0;
+        for (let i = 0; i < values.length; i++) {
+            previous += unzigzag(varint());
+            values[i] = previous;
+        }
+        return values;
+    }
+
+    const magic = String.fromCharCode(view.getUint8(0), view.getUint8(1), view.getUint8(2), view.getUint8(3));
+    pos = 4;
+    if (magic !== 'TDCB' || varint() !== 4) {
+        throw new Error('Unbekanntes Ergebnisformat');
+    }
+    const count = varint();
+    const decoder = new TextDecoder('utf-8');
+    const dictionary = [];
+    const dictionarySize = varint();
+    for (let i = 0; i < dictionarySize; i++) {
+        const length = varint();
+        dictionary.push(decoder.decode(new Uint8Array(arrayBuffer, pos, length)));
+        pos += length;
+    }
+
+    const responses = Array.from({ length: count },
+        () => ({ statistics: null, regression: null, isolation: null, gcImpact: null }));
+    strings(responses, dictionary, (r, v) => r.threadModel = v);
+    strings(responses, dictionary, (r, v) => r.testType = v);
+    strings(responses, dictionary, (r, v) => r.runId = v);
+    deltas(responses, (r, v) => r.matrixSize = v);
+    deltas(responses, (r, v) => r.fileSizeKB = v);
+    deltas(responses, (r, v) => r.parallelTasks = v);
+    deltas(responses, (r, v) => r.totalExecutionTimeMs = v);
+    deltas(responses, (r, v) => r.timestamp = v);
+    deltas(responses, (r, v) => r.failedTasks = v);
+    doubles(responses, (r, v) => r.memoryBeforeMB = v);
+    doubles(responses, (r, v) => r.memoryPeakMB = v);
+    doubles(responses, (r, v) => r.memoryAfterMB = v);
+    doubles(responses, (r, v) => r.p50TaskTimeMs = v);
+    doubles(responses, (r, v) => r.p99TaskTimeMs = v);
+    bits(responses, (r, v) => r.profiled = v);
+    responses.forEach(r => r.taskTimesNanos = longArray());
+    // Abgeleitete Werte, die im JSON aus den Gettern kommen
+    responses.forEach(r => {
+        r.averageTimePerTask = r.totalExecutionTimeMs / r.parallelTasks;
+        r.memoryUsageMB = r.memoryPeakMB - r.memoryBeforeMB;
+    });
+
+    const statistics = [];
+    bits(responses, (r, present) => {
+        if (present) {
+            r.statistics = {};
+            statistics.push(r.statistics);
+        }
+    });
+    deltas(statistics, (s, v) => s.warmupIterations = v);
+    deltas(statistics, (s, v) => s.repetitions = v);
+    bits(statistics, (s, v) => s.forked = v);
+    statistics.forEach(s => s.samplesMs = longArray());
+    doubles(statistics, (s, v) => s.meanExecutionTimeMs = v);
+    doubles(statistics, (s, v) => s.stdDevExecutionTimeMs = v);
+    deltas(statistics, (s, v) => s.minExecutionTimeMs = v);
+    deltas(statistics, (s, v) => s.maxExecutionTimeMs = v);
+    doubles(statistics, (s, v) => s.confidenceLevel = v);
+    doubles(statistics, (s, v) => s.confidenceIntervalLowerMs = v);
+    doubles(statistics, (s, v) => s.confidenceIntervalUpperMs = v);
+    doubles(statistics, (s, v) => s.meanTasksPerSecond = v);
+
+    const regressions = [];
+    bits(responses, (r, present) => {
+        if (present) {
+            r.regression = {};
+            regressions.push(r.regression);
+        }
+    });
+    strings(regressions, dictionary, (g, v) => g.threadModel = v);
+    strings(regressions, dictionary, (g, v) => g.testType = v);
+    strings(regressions, dictionary, (g, v) => g.latestRunId = v);
+    deltas(regressions, (g, v) => g.matrixSize = v);
+    deltas(regressions, (g, v) => g.parallelTasks = v);
+    deltas(regressions, (g, v) => g.baselineRuns = v);
+    deltas(regressions, (g, v) => g.currentRuns = v);
+    deltas(regressions, (g, v) => g.latestTimestamp = v);
+    bits(regressions, (g, v) => g.evaluated = v);
+    bits(regressions, (g, v) => g.regression = v);
+    const metrics = [];
+    regressions.forEach(g => {
+        g.metrics = Array.from({ length: varint() }, () => ({}));
+        metrics.push(...g.metrics);
+    });
+    strings(metrics, dictionary, (m, v) => m.metric = v);
+    bits(metrics, (m, v) => m.higherIsBetter = v);
+    bits(metrics, (m, v) => m.regression = v);
+    doubles(metrics, (m, v) => m.baselineMedian = v);
+    doubles(metrics, (m, v) => m.currentMedian = v);
+    doubles(metrics, (m, v) => m.relativeChange = v);
+    doubles(metrics, (m, v) => m.pValue = v);
+
+    const isolations = [];
+    bits(responses, (r, present) => {
+        if (present) {
+            r.isolation = {};
+            isolations.push(r.isolation);
+        }
+    });
+    deltas(isolations, (s, v) => s.scheduledRunId = v);
+    strings(isolations, dictionary, (s, v) => s.runMode = v);
+    deltas(isolations, (s, v) => s.priority = v);
+    doubles(isolations, (s, v) => s.cpuCores = v);
+    deltas(isolations, (s, v) => s.queuedMs = v);
+    bits(isolations, (s, v) => s.isolated = v);
+    const overlapCounts = isolations.map(() => varint());
+    isolations.forEach((s, i) => {
+        s.overlappingActivities = [];
+        strings(Array.from({ length: overlapCounts[i] }), dictionary, (_, v) => s.overlappingActivities.push(v));
+    });
+
+    doubles(responses, (r, v) => r.precisionError = v);
+
+    doubles(responses, (r, v) => r.rssBeforeMB = v);
+    doubles(responses, (r, v) => r.rssPeakMB = v);
+    doubles(responses, (r, v) => r.rssAfterMB = v);
+    doubles(responses, (r, v) => r.pssBeforeMB = v);
+    doubles(responses, (r, v) => r.pssAfterMB = v);
+    doubles(responses, (r, v) => r.directBufferBeforeMB = v);
+    doubles(responses, (r, v) => r.directBufferAfterMB = v);
+    doubles(responses, (r, v) => r.mappedBufferBeforeMB = v);
+    doubles(responses, (r, v) => r.mappedBufferAfterMB = v);
+    doubles(responses, (r, v) => r.nmtThreadBeforeMB = v);
+    doubles(responses, (r, v) => r.nmtThreadAfterMB = v);
+    doubles(responses, (r, v) => r.nmtCommittedBeforeMB = v);
+    doubles(responses, (r, v) => r.nmtCommittedAfterMB = v);
+    responses.forEach(r => {
+        r.rssUsageMB = r.rssBeforeMB < 0 || r.rssPeakMB < 0 ? -1 : r.rssPeakMB - r.rssBeforeMB;
+    });
+
+    // Liste mit Länge + 1 (0 = null)
+    function optionalList(readItem) {
+        const length = varint();
+        return length === 0 ? null : Array.from({ length: length - 1 }, readItem);
+    }
+    function dictionaryString() {
+        const index = varint();
+        return index === 0 ? null : dictionary[index - 1];
+    }
+
+    const gcImpacts = [];
+    bits(responses, (r, present) => {
+        if (present) {
+            r.gcImpact = {};
+            gcImpacts.push(r.gcImpact);
+        }
+    });
+    gcImpacts.forEach(g => g.collectorNames = optionalList(dictionaryString));
+    deltas(gcImpacts, (g, v) => g.collections = v);
+    doubles(gcImpacts, (g, v) => g.pauseTimeMs = v);
+    doubles(gcImpacts, (g, v) => g.pauseShare = v);
+    doubles(gcImpacts, (g, v) => g.maxPauseMs = v);
+    doubles(gcImpacts, (g, v) => g.concurrentTimeMs = v);
+    doubles(gcImpacts, (g, v) => g.allocatedMB = v);
+    doubles(gcImpacts, (g, v) => g.allocationRateMBPerSec = v);
+    doubles(gcImpacts, (g, v) => g.promotedMB = v);
+    deltas(gcImpacts, (g, v) => g.overlappingRuns = v);
+    const collectors = [];
+    gcImpacts.forEach(g => {
+        g.collectors = optionalList(() => ({}));
+        if (g.collectors) {
+            collectors.push(...g.collectors);
+        }
+    });
+    strings(collectors, dictionary, (c, v) => c.name = v);
+    deltas(collectors, (c, v) => c.collections = v);
+    doubles(collectors, (c, v) => c.pauseTimeMs = v);
+    doubles(collectors, (c, v) => c.maxPauseMs = v);
+    doubles(collectors, (c, v) => c.concurrentTimeMs = v);
+    doubles(collectors, (c, v) => c.reclaimedMB = v);
+    doubles(collectors, (c, v) => c.promotedMB = v);
+    collectors.forEach(c => {
+        const causes = optionalList(() => [dictionaryString(), varint()]);
+        c.causes = causes ? Object.fromEntries(causes) : null;
+    });
+    return responses;
+}